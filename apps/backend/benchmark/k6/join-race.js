@@ -0,0 +1,89 @@
+import exec from "k6/execution";
+import { Counter, Rate, Trend } from "k6/metrics";
+
+import { loadConfig } from "./lib/config.js";
+import {
+  joinRoom,
+  readApiResult,
+  strictCreateJoinRaceFixtures,
+  strictGetRoom,
+} from "./lib/api.js";
+
+// 방장만 있는 팀전 방에 (maxPlayers) 명이 동시에 입장한다.
+// 남은 자리는 maxPlayers - 1 이므로 방마다 정확히 한 명은 GAME_ROOM_FULL 로 거절되어야 한다.
+const ROOM_FULL_CODE = "GAME_004";
+
+const config = loadConfig();
+const roomCount = Number(__ENV.ROOM_COUNT || 20);
+const maxPlayers = Number(__ENV.JOIN_MAX_PLAYERS || 8);
+const p99ThresholdMs = Number(__ENV.JOIN_P99_MS || 150);
+
+if (!Number.isInteger(roomCount) || roomCount <= 0) {
+  throw new Error("ROOM_COUNT must be a positive integer");
+}
+
+if (!Number.isInteger(maxPlayers) || maxPlayers <= 1) {
+  throw new Error("JOIN_MAX_PLAYERS must be an integer greater than 1");
+}
+
+const joinDuration = new Trend("join_duration", true);
+const joinFailureRate = new Rate("join_failure_rate");
+const joinRejectedFull = new Counter("join_rejected_full");
+const roomViolations = new Counter("join_room_violations");
+
+export const options = {
+  scenarios: {
+    join_race: {
+      executor: "shared-iterations",
+      // 한 방의 참가자가 같은 순간에 몰리도록 VU 수를 방 정원 단위로 맞춘다
+      vus: Math.max(maxPlayers, Math.floor(config.concurrency / maxPlayers) * maxPlayers),
+      iterations: roomCount * maxPlayers,
+      maxDuration: config.maxDuration,
+    },
+  },
+  setupTimeout: __ENV.SETUP_TIMEOUT || "30m",
+  thresholds: {
+    join_duration: [`p(99)<${p99ThresholdMs}`],
+    join_failure_rate: [`rate<${config.maxFailureRate}`],
+    join_rejected_full: [`count==${roomCount}`],
+    join_room_violations: ["count==0"],
+  },
+};
+
+export function setup() {
+  return strictCreateJoinRaceFixtures(config.baseUrl, roomCount, maxPlayers, "k6-join-race");
+}
+
+export default function (data) {
+  const iteration = exec.scenario.iterationInTest;
+  const fixture = data.rooms[Math.floor(iteration / maxPlayers)];
+  const token = fixture.joinerTokens[iteration % maxPlayers];
+  const response = joinRoom(config.baseUrl, token, fixture.roomId, {
+    benchmark_scenario: "join-race",
+  });
+  const result = readApiResult(response);
+  const rejectedFull = !result.ok && result.payload?.error?.code === ROOM_FULL_CODE;
+
+  joinDuration.add(response.timings.duration);
+  joinFailureRate.add(!result.ok && !rejectedFull);
+  if (rejectedFull) {
+    joinRejectedFull.add(1);
+  }
+}
+
+export function teardown(data) {
+  for (const fixture of data.rooms) {
+    const room = strictGetRoom(config.baseUrl, fixture.hostToken, fixture.roomId);
+    const participants = room.participants || [];
+    const red = participants.filter((participant) => participant.team === "RED").length;
+    const blue = participants.filter((participant) => participant.team === "BLUE").length;
+    const balanced = Math.abs(red - blue) <= 1 && red + blue === participants.length;
+
+    if (participants.length !== data.maxPlayers || !balanced) {
+      roomViolations.add(1);
+      console.error(
+        `room ${fixture.roomId}: players=${participants.length}/${data.maxPlayers}, red=${red}, blue=${blue}`
+      );
+    }
+  }
+}
@@ -110,6 +110,20 @@ export function enterRoom(baseUrl, token, roomId) {
   return expectSuccess(response, "enterRoom");
 }
 
+export function joinRoom(baseUrl, token, roomId, tags = {}) {
+  return http.post(`${baseUrl}/api/games/${roomId}/enter`, JSON.stringify({}), {
+    headers: buildHeaders(token),
+    tags,
+  });
+}
+
+export function strictGetRoom(baseUrl, token, roomId) {
+  const response = http.get(`${baseUrl}/api/games/${roomId}`, {
+    headers: buildHeaders(token),
+  });
+  return expectSuccess(response, "getRoom");
+}
+
 export function readyRoom(baseUrl, token, roomId, tags = {}) {
   return http.post(`${baseUrl}/api/benchmark/games/${roomId}/ready`, null, {
     headers: buildHeaders(token),
@@ -180,6 +194,39 @@ export function strictCreateFinishRaceFixtures(baseUrl, roomCount, prefix) {
   return expectSuccess(response, "createFinishRaceFixtures");
 }
 
+export function strictCreateJoinRaceFixtures(baseUrl, roomCount, maxPlayers, prefix) {
+  const response = http.post(
+    `${baseUrl}/api/benchmark/fixtures/join-race`,
+    JSON.stringify({
+      roomCount,
+      maxPlayers,
+      prefix,
+    }),
+    benchmarkSetupParams()
+  );
+  return expectSuccess(response, "createJoinRaceFixtures");
+}
+
+export function runWriteBurst(baseUrl, scenario, rows, tags = {}) {
+  return http.post(`${baseUrl}/api/benchmark/persistence/${scenario}?rows=${rows}`, null, {
+    headers: buildHeaders(),
+    timeout: __ENV.SETUP_REQUEST_TIMEOUT || "5m",
+    tags,
+  });
+}
+
+export function runOutboundProbe(baseUrl, destination, latencyMs, status, tags = {}) {
+  return http.post(
+    `${baseUrl}/api/benchmark/outbound/${destination}?latencyMs=${latencyMs}&status=${status}`,
+    null,
+    {
+      headers: buildHeaders(),
+      timeout: __ENV.SETUP_REQUEST_TIMEOUT || "5m",
+      tags,
+    },
+  );
+}
+
 export function endRoom(baseUrl, roomId, tags = {}) {
   return http.post(`${baseUrl}/api/games/${roomId}/end`, null, {
     headers: buildHeaders(),
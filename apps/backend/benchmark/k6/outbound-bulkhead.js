@@ -0,0 +1,54 @@
+import { Counter, Rate, Trend } from "k6/metrics";
+
+import { loadConfig } from "./lib/config.js";
+import { readApiResult, runOutboundProbe } from "./lib/api.js";
+
+// 서버를 benchmark,outbound-stub 프로필로 띄우고 외부 호출 정책을 오프라인으로 확인한다.
+// VU 를 대상의 max-concurrent 보다 크게 잡으면 넘친 호출은 acquire-timeout-ms 안에 rejected 로 끝나야 하고,
+// STUB_LATENCY_MS 를 request-timeout-ms 보다 크게 잡으면 timeout 으로 끝나야 한다 (스레드가 묶여 있지 않아야 한다).
+const config = loadConfig();
+const destination = __ENV.OUTBOUND_DESTINATION || "boj";
+const latencyMs = Number(__ENV.STUB_LATENCY_MS || 500);
+const status = Number(__ENV.STUB_STATUS || 200);
+const vus = Number(__ENV.OUTBOUND_VUS || 32);
+const duration = __ENV.OUTBOUND_DURATION || "30s";
+const maxFailFastMillis = Number(__ENV.MAX_FAIL_FAST_MS || 10000);
+
+const outcomes = new Counter("outbound_probe_outcomes");
+const serverElapsed = new Trend("outbound_probe_server_elapsed", true);
+const failureRate = new Rate("outbound_probe_failure_rate");
+
+export const options = {
+  scenarios: {
+    outbound_bulkhead: {
+      executor: "constant-vus",
+      vus,
+      duration,
+    },
+  },
+  thresholds: {
+    outbound_probe_failure_rate: [`rate<${config.maxFailureRate}`],
+    // 거절/타임아웃은 정해진 시간 안에 끝나야 한다 (재시도 포함)
+    "outbound_probe_server_elapsed{outcome:rejected}": [`max<${maxFailFastMillis}`],
+    "outbound_probe_server_elapsed{outcome:timeout}": [`max<${maxFailFastMillis}`],
+    "outbound_probe_server_elapsed{outcome:success}": ["p(95)>=0"],
+  },
+};
+
+export default function () {
+  const response = runOutboundProbe(config.baseUrl, destination, latencyMs, status, {
+    benchmark_scenario: "outbound-bulkhead",
+    destination,
+  });
+  const result = readApiResult(response);
+  // 호출 자체(벤치마크 API)가 실패한 경우만 실패로 센다. 거절/타임아웃은 정책이 동작한 결과다.
+  failureRate.add(!result.ok);
+  if (!result.ok) {
+    return;
+  }
+
+  const data = result.payload.data;
+  const tags = { destination, outcome: data.outcome };
+  outcomes.add(1, tags);
+  serverElapsed.add(data.elapsedMillis, tags);
+}
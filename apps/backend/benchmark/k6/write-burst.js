@@ -0,0 +1,65 @@
+import { Rate, Trend } from "k6/metrics";
+
+import { loadConfig } from "./lib/config.js";
+import { readApiResult, runWriteBurst } from "./lib/api.js";
+
+// 쓰기가 몰리는 구간(시즌 정산, 채팅 버퍼 flush, 게임 보상)을 서버에서 한 번씩 실행하고
+// 행 수 대비 SQL 문장 수를 본다. batch 가 동작하면 행이 늘어도 문장 수는 거의 늘지 않는다.
+const SCENARIOS = (__ENV.WRITE_BURST_SCENARIOS || "league-season,chat-flush,game-rewards")
+  .split(",")
+  .map((scenario) => scenario.trim())
+  .filter((scenario) => scenario.length > 0);
+
+const config = loadConfig();
+const rows = Number(__ENV.WRITE_BURST_ROWS || 500);
+const vus = Number(__ENV.WRITE_BURST_VUS || 1);
+const iterations = Number(__ENV.WRITE_BURST_ITERATIONS || 5);
+const maxStatementsPerRow = Number(__ENV.MAX_STATEMENTS_PER_ROW || 0.2);
+
+if (!Number.isInteger(rows) || rows <= 0) {
+  throw new Error("WRITE_BURST_ROWS must be a positive integer");
+}
+
+const statementsPerRow = new Trend("write_burst_statements_per_row");
+const serverElapsed = new Trend("write_burst_server_elapsed", true);
+const failureRate = new Rate("write_burst_failure_rate");
+
+const thresholds = {
+  write_burst_failure_rate: [`rate<${config.maxFailureRate}`],
+};
+for (const scenario of SCENARIOS) {
+  thresholds[`write_burst_statements_per_row{scenario:${scenario}}`] = [`max<${maxStatementsPerRow}`];
+  thresholds[`write_burst_server_elapsed{scenario:${scenario}}`] = ["p(95)>=0"];
+}
+
+export const options = {
+  scenarios: {
+    write_burst: {
+      executor: "per-vu-iterations",
+      // VU 를 늘리면 같은 구간이 동시에 돌면서 커넥션 풀/입장 제한도 함께 확인된다
+      vus,
+      iterations,
+      maxDuration: config.maxDuration,
+    },
+  },
+  thresholds,
+};
+
+export default function () {
+  for (const scenario of SCENARIOS) {
+    const response = runWriteBurst(config.baseUrl, scenario, rows, {
+      benchmark_scenario: "write-burst",
+      scenario,
+    });
+    const result = readApiResult(response);
+    failureRate.add(!result.ok);
+    if (!result.ok) {
+      continue;
+    }
+
+    const data = result.payload.data;
+    const tags = { scenario };
+    statementsPerRow.add(data.rows > 0 ? data.statements / data.rows : data.statements, tags);
+    serverElapsed.add(data.elapsedMillis, tags);
+  }
+}
@@ -0,0 +1,161 @@
+import fs from "node:fs";
+import path from "node:path";
+import { fileURLToPath } from "node:url";
+
+// ./gradlew jmh 결과(JSON)를 저장된 기준선과 비교해 임계치를 넘게 느려진 벤치마크를 표시한다.
+//   node benchmark/scripts/compare-jmh-baseline.mjs [--results <json>] [--baseline <json>] [--threshold 10] [--report <md>]
+//   node benchmark/scripts/compare-jmh-baseline.mjs --update-baseline   (현재 결과를 기준선으로 저장)
+// 회귀가 있으면 종료 코드 1.
+
+const SCRIPT_DIR = path.dirname(fileURLToPath(import.meta.url));
+const BACKEND_DIR = path.resolve(SCRIPT_DIR, "../..");
+const DEFAULT_RESULTS = path.join(BACKEND_DIR, "build/results/jmh/results.json");
+const DEFAULT_BASELINE = path.join(BACKEND_DIR, "benchmark/jmh/baseline.json");
+const DEFAULT_THRESHOLD_PERCENT = 10;
+// 처리량(thrpt)만 클수록 좋고, 나머지 모드(avgt/sample/ss)는 작을수록 좋다.
+const HIGHER_IS_BETTER_MODES = new Set(["thrpt"]);
+
+function parseArgs(argv) {
+  const args = {};
+  for (let index = 2; index < argv.length; index += 1) {
+    const key = argv[index];
+    if (!key.startsWith("--")) {
+      continue;
+    }
+    const next = argv[index + 1];
+    if (next === undefined || next.startsWith("--")) {
+      args[key.slice(2)] = true;
+      continue;
+    }
+    args[key.slice(2)] = next;
+    index += 1;
+  }
+  return args;
+}
+
+function readJson(filePath) {
+  return JSON.parse(fs.readFileSync(filePath, "utf8"));
+}
+
+function benchmarkKey(entry) {
+  const params = Object.entries(entry.params || {})
+    .sort(([left], [right]) => left.localeCompare(right))
+    .map(([name, value]) => `${name}=${value}`)
+    .join(",");
+  const name = entry.benchmark.replace(/^com\.peekle\./, "");
+  return params ? `${name}(${params}) [${entry.mode}]` : `${name} [${entry.mode}]`;
+}
+
+function indexResults(entries) {
+  const byKey = new Map();
+  for (const entry of entries) {
+    byKey.set(benchmarkKey(entry), entry);
+  }
+  return byKey;
+}
+
+function errorOf(metric) {
+  const error = Number(metric.scoreError);
+  return Number.isFinite(error) ? error : 0;
+}
+
+function compare(current, baseline, thresholdPercent) {
+  const rows = [];
+  for (const [key, entry] of current) {
+    const base = baseline.get(key);
+    const score = Number(entry.primaryMetric.score);
+    const unit = entry.primaryMetric.scoreUnit;
+    if (!base) {
+      rows.push({ key, unit, score, baseScore: null, changePercent: null, status: "new" });
+      continue;
+    }
+
+    const baseScore = Number(base.primaryMetric.score);
+    const higherIsBetter = HIGHER_IS_BETTER_MODES.has(entry.mode);
+    // 양수 = 나빠짐
+    const worsening = higherIsBetter ? baseScore - score : score - baseScore;
+    const changePercent = baseScore === 0 ? 0 : (worsening / baseScore) * 100;
+    // 오차 구간이 겹치면 잡음으로 본다.
+    const noise = errorOf(entry.primaryMetric) + errorOf(base.primaryMetric);
+
+    let status = "ok";
+    if (changePercent > thresholdPercent && worsening > noise) {
+      status = "regression";
+    } else if (changePercent < -thresholdPercent && -worsening > noise) {
+      status = "improved";
+    }
+    rows.push({ key, unit, score, baseScore, changePercent, status });
+  }
+
+  for (const key of baseline.keys()) {
+    if (!current.has(key)) {
+      const base = baseline.get(key);
+      rows.push({
+        key,
+        unit: base.primaryMetric.scoreUnit,
+        score: null,
+        baseScore: Number(base.primaryMetric.score),
+        changePercent: null,
+        status: "missing",
+      });
+    }
+  }
+  return rows;
+}
+
+function formatNumber(value) {
+  return value === null ? "-" : value.toFixed(3);
+}
+
+function renderTable(rows, thresholdPercent) {
+  const lines = [
+    `JMH baseline comparison (threshold ${thresholdPercent}%, positive change = slower)`,
+    "",
+    "| Benchmark | Unit | Baseline | Current | Change | Status |",
+    "| --- | --- | ---: | ---: | ---: | --- |",
+  ];
+  for (const row of rows) {
+    const change = row.changePercent === null ? "-" : `${row.changePercent >= 0 ? "+" : ""}${row.changePercent.toFixed(1)}%`;
+    lines.push(`| ${row.key} | ${row.unit} | ${formatNumber(row.baseScore)} | ${formatNumber(row.score)} | ${change} | ${row.status} |`);
+  }
+  return lines.join("\n");
+}
+
+function main() {
+  const args = parseArgs(process.argv);
+  const resultsPath = path.resolve(args.results || DEFAULT_RESULTS);
+  const baselinePath = path.resolve(args.baseline || DEFAULT_BASELINE);
+  const thresholdPercent = Number(args.threshold ?? DEFAULT_THRESHOLD_PERCENT);
+
+  if (!fs.existsSync(resultsPath)) {
+    console.error(`JMH results not found: ${resultsPath} (run ./gradlew jmh first)`);
+    process.exit(2);
+  }
+
+  if (args["update-baseline"]) {
+    fs.mkdirSync(path.dirname(baselinePath), { recursive: true });
+    fs.copyFileSync(resultsPath, baselinePath);
+    console.log(`Baseline updated: ${baselinePath}`);
+    return;
+  }
+
+  if (!fs.existsSync(baselinePath)) {
+    console.error(`Baseline not found: ${baselinePath} (save one with --update-baseline)`);
+    process.exit(2);
+  }
+
+  const rows = compare(indexResults(readJson(resultsPath)), indexResults(readJson(baselinePath)), thresholdPercent);
+  const table = renderTable(rows, thresholdPercent);
+  console.log(table);
+  if (args.report) {
+    fs.writeFileSync(path.resolve(args.report), `${table}\n`);
+  }
+
+  const regressions = rows.filter((row) => row.status === "regression");
+  if (regressions.length > 0) {
+    console.error(`\n${regressions.length} benchmark(s) regressed more than ${thresholdPercent}%.`);
+    process.exit(1);
+  }
+}
+
+main();
@@ -1,5 +1,11 @@
 import fs from "node:fs";
 import path from "node:path";
+import {
+  computeRedisOperationDeltas,
+  findRedisOperation,
+  formatRedisOperationCell,
+  redisOperationNames,
+} from "./redis-operations.mjs";
 
 function parseArgs(argv) {
   const args = {};
@@ -145,6 +151,10 @@ function normalizeResult(args) {
         after.metrics.finishClaimRejected
       ),
     },
+    redisOperations: computeRedisOperationDeltas(
+      before.metrics.redisOperations,
+      after.metrics.redisOperations
+    ),
   };
 
   const resultFile = path.join(resultsDir, `${normalized.id}.result.json`);
@@ -442,6 +452,7 @@ function renderReport(results, outputPath) {
   lines.push("- `after`: 같은 하네스 위에 `finish_claim` 기반 멱등 종료 적용");
   lines.push("- correctness 표의 room당 수치는 actuator counter delta가 warm-up과 measure를 함께 포함하므로 `total roomCount` 기준으로 정규화했다.");
   lines.push("- 공정 비교용 winner 지표는 `trigger=manual,result=processed` 태그로 필터링한 actuator metric만 사용했다.");
+  lines.push("- 논리 연산별 Redis 표는 `redis.operation.*` delta다. 바깥 연산(`game.finish`)은 안쪽 연산(`game.delete`)의 명령까지 합산하고, `unscoped`는 연산 스코프 밖 명령 수만 보여준다.");
   lines.push("");
 
   const performanceRows = pairs.map((pair) => [
@@ -563,6 +574,58 @@ function renderReport(results, outputPath) {
     )
   );
   lines.push("");
+
+  const redisOperationRows = pairs.flatMap((pair) =>
+    redisOperationNames([pair.before, pair.after]).map((operation) => {
+      const before = findRedisOperation(pair.before, operation);
+      const after = findRedisOperation(pair.after, operation);
+      return [
+        String(pair.concurrency),
+        `\`${operation}\``,
+        formatMs(pair.before.k6.p95),
+        formatMs(pair.after.k6.p95),
+        formatRedisOperationCell(before, (row) => row.commandsPerInvocation),
+        formatRedisOperationCell(after, (row) => row.commandsPerInvocation),
+        formatRedisOperationCell(before, (row) => row.bytesOutPerInvocation, 0),
+        formatRedisOperationCell(after, (row) => row.bytesOutPerInvocation, 0),
+        formatRedisOperationCell(before, (row) => row.bytesInPerInvocation, 0),
+        formatRedisOperationCell(after, (row) => row.bytesInPerInvocation, 0),
+        formatRedisOperationCell(before, (row) => row.redisMsPerInvocation),
+        formatRedisOperationCell(after, (row) => row.redisMsPerInvocation),
+        formatRedisOperationCell(before, (row) => row.commands, 0),
+        formatRedisOperationCell(after, (row) => row.commands, 0),
+      ];
+    })
+  );
+
+  lines.push("### 5.5 논리 연산별 Redis 명령");
+  lines.push("");
+  if (redisOperationRows.length > 0) {
+    lines.push(
+      renderTable(
+        [
+          "VU",
+          "Operation",
+          "HTTP P95 Before",
+          "HTTP P95 After",
+          "Commands/op Before",
+          "Commands/op After",
+          "Bytes out/op Before",
+          "Bytes out/op After",
+          "Bytes in/op Before",
+          "Bytes in/op After",
+          "Redis ms/op Before",
+          "Redis ms/op After",
+          "Total Commands Before",
+          "Total Commands After",
+        ],
+        redisOperationRows
+      )
+    );
+  } else {
+    lines.push("- redis.operation.* 메트릭이 없는 결과라 생략했다.");
+  }
+  lines.push("");
   lines.push("## 6. 핵심 결과");
   lines.push("");
   lines.push("### 6.1 finishGame headline");
@@ -1,5 +1,6 @@
 import fs from "node:fs";
 import path from "node:path";
+import { computeRedisOperationDeltas, formatRedisOperationCell } from "./redis-operations.mjs";
 
 function parseArgs(argv) {
   const args = {};
@@ -117,6 +118,10 @@ function writeNormalizedResult(args) {
       previewRebuild: computeCounterDelta(before.metrics.previewRebuild, after.metrics.previewRebuild),
       startFailure: computeCounterDelta(before.metrics.startFailure, after.metrics.startFailure),
     },
+    redisOperations: computeRedisOperationDeltas(
+      before.metrics.redisOperations,
+      after.metrics.redisOperations
+    ),
   };
 
   const resultFile = path.join(resultsDir, `${normalized.id}.result.json`);
@@ -351,6 +356,23 @@ function renderReport(results) {
       formatNumber(result.actuator.workbookCacheBytes?.mean ?? 0),
     ]);
 
+  const redisOperationRows = results.flatMap((result) =>
+    (result.redisOperations || []).map((row) => [
+      result.version,
+      resultScenarioLabel(result),
+      String(result.dataset),
+      String(result.concurrency),
+      formatMs(result.k6.p95),
+      `\`${row.operation}\``,
+      String(row.invocations),
+      formatRedisOperationCell(row, (value) => value.commandsPerInvocation),
+      formatRedisOperationCell(row, (value) => value.bytesOutPerInvocation, 0),
+      formatRedisOperationCell(row, (value) => value.bytesInPerInvocation, 0),
+      formatRedisOperationCell(row, (value) => value.redisMsPerInvocation),
+      formatRedisOperationCell(row, (value) => value.meanCommandMs, 3),
+    ])
+  );
+
   const lines = [
     "# WORKBOOK Preview k6 Report",
     "",
@@ -665,6 +687,30 @@ function renderReport(results) {
     lines.push("");
   }
 
+  if (redisOperationRows.length > 0) {
+    lines.push("## Redis Operations Raw Results");
+    lines.push(
+      renderTable(
+        [
+          "Version",
+          "Scenario",
+          "Dataset",
+          "Concurrency",
+          "HTTP P95",
+          "Operation",
+          "Invocations",
+          "Commands/op",
+          "Bytes out/op",
+          "Bytes in/op",
+          "Redis ms/op",
+          "Mean ms/command",
+        ],
+        redisOperationRows
+      )
+    );
+    lines.push("");
+  }
+
   if (results.length > 0) {
     const latest = results.reduce((currentLatest, candidate) => {
       if (!currentLatest) {
@@ -695,6 +741,7 @@ function renderReport(results) {
   lines.push("- `Failure Rate`는 warm-up 이후 iteration 기준 `benchmark_failure_rate`다.");
   lines.push("- `Mean SQL/start`, `Mean SQL/create`, `Mean Preview Bytes/room`, `Mean Shared Cache Bytes/workbook`은 Actuator before/after delta로 계산한 평균값이다.");
   lines.push("- preview miss/rebuild 카운터는 누적 Counter delta를 사용한다.");
+  lines.push("- `Redis Operations Raw Results`는 `redis.operation.*` delta다. `game.create`는 안쪽 `game.enter`의 명령까지 합산하고, `unscoped`는 연산 스코프 밖 명령 수만 잡힌다.");
   lines.push("- `startGame Cold Start Removal` 표는 `before=게임 시작 시 DB 조회`, `after=preview cache hit`를 같은 MySQL/Redis 런타임에서 비교한다.");
   lines.push("- `After-only Stability`는 성능 headline이 아니라 preview miss 복구 안정성 확인용이다.");
   lines.push("");
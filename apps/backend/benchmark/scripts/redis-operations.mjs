@@ -0,0 +1,92 @@
+// 논리 연산별 Redis 메트릭(redis.operation.*) before/after delta 계산.
+// redis-operations.sh 의 capture_redis_operations 스냅샷을 입력으로 받는다.
+
+function measurementValue(metric, statisticNames) {
+  if (!metric || !Array.isArray(metric.measurements)) {
+    return 0;
+  }
+
+  for (const statisticName of statisticNames) {
+    const found = metric.measurements.find(
+      (measurement) => measurement.statistic === statisticName
+    );
+    if (found) {
+      return Number(found.value || 0);
+    }
+  }
+
+  return 0;
+}
+
+function delta(beforeMetric, afterMetric, statisticNames) {
+  return Math.max(
+    measurementValue(afterMetric, statisticNames) - measurementValue(beforeMetric, statisticNames),
+    0
+  );
+}
+
+// unscoped 처럼 연산 단위 기록이 없으면 null ("-" 로 표시)
+function perInvocation(total, invocations) {
+  return invocations > 0 ? total / invocations : null;
+}
+
+/**
+ * 연산별 delta. 호출 횟수는 redis.operation.commands 의 COUNT(연산 1회당 1건)를 쓰고,
+ * 명령 수는 redis.operation.command.latency 의 COUNT 를 쓴다 (unscoped 포함).
+ */
+export function computeRedisOperationDeltas(beforeOperations = {}, afterOperations = {}) {
+  return Object.keys(afterOperations || {})
+    .sort()
+    .map((operation) => {
+      const before = beforeOperations?.[operation] || {};
+      const after = afterOperations[operation] || {};
+      const invocations = delta(before.commands, after.commands, ["COUNT"]);
+      const commands = delta(before.commandLatency, after.commandLatency, ["COUNT"]);
+      const commandSeconds = delta(before.commandLatency, after.commandLatency, ["TOTAL_TIME"]);
+
+      return {
+        operation,
+        invocations,
+        commands,
+        commandsPerInvocation: perInvocation(delta(before.commands, after.commands, ["TOTAL"]), invocations),
+        bytesOutPerInvocation: perInvocation(delta(before.bytesOut, after.bytesOut, ["TOTAL"]), invocations),
+        bytesInPerInvocation: perInvocation(delta(before.bytesIn, after.bytesIn, ["TOTAL"]), invocations),
+        redisMsPerInvocation: perInvocation(
+          delta(before.latency, after.latency, ["TOTAL_TIME"]) * 1000,
+          invocations
+        ),
+        meanCommandMs: commands > 0 ? (commandSeconds * 1000) / commands : null,
+      };
+    })
+    .filter((row) => row.commands > 0 || row.invocations > 0);
+}
+
+export function findRedisOperation(result, operation) {
+  return (result?.redisOperations || []).find((row) => row.operation === operation);
+}
+
+/**
+ * 여러 결과에 나온 연산 이름 합집합 (unscoped 는 맨 뒤)
+ */
+export function redisOperationNames(results) {
+  const names = new Set();
+  for (const result of results) {
+    for (const row of result?.redisOperations || []) {
+      names.add(row.operation);
+    }
+  }
+  return [...names].sort((left, right) => {
+    if (left === "unscoped" || right === "unscoped") {
+      return left === "unscoped" ? 1 : -1;
+    }
+    return left.localeCompare(right);
+  });
+}
+
+export function formatRedisOperationCell(row, selector, digits = 2) {
+  if (!row) {
+    return "-";
+  }
+  const value = selector(row);
+  return Number.isFinite(value) ? value.toFixed(digits) : "-";
+}
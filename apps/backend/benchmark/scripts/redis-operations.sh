@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+
+# 논리 연산별 Redis 메트릭(redis.operation.*) 스냅샷.
+# source 한 쪽 스크립트의 fetch_metric 을 그대로 사용한다.
+#
+# 출력 예:
+#   {"game.finish": {"commands": {...}, "bytesOut": {...}, "bytesIn": {...}, "latency": {...}, "commandLatency": {...}}}
+# unscoped 는 연산 단위 메트릭이 없으므로 commandLatency 만 채워진다.
+
+capture_redis_operations() {
+  local operations
+  operations=$(fetch_metric "redis.operation.command.latency" \
+    | jq -r '[.availableTags[]? | select(.tag == "operation") | .values[]] | unique | .[]')
+
+  local result='{}'
+  local operation
+  while IFS= read -r operation; do
+    if [[ -z "${operation}" ]]; then
+      continue
+    fi
+    result=$(jq -n \
+      --argjson result "${result}" \
+      --arg operation "${operation}" \
+      --argjson commands "$(fetch_metric "redis.operation.commands" "operation:${operation}")" \
+      --argjson bytesOut "$(fetch_metric "redis.operation.bytes" "operation:${operation}" "direction:out")" \
+      --argjson bytesIn "$(fetch_metric "redis.operation.bytes" "operation:${operation}" "direction:in")" \
+      --argjson latency "$(fetch_metric "redis.operation.latency" "operation:${operation}")" \
+      --argjson commandLatency "$(fetch_metric "redis.operation.command.latency" "operation:${operation}")" \
+      '$result + {
+        ($operation): {
+          commands: $commands,
+          bytesOut: $bytesOut,
+          bytesIn: $bytesIn,
+          latency: $latency,
+          commandLatency: $commandLatency
+        }
+      }')
+  done <<< "${operations}"
+
+  printf '%s\n' "${result}"
+}
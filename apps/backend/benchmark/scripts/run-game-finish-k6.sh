@@ -115,6 +115,9 @@ fetch_metric() {
   fi
 }
 
+# shellcheck source=redis-operations.sh
+source "${SCRIPT_DIR}/redis-operations.sh"
+
 capture_snapshot() {
   jq -n \
     --arg collectedAt "$(date -u +"%Y-%m-%dT%H:%M:%SZ")" \
@@ -127,6 +130,7 @@ capture_snapshot() {
     --argjson finishPointLogWritten "$(fetch_metric "game.finish.point_log_written" "trigger:manual")" \
     --argjson finishClaimGranted "$(fetch_metric "game.finish.claim.granted" "trigger:manual")" \
     --argjson finishClaimRejected "$(fetch_metric "game.finish.claim.rejected" "trigger:manual")" \
+    --argjson redisOperations "$(capture_redis_operations)" \
     '{
       collectedAt: $collectedAt,
       metrics: {
@@ -138,7 +142,8 @@ capture_snapshot() {
         finishEventPublished: $finishEventPublished,
         finishPointLogWritten: $finishPointLogWritten,
         finishClaimGranted: $finishClaimGranted,
-        finishClaimRejected: $finishClaimRejected
+        finishClaimRejected: $finishClaimRejected,
+        redisOperations: $redisOperations
       }
     }'
 }
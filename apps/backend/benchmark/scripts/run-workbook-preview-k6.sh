@@ -121,6 +121,9 @@ fetch_metric() {
   fi
 }
 
+# shellcheck source=redis-operations.sh
+source "${SCRIPT_DIR}/redis-operations.sh"
+
 capture_snapshot() {
   jq -n \
     --arg collectedAt "$(date -u +"%Y-%m-%dT%H:%M:%SZ")" \
@@ -132,6 +135,7 @@ capture_snapshot() {
     --argjson previewMiss "$(fetch_metric "game.start.preview.miss" "problem_source:WORKBOOK")" \
     --argjson previewRebuild "$(fetch_metric "game.start.preview.rebuild" "problem_source:WORKBOOK")" \
     --argjson startFailure "$(fetch_metric "game.start.failure" "problem_source:WORKBOOK" "cache:${CACHE_TAG}")" \
+    --argjson redisOperations "$(capture_redis_operations)" \
     '{
       collectedAt: $collectedAt,
       metrics: {
@@ -142,7 +146,8 @@ capture_snapshot() {
         workbookCacheBytes: $workbookCacheBytes,
         previewMiss: $previewMiss,
         previewRebuild: $previewRebuild,
-        startFailure: $startFailure
+        startFailure: $startFailure,
+        redisOperations: $redisOperations
       }
     }'
 }
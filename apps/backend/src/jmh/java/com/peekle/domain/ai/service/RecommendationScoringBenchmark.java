@@ -0,0 +1,72 @@
+package com.peekle.domain.ai.service;
+
+import com.peekle.domain.ai.dto.request.CandidateProblemDto;
+import com.peekle.domain.problem.entity.Problem;
+import com.peekle.jmh.ProblemCatalogFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 후보 점수화 (AI 서버 호출 전, 후보 풀 전체에 대해 한 번)
+ * - 강점/약점/오래된 태그는 카탈로그 태그에서 골라 실제처럼 일부만 겹치게 한다
+ */
+@State(Scope.Benchmark)
+public class RecommendationScoringBenchmark {
+
+    // RecommendationService.CANDIDATE_POOL_SIZE
+    @Param({"120"})
+    private int candidatePoolSize;
+
+    private RecommendationService recommendationService;
+    private List<Problem> candidates;
+    private Set<String> strongTags;
+    private Set<String> weakTags;
+    private Set<String> staleTags;
+    private Set<String> recentInteractionTags;
+    private Set<String> recentlyRecommendedIds;
+
+    @Setup
+    public void setUp() {
+        // 점수화는 리포지토리/AI 클라이언트를 쓰지 않는다
+        recommendationService = new RecommendationService(null, null, null, null, null, null, null);
+        candidates = ProblemCatalogFixtures.loadProblems(candidatePoolSize);
+
+        List<String> tagNames = candidates.stream()
+                .flatMap(problem -> problem.getTags().stream())
+                .map(tag -> tag.getKey())
+                .distinct()
+                .sorted()
+                .toList();
+        strongTags = pick(tagNames, 0);
+        weakTags = pick(tagNames, 1);
+        staleTags = pick(tagNames, 2);
+        recentInteractionTags = new HashSet<>(strongTags);
+        recentInteractionTags.addAll(weakTags);
+        recentlyRecommendedIds = candidates.stream()
+                .limit(10)
+                .map(Problem::getExternalId)
+                .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public List<CandidateProblemDto> rankCandidates() {
+        return recommendationService.rankCandidates(candidates, 12, strongTags, weakTags, staleTags,
+                recentInteractionTags, recentlyRecommendedIds, false);
+    }
+
+    private static Set<String> pick(List<String> tagNames, int offset) {
+        Set<String> picked = new HashSet<>();
+        for (int index = offset; index < tagNames.size() && picked.size() < 5; index += 3) {
+            picked.add(tagNames.get(index));
+        }
+        return picked;
+    }
+}
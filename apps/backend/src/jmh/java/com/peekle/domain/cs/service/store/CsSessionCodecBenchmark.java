@@ -0,0 +1,95 @@
+package com.peekle.domain.cs.service.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.peekle.domain.cs.enums.CsAttemptPhase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CS 풀이 세션 직렬화 비용 (연산당 할당량은 gc 프로파일러의 gc.alloc.rate.norm)
+ * - json: 예전 RedisTemplate 값 직렬화기로 세션 전체를 쓰던 방식
+ * - encodeState: 답안 제출마다 갱신되는 state 세그먼트만 쓰는 방식
+ */
+@State(Scope.Benchmark)
+public class CsSessionCodecBenchmark {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CsAttemptSession session;
+    private byte[] encodedValue;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        session = attemptSession();
+        encodedValue = CsSessionCodec.encodeAttempt(session);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return jsonSerializer.serialize(session);
+    }
+
+    @Benchmark
+    public byte[] encodeValue() {
+        return CsSessionCodec.encodeAttempt(session);
+    }
+
+    @Benchmark
+    public byte[] encodeState() {
+        return CsSessionCodec.encodeAttemptState(session);
+    }
+
+    @Benchmark
+    public CsAttemptSession decodeValue() {
+        return CsSessionCodec.decodeAttempt(encodedValue);
+    }
+
+    // 10문제 스테이지, 오답 재풀이 2라운드 중인 세션
+    private CsAttemptSession attemptSession() {
+        List<Long> questionOrder = new ArrayList<>();
+        for (long id = 1_000L; id < 1_010L; id++) {
+            questionOrder.add(id * 7 % 1_013 + 50_000L);
+        }
+
+        Set<Long> firstPassWrong = new HashSet<>(List.of(questionOrder.get(1), questionOrder.get(4)));
+        Map<Long, Integer> wrongCounts = new HashMap<>(Map.of(questionOrder.get(1), 2, questionOrder.get(4), 1));
+        Map<Long, Boolean> latestCorrect = new HashMap<>();
+        for (int i = 0; i < questionOrder.size(); i++) {
+            latestCorrect.put(questionOrder.get(i), i != 4);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.of(2026, 10, 19, 14, 0, 1, 123_456_789);
+        return CsAttemptSession.builder()
+                .userId(42L)
+                .stageId(7L)
+                .domainId(3)
+                .phase(CsAttemptPhase.RETRY_WRONG)
+                .retryRound(2)
+                .questionOrder(questionOrder)
+                .currentRoundQuestionIds(new ArrayList<>(List.of(questionOrder.get(4))))
+                .currentRoundIndex(0)
+                .firstPassCorrectCount(8)
+                .firstPassWrongQuestionIds(firstPassWrong)
+                .wrongAttemptCountByQuestionId(wrongCounts)
+                .latestCorrectByQuestionId(latestCorrect)
+                .startedAt(startedAt)
+                .updatedAt(startedAt.plusMinutes(3))
+                .build();
+    }
+}
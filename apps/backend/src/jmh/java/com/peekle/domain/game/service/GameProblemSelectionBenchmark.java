@@ -0,0 +1,42 @@
+package com.peekle.domain.game.service;
+
+import com.peekle.domain.problem.entity.Problem;
+import com.peekle.jmh.ProblemCatalogFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 게임 시작 시 문제 선택 (문제집 샘플링, BOJ_RANDOM 티어 범위 계산)
+ */
+@State(Scope.Benchmark)
+public class GameProblemSelectionBenchmark {
+
+    // 문제집 크기
+    @Param({"50", "500"})
+    private int poolSize;
+
+    @Param({"5"})
+    private int problemCount;
+
+    private List<Problem> workbookProblems;
+
+    @Setup
+    public void setUp() {
+        workbookProblems = ProblemCatalogFixtures.loadProblems(poolSize);
+    }
+
+    @Benchmark
+    public List<Problem> sampleWorkbookProblems() {
+        return RedisGameService.sampleWithoutReplacement(workbookProblems, problemCount);
+    }
+
+    @Benchmark
+    public List<String> tiersInRange() {
+        return RedisGameService.getTiersInRange("bronze", "gold");
+    }
+}
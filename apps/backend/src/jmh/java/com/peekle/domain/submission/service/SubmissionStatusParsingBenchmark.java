@@ -0,0 +1,75 @@
+package com.peekle.domain.submission.service;
+
+import com.peekle.domain.problem.entity.Problem;
+import com.peekle.jmh.ProblemCatalogFixtures;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * BOJ 채점 현황 페이지 해석 (파싱 → 제출 행 찾기 → 결과/코드 길이 정규화)
+ * - 페이지는 실제처럼 20행이고, 찾는 제출은 마지막 행에 둔다
+ */
+@State(Scope.Benchmark)
+public class SubmissionStatusParsingBenchmark {
+
+    private static final int ROWS_PER_PAGE = 20;
+    private static final String[] RESULTS = {"틀렸습니다", "시간 초과", "맞았습니다!!", "런타임 에러 (NullPointer)"};
+
+    private String statusHtml;
+    private Elements parsedRows;
+    private String targetSubmitId;
+
+    @Setup
+    public void setUp() {
+        List<Problem> problems = ProblemCatalogFixtures.loadProblems(ROWS_PER_PAGE);
+        StringBuilder html = new StringBuilder("<html><body><table id=\"status-table\"><tbody>");
+        for (int index = 0; index < problems.size(); index++) {
+            String submitId = String.valueOf(90_000_000 + index);
+            String result = index == problems.size() - 1 ? "맞았습니다!!" : RESULTS[index % RESULTS.length];
+            html.append("<tr>")
+                    .append("<td>").append(submitId).append("</td>")
+                    .append("<td><a href=\"/user/benchmark\">benchmark</a></td>")
+                    .append("<td><a href=\"/problem/").append(problems.get(index).getExternalId()).append("\">")
+                    .append(problems.get(index).getExternalId()).append("</a></td>")
+                    .append("<td><span class=\"result-text\">").append(result).append("</span></td>")
+                    .append("<td>14200 KB</td><td>128 ms</td><td>Java 11</td>")
+                    .append("<td>").append(800 + index).append(" B</td>")
+                    .append("<td>1분 전</td>")
+                    .append("</tr>");
+            targetSubmitId = submitId;
+        }
+        statusHtml = html.append("</tbody></table></body></html>").toString();
+        parsedRows = Jsoup.parse(statusHtml).select("table#status-table tbody tr");
+    }
+
+    @Benchmark
+    public Integer parseAndNormalize() {
+        Document document = Jsoup.parse(statusHtml, "https://www.acmicpc.net/status");
+        return normalize(document.select("table#status-table tbody tr"));
+    }
+
+    /**
+     * 파싱 비용을 뺀 행 탐색 + 정규화만
+     */
+    @Benchmark
+    public Integer normalizeParsedRows() {
+        return normalize(parsedRows);
+    }
+
+    private Integer normalize(Elements rows) {
+        Element row = SubmissionValidator.findRowBySubmitId(rows, targetSubmitId);
+        Elements cols = row.select("td");
+        if (!SubmissionValidator.isAcceptedResult(cols.get(3).text())) {
+            return null;
+        }
+        return SubmissionValidator.parseCodeLength(cols.get(7).text());
+    }
+}
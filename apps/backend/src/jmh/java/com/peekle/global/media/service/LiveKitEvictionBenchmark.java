@@ -0,0 +1,105 @@
+package com.peekle.global.media.service;
+
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
+import com.peekle.global.http.OutboundHttpProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+/**
+ * 참가자 강퇴 처리량 (LiveKit 스텁 서버 상대, 결과는 강퇴 1건당 시간)
+ * - sequential: 예전 evictUser 처럼 한 명씩 동기 호출
+ * - queued: LiveKitEvictionQueue 에 넣고 한 번 flush (방끼리 동시에, livekit bulkhead 16 자리)
+ * - 스텁은 RemoveParticipant 요청마다 stubLatencyMs 만큼 늦게 200 을 돌려준다
+ */
+@State(Scope.Benchmark)
+public class LiveKitEvictionBenchmark {
+
+    private static final int ROOMS = 8;
+    private static final int PARTICIPANTS_PER_ROOM = 8;
+    private static final int EVICTIONS = ROOMS * PARTICIPANTS_PER_ROOM;
+
+    @Param({"0", "5"})
+    private long stubLatencyMs;
+
+    private HttpServer stubServer;
+    private RoomServiceClient roomServiceClient;
+    private OutboundHttpClients outboundHttpClients;
+    private LiveKitEvictionQueue evictionQueue;
+
+    @Setup
+    public void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            sleep(stubLatencyMs);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OkHttpClient okHttpClient = new OkHttpClient();
+        roomServiceClient = RoomServiceClient.createClient(
+                "http://127.0.0.1:" + stubServer.getAddress().getPort(), "devkey", "benchmark-secret",
+                () -> okHttpClient);
+        outboundHttpClients = new OutboundHttpClients(new OutboundHttpProperties(), meterRegistry);
+        evictionQueue = new LiveKitEvictionQueue(roomServiceClient, outboundHttpClients, new MediaProperties(),
+                meterRegistry);
+    }
+
+    @TearDown
+    public void tearDown() {
+        evictionQueue.shutdown();
+        stubServer.stop(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVICTIONS)
+    public void sequential() {
+        for (int room = 0; room < ROOMS; room++) {
+            String roomName = "study_" + room;
+            for (int participant = 0; participant < PARTICIPANTS_PER_ROOM; participant++) {
+                String identity = String.valueOf(participant);
+                outboundHttpClients.execute(OutboundDestination.LIVEKIT,
+                        () -> roomServiceClient.removeParticipant(roomName, identity).execute());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVICTIONS)
+    public void queued() {
+        for (int room = 0; room < ROOMS; room++) {
+            for (int participant = 0; participant < PARTICIPANTS_PER_ROOM; participant++) {
+                evictionQueue.enqueue("study_" + room, String.valueOf(participant));
+            }
+        }
+        evictionQueue.flush(System.currentTimeMillis());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
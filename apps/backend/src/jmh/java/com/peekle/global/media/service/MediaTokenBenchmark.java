@@ -0,0 +1,61 @@
+package com.peekle.global.media.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+/**
+ * LiveKit 토큰 발급 비용
+ * - sign: 캐시에 없을 때 (JWT 서명, 예전 createAccessToken 이 매번 하던 일)
+ * - cached: refreshVideoToken / 게임 재입장처럼 같은 (방, 유저, 세션)이 다시 받을 때
+ * - identity 기록(Redis)은 빼고 서명 비용만 잰다
+ */
+@State(Scope.Benchmark)
+public class MediaTokenBenchmark {
+
+    private static final long STUDY_ID = 42L;
+    private static final long USER_ID = 1042L;
+    private static final String NICKNAME = "benchmark-player";
+    private static final String SESSION_ID = "benchmark-session";
+
+    private MediaService mediaService;
+    private AccessTokenCache accessTokenCache;
+
+    @Setup
+    public void setUp() {
+        MediaProperties properties = new MediaProperties();
+        accessTokenCache = new AccessTokenCache(properties, new SimpleMeterRegistry());
+        LiveKitIdentityRegistry identityRegistry = new LiveKitIdentityRegistry(null) {
+            @Override
+            public void register(String roomName, Long userId, String identity, long ttlMs) {
+            }
+        };
+        // 토큰 발급은 강퇴 큐를 쓰지 않는다
+        mediaService = new MediaService(accessTokenCache, identityRegistry, null, properties);
+        setField("apiKey", "devkey");
+        setField("secret", "benchmark-secret-benchmark-secret");
+        mediaService.createAccessToken(STUDY_ID, USER_ID, NICKNAME, SESSION_ID);
+    }
+
+    @Benchmark
+    public String sign() {
+        accessTokenCache.invalidate("study_" + STUDY_ID, USER_ID);
+        return mediaService.createAccessToken(STUDY_ID, USER_ID, NICKNAME, SESSION_ID);
+    }
+
+    @Benchmark
+    public String cached() {
+        return mediaService.createAccessToken(STUDY_ID, USER_ID, NICKNAME, SESSION_ID);
+    }
+
+    private void setField(String name, String value) {
+        Field field = ReflectionUtils.findField(MediaService.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, mediaService, value);
+    }
+}
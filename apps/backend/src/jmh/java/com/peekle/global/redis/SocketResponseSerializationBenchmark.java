@@ -0,0 +1,66 @@
+package com.peekle.global.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.peekle.global.socket.SocketResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게임 이벤트 한 건이 Redis pub/sub 을 지나는 직렬화 비용
+ * - 발행: RedisTemplate 값 직렬화기 (RedisConfig 와 같은 설정)
+ * - 수신: RedisSubscriber 의 문자열 역직렬화 → SocketResponse 파싱 → STOMP 프레임용 재직렬화
+ */
+@State(Scope.Benchmark)
+public class SocketResponseSerializationBenchmark {
+
+    private GenericJackson2JsonRedisSerializer publishSerializer;
+    private final StringRedisSerializer stringSerializer = new StringRedisSerializer();
+    private ObjectMapper subscriberObjectMapper;
+    private SocketResponse<Map<String, Object>> solvedEvent;
+    private byte[] publishedBody;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper redisObjectMapper = new ObjectMapper();
+        redisObjectMapper.registerModule(new JavaTimeModule());
+        redisObjectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        publishSerializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        // 스프링 부트 기본 ObjectMapper 와 같은 설정
+        subscriberObjectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        // RedisGameService.solveProblem 의 SOLVED 페이로드
+        Map<String, Object> solvedData = new HashMap<>();
+        solvedData.put("userId", 1042L);
+        solvedData.put("problemId", 1753L);
+        solvedData.put("teamColor", "RED");
+        solvedData.put("score", 299_999_880.0);
+        solvedData.put("solvedCount", 3L);
+        solvedData.put("problemTitle", "최단경로");
+        solvedData.put("nickname", "benchmark-player");
+        solvedEvent = SocketResponse.of("SOLVED", solvedData);
+        publishedBody = publishSerializer.serialize(solvedEvent);
+    }
+
+    @Benchmark
+    public byte[] publish() {
+        return publishSerializer.serialize(solvedEvent);
+    }
+
+    @Benchmark
+    public byte[] subscribeAndForward() throws Exception {
+        String body = stringSerializer.deserialize(publishedBody);
+        SocketResponse<?> message = subscriberObjectMapper.readValue(body, SocketResponse.class);
+        return subscriberObjectMapper.writeValueAsString(message).getBytes(StandardCharsets.UTF_8);
+    }
+}
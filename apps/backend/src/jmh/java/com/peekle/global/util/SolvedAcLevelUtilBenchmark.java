@@ -0,0 +1,46 @@
+package com.peekle.global.util;
+
+import com.peekle.domain.problem.entity.Problem;
+import com.peekle.jmh.ProblemCatalogFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 티어 ↔ 레벨/포인트 변환 (제출 저장, 리그 포인트 계산마다 호출)
+ */
+@State(Scope.Benchmark)
+public class SolvedAcLevelUtilBenchmark {
+
+    private static final int CATALOG_SIZE = 1_000;
+
+    private String[] tiers;
+    private int[] levels;
+
+    @Setup
+    public void setUp() {
+        tiers = ProblemCatalogFixtures.loadProblems(CATALOG_SIZE).stream()
+                .map(Problem::getTier)
+                .toArray(String[]::new);
+        levels = new int[tiers.length];
+        for (int index = 0; index < tiers.length; index++) {
+            levels[index] = ProblemCatalogFixtures.levelOf(tiers[index]);
+        }
+    }
+
+    @Benchmark
+    public void convertLevelToTier(Blackhole blackhole) {
+        for (int level : levels) {
+            blackhole.consume(SolvedAcLevelUtil.convertLevelToTier(level));
+        }
+    }
+
+    @Benchmark
+    public void getPointFromTier(Blackhole blackhole) {
+        for (String tier : tiers) {
+            blackhole.consume(SolvedAcLevelUtil.getPointFromTier(tier));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.peekle.jmh;
+
+import com.peekle.domain.problem.entity.Problem;
+import com.peekle.domain.problem.entity.Tag;
+import com.peekle.global.importer.CsvRecordReader;
+import com.peekle.global.importer.CsvRecordReader.CsvRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 입력용 문제 카탈로그 (ai-server/problems.csv, BenchmarkFixtureService 와 같은 파일)
+ * - 경로는 -Dpeekle.jmh.catalog 로 받고, build.gradle 의 jmh 블록이 넘겨 준다
+ * - 태그는 BenchmarkFixtureService 처럼 "|" 로 나누고 이름을 그대로 key 로 쓴다
+ */
+public final class ProblemCatalogFixtures {
+
+    private static final String CATALOG_PROPERTY = "peekle.jmh.catalog";
+    private static final String DEFAULT_CATALOG = "../ai-server/problems.csv";
+    private static final String TAG_SEPARATOR = "\\|";
+
+    private ProblemCatalogFixtures() {
+    }
+
+    /**
+     * 카탈로그 앞에서부터 limit 개의 문제 (태그 포함)
+     */
+    public static List<Problem> loadProblems(int limit) {
+        Path path = Path.of(System.getProperty(CATALOG_PROPERTY, DEFAULT_CATALOG));
+        Map<String, Tag> tagsByName = new HashMap<>();
+        List<Problem> problems = new ArrayList<>(limit);
+        try (CsvRecordReader reader = new CsvRecordReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            while (reader.hasNext() && problems.size() < limit) {
+                CsvRecord record = reader.next();
+                String externalId = record.get("id");
+                String tier = record.get("tier");
+                Problem problem = new Problem("BOJ", externalId, record.get("title"), tier,
+                        "https://www.acmicpc.net/problem/" + externalId);
+                problem.setLevel(levelOf(tier));
+                // 카탈로그에 맞힌 사람 수가 없어 id 로 고정값을 만든다 (실행마다 입력이 같아야 기준선과 비교된다)
+                problem.setAcceptedUserCount(Math.floorMod(externalId.hashCode() * 31, 100_000));
+                for (String tagName : record.get("tags").split(TAG_SEPARATOR)) {
+                    String name = tagName.trim();
+                    if (!name.isEmpty()) {
+                        problem.addTag(tagsByName.computeIfAbsent(name, key -> new Tag(key, key)));
+                    }
+                }
+                problems.add(problem);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("문제 카탈로그를 읽지 못했습니다: " + path.toAbsolutePath(), e);
+        }
+        if (problems.isEmpty()) {
+            throw new IllegalStateException("문제 카탈로그가 비어 있습니다: " + path.toAbsolutePath());
+        }
+        return problems;
+    }
+
+    /**
+     * "Gold 3" → 13, 알 수 없으면 0
+     */
+    public static int levelOf(String tier) {
+        String[] parts = tier.split(" ");
+        if (parts.length < 2) {
+            return 0;
+        }
+        int base = switch (parts[0]) {
+            case "Bronze" -> 0;
+            case "Silver" -> 5;
+            case "Gold" -> 10;
+            case "Platinum" -> 15;
+            case "Diamond" -> 20;
+            case "Ruby" -> 25;
+            default -> -1;
+        };
+        if (base < 0) {
+            return 0;
+        }
+        try {
+            return base + (6 - Integer.parseInt(parts[1]));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -27,6 +27,8 @@ import org.springframework.web.client.RestClient;
 import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
 import com.peekle.global.util.SolvedAcLevelUtil;
 
 import java.time.LocalDate;
@@ -53,6 +55,7 @@ public class RecommendationService {
     private final RecommendProblemRepository recommendProblemRepository;
     private final RecommendFeedbackRepository recommendFeedbackRepository;
     private final RestClient aiRestClient; 
+    private final OutboundHttpClients outboundHttpClients;
 
     private static final int TARGET_RECOMMENDATION_COUNT = 3;
     private static final int CANDIDATE_POOL_SIZE = 120;
@@ -404,12 +407,12 @@ public class RecommendationService {
 
         List<AiApiResponse.AiRecommendedProblem> aiRecommendations = List.of();
         try {
-            AiApiResponse aiResponse = aiRestClient.post()
+            AiApiResponse aiResponse = outboundHttpClients.execute(OutboundDestination.AI, () -> aiRestClient.post()
                     .uri("/recommend/intelligent")
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(request)
                     .retrieve()
-                    .body(AiApiResponse.class);
+                    .body(AiApiResponse.class));
             if (aiResponse != null && aiResponse.recommendations() != null) {
                 aiRecommendations = aiResponse.recommendations();
             }
@@ -1060,9 +1063,28 @@ public class RecommendationService {
             candidateExternalIds = externalIds;
         }
 
-        return candidateExternalIds.stream()
+        List<Problem> candidates = candidateExternalIds.stream()
                 .map(problemMap::get)
                 .filter(java.util.Objects::nonNull)
+                .toList();
+        return rankCandidates(candidates, targetLevel, strongTags, weakTags, staleTags, recentInteractionTags,
+                recentlyRecommendedIds, isColdStart);
+    }
+
+    /**
+     * 후보 문제를 점수화해 상위 AI_CANDIDATE_LIMIT 개만 남긴다 (DB/AI 호출 없음)
+     */
+    List<CandidateProblemDto> rankCandidates(
+            List<Problem> problems,
+            int targetLevel,
+            Set<String> strongTags,
+            Set<String> weakTags,
+            Set<String> staleTags,
+            Set<String> recentInteractionTags,
+            Set<String> recentlyRecommendedIds,
+            boolean isColdStart
+    ) {
+        return problems.stream()
                 .map(problem -> {
                     List<String> tags = problem.getTags().stream()
                             .map(this::extractTagKey)
@@ -1,6 +1,8 @@
 package com.peekle.domain.benchmark.controller;
 
 import com.peekle.domain.benchmark.service.BenchmarkFixtureService;
+import com.peekle.domain.benchmark.service.BenchmarkOutboundService;
+import com.peekle.domain.benchmark.service.BenchmarkPersistenceService;
 import com.peekle.global.dto.ApiResponse;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
@@ -24,6 +26,8 @@ import java.util.List;
 public class BenchmarkController {
 
     private final BenchmarkFixtureService benchmarkFixtureService;
+    private final BenchmarkPersistenceService benchmarkPersistenceService;
+    private final BenchmarkOutboundService benchmarkOutboundService;
 
     @PostMapping("/problems/ensure")
     public ApiResponse<BenchmarkProblemSeedResponse> ensureProblems(@RequestParam int count) {
@@ -49,6 +53,27 @@ public class BenchmarkController {
         return ApiResponse.success(benchmarkFixtureService.createFinishRaceFixtures(command));
     }
 
+    @PostMapping("/fixtures/join-race")
+    public ApiResponse<BenchmarkFixtureService.JoinRaceFixtures> createJoinRaceFixtures(
+            @RequestBody BenchmarkFixtureService.JoinRaceFixtureCommand command) {
+        return ApiResponse.success(benchmarkFixtureService.createJoinRaceFixtures(command));
+    }
+
+    @PostMapping("/persistence/{scenario}")
+    public ApiResponse<BenchmarkPersistenceService.WriteBurstResult> runWriteBurst(
+            @PathVariable String scenario,
+            @RequestParam(defaultValue = "500") int rows) {
+        return ApiResponse.success(benchmarkPersistenceService.run(scenario, rows));
+    }
+
+    @PostMapping("/outbound/{destination}")
+    public ApiResponse<BenchmarkOutboundService.OutboundProbeResult> probeOutbound(
+            @PathVariable String destination,
+            @RequestParam(defaultValue = "200") long latencyMs,
+            @RequestParam(defaultValue = "200") int status) {
+        return ApiResponse.success(benchmarkOutboundService.probe(destination, latencyMs, status));
+    }
+
     @PostMapping("/games/{roomId}/ready")
     public ApiResponse<BenchmarkRoomActionResponse> ready(
             @PathVariable Long roomId,
@@ -0,0 +1,36 @@
+package com.peekle.domain.benchmark.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 외부 서버 대역 스텁 (outbound-stub 프로필)
+ * - 지연과 응답 코드를 요청마다 정해 느린 대상/장애 대상을 흉내 낸다
+ */
+@RestController
+@Profile("outbound-stub")
+@RequestMapping("/api/benchmark/stub")
+public class OutboundStubController {
+
+    @Value("${outbound.stub.default-latency-ms:200}")
+    private long defaultLatencyMs;
+
+    @Value("${outbound.stub.max-latency-ms:60000}")
+    private long maxLatencyMs;
+
+    @GetMapping("/{destination}")
+    public ResponseEntity<String> respond(
+            @PathVariable String destination,
+            @RequestParam(required = false) Long latencyMs,
+            @RequestParam(defaultValue = "200") int status) throws InterruptedException {
+        long latency = Math.min(latencyMs == null ? defaultLatencyMs : Math.max(latencyMs, 0), maxLatencyMs);
+        Thread.sleep(latency);
+        return ResponseEntity.status(status).body("{\"destination\":\"" + destination + "\"}");
+    }
+}
@@ -3,10 +3,13 @@ package com.peekle.domain.benchmark.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.peekle.domain.game.dto.request.GameCreateRequest;
 import com.peekle.domain.game.enums.GameStatus;
+import com.peekle.domain.game.service.GameRoomKeyRegistry;
 import com.peekle.domain.game.service.RedisGameService;
 import com.peekle.domain.game.service.WorkbookPreviewCacheService;
 import com.peekle.domain.problem.entity.Problem;
-import com.peekle.domain.problem.entity.Tag;
+import com.peekle.domain.problem.repository.ProblemCatalogJdbcRepository;
+import com.peekle.domain.problem.repository.ProblemCatalogJdbcRepository.ProblemWrite;
+import com.peekle.domain.problem.repository.ProblemCatalogJdbcRepository.TagWrite;
 import com.peekle.domain.problem.repository.ProblemRepository;
 import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
@@ -14,7 +17,11 @@ import com.peekle.domain.workbook.entity.Workbook;
 import com.peekle.domain.workbook.entity.WorkbookProblem;
 import com.peekle.domain.workbook.repository.WorkbookProblemRepository;
 import com.peekle.domain.workbook.repository.WorkbookRepository;
-import com.peekle.domain.problem.repository.TagRepository;
+import com.peekle.global.importer.CsvRecordReader;
+import com.peekle.global.importer.CsvRecordReader.CsvRecord;
+import com.peekle.global.importer.ImportReport;
+import com.peekle.global.importer.StreamingImporter;
+import com.peekle.global.importer.StreamingImporter.ImportOptions;
 import com.peekle.global.redis.RedisKeyConst;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,16 +34,18 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -53,13 +62,17 @@ public class BenchmarkFixtureService {
     private static final String CSV_TAG_KEY_PREFIX = "csv:";
     private static final String TAG_SEPARATOR = "|";
     private static final long REPLAY_EXTERNAL_ID_BASE = 9_000_000_000L;
+    private static final int CATALOG_IMPORT_CHUNK_SIZE = 500;
+    private static final List<String> REQUIRED_CATALOG_COLUMNS = List.of("id", "title", "tier");
 
     private final ProblemRepository problemRepository;
-    private final TagRepository tagRepository;
+    private final ProblemCatalogJdbcRepository problemCatalogJdbcRepository;
+    private final StreamingImporter streamingImporter;
     private final UserRepository userRepository;
     private final WorkbookRepository workbookRepository;
     private final WorkbookProblemRepository workbookProblemRepository;
     private final RedisGameService gameService;
+    private final GameRoomKeyRegistry roomKeyRegistry;
     private final WorkbookPreviewCacheService workbookPreviewCacheService;
     private final ResourceLoader resourceLoader;
     private final ObjectMapper objectMapper;
@@ -152,6 +165,28 @@ public class BenchmarkFixtureService {
         return new FinishRaceFixtures(2, rooms);
     }
 
+    /**
+     * 동시 입장 벤치마크용 팀전 대기방
+     * - 방장만 들어가 있는 방에 남은 자리보다 한 명 많은 참가자를 준비해 정원 초과 거절도 함께 확인한다
+     */
+    public JoinRaceFixtures createJoinRaceFixtures(JoinRaceFixtureCommand command) {
+        JoinRaceFixtureCommand normalized = normalize(command);
+        int joinersPerRoom = normalized.maxPlayers();
+        List<User> hosts = createBenchmarkUsers(normalized.prefix(), "join-host", normalized.roomCount());
+        List<User> joiners = createBenchmarkUsers(normalized.prefix(), "joiner", normalized.roomCount() * joinersPerRoom);
+        List<JoinRaceRoomFixture> rooms = new ArrayList<>(normalized.roomCount());
+
+        for (int roomIndex = 0; roomIndex < normalized.roomCount(); roomIndex++) {
+            List<String> joinerTokens = joiners.subList(roomIndex * joinersPerRoom, (roomIndex + 1) * joinersPerRoom)
+                    .stream()
+                    .map(User::getExtensionToken)
+                    .toList();
+            rooms.add(seedJoinRaceRoom(normalized, roomIndex, hosts.get(roomIndex), joinerTokens));
+        }
+
+        return new JoinRaceFixtures(normalized.maxPlayers(), rooms);
+    }
+
     private List<Problem> loadProblems(int count) {
         return problemRepository.findBySource(
                         BENCHMARK_SOURCE,
@@ -172,37 +207,24 @@ public class BenchmarkFixtureService {
 
         Set<String> existingExternalIds = problemRepository.findExternalIdsBySource(BENCHMARK_SOURCE).stream()
                 .collect(Collectors.toSet());
-        Map<String, Tag> tagsByKey = loadExistingTags();
-        List<ProblemCatalogRow> catalogRows;
-        try {
-            catalogRows = loadCatalogRows(resource);
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to import benchmark problems from " + problemCatalogPath, e);
-        }
-
-        if (catalogRows.isEmpty()) {
-            throw new IllegalStateException("Problem catalog is empty: " + problemCatalogPath);
-        }
-
-        List<Problem> problemsToPersist = new ArrayList<>(requiredCount - (int) existingCount);
-        for (ProblemCatalogRow row : catalogRows) {
-            if (existingExternalIds.size() >= requiredCount) {
-                break;
-            }
-
-            if (!existingExternalIds.add(row.externalId())) {
-                continue;
+        Map<String, Long> tagIdsByKey = problemCatalogJdbcRepository.findTagIdsByKey();
+
+        try (CatalogLineSource source = new CatalogLineSource(resource)) {
+            ImportReport report = streamingImporter.run(
+                    "benchmark-problems",
+                    source,
+                    (rowNumber, line) -> toProblemWrite(line),
+                    rows -> {
+                        source.markValidRowSeen();
+                        return writeNewProblems(rows, requiredCount, existingExternalIds, tagIdsByKey);
+                    },
+                    ImportOptions.chunked(CATALOG_IMPORT_CHUNK_SIZE)
+                            .stoppingWhen(() -> existingExternalIds.size() >= requiredCount));
+            if (report.acceptedRows() == 0) {
+                throw new IllegalStateException("Problem catalog is empty: " + problemCatalogPath);
             }
-
-            problemsToPersist.add(createProblem(row, row.externalId(), tagsByKey));
-        }
-
-        if (existingExternalIds.size() < requiredCount) {
-            replayCatalogRows(requiredCount, catalogRows, existingExternalIds, tagsByKey, problemsToPersist);
-        }
-
-        if (!problemsToPersist.isEmpty()) {
-            problemRepository.saveAll(problemsToPersist);
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Failed to import benchmark problems from " + problemCatalogPath, e);
         }
 
         long totalAvailable = problemRepository.countBySource(BENCHMARK_SOURCE);
@@ -213,48 +235,38 @@ public class BenchmarkFixtureService {
         }
     }
 
-    private List<ProblemCatalogRow> loadCatalogRows(Resource resource) throws IOException {
-        List<ProblemCatalogRow> catalogRows = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-            CsvHeader header = readHeader(reader);
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.isBlank()) {
-                    continue;
-                }
-
-                ProblemCatalogRow row = parseProblemCatalogRow(header, line);
-                if (row != null) {
-                    catalogRows.add(row);
-                }
+    private int writeNewProblems(
+            List<ProblemWrite> rows,
+            int requiredCount,
+            Set<String> existingExternalIds,
+            Map<String, Long> tagIdsByKey) {
+        List<ProblemWrite> newProblems = new ArrayList<>(rows.size());
+        for (ProblemWrite row : rows) {
+            if (existingExternalIds.size() >= requiredCount) {
+                break;
+            }
+            if (existingExternalIds.add(row.externalId())) {
+                newProblems.add(row);
             }
         }
-        return catalogRows;
+        return problemCatalogJdbcRepository.insertProblems(BENCHMARK_SOURCE, newProblems, tagIdsByKey);
     }
 
-    private void replayCatalogRows(
-            int requiredCount,
-            List<ProblemCatalogRow> catalogRows,
-            Set<String> existingExternalIds,
-            Map<String, Tag> tagsByKey,
-            List<Problem> problemsToPersist) {
-        int replayRound = 1;
-        while (existingExternalIds.size() < requiredCount) {
-            for (ProblemCatalogRow row : catalogRows) {
-                if (existingExternalIds.size() >= requiredCount) {
-                    break;
-                }
-
-                String replayExternalId = buildReplayExternalId(row.externalId(), replayRound);
-                if (!existingExternalIds.add(replayExternalId)) {
-                    continue;
-                }
-
-                problemsToPersist.add(createProblem(row, replayExternalId, tagsByKey));
-            }
-            replayRound++;
+    private ProblemWrite toProblemWrite(CatalogLine line) {
+        CsvRecord record = line.record();
+        String externalId = record.get("id");
+        String title = record.get("title");
+        String tier = record.get("tier");
+        if (externalId.isBlank() || title.isBlank() || tier.isBlank()) {
+            throw new IllegalArgumentException("line " + record.lineNumber() + ": id, title, tier are required");
         }
+
+        return new ProblemWrite(
+                line.replayRound() == 0 ? externalId : buildReplayExternalId(externalId, line.replayRound()),
+                title,
+                tier,
+                BENCHMARK_URL_PREFIX + externalId,
+                parseTags(record.get("tags")));
     }
 
     private String buildReplayExternalId(String originalExternalId, int replayRound) {
@@ -270,131 +282,93 @@ public class BenchmarkFixtureService {
         }
     }
 
-    private Problem createProblem(
-            ProblemCatalogRow row,
-            String externalId,
-            Map<String, Tag> tagsByKey) {
-        Problem problem = new Problem(
-                BENCHMARK_SOURCE,
-                externalId,
-                row.title(),
-                row.tier(),
-                BENCHMARK_URL_PREFIX + row.externalId());
-        attachTags(problem, row.tags(), tagsByKey);
-        return problem;
-    }
-
-    private Map<String, Tag> loadExistingTags() {
-        Map<String, Tag> tagsByKey = new LinkedHashMap<>();
-        for (Tag tag : tagRepository.findAll()) {
-            tagsByKey.put(tag.getKey(), tag);
+    private List<TagWrite> parseTags(String rawTags) {
+        if (rawTags == null || rawTags.isBlank()) {
+            return List.of();
         }
-        return tagsByKey;
-    }
 
-    private CsvHeader readHeader(BufferedReader reader) throws IOException {
-        String headerLine = reader.readLine();
-        if (headerLine == null || headerLine.isBlank()) {
-            throw new IllegalStateException("Problem catalog is empty: " + problemCatalogPath);
-        }
+        Map<String, TagWrite> tagsByKey = new LinkedHashMap<>();
+        for (String tagName : rawTags.split("\\Q" + TAG_SEPARATOR + "\\E")) {
+            String normalizedTagName = tagName.trim();
+            if (normalizedTagName.isBlank()) {
+                continue;
+            }
 
-        List<String> headerColumns = parseCsvRow(headerLine);
-        Map<String, Integer> indexes = new HashMap<>();
-        for (int i = 0; i < headerColumns.size(); i++) {
-            indexes.put(headerColumns.get(i).trim().toLowerCase(Locale.ROOT), i);
+            String tagKey = CSV_TAG_KEY_PREFIX + normalizedTagName;
+            tagsByKey.putIfAbsent(tagKey, new TagWrite(tagKey, normalizedTagName));
         }
-
-        return new CsvHeader(
-                requireColumn(indexes, "id"),
-                requireColumn(indexes, "title"),
-                requireColumn(indexes, "tier"),
-                indexes.get("tags"));
+        return List.copyOf(tagsByKey.values());
     }
 
-    private int requireColumn(Map<String, Integer> indexes, String name) {
-        Integer index = indexes.get(name);
-        if (index == null) {
-            throw new IllegalStateException(
-                    "Problem catalog is missing required column '" + name + "': " + problemCatalogPath);
+    private CsvRecordReader openCatalog(Resource resource) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+        if (reader.isEmpty()) {
+            reader.close();
+            throw new IllegalStateException("Problem catalog is empty: " + problemCatalogPath);
         }
-        return index;
-    }
-
-    private ProblemCatalogRow parseProblemCatalogRow(CsvHeader header, String line) {
-        List<String> values = parseCsvRow(line);
-        String externalId = readColumn(values, header.idIndex());
-        String title = readColumn(values, header.titleIndex());
-        String tier = readColumn(values, header.tierIndex());
-
-        if (externalId.isBlank() || title.isBlank() || tier.isBlank()) {
-            return null;
+        for (String column : REQUIRED_CATALOG_COLUMNS) {
+            if (!reader.hasColumn(column)) {
+                reader.close();
+                throw new IllegalStateException(
+                        "Problem catalog is missing required column '" + column + "': " + problemCatalogPath);
+            }
         }
-
-        return new ProblemCatalogRow(
-                externalId,
-                title,
-                tier,
-                header.tagsIndex() == null ? "" : readColumn(values, header.tagsIndex()));
+        return reader;
     }
 
-    private String readColumn(List<String> values, int index) {
-        if (index < 0 || index >= values.size()) {
-            return "";
-        }
-        return values.get(index).trim();
-    }
+    /**
+     * 카탈로그를 한 줄씩 읽고, 끝에 도달하면 파일을 다시 열어 replay 라운드로 이어서 읽는다.
+     * 유효한 행이 한 번도 없었다면 다시 열지 않고 끝낸다.
+     */
+    private final class CatalogLineSource implements Iterator<CatalogLine>, Closeable {
+        private final Resource resource;
+        private CsvRecordReader reader;
+        private int replayRound;
+        private boolean validRowSeen;
 
-    private void attachTags(Problem problem, String rawTags, Map<String, Tag> tagsByKey) {
-        if (rawTags == null || rawTags.isBlank()) {
-            return;
+        private CatalogLineSource(Resource resource) throws IOException {
+            this.resource = resource;
+            this.reader = openCatalog(resource);
         }
 
-        for (String tagName : rawTags.split("\\Q" + TAG_SEPARATOR + "\\E")) {
-            String normalizedTagName = tagName.trim();
-            if (normalizedTagName.isBlank()) {
-                continue;
-            }
-
-            String tagKey = CSV_TAG_KEY_PREFIX + normalizedTagName;
-            Tag tag = tagsByKey.computeIfAbsent(tagKey, key -> new Tag(key, normalizedTagName));
-            problem.addTag(tag);
+        private void markValidRowSeen() {
+            validRowSeen = true;
         }
-    }
 
-    private List<String> parseCsvRow(String line) {
-        List<String> columns = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char currentChar = line.charAt(i);
-            if (currentChar == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    current.append('"');
-                    i++;
-                    continue;
-                }
-                inQuotes = !inQuotes;
-                continue;
+        @Override
+        public boolean hasNext() {
+            if (reader.hasNext()) {
+                return true;
             }
-
-            if (currentChar == ',' && !inQuotes) {
-                columns.add(current.toString());
-                current.setLength(0);
-                continue;
+            if (!validRowSeen) {
+                return false;
             }
-
-            current.append(currentChar);
+            try {
+                reader.close();
+                reader = openCatalog(resource);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            replayRound++;
+            return reader.hasNext();
         }
 
-        columns.add(current.toString());
-        return columns;
-    }
+        @Override
+        public CatalogLine next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return new CatalogLine(reader.next(), replayRound);
+        }
 
-    private record CsvHeader(int idIndex, int titleIndex, int tierIndex, Integer tagsIndex) {
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
     }
 
-    private record ProblemCatalogRow(String externalId, String title, String tier, String tags) {
+    private record CatalogLine(CsvRecord record, int replayRound) {
     }
 
     private BenchmarkFixtureCommand normalize(BenchmarkFixtureCommand command) {
@@ -433,6 +407,24 @@ public class BenchmarkFixtureService {
         return new FinishRaceFixtureCommand(command.roomCount(), prefix);
     }
 
+    private JoinRaceFixtureCommand normalize(JoinRaceFixtureCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("join race fixture command is required");
+        }
+        if (command.roomCount() <= 0) {
+            throw new IllegalArgumentException("roomCount must be positive");
+        }
+
+        String prefix = command.prefix() == null || command.prefix().isBlank()
+                ? "benchmark-join"
+                : command.prefix();
+
+        return new JoinRaceFixtureCommand(
+                command.roomCount(),
+                command.maxPlayers() <= 1 ? 8 : command.maxPlayers(),
+                prefix);
+    }
+
     private User createBenchmarkUser(String prefix, String role, int index) {
         User user = new User(
                 "benchmark_" + UUID.randomUUID(),
@@ -547,6 +539,8 @@ public class BenchmarkFixtureService {
                 "solvedCount", "1");
         redisTemplate.opsForHash().put(String.format(RedisKeyConst.GAME_USER_SCORE, roomId, secondPlayer.getId()),
                 "lastSolvedSeconds", "48");
+        roomKeyRegistry.register(roomId, String.format(RedisKeyConst.GAME_USER_SCORE, roomId, firstPlayer.getId()));
+        roomKeyRegistry.register(roomId, String.format(RedisKeyConst.GAME_USER_SCORE, roomId, secondPlayer.getId()));
 
         redisTemplate.opsForZSet().add(rankingKey, String.valueOf(firstPlayer.getId()), 200_000_000D - 12D);
         redisTemplate.opsForZSet().add(rankingKey, String.valueOf(secondPlayer.getId()), 100_000_000D - 48D);
@@ -554,6 +548,43 @@ public class BenchmarkFixtureService {
         return new FinishRaceRoomFixture(roomId);
     }
 
+    private JoinRaceRoomFixture seedJoinRaceRoom(
+            JoinRaceFixtureCommand command,
+            int roomIndex,
+            User host,
+            List<String> joinerTokens) {
+        Long roomId = redisTemplate.opsForValue().increment(RedisKeyConst.GAME_ROOM_ID_SEQ);
+        if (roomId == null) {
+            throw new IllegalStateException("Failed to allocate benchmark join room id");
+        }
+
+        String infoKey = String.format(RedisKeyConst.GAME_ROOM_INFO, roomId);
+        String hostId = String.valueOf(host.getId());
+
+        Map<String, String> roomInfo = new HashMap<>();
+        roomInfo.put("title", command.prefix() + "-join-room-" + roomIndex);
+        roomInfo.put("maxPlayers", String.valueOf(command.maxPlayers()));
+        roomInfo.put("timeLimit", "300");
+        roomInfo.put("problemCount", "2");
+        roomInfo.put("problemSource", "BOJ_RANDOM");
+        roomInfo.put("teamType", "TEAM");
+        roomInfo.put("mode", "TIME_ATTACK");
+        roomInfo.put("hostId", hostId);
+        roomInfo.put("hostNickname", host.getNickname());
+        roomInfo.put("hostProfileImg", host.getProfileImg() != null ? host.getProfileImg() : "");
+
+        redisTemplate.opsForValue().set(String.format(RedisKeyConst.GAME_STATUS, roomId), GameStatus.WAITING.name());
+        redisTemplate.opsForHash().putAll(infoKey, roomInfo);
+        redisTemplate.opsForSet().add(RedisKeyConst.GAME_ROOM_IDS, String.valueOf(roomId));
+        redisTemplate.opsForSet().add(String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId), hostId);
+        redisTemplate.opsForHash().put(String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId), hostId, "true");
+        redisTemplate.opsForHash().put(String.format(RedisKeyConst.GAME_ROOM_TEAMS, roomId), hostId, "RED");
+        redisTemplate.opsForValue().set(String.format(RedisKeyConst.GAME_ROOM_BROADCASTED, roomId), "true");
+        redisTemplate.opsForValue().set(String.format(RedisKeyConst.USER_CURRENT_GAME, host.getId()), String.valueOf(roomId));
+
+        return new JoinRaceRoomFixture(roomId, host.getExtensionToken(), joinerTokens);
+    }
+
     private StartRoomFixture createWaitingRoomFixture(
             Long workbookId,
             BenchmarkFixtureCommand command,
@@ -629,6 +660,18 @@ public class BenchmarkFixtureService {
     public record FinishRaceRoomFixture(Long roomId) {
     }
 
+    public record JoinRaceFixtureCommand(
+            int roomCount,
+            int maxPlayers,
+            String prefix) {
+    }
+
+    public record JoinRaceFixtures(int maxPlayers, List<JoinRaceRoomFixture> rooms) {
+    }
+
+    public record JoinRaceRoomFixture(Long roomId, String hostToken, List<String> joinerTokens) {
+    }
+
     private record BenchmarkWorkbookFixture(Long workbookId, List<Problem> problems) {
     }
 }
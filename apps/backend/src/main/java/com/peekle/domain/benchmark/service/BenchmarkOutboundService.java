@@ -0,0 +1,54 @@
+package com.peekle.domain.benchmark.service;
+
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
+import com.peekle.global.http.OutboundHttpException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * 외부 호출 정책 부하 시험
+ * - 실제 대상 대신 스텁(outbound-stub 프로필)을 부르되, 대상별 풀/동시 호출 제한/타임아웃/재시도는 그대로 적용한다
+ */
+@Service
+@Profile("benchmark")
+@RequiredArgsConstructor
+public class BenchmarkOutboundService {
+
+    private final OutboundHttpClients outboundHttpClients;
+
+    @Value("${outbound.stub.base-url:http://localhost:${server.port}/api/benchmark/stub}")
+    private String stubBaseUrl;
+
+    public OutboundProbeResult probe(String destinationKey, long latencyMs, int status) {
+        OutboundDestination destination;
+        try {
+            destination = OutboundDestination.fromKey(destinationKey);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        URI uri = URI.create(stubBaseUrl + "/" + destination.getKey() + "?latencyMs=" + latencyMs + "&status=" + status);
+        long startedAt = System.nanoTime();
+        String outcome;
+        try {
+            outboundHttpClients.getString(destination, HttpRequest.newBuilder(uri));
+            outcome = "success";
+        } catch (OutboundHttpException e) {
+            outcome = e.getReason().name().toLowerCase();
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new OutboundProbeResult(destination.getKey(), outcome, elapsedMillis,
+                outboundHttpClients.bulkhead(destination).availablePermits());
+    }
+
+    public record OutboundProbeResult(String destination, String outcome, long elapsedMillis, int availablePermits) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.peekle.domain.benchmark.service;
+
+import com.peekle.domain.game.repository.GameRewardJdbcRepository;
+import com.peekle.domain.game.repository.GameRewardJdbcRepository.RewardWrite;
+import com.peekle.domain.league.repository.LeagueGroupRepository;
+import com.peekle.domain.league.repository.LeagueHistoryRepository;
+import com.peekle.domain.league.service.LeagueService;
+import com.peekle.domain.study.dto.chat.ChatMessageResponse;
+import com.peekle.domain.study.entity.StudyChatLog.ChatType;
+import com.peekle.domain.study.entity.StudyRoom;
+import com.peekle.domain.study.repository.StudyChatLogRepository;
+import com.peekle.domain.study.repository.StudyRoomRepository;
+import com.peekle.domain.study.scheduler.ChatBatchScheduler;
+import com.peekle.domain.study.service.RedisChatBufferService;
+import com.peekle.domain.user.entity.User;
+import com.peekle.domain.user.repository.UserRepository;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.metrics.BenchmarkSqlStatisticsService;
+import com.peekle.global.redis.RedisKeyConst;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 몰림 구간 벤치마크
+ * - 준비 데이터는 측정에서 빼고, 실제 쓰기 구간의 SQL 문장 수와 소요 시간만 잰다
+ */
+@Service
+@Profile("benchmark")
+@RequiredArgsConstructor
+public class BenchmarkPersistenceService {
+
+    private static final int MAX_ROWS = 5000;
+
+    private final UserRepository userRepository;
+    private final StudyRoomRepository studyRoomRepository;
+    private final StudyChatLogRepository studyChatLogRepository;
+    private final LeagueGroupRepository leagueGroupRepository;
+    private final LeagueHistoryRepository leagueHistoryRepository;
+    private final LeagueService leagueService;
+    private final RedisChatBufferService redisChatBufferService;
+    private final ChatBatchScheduler chatBatchScheduler;
+    private final GameRewardJdbcRepository gameRewardJdbcRepository;
+    private final BenchmarkSqlStatisticsService sqlStatisticsService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public WriteBurstResult run(String scenario, int rows) {
+        if (rows <= 0 || rows > MAX_ROWS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return switch (scenario) {
+            case "league-season" -> runLeagueSeason(rows);
+            case "chat-flush" -> runChatFlush(rows);
+            case "game-rewards" -> runGameRewards(rows);
+            default -> throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        };
+    }
+
+    /**
+     * 시즌 시작(그룹 생성/배정) + 시즌 종료(히스토리 기록)
+     */
+    private WriteBurstResult runLeagueSeason(int rows) {
+        List<User> users = createUsers("league", rows);
+
+        long before = leagueGroupRepository.count() + leagueHistoryRepository.count();
+        return measure("league-season", () -> {
+            leagueService.startNewSeason();
+            // 새 시즌 그룹에 점수를 준 뒤 정산한다.
+            grantPoints(users);
+            leagueService.closeSeason();
+            return leagueGroupRepository.count() + leagueHistoryRepository.count() - before;
+        });
+    }
+
+    /**
+     * Redis 채팅 버퍼 → study_chat_logs batch INSERT
+     */
+    private WriteBurstResult runChatFlush(int rows) {
+        User sender = createUsers("chat", 1).get(0);
+        StudyRoom studyRoom = studyRoomRepository.save(StudyRoom.builder()
+                .title("benchmark-chat-" + UUID.randomUUID())
+                .owner(sender)
+                .build());
+        redisTemplate.delete(RedisKeyConst.CHAT_BUFFER);
+        LocalDateTime now = LocalDateTime.now();
+        for (int index = 0; index < rows; index++) {
+            redisChatBufferService.bufferChat(ChatMessageResponse.builder()
+                    .studyId(studyRoom.getId())
+                    .senderId(sender.getId())
+                    .senderName(sender.getNickname())
+                    .content("benchmark message " + index)
+                    .type(ChatType.TALK)
+                    .createdAt(now)
+                    .build());
+        }
+
+        long before = studyChatLogRepository.count();
+        return measure("chat-flush", () -> {
+            Long remaining;
+            do {
+                chatBatchScheduler.flushChatBuffer();
+                remaining = redisTemplate.opsForList().size(RedisKeyConst.CHAT_BUFFER);
+            } while (remaining != null && remaining > 0);
+            return studyChatLogRepository.count() - before;
+        });
+    }
+
+    /**
+     * 게임 종료 보상 (리그 포인트 UPDATE + point_logs batch INSERT)
+     */
+    private WriteBurstResult runGameRewards(int rows) {
+        List<User> users = createUsers("reward", rows);
+        List<RewardWrite> rewards = toRewards(users);
+        return measure("game-rewards",
+                () -> transactionTemplate.execute(status -> gameRewardJdbcRepository.applyRewards(rewards, LocalDateTime.now())));
+    }
+
+    private void grantPoints(List<User> users) {
+        List<RewardWrite> rewards = toRewards(users);
+        transactionTemplate.executeWithoutResult(status -> gameRewardJdbcRepository.applyRewards(rewards, LocalDateTime.now()));
+    }
+
+    private List<RewardWrite> toRewards(List<User> users) {
+        List<RewardWrite> rewards = new ArrayList<>(users.size());
+        for (int index = 0; index < users.size(); index++) {
+            rewards.add(new RewardWrite(users.get(index).getId(), index + 1, users.size() - index,
+                    "benchmark reward", null));
+        }
+        return rewards;
+    }
+
+    private List<User> createUsers(String role, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            users.add(new User("benchmark_" + UUID.randomUUID(), "Google", "bp-" + role + "-" + index));
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private WriteBurstResult measure(String scenario, LongSupplier action) {
+        long statementsBefore = sqlStatisticsService.getPrepareStatementCount();
+        long startedAt = System.nanoTime();
+        long rows = action.getAsLong();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        long statements = sqlStatisticsService.getPrepareStatementCount() - statementsBefore;
+        return new WriteBurstResult(scenario, rows, statements, elapsedMillis);
+    }
+
+    public record WriteBurstResult(String scenario, long rows, long statements, long elapsedMillis) {
+    }
+}
@@ -3,6 +3,7 @@ package com.peekle.domain.cs.repository;
 import com.peekle.domain.cs.entity.CsDomainTrack;
 import com.peekle.domain.cs.enums.CsTrackLearningMode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +13,9 @@ public interface CsDomainTrackRepository extends JpaRepository<CsDomainTrack, Lo
 
     List<CsDomainTrack> findByDomain_IdOrderByTrackNoAsc(Integer domainId);
 
+    @Query("select t from CsDomainTrack t order by t.domain.id asc, t.trackNo asc")
+    List<CsDomainTrack> findAllOrderByDomainAndTrackNo();
+
     Optional<CsDomainTrack> findTopByDomain_IdOrderByTrackNoDesc(Integer domainId);
 
     List<CsDomainTrack> findByLearningModeAndExamYearBetweenOrderByExamYearAscTrackNoAsc(
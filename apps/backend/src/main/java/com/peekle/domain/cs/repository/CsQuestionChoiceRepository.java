@@ -6,11 +6,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CsQuestionChoiceRepository extends JpaRepository<CsQuestionChoice, Long> {
     List<CsQuestionChoice> findByQuestion_IdOrderByChoiceNoAsc(Long questionId);
 
+    List<CsQuestionChoice> findByQuestion_IdInOrderByQuestion_IdAscChoiceNoAsc(Collection<Long> questionIds);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from CsQuestionChoice c where c.question.id = :questionId")
     void deleteByQuestionId(@Param("questionId") Long questionId);
@@ -11,8 +11,12 @@ import java.util.Optional;
 public interface CsQuestionRepository extends JpaRepository<CsQuestion, Long> {
     List<CsQuestion> findByStage_IdAndIsActiveTrueOrderByIdAsc(Long stageId);
 
+    List<CsQuestion> findByStage_IdOrderByIdAsc(Long stageId);
+
     Optional<CsQuestion> findByIdAndStage_Id(Long questionId, Long stageId);
 
+    List<CsQuestion> findByIdInAndStage_Id(List<Long> questionIds, Long stageId);
+
     Optional<CsQuestion> findByIdAndIsActiveTrue(Long questionId);
 
     @Query("""
@@ -24,9 +28,25 @@ public interface CsQuestionRepository extends JpaRepository<CsQuestion, Long> {
             """)
     List<StageQuestionCountProjection> countActiveQuestionsByStageIds(@Param("stageIds") List<Long> stageIds);
 
+    @Query("""
+            select q.id as questionId, d.id as domainId
+            from CsQuestion q
+            join q.stage s
+            join s.track t
+            join t.domain d
+            where q.id in :questionIds
+            """)
+    List<QuestionDomainProjection> findDomainIdsByQuestionIds(@Param("questionIds") List<Long> questionIds);
+
     interface StageQuestionCountProjection {
         Long getStageId();
 
         Long getQuestionCount();
     }
+
+    interface QuestionDomainProjection {
+        Long getQuestionId();
+
+        Integer getDomainId();
+    }
 }
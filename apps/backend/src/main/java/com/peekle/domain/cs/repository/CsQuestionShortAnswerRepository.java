@@ -6,11 +6,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CsQuestionShortAnswerRepository extends JpaRepository<CsQuestionShortAnswer, Long> {
     List<CsQuestionShortAnswer> findByQuestion_IdOrderByBlankIndexAscIsPrimaryDescIdAsc(Long questionId);
 
+    List<CsQuestionShortAnswer> findByQuestion_IdInOrderByQuestion_IdAscBlankIndexAscIsPrimaryDescIdAsc(
+            Collection<Long> questionIds);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from CsQuestionShortAnswer s where s.question.id = :questionId")
     void deleteByQuestionId(@Param("questionId") Long questionId);
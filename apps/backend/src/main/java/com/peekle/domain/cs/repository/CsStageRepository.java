@@ -20,6 +20,9 @@ public interface CsStageRepository extends JpaRepository<CsStage, Long> {
 
     List<CsStage> findByTrack_IdOrderByStageNoAsc(Long trackId);
 
+    @Query("select s from CsStage s order by s.track.id asc, s.stageNo asc")
+    List<CsStage> findAllOrderByTrackAndStageNo();
+
     Optional<CsStage> findByTrack_IdAndStageNo(Long trackId, Short stageNo);
 
     Optional<CsStage> findTopByTrack_IdOrderByStageNoDesc(Long trackId);
@@ -0,0 +1,178 @@
+package com.peekle.domain.cs.repository;
+
+import com.peekle.domain.cs.entity.CsWrongProblem;
+import com.peekle.domain.cs.entity.CsWrongProblemId;
+import com.peekle.domain.cs.enums.CsWrongProblemStatus;
+import com.peekle.global.persistence.DatabaseVendor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class CsWrongProblemJdbcRepository {
+
+    // (user_id, question_id) 가 이미 있으면 wrong_count 는 DB 에서 가산하고 나머지는 계산된 값으로 덮어쓴다.
+    private static final String INSERT_SQL = "INSERT INTO cs_wrong_problems "
+            + "(user_id, question_id, domain_id, status, review_correct_count, wrong_count, "
+            + "last_wrong_at, cleared_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_SQL = INSERT_SQL + " "
+            + "ON CONFLICT (user_id, question_id) DO UPDATE SET "
+            + "wrong_count = cs_wrong_problems.wrong_count + EXCLUDED.wrong_count, "
+            + "status = EXCLUDED.status, review_correct_count = EXCLUDED.review_correct_count, "
+            + "last_wrong_at = EXCLUDED.last_wrong_at, cleared_at = EXCLUDED.cleared_at, "
+            + "updated_at = EXCLUDED.updated_at";
+
+    // PostgreSQL 이 아닐 때(H2 테스트, MySQL benchmark) 기존 레코드에 쓰는 UPDATE
+    private static final String UPDATE_SQL = "UPDATE cs_wrong_problems "
+            + "SET wrong_count = wrong_count + ?, status = ?, review_correct_count = ?, "
+            + "last_wrong_at = ?, cleared_at = ?, updated_at = ? "
+            + "WHERE user_id = ? AND question_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 오답 레코드를 한 번의 batch upsert 로 반영한다.
+     * PostgreSQL 에서는 같은 문제를 동시에 처음 기록해도 중복 키로 실패하지 않고, wrong_count 는 DB 에서 가산된다.
+     * 같은 트랜잭션의 영속성 컨텍스트에 남아있는 엔티티는 반영 후 detach 하여 이후 조회가 최신 값을 읽도록 한다.
+     */
+    public void batchUpsert(Long userId, List<WrongProblemWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        // JPA 로 저장 대기 중인 사용자/문제/도메인 행이 FK 검증 전에 반영되도록 먼저 flush 한다.
+        entityManager.flush();
+
+        if (databaseVendor.isPostgres()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, insertSetter(userId, writes));
+        } else {
+            // ON CONFLICT 가 없는 DB 는 기존 레코드를 조회해 UPDATE / INSERT 로 나눈다 (동시 기록 보장은 없음)
+            Set<Long> existingQuestionIds = findExistingQuestionIds(userId, writes);
+            List<WrongProblemWrite> updates = new ArrayList<>();
+            List<WrongProblemWrite> inserts = new ArrayList<>();
+            for (WrongProblemWrite write : writes) {
+                if (existingQuestionIds.contains(write.questionId())) {
+                    updates.add(write);
+                } else {
+                    inserts.add(write);
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updateSetter(userId, updates));
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, insertSetter(userId, inserts));
+            }
+        }
+
+        detachManaged(userId, writes);
+    }
+
+    private Set<Long> findExistingQuestionIds(Long userId, List<WrongProblemWrite> writes) {
+        String placeholders = String.join(", ", Collections.nCopies(writes.size(), "?"));
+        Object[] args = new Object[writes.size() + 1];
+        args[0] = userId;
+        for (int i = 0; i < writes.size(); i++) {
+            args[i + 1] = writes.get(i).questionId();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT question_id FROM cs_wrong_problems WHERE user_id = ? AND question_id IN (" + placeholders + ")",
+                Long.class, args));
+    }
+
+    private BatchPreparedStatementSetter insertSetter(Long userId, List<WrongProblemWrite> writes) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                WrongProblemWrite write = writes.get(i);
+                ps.setLong(1, userId);
+                ps.setLong(2, write.questionId());
+                ps.setInt(3, write.domainId());
+                ps.setString(4, write.status().name());
+                ps.setInt(5, write.reviewCorrectCount());
+                ps.setInt(6, write.wrongCountDelta());
+                ps.setTimestamp(7, Timestamp.valueOf(write.lastWrongAt()));
+                setNullableTimestamp(ps, 8, write.clearedAt());
+                ps.setTimestamp(9, Timestamp.valueOf(write.updatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return writes.size();
+            }
+        };
+    }
+
+    private BatchPreparedStatementSetter updateSetter(Long userId, List<WrongProblemWrite> writes) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                WrongProblemWrite write = writes.get(i);
+                ps.setInt(1, write.wrongCountDelta());
+                ps.setString(2, write.status().name());
+                ps.setInt(3, write.reviewCorrectCount());
+                ps.setTimestamp(4, Timestamp.valueOf(write.lastWrongAt()));
+                setNullableTimestamp(ps, 5, write.clearedAt());
+                ps.setTimestamp(6, Timestamp.valueOf(write.updatedAt()));
+                ps.setLong(7, userId);
+                ps.setLong(8, write.questionId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return writes.size();
+            }
+        };
+    }
+
+    private void detachManaged(Long userId, List<WrongProblemWrite> writes) {
+        for (WrongProblemWrite write : writes) {
+            CsWrongProblemId id = new CsWrongProblemId(userId, write.questionId());
+            // getReference 는 이미 관리 중인 인스턴스가 있으면 그대로 돌려주고, 없으면 SQL 없이 프록시만 만든다.
+            entityManager.detach(entityManager.getReference(CsWrongProblem.class, id));
+        }
+    }
+
+    private void setNullableTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+
+    /**
+     * wrongCountDelta 는 기존 레코드에는 가산값, 신규 레코드에는 초기값으로 사용된다. domainId 는 신규 레코드에만 반영된다.
+     */
+    public record WrongProblemWrite(
+            Long questionId,
+            Integer domainId,
+            int wrongCountDelta,
+            CsWrongProblemStatus status,
+            int reviewCorrectCount,
+            LocalDateTime lastWrongAt,
+            LocalDateTime clearedAt,
+            LocalDateTime updatedAt) {
+    }
+}
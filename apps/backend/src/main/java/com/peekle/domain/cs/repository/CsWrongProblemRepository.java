@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -79,4 +80,30 @@ public interface CsWrongProblemRepository extends JpaRepository<CsWrongProblem,
             @Param("userId") Long userId,
             @Param("status") CsWrongProblemStatus status,
             @Param("questionIds") List<Long> questionIds);
+
+    @Query("""
+            select wp.question.id as questionId,
+                   wp.status as status,
+                   wp.reviewCorrectCount as reviewCorrectCount,
+                   wp.lastWrongAt as lastWrongAt,
+                   wp.clearedAt as clearedAt
+            from CsWrongProblem wp
+            where wp.user.id = :userId
+              and wp.question.id in :questionIds
+            """)
+    List<WrongProblemStateProjection> findStatesByUserAndQuestionIds(
+            @Param("userId") Long userId,
+            @Param("questionIds") List<Long> questionIds);
+
+    interface WrongProblemStateProjection {
+        Long getQuestionId();
+
+        CsWrongProblemStatus getStatus();
+
+        Integer getReviewCorrectCount();
+
+        LocalDateTime getLastWrongAt();
+
+        LocalDateTime getClearedAt();
+    }
 }
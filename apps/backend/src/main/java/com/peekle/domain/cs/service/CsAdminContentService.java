@@ -41,9 +41,14 @@ import com.peekle.domain.cs.repository.CsQuestionRepository;
 import com.peekle.domain.cs.repository.CsQuestionShortAnswerRepository;
 import com.peekle.domain.cs.repository.CsStageRepository;
 import com.peekle.domain.cs.repository.CsUserDomainProgressRepository;
+import com.peekle.domain.cs.service.bank.CsQuestionBank;
+import com.peekle.domain.cs.service.home.CsHomeViewCache;
+import com.peekle.domain.cs.service.topology.CsDomainTopologyCache;
 import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.enums.UserRole;
 import com.peekle.domain.user.repository.UserRepository;
+import com.peekle.global.importer.StreamingImporter;
+import com.peekle.global.importer.StreamingImporter.ImportOptions;
 import com.peekle.global.storage.R2StorageService;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
@@ -60,6 +65,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -72,6 +78,7 @@ public class CsAdminContentService {
     private static final int MAX_STAGE_COUNT_PER_TRACK = 20;
     private static final int CURRICULUM_REQUIRED_STAGE_QUESTION_COUNT = 10;
     private static final int PAST_EXAM_MAX_STAGE_QUESTION_COUNT = 20;
+    private static final int QUESTION_IMPORT_CHUNK_SIZE = 50;
     private static final int PAST_EXAM_MIN_YEAR = 2020;
     private static final int PAST_EXAM_MAX_YEAR = 2025;
     private static final short DEFAULT_SHORT_ANSWER_BLANK_INDEX = 1;
@@ -92,6 +99,10 @@ public class CsAdminContentService {
     private final CsUserDomainProgressRepository csUserDomainProgressRepository;
     private final UserRepository userRepository;
     private final R2StorageService r2StorageService;
+    private final CsQuestionBank csQuestionBank;
+    private final CsDomainTopologyCache csDomainTopologyCache;
+    private final CsHomeViewCache csHomeViewCache;
+    private final StreamingImporter streamingImporter;
 
     public List<CsDomainResponse> getDomains(Long userId) {
         assertAdmin(userId);
@@ -112,6 +123,7 @@ public class CsAdminContentService {
                 .id(nextId)
                 .name(request.name().trim())
                 .build());
+        csDomainTopologyCache.invalidate();
 
         return new CsDomainResponse(saved.getId(), saved.getName());
     }
@@ -121,6 +133,7 @@ public class CsAdminContentService {
         assertAdmin(userId);
         CsDomain domain = getDomain(domainId);
         domain.rename(request.name().trim());
+        csDomainTopologyCache.invalidate();
         return new CsDomainResponse(domain.getId(), domain.getName());
     }
 
@@ -129,6 +142,9 @@ public class CsAdminContentService {
         assertAdmin(userId);
         CsDomain domain = getDomain(domainId);
         csDomainRepository.delete(domain);
+        csQuestionBank.invalidateAll();
+        csDomainTopologyCache.invalidate();
+        csHomeViewCache.invalidateAllUsers();
     }
 
     public List<CsAdminTrackResponse> getTracks(Long userId, Integer domainId) {
@@ -170,6 +186,7 @@ public class CsAdminContentService {
                     .build());
             stages.add(new CsAdminStageSummaryResponse(savedStage.getId(), (int) savedStage.getStageNo()));
         }
+        csDomainTopologyCache.invalidate();
 
         return new CsAdminTrackResponse(
                 track.getId(),
@@ -196,6 +213,7 @@ public class CsAdminContentService {
         validatePastExamTrackUniqueness(track.getDomain().getId(), learningMode, examYear, track.getId());
         track.rename(request.name().trim());
         track.updateLearningMode(learningMode, examYear);
+        csDomainTopologyCache.invalidate();
         return toTrackResponse(track);
     }
 
@@ -212,6 +230,9 @@ public class CsAdminContentService {
         }
 
         csDomainTrackRepository.delete(track);
+        csQuestionBank.invalidateAll();
+        csDomainTopologyCache.invalidate();
+        csHomeViewCache.invalidateAllUsers();
 
         List<CsDomainTrack> remainingTracks = csDomainTrackRepository.findByDomain_IdOrderByTrackNoAsc(domainId);
         resequenceTracks(remainingTracks);
@@ -246,6 +267,9 @@ public class CsAdminContentService {
         }
 
         csStageRepository.delete(stage);
+        csQuestionBank.invalidateStage(stageId);
+        csDomainTopologyCache.invalidate();
+        csHomeViewCache.invalidateAllUsers();
 
         List<CsStage> remainingStages = csStageRepository.findByTrack_IdOrderByStageNoAsc(trackId);
         resequenceStages(remainingStages);
@@ -280,8 +304,6 @@ public class CsAdminContentService {
         List<CsQuestion> activeQuestions = csQuestionRepository.findByStage_IdAndIsActiveTrueOrderByIdAsc(stageId);
         validateImportRequest(stage, mode, request.questions(), activeQuestions);
 
-        int createdCount = 0;
-        int updatedCount = 0;
         int deactivatedCount = 0;
 
         if (mode == ImportMode.REPLACE) {
@@ -291,31 +313,65 @@ public class CsAdminContentService {
             }
         }
 
-        for (CsAdminQuestionDraft draft : request.questions()) {
-            CsQuestion target = null;
-            if (mode == ImportMode.UPSERT && draft.questionId() != null) {
-                target = csQuestionRepository.findByIdAndStage_Id(draft.questionId(), stageId).orElse(null);
-            }
+        ImportTally tally = new ImportTally();
+        streamingImporter.run(
+                "cs-stage-questions",
+                request.questions().iterator(),
+                (rowNumber, draft) -> validateImportDraft(rowNumber, draft),
+                drafts -> applyImportChunk(stage, mode, drafts, tally),
+                ImportOptions.chunked(QUESTION_IMPORT_CHUNK_SIZE).failingFast());
 
-            if (target == null) {
-                createQuestion(stage, draft);
-                createdCount++;
-            } else {
-                updateQuestion(target, draft);
-                updatedCount++;
-            }
-        }
+        csQuestionBank.invalidateStage(stageId);
 
         int totalActiveQuestions = csQuestionRepository.findByStage_IdAndIsActiveTrueOrderByIdAsc(stageId).size();
         return new CsAdminQuestionImportResponse(
                 stageId,
                 mode.name(),
-                createdCount,
-                updatedCount,
+                tally.created,
+                tally.updated,
                 deactivatedCount,
                 totalActiveQuestions);
     }
 
+    private CsAdminQuestionDraft validateImportDraft(long rowNumber, CsAdminQuestionDraft draft) {
+        try {
+            validateDraftByType(draft);
+        } catch (BusinessException ex) {
+            throw new BusinessException(
+                    ErrorCode.INVALID_INPUT_VALUE,
+                    rowNumber + "번 문제: " + ex.getMessage());
+        }
+        return draft;
+    }
+
+    // 청크마다 UPSERT 대상 문제를 한 번에 조회해 문제별 단건 조회를 없앤다.
+    private int applyImportChunk(CsStage stage, ImportMode mode, List<CsAdminQuestionDraft> drafts, ImportTally tally) {
+        Map<Long, CsQuestion> targetsById = new HashMap<>();
+        if (mode == ImportMode.UPSERT) {
+            List<Long> targetIds = drafts.stream()
+                    .map(CsAdminQuestionDraft::questionId)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!targetIds.isEmpty()) {
+                for (CsQuestion question : csQuestionRepository.findByIdInAndStage_Id(targetIds, stage.getId())) {
+                    targetsById.put(question.getId(), question);
+                }
+            }
+        }
+
+        for (CsAdminQuestionDraft draft : drafts) {
+            CsQuestion target = draft.questionId() == null ? null : targetsById.get(draft.questionId());
+            if (target == null) {
+                createQuestion(stage, draft);
+                tally.created++;
+            } else {
+                updateQuestion(target, draft);
+                tally.updated++;
+            }
+        }
+        return drafts.size();
+    }
+
     @Transactional
     public CsAdminQuestionResponse updateStageQuestion(
             Long userId,
@@ -341,6 +397,7 @@ public class CsAdminContentService {
                 request.shortAnswers());
 
         updateQuestion(question, draft);
+        csQuestionBank.invalidateStage(stageId);
         return toAdminQuestionResponse(question);
     }
 
@@ -361,6 +418,7 @@ public class CsAdminContentService {
                 request.shortAnswers(),
                 resolveEffectiveGradingMode(question));
         syncShortAnswers(question, normalized);
+        csQuestionBank.invalidateStage(question.getStage().getId());
 
         return toAdminQuestionResponse(question);
     }
@@ -839,18 +897,11 @@ public class CsAdminContentService {
             }
         }
 
+        // 문제별 내용 검증은 importer 에서 청크 단위로 수행한다.
         Set<Long> upsertQuestionIds = new HashSet<>();
-        for (int i = 0; i < questions.size(); i++) {
-            CsAdminQuestionDraft draft = questions.get(i);
-            try {
-                validateDraftByType(draft);
-            } catch (BusinessException ex) {
-                throw new BusinessException(
-                        ErrorCode.INVALID_INPUT_VALUE,
-                        (i + 1) + "번 문제: " + ex.getMessage());
-            }
-
-            if (mode == ImportMode.UPSERT && draft.questionId() != null && !upsertQuestionIds.add(draft.questionId())) {
+        for (CsAdminQuestionDraft draft : questions) {
+            if (mode == ImportMode.UPSERT && draft != null && draft.questionId() != null
+                    && !upsertQuestionIds.add(draft.questionId())) {
                 throw new BusinessException(
                         ErrorCode.INVALID_INPUT_VALUE,
                         "UPSERT에서는 questionId가 중복될 수 없습니다.");
@@ -1208,6 +1259,11 @@ public class CsAdminContentService {
         return normalized.replaceAll("[^a-zA-Z0-9._-]", "_");
     }
 
+    private static final class ImportTally {
+        private int created;
+        private int updated;
+    }
+
     private enum ImportMode {
         REPLACE,
         UPSERT;
@@ -8,33 +8,38 @@ import com.peekle.domain.cs.dto.response.CsAttemptStartResponse;
 import com.peekle.domain.cs.dto.response.CsQuestionChoiceResponse;
 import com.peekle.domain.cs.dto.response.CsQuestionPayloadResponse;
 import com.peekle.domain.cs.dto.response.CsTrackSkipResponse;
-import com.peekle.domain.cs.entity.CsDomainTrack;
 import com.peekle.domain.cs.entity.CsPastExamBestScore;
-import com.peekle.domain.cs.entity.CsQuestion;
-import com.peekle.domain.cs.entity.CsQuestionChoice;
-import com.peekle.domain.cs.entity.CsQuestionShortAnswer;
 import com.peekle.domain.cs.entity.CsStageAttemptLog;
 import com.peekle.domain.cs.entity.CsStageSolveRecord;
 import com.peekle.domain.cs.entity.CsStage;
 import com.peekle.domain.cs.entity.CsUserDomainProgress;
-import com.peekle.domain.cs.entity.CsWrongProblem;
 import com.peekle.domain.cs.enums.CsAttemptPhase;
 import com.peekle.domain.cs.enums.CsQuestionGradingMode;
 import com.peekle.domain.cs.enums.CsQuestionType;
 import com.peekle.domain.cs.enums.CsTrackLearningMode;
-import com.peekle.domain.cs.repository.CsDomainTrackRepository;
-import com.peekle.domain.cs.repository.CsQuestionChoiceRepository;
+import com.peekle.domain.cs.enums.CsWrongProblemStatus;
 import com.peekle.domain.cs.repository.CsQuestionRepository;
-import com.peekle.domain.cs.repository.CsQuestionShortAnswerRepository;
 import com.peekle.domain.cs.repository.CsPastExamBestScoreRepository;
 import com.peekle.domain.cs.repository.CsStageAttemptLogRepository;
 import com.peekle.domain.cs.repository.CsStageSolveRecordRepository;
 import com.peekle.domain.cs.repository.CsStageRepository;
 import com.peekle.domain.cs.repository.CsUserDomainProgressRepository;
 import com.peekle.domain.cs.repository.CsUserProfileRepository;
+import com.peekle.domain.cs.repository.CsWrongProblemJdbcRepository;
 import com.peekle.domain.cs.repository.CsWrongProblemRepository;
+import com.peekle.domain.cs.service.bank.CsAnswerNormalizer;
+import com.peekle.domain.cs.service.bank.CsCachedChoice;
+import com.peekle.domain.cs.service.bank.CsCachedQuestion;
+import com.peekle.domain.cs.service.bank.CsCachedShortAnswer;
+import com.peekle.domain.cs.service.bank.CsQuestionBank;
+import com.peekle.domain.cs.service.bank.CsStageQuestionBank;
+import com.peekle.domain.cs.service.home.CsHomeViewCache;
 import com.peekle.domain.cs.service.store.CsAttemptSession;
 import com.peekle.domain.cs.service.store.CsAttemptStore;
+import com.peekle.domain.cs.service.topology.CsCachedDomain;
+import com.peekle.domain.cs.service.topology.CsCachedStage;
+import com.peekle.domain.cs.service.topology.CsCachedTrack;
+import com.peekle.domain.cs.service.topology.CsDomainTopologyCache;
 import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.global.exception.BusinessException;
@@ -52,7 +57,6 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -80,17 +84,18 @@ public class CsAttemptService {
     private static final short FIRST_STAGE_NO = 1;
 
     private final CsStageRepository csStageRepository;
-    private final CsDomainTrackRepository csDomainTrackRepository;
     private final CsQuestionRepository csQuestionRepository;
-    private final CsQuestionChoiceRepository csQuestionChoiceRepository;
-    private final CsQuestionShortAnswerRepository csQuestionShortAnswerRepository;
     private final CsPastExamBestScoreRepository csPastExamBestScoreRepository;
     private final CsStageAttemptLogRepository csStageAttemptLogRepository;
     private final CsStageSolveRecordRepository csStageSolveRecordRepository;
     private final CsUserDomainProgressRepository csUserDomainProgressRepository;
     private final CsUserProfileRepository csUserProfileRepository;
     private final CsWrongProblemRepository csWrongProblemRepository;
+    private final CsWrongProblemJdbcRepository csWrongProblemJdbcRepository;
     private final CsAttemptStore csAttemptStore;
+    private final CsQuestionBank csQuestionBank;
+    private final CsDomainTopologyCache csDomainTopologyCache;
+    private final CsHomeViewCache csHomeViewCache;
     private final UserRepository userRepository;
 
     @Transactional
@@ -107,15 +112,15 @@ public class CsAttemptService {
             validateStageAccess(progress, stage);
         }
 
-        List<CsQuestion> loadedQuestions = csQuestionRepository.findByStage_IdAndIsActiveTrueOrderByIdAsc(stageId);
+        List<CsCachedQuestion> loadedQuestions = csQuestionBank.getStage(stageId).activeQuestions();
         if (loadedQuestions.isEmpty()) {
             throw new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND, "스테이지에 등록된 문제가 없습니다.");
         }
 
         int targetQuestionCount = resolveAttemptQuestionCount(stage, loadedQuestions.size());
-        List<CsQuestion> questionSet = selectQuestionSet(loadedQuestions, targetQuestionCount);
+        List<CsCachedQuestion> questionSet = selectQuestionSet(loadedQuestions, targetQuestionCount);
         List<Long> questionIds = questionSet.stream()
-                .map(CsQuestion::getId)
+                .map(CsCachedQuestion::id)
                 .toList();
 
         LocalDateTime now = LocalDateTime.now();
@@ -163,7 +168,8 @@ public class CsAttemptService {
             throw new BusinessException(ErrorCode.CS_INVALID_ANSWER_PAYLOAD, "현재 순서의 문제를 제출해야 합니다.");
         }
 
-        CsQuestion question = csQuestionRepository.findByIdAndStage_Id(request.questionId(), stageId)
+        CsStageQuestionBank questionBank = csQuestionBank.getStage(stageId);
+        CsCachedQuestion question = questionBank.findQuestion(request.questionId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND));
 
         int currentQuestionNo = currentRoundIndex + 1;
@@ -172,25 +178,25 @@ public class CsAttemptService {
         GradingResult gradingResult = gradeAnswer(question, request);
         boolean isCorrect = gradingResult.isCorrect();
 
-        applyAnswerState(session, question.getId(), isCorrect);
+        applyAnswerState(session, question.id(), isCorrect);
         moveToNextQuestion(session);
 
         session.setUpdatedAt(LocalDateTime.now());
-        csAttemptStore.save(session);
+        csAttemptStore.saveProgress(session);
 
         CsQuestionPayloadResponse nextQuestion = null;
         boolean isLast = session.getPhase() == CsAttemptPhase.COMPLETED;
 
         if (!isLast) {
             Long nextQuestionId = session.getCurrentRoundQuestionIds().get(session.getCurrentRoundIndex());
-            CsQuestion next = csQuestionRepository.findByIdAndStage_Id(nextQuestionId, stageId)
+            CsCachedQuestion next = questionBank.findQuestion(nextQuestionId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND));
             nextQuestion = toQuestionPayload(next);
         }
 
         return new CsAttemptAnswerResponse(
-                question.getId(),
-                question.getQuestionType(),
+                question.id(),
+                question.questionType(),
                 new CsAttemptProgressResponse(currentQuestionNo, totalQuestionCount),
                 session.getPhase(),
                 isCorrect,
@@ -259,25 +265,28 @@ public class CsAttemptService {
         getUser(userId);
 
         CsUserDomainProgress progress = resolveCurrentDomainProgress(userId);
-        CsDomainTrack currentTrack = csDomainTrackRepository
-                .findByDomain_IdAndTrackNo(progress.getDomain().getId(), progress.getCurrentTrackNo())
+        CsCachedDomain domain = csDomainTopologyCache.get()
+                .findDomain(progress.getDomain().getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CS_DOMAIN_NOT_FOUND));
+        CsCachedTrack currentTrack = domain.findTrack(progress.getCurrentTrackNo())
                 .orElseThrow(() -> new BusinessException(ErrorCode.CS_TRACK_NOT_FOUND));
 
-        if (currentTrack.getLearningMode() != CsTrackLearningMode.CURRICULUM) {
+        if (currentTrack.learningMode() != CsTrackLearningMode.CURRICULUM) {
             throw new BusinessException(ErrorCode.CS_FORBIDDEN_STAGE_ACCESS, LOCK_REASON_SKIP_ONLY_CURRICULUM);
         }
 
-        short lastStageNo = csStageRepository.findTopByTrack_IdOrderByStageNoDesc(currentTrack.getId())
-                .map(CsStage::getStageNo)
+        short lastStageNo = currentTrack.lastStage()
+                .map(CsCachedStage::stageNo)
                 .orElse(progress.getCurrentStageNo());
 
-        clearTrackAttemptSessions(userId, currentTrack.getId());
+        clearTrackAttemptSessions(userId, currentTrack);
+        csHomeViewCache.invalidateUser(userId);
 
-        NextStageProgress nextStage = resolveNextTrackFirstStage(currentTrack);
+        NextStageProgress nextStage = resolveNextTrackFirstStage(domain, currentTrack.trackNo());
         if (nextStage != null) {
             progress.advanceTo(nextStage.trackNo(), nextStage.stageNo());
             return new CsTrackSkipResponse(
-                    (int) currentTrack.getTrackNo(),
+                    (int) currentTrack.trackNo(),
                     (int) nextStage.trackNo(),
                     (int) nextStage.stageNo(),
                     nextStage.stageId(),
@@ -285,10 +294,10 @@ public class CsAttemptService {
         }
 
         short completionCursor = (short) (lastStageNo + 1);
-        progress.advanceTo(currentTrack.getTrackNo(), completionCursor);
+        progress.advanceTo(currentTrack.trackNo(), completionCursor);
 
         return new CsTrackSkipResponse(
-                (int) currentTrack.getTrackNo(),
+                (int) currentTrack.trackNo(),
                 null,
                 null,
                 null,
@@ -421,8 +430,8 @@ public class CsAttemptService {
         session.setCurrentRoundIndex(0);
     }
 
-    private GradingResult gradeAnswer(CsQuestion question, CsAttemptAnswerRequest request) {
-        CsQuestionType questionType = question.getQuestionType();
+    private GradingResult gradeAnswer(CsCachedQuestion question, CsAttemptAnswerRequest request) {
+        CsQuestionType questionType = question.questionType();
 
         return switch (questionType) {
             case MULTIPLE_CHOICE, OX -> {
@@ -431,36 +440,33 @@ public class CsAttemptService {
                     throw new BusinessException(ErrorCode.CS_INVALID_ANSWER_PAYLOAD, "객관식/OX는 selectedChoiceNo가 필요합니다.");
                 }
 
-                List<CsQuestionChoice> choices = csQuestionChoiceRepository.findByQuestion_IdOrderByChoiceNoAsc(question.getId());
+                List<CsCachedChoice> choices = question.choices();
                 if (choices.isEmpty()) {
                     throw new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND, "선택지가 존재하지 않는 문제입니다.");
                 }
 
-                CsQuestionChoice selectedChoice = choices.stream()
-                        .filter(choice -> choice.getChoiceNo() != null
-                                && choice.getChoiceNo().intValue() == selectedChoiceNo)
-                        .findFirst()
-                        .orElse(null);
-                if (selectedChoice == null) {
+                boolean selectedChoiceExists = choices.stream()
+                        .anyMatch(choice -> choice.choiceNo() == selectedChoiceNo);
+                if (!selectedChoiceExists) {
                     throw new BusinessException(ErrorCode.CS_INVALID_ANSWER_PAYLOAD, "존재하지 않는 선택지입니다.");
                 }
 
-                List<CsQuestionChoice> answerChoices = choices.stream()
-                        .filter(choice -> Boolean.TRUE.equals(choice.getIsAnswer()))
+                List<CsCachedChoice> answerChoices = choices.stream()
+                        .filter(CsCachedChoice::isAnswer)
                         .toList();
                 if (answerChoices.size() != 1) {
                     throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "문제 정답 구성이 올바르지 않습니다.");
                 }
 
-                CsQuestionChoice answerChoice = answerChoices.get(0);
-                boolean isCorrect = answerChoice.getChoiceNo().intValue() == selectedChoiceNo;
-                String correctAnswer = answerChoice.getChoiceNo() + ". " + answerChoice.getContent();
+                CsCachedChoice answerChoice = answerChoices.get(0);
+                boolean isCorrect = answerChoice.choiceNo() == selectedChoiceNo;
+                String correctAnswer = answerChoice.choiceNo() + ". " + answerChoice.content();
 
                 yield new GradingResult(
                         isCorrect,
-                        (int) answerChoice.getChoiceNo(),
+                        (int) answerChoice.choiceNo(),
                         correctAnswer,
-                        question.getExplanation());
+                        question.explanation());
             }
             case SHORT_ANSWER -> {
                 String answerText = request.answerText();
@@ -468,8 +474,7 @@ public class CsAttemptService {
                     throw new BusinessException(ErrorCode.CS_INVALID_ANSWER_PAYLOAD, "단답형은 answerText가 필요합니다.");
                 }
 
-                List<CsQuestionShortAnswer> acceptableAnswers = csQuestionShortAnswerRepository
-                        .findByQuestion_IdOrderByBlankIndexAscIsPrimaryDescIdAsc(question.getId());
+                List<CsCachedShortAnswer> acceptableAnswers = question.shortAnswers();
                 if (acceptableAnswers.isEmpty()) {
                     throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "단답형 정답 구성이 올바르지 않습니다.");
                 }
@@ -486,7 +491,7 @@ public class CsAttemptService {
                             isCorrect,
                             null,
                             isCorrect ? null : formatOrderedAnswerForFeedback(expectedParts),
-                            question.getExplanation());
+                            question.explanation());
                 }
 
                 if (gradingMode == CsQuestionGradingMode.MULTI_BLANK_UNORDERED) {
@@ -498,100 +503,101 @@ public class CsAttemptService {
                             isCorrect,
                             null,
                             isCorrect ? null : formatUnorderedAnswerForFeedback(expectedParts),
-                            question.getExplanation());
+                            question.explanation());
                 }
 
                 String strictSubmitted = normalizeStrict(submitted);
                 String relaxedSubmitted = normalizeRelaxed(strictSubmitted);
 
-                Set<String> strictCandidates = new HashSet<>();
-                Set<String> relaxedCandidates = new HashSet<>();
-
-                for (CsQuestionShortAnswer acceptableAnswer : acceptableAnswers) {
-                    addCandidateNormalization(strictCandidates, relaxedCandidates, acceptableAnswer.getNormalizedAnswer());
-                    addCandidateNormalization(strictCandidates, relaxedCandidates, acceptableAnswer.getAnswerText());
-                }
-
-                boolean isCorrect = strictCandidates.contains(strictSubmitted)
-                        || (!relaxedSubmitted.isBlank() && relaxedCandidates.contains(relaxedSubmitted));
+                boolean isCorrect = question.strictAnswers().contains(strictSubmitted)
+                        || (!relaxedSubmitted.isBlank() && question.relaxedAnswers().contains(relaxedSubmitted));
 
                 yield new GradingResult(
                         isCorrect,
                         null,
                         isCorrect ? null : resolvePrimaryShortAnswer(acceptableAnswers),
-                        question.getExplanation());
+                        question.explanation());
             }
         };
     }
 
     private void persistWrongProblems(User user, CsAttemptSession session) {
-        if (session.getWrongAttemptCountByQuestionId().isEmpty()) {
-            return;
-        }
-
-        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> wrongCountByQuestionId = new HashMap<>();
         for (Map.Entry<Long, Integer> entry : session.getWrongAttemptCountByQuestionId().entrySet()) {
-            Long questionId = entry.getKey();
             int wrongCount = entry.getValue() == null ? 0 : entry.getValue();
-
-            if (wrongCount <= 0) {
-                continue;
+            if (wrongCount > 0) {
+                wrongCountByQuestionId.put(entry.getKey(), wrongCount);
             }
+        }
+        if (wrongCountByQuestionId.isEmpty()) {
+            return;
+        }
 
-            CsQuestion question = csQuestionRepository.findById(questionId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND));
-
-            CsWrongProblem wrongProblem = csWrongProblemRepository.findByUser_IdAndQuestion_Id(user.getId(), questionId)
-                    .orElseGet(() -> CsWrongProblem.builder()
-                            .user(user)
-                            .question(question)
-                            .domain(question.getStage().getTrack().getDomain())
-                            .wrongCount(0)
-                            .reviewCorrectCount(0)
-                            .lastWrongAt(now)
-                            .updatedAt(now)
-                            .build());
-
-            for (int i = 0; i < wrongCount; i++) {
-                wrongProblem.markWrong();
-            }
-            csWrongProblemRepository.save(wrongProblem);
+        List<Long> questionIds = new ArrayList<>(wrongCountByQuestionId.keySet());
+        Map<Long, Integer> domainIdByQuestionId = new HashMap<>();
+        for (CsQuestionRepository.QuestionDomainProjection row : csQuestionRepository
+                .findDomainIdsByQuestionIds(questionIds)) {
+            domainIdByQuestionId.put(row.getQuestionId(), row.getDomainId());
+        }
+        if (domainIdByQuestionId.size() != questionIds.size()) {
+            throw new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND);
         }
+
+        // markWrong 을 N 번 적용한 결과와 동일: ACTIVE, 복습 정답 수 초기화, wrong_count += N
+        LocalDateTime now = LocalDateTime.now();
+        List<CsWrongProblemJdbcRepository.WrongProblemWrite> writes = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : wrongCountByQuestionId.entrySet()) {
+            Long questionId = entry.getKey();
+            writes.add(new CsWrongProblemJdbcRepository.WrongProblemWrite(
+                    questionId,
+                    domainIdByQuestionId.get(questionId),
+                    entry.getValue(),
+                    CsWrongProblemStatus.ACTIVE,
+                    0,
+                    now,
+                    null,
+                    now));
+        }
+
+        csWrongProblemJdbcRepository.batchUpsert(user.getId(), writes);
     }
 
     private NextStageProgress resolveNextStageProgress(CsStage stage) {
-        Optional<CsStage> nextStageInTrack = csStageRepository.findByTrack_IdAndStageNo(
-                stage.getTrack().getId(),
-                (short) (stage.getStageNo() + 1));
+        CsCachedDomain domain = csDomainTopologyCache.get()
+                .findDomain(stage.getTrack().getDomain().getId())
+                .orElse(null);
+        if (domain == null) {
+            return null;
+        }
+
+        short trackNo = stage.getTrack().getTrackNo();
+        Optional<CsCachedStage> nextStageInTrack = domain.findTrack(trackNo)
+                .flatMap(track -> track.findStage((short) (stage.getStageNo() + 1)));
         if (nextStageInTrack.isPresent()) {
-            CsStage next = nextStageInTrack.get();
-            return new NextStageProgress(next.getId(), stage.getTrack().getTrackNo(), next.getStageNo());
+            CsCachedStage next = nextStageInTrack.get();
+            return new NextStageProgress(next.id(), trackNo, next.stageNo());
         }
 
         if (stage.getTrack().getLearningMode() != CsTrackLearningMode.CURRICULUM) {
             return null;
         }
 
-        return resolveNextTrackFirstStage(stage.getTrack());
+        return resolveNextTrackFirstStage(domain, trackNo);
     }
 
-    private NextStageProgress resolveNextTrackFirstStage(CsDomainTrack currentTrack) {
-        Integer domainId = currentTrack.getDomain().getId();
-        short currentTrackNo = currentTrack.getTrackNo();
-
-        List<CsDomainTrack> tracks = csDomainTrackRepository.findByDomain_IdOrderByTrackNoAsc(domainId);
-        for (CsDomainTrack track : tracks) {
-            if (track.getLearningMode() != CsTrackLearningMode.CURRICULUM) {
+    private NextStageProgress resolveNextTrackFirstStage(CsCachedDomain domain, short currentTrackNo) {
+        for (CsCachedTrack track : domain.tracks()) {
+            if (track.learningMode() != CsTrackLearningMode.CURRICULUM) {
                 continue;
             }
-            if (track.getTrackNo() <= currentTrackNo) {
+            if (track.trackNo() <= currentTrackNo) {
                 continue;
             }
 
-            Optional<CsStage> firstStage = csStageRepository.findByTrack_IdAndStageNo(track.getId(), FIRST_STAGE_NO);
+            Optional<CsCachedStage> firstStage = track.findStage(FIRST_STAGE_NO);
             if (firstStage.isPresent()) {
-                CsStage next = firstStage.get();
-                return new NextStageProgress(next.getId(), track.getTrackNo(), next.getStageNo());
+                CsCachedStage next = firstStage.get();
+                return new NextStageProgress(next.id(), track.trackNo(), next.stageNo());
             }
         }
 
@@ -619,10 +625,9 @@ public class CsAttemptService {
                 .orElse(progresses.get(0));
     }
 
-    private void clearTrackAttemptSessions(Long userId, Long trackId) {
-        List<CsStage> trackStages = csStageRepository.findByTrack_IdOrderByStageNoAsc(trackId);
-        for (CsStage trackStage : trackStages) {
-            csAttemptStore.delete(userId, trackStage.getId());
+    private void clearTrackAttemptSessions(Long userId, CsCachedTrack track) {
+        for (CsCachedStage trackStage : track.stages()) {
+            csAttemptStore.delete(userId, trackStage.id());
         }
     }
 
@@ -642,6 +647,7 @@ public class CsAttemptService {
         }
 
         progress.advanceTo(nextStage.trackNo(), nextStage.stageNo());
+        csHomeViewCache.invalidateUser(userId);
     }
 
     private StreakResult applyStreak(User user) {
@@ -681,7 +687,7 @@ public class CsAttemptService {
         return "CS_RESULT_KEEP_GOING";
     }
 
-    private List<CsQuestion> selectQuestionSet(List<CsQuestion> loadedQuestions, int attemptQuestionCount) {
+    private List<CsCachedQuestion> selectQuestionSet(List<CsCachedQuestion> loadedQuestions, int attemptQuestionCount) {
         if (loadedQuestions.size() <= attemptQuestionCount) {
             return loadedQuestions;
         }
@@ -723,26 +729,25 @@ public class CsAttemptService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CS_STAGE_NOT_FOUND));
     }
 
-    private CsQuestionPayloadResponse toQuestionPayload(CsQuestion question) {
-        List<CsQuestionChoiceResponse> choices = switch (question.getQuestionType()) {
-            case MULTIPLE_CHOICE, OX -> csQuestionChoiceRepository
-                    .findByQuestion_IdOrderByChoiceNoAsc(question.getId())
+    private CsQuestionPayloadResponse toQuestionPayload(CsCachedQuestion question) {
+        List<CsQuestionChoiceResponse> choices = switch (question.questionType()) {
+            case MULTIPLE_CHOICE, OX -> question.choices()
                     .stream()
                     .map(choice -> new CsQuestionChoiceResponse(
-                            (int) choice.getChoiceNo(),
-                            choice.getContent()))
+                            (int) choice.choiceNo(),
+                            choice.content()))
                     .toList();
             default -> List.of();
         };
 
         return new CsQuestionPayloadResponse(
-                question.getId(),
-                question.getQuestionType(),
-                question.getPrompt(),
-                question.getContentMode(),
-                question.getContentBlocks(),
-                question.getGradingMode(),
-                question.getMetadata(),
+                question.id(),
+                question.questionType(),
+                question.prompt(),
+                question.contentMode(),
+                question.contentBlocks(),
+                question.gradingMode(),
+                question.metadata(),
                 choices.isEmpty() ? null : choices);
     }
 
@@ -779,20 +784,20 @@ public class CsAttemptService {
         }
     }
 
-    private String resolvePrimaryShortAnswer(List<CsQuestionShortAnswer> answers) {
+    private String resolvePrimaryShortAnswer(List<CsCachedShortAnswer> answers) {
         return answers.stream()
                 .sorted(Comparator
-                        .comparing((CsQuestionShortAnswer answer) -> !Boolean.TRUE.equals(answer.getIsPrimary()))
-                        .thenComparing(CsQuestionShortAnswer::getId))
+                        .comparing((CsCachedShortAnswer answer) -> !answer.isPrimary())
+                        .thenComparing(CsCachedShortAnswer::id))
                 .map(this::resolveDisplayAnswerText)
                 .findFirst()
                 .orElse(null);
     }
 
-    private CsQuestionGradingMode resolveEffectiveGradingMode(CsQuestion question) {
-        CsQuestionGradingMode gradingMode = question.getGradingMode();
+    private CsQuestionGradingMode resolveEffectiveGradingMode(CsCachedQuestion question) {
+        CsQuestionGradingMode gradingMode = question.gradingMode();
         if (gradingMode == null || gradingMode == CsQuestionGradingMode.DEFAULT_BY_TYPE) {
-            return question.getQuestionType() == CsQuestionType.SHORT_ANSWER
+            return question.questionType() == CsQuestionType.SHORT_ANSWER
                     ? CsQuestionGradingMode.SHORT_TEXT_EXACT
                     : CsQuestionGradingMode.SINGLE_CHOICE;
         }
@@ -817,18 +822,10 @@ public class CsAttemptService {
         return splitOrderedTokens(submitted);
     }
 
-    private List<String> resolveOrderedExpectedAnswers(CsQuestion question, List<CsQuestionShortAnswer> acceptableAnswers) {
-        List<CsQuestionShortAnswer> sortedAnswers = acceptableAnswers.stream()
-                .sorted(Comparator
-                        .comparing((CsQuestionShortAnswer answer) -> answer.getBlankIndex() == null
-                                ? (short) 1
-                                : answer.getBlankIndex())
-                        .thenComparing((CsQuestionShortAnswer answer) -> !Boolean.TRUE.equals(answer.getIsPrimary()))
-                        .thenComparing(CsQuestionShortAnswer::getId))
-                .toList();
-
+    // 문제 은행 스냅샷의 정답 목록은 blankIndex → primary → id 순서로 이미 정렬되어 있다.
+    private List<String> resolveOrderedExpectedAnswers(CsCachedQuestion question, List<CsCachedShortAnswer> sortedAnswers) {
         List<String> groupedByBlank = resolveExpectedAnswersByBlankGroup(sortedAnswers);
-        int expectedCount = extractExpectedBlankCount(question.getMetadata());
+        int expectedCount = extractExpectedBlankCount(question.metadata());
         if (groupedByBlank.size() > 1
                 && (expectedCount <= 1 || groupedByBlank.size() == expectedCount)) {
             return groupedByBlank;
@@ -863,14 +860,14 @@ public class CsAttemptService {
         return splitSingle.isEmpty() ? answerTexts : splitSingle;
     }
 
-    private List<String> resolveExpectedAnswersByBlankGroup(List<CsQuestionShortAnswer> sortedAnswers) {
+    private List<String> resolveExpectedAnswersByBlankGroup(List<CsCachedShortAnswer> sortedAnswers) {
         Map<Short, List<String>> answersByBlank = new java.util.LinkedHashMap<>();
-        for (CsQuestionShortAnswer answer : sortedAnswers) {
+        for (CsCachedShortAnswer answer : sortedAnswers) {
             String displayText = resolveDisplayAnswerText(answer);
             if (displayText == null || displayText.isBlank()) {
                 continue;
             }
-            short blankIndex = answer.getBlankIndex() == null ? 1 : answer.getBlankIndex();
+            short blankIndex = answer.blankIndex();
             answersByBlank.computeIfAbsent(blankIndex, key -> new ArrayList<>())
                     .add(displayText.trim());
         }
@@ -1049,30 +1046,22 @@ public class CsAttemptService {
         return String.join(", ", expectedParts);
     }
 
-    private String resolveDisplayAnswerText(CsQuestionShortAnswer answer) {
-        if (answer.getAnswerText() != null && !answer.getAnswerText().isBlank()) {
-            return answer.getAnswerText().trim();
+    private String resolveDisplayAnswerText(CsCachedShortAnswer answer) {
+        if (answer.answerText() != null && !answer.answerText().isBlank()) {
+            return answer.answerText().trim();
         }
-        if (answer.getNormalizedAnswer() != null && !answer.getNormalizedAnswer().isBlank()) {
-            return answer.getNormalizedAnswer().trim();
+        if (answer.normalizedAnswer() != null && !answer.normalizedAnswer().isBlank()) {
+            return answer.normalizedAnswer().trim();
         }
         return null;
     }
 
     private String normalizeStrict(String input) {
-        if (input == null) {
-            return "";
-        }
-        return input.strip()
-                .toLowerCase(Locale.ROOT)
-                .replaceAll("\\s+", "");
+        return CsAnswerNormalizer.normalizeStrict(input);
     }
 
     private String normalizeRelaxed(String input) {
-        if (input == null || input.isBlank()) {
-            return "";
-        }
-        return input.replaceAll("[^\\p{L}\\p{N}]", "");
+        return CsAnswerNormalizer.normalizeRelaxed(input);
     }
 
     private record StreakResult(boolean earnedToday, int currentStreak) {
@@ -11,20 +11,25 @@ import com.peekle.domain.cs.dto.response.CsQuestionChoiceResponse;
 import com.peekle.domain.cs.dto.response.CsQuestionPayloadResponse;
 import com.peekle.domain.cs.dto.response.CsStageStatusResponse;
 import com.peekle.domain.cs.entity.CsDomain;
-import com.peekle.domain.cs.entity.CsDomainTrack;
-import com.peekle.domain.cs.entity.CsQuestion;
 import com.peekle.domain.cs.entity.CsStage;
 import com.peekle.domain.cs.entity.CsUserDomainProgress;
 import com.peekle.domain.cs.entity.CsUserProfile;
 import com.peekle.domain.cs.enums.CsStageStatus;
 import com.peekle.domain.cs.enums.CsTrackLearningMode;
 import com.peekle.domain.cs.repository.CsDomainRepository;
-import com.peekle.domain.cs.repository.CsDomainTrackRepository;
-import com.peekle.domain.cs.repository.CsQuestionChoiceRepository;
-import com.peekle.domain.cs.repository.CsQuestionRepository;
 import com.peekle.domain.cs.repository.CsStageRepository;
 import com.peekle.domain.cs.repository.CsUserDomainProgressRepository;
 import com.peekle.domain.cs.repository.CsUserProfileRepository;
+import com.peekle.domain.cs.service.bank.CsCachedQuestion;
+import com.peekle.domain.cs.service.bank.CsQuestionBank;
+import com.peekle.domain.cs.service.home.CsHomeDomainProgress;
+import com.peekle.domain.cs.service.home.CsHomeView;
+import com.peekle.domain.cs.service.home.CsHomeViewCache;
+import com.peekle.domain.cs.service.topology.CsCachedDomain;
+import com.peekle.domain.cs.service.topology.CsCachedStage;
+import com.peekle.domain.cs.service.topology.CsCachedTrack;
+import com.peekle.domain.cs.service.topology.CsDomainTopology;
+import com.peekle.domain.cs.service.topology.CsDomainTopologyCache;
 import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.global.exception.BusinessException;
@@ -51,41 +56,33 @@ public class CsDomainService {
     private static final String DOMAIN_SELECTION_FORBIDDEN_REASON = "정보처리기사 기출 도메인은 도메인 선택에서 사용할 수 없습니다.";
 
     private final CsDomainRepository csDomainRepository;
-    private final CsDomainTrackRepository csDomainTrackRepository;
     private final CsStageRepository csStageRepository;
-    private final CsQuestionRepository csQuestionRepository;
-    private final CsQuestionChoiceRepository csQuestionChoiceRepository;
+    private final CsQuestionBank csQuestionBank;
+    private final CsDomainTopologyCache csDomainTopologyCache;
+    private final CsHomeViewCache csHomeViewCache;
     private final CsUserProfileRepository csUserProfileRepository;
     private final CsUserDomainProgressRepository csUserDomainProgressRepository;
     private final UserRepository userRepository;
 
     public CsBootstrapResponse getBootstrap(Long userId) {
-        User user = getUser(userId);
-
-        List<CsUserDomainProgress> progresses = csUserDomainProgressRepository
-                .findByUser_IdOrderByUpdatedAtDesc(user.getId());
-
-        CsDomain currentDomain = csUserProfileRepository.findByUserIdWithCurrentDomain(user.getId())
-                .map(CsUserProfile::getCurrentDomain)
-                .orElse(null);
-
-        if (currentDomain == null && !progresses.isEmpty()) {
-            currentDomain = progresses.get(0).getDomain();
-        }
+        requireUserId(userId);
 
-        if (currentDomain == null) {
+        CsHomeView home = csHomeViewCache.get(userId);
+        Integer currentDomainId = home.resolveCurrentDomainId();
+        if (currentDomainId == null) {
             return new CsBootstrapResponse(true, null, null, List.of());
         }
 
-        Integer currentDomainId = currentDomain.getId();
-        CsUserDomainProgress currentProgress = progresses.stream()
-                .filter(progress -> progress.getDomain().getId().equals(currentDomainId))
-                .findFirst()
-                .orElse(null);
+        CsCachedDomain currentDomain = csDomainTopologyCache.get()
+                .findDomain(currentDomainId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CS_DOMAIN_NOT_FOUND));
+        CsHomeDomainProgress currentProgress = home.findProgress(currentDomainId).orElse(null);
 
-        CsProgressResponse progressResponse = currentProgress != null ? toProgressResponse(currentProgress) : null;
+        CsProgressResponse progressResponse = currentProgress != null
+                ? toProgressResponse(currentDomain, currentProgress.currentTrackNo(), currentProgress.currentStageNo())
+                : null;
         List<CsStageStatusResponse> stages = currentProgress != null
-                ? toStageStatusResponses(currentProgress)
+                ? toStageStatusResponses(currentDomain, currentProgress)
                 : List.of();
 
         return new CsBootstrapResponse(
@@ -96,35 +93,40 @@ public class CsDomainService {
     }
 
     public List<CsDomainResponse> getAvailableDomains(Long userId) {
-        getUser(userId);
+        requireUserId(userId);
 
-        Set<Integer> studyingDomainIds = csUserDomainProgressRepository.findByUser_Id(userId)
+        Set<Integer> studyingDomainIds = csHomeViewCache.get(userId)
+                .progresses()
                 .stream()
-                .map(progress -> progress.getDomain().getId())
+                .map(CsHomeDomainProgress::domainId)
                 .collect(Collectors.toSet());
 
-        return csDomainRepository.findAllByOrderByIdAsc()
+        return csDomainTopologyCache.get()
+                .domains()
                 .stream()
-                .filter(domain -> !domain.getId().equals(PAST_EXAM_DOMAIN_ID))
-                .filter(domain -> !studyingDomainIds.contains(domain.getId()))
+                .filter(domain -> !domain.id().equals(PAST_EXAM_DOMAIN_ID))
+                .filter(domain -> !studyingDomainIds.contains(domain.id()))
                 .map(this::toDomainResponse)
                 .toList();
     }
 
     public List<CsMyDomainItemResponse> getMyDomains(Long userId) {
-        getUser(userId);
+        requireUserId(userId);
 
-        Integer currentDomainId = csUserProfileRepository.findByUserIdWithCurrentDomain(userId)
-                .map(CsUserProfile::getCurrentDomain)
-                .map(CsDomain::getId)
-                .orElse(null);
+        CsHomeView home = csHomeViewCache.get(userId);
+        CsDomainTopology topology = csDomainTopologyCache.get();
+        Integer currentDomainId = home.currentDomainId();
 
-        return csUserDomainProgressRepository.findByUser_IdOrderByUpdatedAtDesc(userId)
+        return home.progresses()
                 .stream()
-                .map(progress -> new CsMyDomainItemResponse(
-                        toDomainResponse(progress.getDomain()),
-                        toProgressResponse(progress),
-                        currentDomainId != null && currentDomainId.equals(progress.getDomain().getId())))
+                .map(progress -> {
+                    CsCachedDomain domain = topology.findDomain(progress.domainId())
+                            .orElseThrow(() -> new BusinessException(ErrorCode.CS_DOMAIN_NOT_FOUND));
+                    return new CsMyDomainItemResponse(
+                            toDomainResponse(domain),
+                            toProgressResponse(domain, progress.currentTrackNo(), progress.currentStageNo()),
+                            currentDomainId != null && currentDomainId.equals(progress.domainId()));
+                })
                 .toList();
     }
 
@@ -158,6 +160,8 @@ public class CsDomainService {
         boolean isCurrent = profile.getCurrentDomain() != null
                 && profile.getCurrentDomain().getId().equals(domainId);
 
+        csHomeViewCache.invalidateUser(userId);
+
         return new CsDomainSubmitResponse(
                 added,
                 toDomainResponse(domain),
@@ -178,6 +182,7 @@ public class CsDomainService {
         CsUserProfile profile = getOrCreateUserProfile(userId, user);
 
         profile.updateCurrentDomain(domain);
+        csHomeViewCache.invalidateUser(userId);
 
         return new CsCurrentDomainChangeResponse(
                 toDomainResponse(domain),
@@ -198,7 +203,7 @@ public class CsDomainService {
             validateStageAccess(progress, stage);
         }
 
-        List<CsQuestion> questions = csQuestionRepository.findByStage_IdAndIsActiveTrueOrderByIdAsc(stageId);
+        List<CsCachedQuestion> questions = csQuestionBank.getStage(stageId).activeQuestions();
         if (questions.isEmpty()) {
             throw new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND, "스테이지에 등록된 문제가 없습니다.");
         }
@@ -213,10 +218,14 @@ public class CsDomainService {
                         .build()));
     }
 
-    private User getUser(Long userId) {
+    private void requireUserId(Long userId) {
         if (userId == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
+    }
+
+    private User getUser(Long userId) {
+        requireUserId(userId);
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
@@ -236,44 +245,52 @@ public class CsDomainService {
         return new CsDomainResponse(domain.getId(), domain.getName());
     }
 
+    private CsDomainResponse toDomainResponse(CsCachedDomain domain) {
+        return new CsDomainResponse(domain.id(), domain.name());
+    }
+
     private CsProgressResponse toProgressResponse(CsUserDomainProgress progress) {
-        String trackName = csDomainTrackRepository
-                .findByDomain_IdAndTrackNo(progress.getDomain().getId(), progress.getCurrentTrackNo())
-                .map(track -> track.getName())
+        CsCachedDomain domain = csDomainTopologyCache.get()
+                .findDomain(progress.getDomain().getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CS_DOMAIN_NOT_FOUND));
+        return toProgressResponse(domain, progress.getCurrentTrackNo(), progress.getCurrentStageNo());
+    }
+
+    private CsProgressResponse toProgressResponse(CsCachedDomain domain, short currentTrackNo, short currentStageNo) {
+        String trackName = domain.findTrack(currentTrackNo)
+                .map(CsCachedTrack::name)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CS_TRACK_NOT_FOUND));
 
         return new CsProgressResponse(
-                (int) progress.getCurrentTrackNo(),
+                (int) currentTrackNo,
                 trackName,
-                (int) progress.getCurrentStageNo());
+                (int) currentStageNo);
     }
 
-    private List<CsStageStatusResponse> toStageStatusResponses(CsUserDomainProgress progress) {
-        Integer domainId = progress.getDomain().getId();
-        short currentTrackNo = progress.getCurrentTrackNo();
-        short currentStageNo = progress.getCurrentStageNo();
+    private List<CsStageStatusResponse> toStageStatusResponses(CsCachedDomain domain, CsHomeDomainProgress progress) {
+        short currentTrackNo = progress.currentTrackNo();
+        short currentStageNo = progress.currentStageNo();
 
-        List<CsDomainTrack> tracks = csDomainTrackRepository
-                .findByDomain_IdOrderByTrackNoAsc(domainId)
+        List<CsCachedTrack> tracks = domain.tracks()
                 .stream()
-                .filter(t -> t.getTrackNo() <= currentTrackNo + 1)
+                .filter(t -> t.trackNo() <= currentTrackNo + 1)
                 .toList();
 
         List<CsStageStatusResponse> responses = new ArrayList<>();
 
-        for (CsDomainTrack track : tracks) {
-            List<CsStage> stages = csStageRepository.findByTrack_IdOrderByStageNoAsc(track.getId());
+        for (CsCachedTrack track : tracks) {
+            List<CsCachedStage> stages = track.stages();
             if (stages.isEmpty()) continue;
 
-            short trackNo = track.getTrackNo();
-            String trackName = track.getName();
+            short trackNo = track.trackNo();
+            String trackName = track.name();
 
             if (trackNo == currentTrackNo + 1) {
                 // Next track: just show the first stage as locked
-                CsStage firstStage = stages.get(0);
+                CsCachedStage firstStage = stages.get(0);
                 responses.add(new CsStageStatusResponse(
-                        firstStage.getId(),
-                        (int) firstStage.getStageNo(),
+                        firstStage.id(),
+                        (int) firstStage.stageNo(),
                         (int) trackNo,
                         trackName,
                         CsStageStatus.LOCKED,
@@ -281,12 +298,12 @@ public class CsDomainService {
                 continue;
             }
 
-            for (CsStage stage : stages) {
-                short stageNo = stage.getStageNo();
+            for (CsCachedStage stage : stages) {
+                short stageNo = stage.stageNo();
 
                 if (trackNo < currentTrackNo) {
                     responses.add(new CsStageStatusResponse(
-                            stage.getId(),
+                            stage.id(),
                             (int) stageNo,
                             (int) trackNo,
                             trackName,
@@ -295,7 +312,7 @@ public class CsDomainService {
                 } else {
                     if (stageNo < currentStageNo) {
                         responses.add(new CsStageStatusResponse(
-                                stage.getId(),
+                                stage.id(),
                                 (int) stageNo,
                                 (int) trackNo,
                                 trackName,
@@ -303,7 +320,7 @@ public class CsDomainService {
                                 null));
                     } else if (stageNo == currentStageNo) {
                         responses.add(new CsStageStatusResponse(
-                                stage.getId(),
+                                stage.id(),
                                 (int) stageNo,
                                 (int) trackNo,
                                 trackName,
@@ -311,7 +328,7 @@ public class CsDomainService {
                                 null));
                     } else {
                         responses.add(new CsStageStatusResponse(
-                                stage.getId(),
+                                stage.id(),
                                 (int) stageNo,
                                 (int) trackNo,
                                 trackName,
@@ -339,26 +356,25 @@ public class CsDomainService {
         }
     }
 
-    private CsQuestionPayloadResponse toQuestionPayload(CsQuestion question) {
-        List<CsQuestionChoiceResponse> choices = switch (question.getQuestionType()) {
-            case MULTIPLE_CHOICE, OX -> csQuestionChoiceRepository
-                    .findByQuestion_IdOrderByChoiceNoAsc(question.getId())
+    private CsQuestionPayloadResponse toQuestionPayload(CsCachedQuestion question) {
+        List<CsQuestionChoiceResponse> choices = switch (question.questionType()) {
+            case MULTIPLE_CHOICE, OX -> question.choices()
                     .stream()
                     .map(choice -> new CsQuestionChoiceResponse(
-                            (int) choice.getChoiceNo(),
-                            choice.getContent()))
+                            (int) choice.choiceNo(),
+                            choice.content()))
                     .toList();
             default -> List.of();
         };
 
         return new CsQuestionPayloadResponse(
-                question.getId(),
-                question.getQuestionType(),
-                question.getPrompt(),
-                question.getContentMode(),
-                question.getContentBlocks(),
-                question.getGradingMode(),
-                question.getMetadata(),
+                question.id(),
+                question.questionType(),
+                question.prompt(),
+                question.contentMode(),
+                question.contentBlocks(),
+                question.gradingMode(),
+                question.metadata(),
                 choices.isEmpty() ? null : choices);
     }
 }
@@ -20,6 +20,7 @@ import com.peekle.domain.cs.enums.CsWrongProblemStatus;
 import com.peekle.domain.cs.repository.CsQuestionChoiceRepository;
 import com.peekle.domain.cs.repository.CsQuestionRepository;
 import com.peekle.domain.cs.repository.CsQuestionShortAnswerRepository;
+import com.peekle.domain.cs.repository.CsWrongProblemJdbcRepository;
 import com.peekle.domain.cs.repository.CsWrongProblemRepository;
 import com.peekle.domain.cs.service.store.CsWrongReviewSession;
 import com.peekle.domain.cs.service.store.CsWrongReviewStore;
@@ -65,6 +66,7 @@ public class CsWrongProblemService {
     private final CsQuestionRepository csQuestionRepository;
     private final CsQuestionChoiceRepository csQuestionChoiceRepository;
     private final CsQuestionShortAnswerRepository csQuestionShortAnswerRepository;
+    private final CsWrongProblemJdbcRepository csWrongProblemJdbcRepository;
     private final CsWrongReviewStore csWrongReviewStore;
     private final UserRepository userRepository;
 
@@ -159,7 +161,7 @@ public class CsWrongProblemService {
             Long userId,
             String reviewId,
             CsWrongReviewAnswerRequest request) {
-        User user = getUser(userId);
+        getUser(userId);
         CsWrongReviewSession session = getReviewSession(userId, reviewId);
 
         if (Boolean.TRUE.equals(session.getCompleted())) {
@@ -183,8 +185,9 @@ public class CsWrongProblemService {
         GradingResult gradingResult = gradeAnswer(question, request.selectedChoiceNo(), request.answerText());
         boolean isCorrect = gradingResult.isCorrect();
 
-        applyWrongProblemState(user, question, session, isCorrect);
-
+        // 오답 상태는 답안마다 바로 DB 에 반영한다 (세션이 만료되거나 완료하지 않고 떠나도 유실되지 않도록)
+        int clearedCount = settleWrongProblems(userId, Map.of(question.getId(), isCorrect));
+        session.setClearedCount(safeInt(session.getClearedCount()) + clearedCount);
         if (isCorrect) {
             session.setCorrectCount(safeInt(session.getCorrectCount()) + 1);
         }
@@ -202,7 +205,7 @@ public class CsWrongProblemService {
         }
 
         session.setUpdatedAt(LocalDateTime.now());
-        csWrongReviewStore.save(session);
+        csWrongReviewStore.saveProgress(session);
 
         boolean isLast = Boolean.TRUE.equals(session.getCompleted());
         CsQuestionPayloadResponse nextQuestion = null;
@@ -264,42 +267,86 @@ public class CsWrongProblemService {
                 remainedActiveCount);
     }
 
-    private void applyWrongProblemState(
-            User user,
-            CsQuestion question,
-            CsWrongReviewSession session,
-            boolean isCorrect) {
-        CsWrongProblem wrongProblem = csWrongProblemRepository
-                .findByUser_IdAndQuestion_Id(user.getId(), question.getId())
-                .orElseGet(() -> buildNewWrongProblem(user, question));
+    /**
+     * 복습 채점 결과를 오답 노트에 반영한다.
+     * 문항별 상태는 현재 레코드 기준으로 계산하고, 한 번의 batch upsert 로 보낸다.
+     * @return 이번 반영으로 새로 해결(CLEARED)된 문항 수
+     */
+    private int settleWrongProblems(Long userId, Map<Long, Boolean> latestCorrectByQuestionId) {
+        if (latestCorrectByQuestionId.isEmpty()) {
+            return 0;
+        }
 
-        if (isCorrect) {
-            CsWrongProblemStatus beforeStatus = wrongProblem.getStatus();
-            wrongProblem.increaseWrongCount();
-            wrongProblem.markCorrectReview(CLEAR_THRESHOLD);
-            if (beforeStatus != CsWrongProblemStatus.CLEARED
-                    && wrongProblem.getStatus() == CsWrongProblemStatus.CLEARED) {
-                session.setClearedCount(safeInt(session.getClearedCount()) + 1);
-            }
-        } else {
-            wrongProblem.markWrong();
+        List<Long> questionIds = new ArrayList<>(latestCorrectByQuestionId.keySet());
+        Map<Long, CsWrongProblemRepository.WrongProblemStateProjection> stateByQuestionId = new HashMap<>();
+        for (CsWrongProblemRepository.WrongProblemStateProjection row : csWrongProblemRepository
+                .findStatesByUserAndQuestionIds(userId, questionIds)) {
+            stateByQuestionId.put(row.getQuestionId(), row);
         }
 
-        csWrongProblemRepository.save(wrongProblem);
-    }
+        Map<Long, Integer> domainIdByQuestionId = new HashMap<>();
+        for (CsQuestionRepository.QuestionDomainProjection row : csQuestionRepository
+                .findDomainIdsByQuestionIds(questionIds)) {
+            domainIdByQuestionId.put(row.getQuestionId(), row.getDomainId());
+        }
 
-    private CsWrongProblem buildNewWrongProblem(User user, CsQuestion question) {
         LocalDateTime now = LocalDateTime.now();
-        return CsWrongProblem.builder()
-                .user(user)
-                .question(question)
-                .domain(question.getStage().getTrack().getDomain())
-                .status(CsWrongProblemStatus.ACTIVE)
-                .wrongCount(0)
-                .reviewCorrectCount(0)
-                .lastWrongAt(now)
-                .updatedAt(now)
-                .build();
+        int clearedCount = 0;
+        List<CsWrongProblemJdbcRepository.WrongProblemWrite> writes = new ArrayList<>();
+
+        for (Long questionId : questionIds) {
+            boolean isCorrect = Boolean.TRUE.equals(latestCorrectByQuestionId.get(questionId));
+            CsWrongProblemRepository.WrongProblemStateProjection state = stateByQuestionId.get(questionId);
+
+            Integer domainId = domainIdByQuestionId.get(questionId);
+            if (domainId == null) {
+                throw new BusinessException(ErrorCode.CS_QUESTION_NOT_FOUND);
+            }
+
+            CsWrongProblemStatus beforeStatus = state == null ? CsWrongProblemStatus.ACTIVE : state.getStatus();
+            CsWrongProblemStatus status;
+            int reviewCorrectCount;
+            LocalDateTime lastWrongAt;
+            LocalDateTime clearedAt;
+
+            if (!isCorrect) {
+                // markWrong 과 동일
+                status = CsWrongProblemStatus.ACTIVE;
+                reviewCorrectCount = 0;
+                lastWrongAt = now;
+                clearedAt = null;
+            } else if (beforeStatus == CsWrongProblemStatus.CLEARED) {
+                // 이미 해결된 문제는 updatedAt 만 갱신한다.
+                status = CsWrongProblemStatus.CLEARED;
+                reviewCorrectCount = safeInt(state.getReviewCorrectCount());
+                lastWrongAt = state.getLastWrongAt();
+                clearedAt = state.getClearedAt();
+            } else {
+                // markCorrectReview 와 동일
+                reviewCorrectCount = (state == null ? 0 : safeInt(state.getReviewCorrectCount())) + 1;
+                boolean cleared = reviewCorrectCount >= CLEAR_THRESHOLD;
+                status = cleared ? CsWrongProblemStatus.CLEARED : CsWrongProblemStatus.ACTIVE;
+                lastWrongAt = state == null ? now : state.getLastWrongAt();
+                clearedAt = cleared ? now : (state == null ? null : state.getClearedAt());
+                if (cleared) {
+                    clearedCount++;
+                }
+            }
+
+            // 정답/오답 모두 기존과 동일하게 wrong_count 를 1 증가시킨다.
+            writes.add(new CsWrongProblemJdbcRepository.WrongProblemWrite(
+                    questionId,
+                    domainId,
+                    1,
+                    status,
+                    reviewCorrectCount,
+                    lastWrongAt,
+                    clearedAt,
+                    now));
+        }
+
+        csWrongProblemJdbcRepository.batchUpsert(userId, writes);
+        return clearedCount;
     }
 
     private CsWrongReviewSession getReviewSession(Long userId, String reviewId) {
@@ -0,0 +1,27 @@
+package com.peekle.domain.cs.service.bank;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class CsAnswerNormalizer {
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern NON_LETTER_OR_DIGIT_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private CsAnswerNormalizer() {
+    }
+
+    public static String normalizeStrict(String input) {
+        if (input == null) {
+            return "";
+        }
+        return WHITESPACE_PATTERN.matcher(input.strip().toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    public static String normalizeRelaxed(String input) {
+        if (input == null || input.isBlank()) {
+            return "";
+        }
+        return NON_LETTER_OR_DIGIT_PATTERN.matcher(input).replaceAll("");
+    }
+}
@@ -0,0 +1,7 @@
+package com.peekle.domain.cs.service.bank;
+
+public record CsCachedChoice(
+        short choiceNo,
+        String content,
+        boolean isAnswer) {
+}
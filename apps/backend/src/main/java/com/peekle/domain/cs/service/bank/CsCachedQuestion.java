@@ -0,0 +1,30 @@
+package com.peekle.domain.cs.service.bank;
+
+import com.peekle.domain.cs.enums.CsQuestionContentMode;
+import com.peekle.domain.cs.enums.CsQuestionGradingMode;
+import com.peekle.domain.cs.enums.CsQuestionType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 문제 은행 캐시에 올라가는 불변 문제 스냅샷.
+ * choices 는 choiceNo 오름차순, shortAnswers 는 blankIndex 오름차순 → primary 우선 → id 오름차순으로 정렬되어 있다.
+ * strictAnswers / relaxedAnswers 는 단일 빈칸 단답형 채점용으로 미리 정규화한 정답 후보 집합이다.
+ */
+public record CsCachedQuestion(
+        Long id,
+        Long stageId,
+        CsQuestionType questionType,
+        String prompt,
+        String explanation,
+        CsQuestionContentMode contentMode,
+        String contentBlocks,
+        CsQuestionGradingMode gradingMode,
+        String metadata,
+        boolean active,
+        List<CsCachedChoice> choices,
+        List<CsCachedShortAnswer> shortAnswers,
+        Set<String> strictAnswers,
+        Set<String> relaxedAnswers) {
+}
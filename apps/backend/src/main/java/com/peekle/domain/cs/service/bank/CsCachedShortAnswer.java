@@ -0,0 +1,9 @@
+package com.peekle.domain.cs.service.bank;
+
+public record CsCachedShortAnswer(
+        Long id,
+        String answerText,
+        String normalizedAnswer,
+        short blankIndex,
+        boolean isPrimary) {
+}
@@ -0,0 +1,218 @@
+package com.peekle.domain.cs.service.bank;
+
+import com.peekle.domain.cs.entity.CsQuestion;
+import com.peekle.domain.cs.entity.CsQuestionChoice;
+import com.peekle.domain.cs.entity.CsQuestionShortAnswer;
+import com.peekle.domain.cs.repository.CsQuestionChoiceRepository;
+import com.peekle.domain.cs.repository.CsQuestionRepository;
+import com.peekle.domain.cs.repository.CsQuestionShortAnswerRepository;
+import com.peekle.global.redis.RedisKeyConst;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스테이지 단위 CS 문제 은행 인메모리 캐시.
+ * 최초 조회 시 스테이지의 문제/선택지/단답 정답을 한 번에 적재하고, 관리자 편집 시 pub/sub 으로 전 노드에서 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsQuestionBank {
+
+    public static final String INVALIDATE_ALL = "*";
+
+    private static final String METRIC_HIT = "cs.question_bank.hit";
+    private static final String METRIC_MISS = "cs.question_bank.miss";
+    private static final String METRIC_EVICT = "cs.question_bank.evict";
+
+    private final ConcurrentMap<Long, CsStageQuestionBank> banks = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final CsQuestionRepository csQuestionRepository;
+    private final CsQuestionChoiceRepository csQuestionChoiceRepository;
+    private final CsQuestionShortAnswerRepository csQuestionShortAnswerRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public CsStageQuestionBank getStage(Long stageId) {
+        CsStageQuestionBank cached = banks.get(stageId);
+        if (cached != null) {
+            meterRegistry.counter(METRIC_HIT).increment();
+            return cached;
+        }
+
+        meterRegistry.counter(METRIC_MISS).increment();
+        long loadVersion = version.get();
+        CsStageQuestionBank loaded = load(stageId, loadVersion);
+
+        CsStageQuestionBank existing = banks.putIfAbsent(stageId, loaded);
+        // 적재 도중 무효화가 발생했다면 오래된 스냅샷이 남지 않도록 즉시 제거한다.
+        if (version.get() != loadVersion) {
+            banks.remove(stageId, loaded);
+        }
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 스테이지 캐시를 무효화한다. 트랜잭션 안이라면 커밋 이후 한 번 더 무효화하고 다른 노드에 전파한다.
+     */
+    public void invalidateStage(Long stageId) {
+        if (stageId == null) {
+            return;
+        }
+        invalidate(String.valueOf(stageId));
+    }
+
+    public void invalidateAll() {
+        invalidate(INVALIDATE_ALL);
+    }
+
+    /**
+     * pub/sub 으로 수신한 무효화 메시지를 로컬 캐시에만 반영한다.
+     */
+    public void evictLocal(String target) {
+        version.incrementAndGet();
+        if (INVALIDATE_ALL.equals(target)) {
+            banks.clear();
+        } else {
+            try {
+                banks.remove(Long.parseLong(target));
+            } catch (NumberFormatException e) {
+                log.warn("[CS Question Bank] Ignored invalid invalidation target: {}", target);
+                return;
+            }
+        }
+        meterRegistry.counter(METRIC_EVICT).increment();
+    }
+
+    private void invalidate(String target) {
+        evictLocal(target);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishInvalidation(target);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictLocal(target);
+                publishInvalidation(target);
+            }
+        });
+    }
+
+    private void publishInvalidation(String target) {
+        try {
+            stringRedisTemplate.convertAndSend(RedisKeyConst.TOPIC_CS_QUESTION_BANK_INVALIDATE, target);
+        } catch (Exception e) {
+            log.warn("[CS Question Bank] Failed to publish invalidation for {}: {}", target, e.getMessage());
+        }
+    }
+
+    private CsStageQuestionBank load(Long stageId, long loadVersion) {
+        List<CsQuestion> questions = csQuestionRepository.findByStage_IdOrderByIdAsc(stageId);
+        if (questions.isEmpty()) {
+            return new CsStageQuestionBank(stageId, loadVersion, List.of(), Map.of());
+        }
+
+        List<Long> questionIds = questions.stream()
+                .map(CsQuestion::getId)
+                .toList();
+
+        Map<Long, List<CsCachedChoice>> choicesByQuestionId = new HashMap<>();
+        for (CsQuestionChoice choice : csQuestionChoiceRepository
+                .findByQuestion_IdInOrderByQuestion_IdAscChoiceNoAsc(questionIds)) {
+            choicesByQuestionId.computeIfAbsent(choice.getQuestion().getId(), key -> new ArrayList<>())
+                    .add(new CsCachedChoice(
+                            choice.getChoiceNo(),
+                            choice.getContent(),
+                            Boolean.TRUE.equals(choice.getIsAnswer())));
+        }
+
+        Map<Long, List<CsCachedShortAnswer>> answersByQuestionId = new HashMap<>();
+        for (CsQuestionShortAnswer answer : csQuestionShortAnswerRepository
+                .findByQuestion_IdInOrderByQuestion_IdAscBlankIndexAscIsPrimaryDescIdAsc(questionIds)) {
+            answersByQuestionId.computeIfAbsent(answer.getQuestion().getId(), key -> new ArrayList<>())
+                    .add(new CsCachedShortAnswer(
+                            answer.getId(),
+                            answer.getAnswerText(),
+                            answer.getNormalizedAnswer(),
+                            answer.getBlankIndex() == null ? 1 : answer.getBlankIndex(),
+                            Boolean.TRUE.equals(answer.getIsPrimary())));
+        }
+
+        Map<Long, CsCachedQuestion> questionsById = new LinkedHashMap<>();
+        List<CsCachedQuestion> activeQuestions = new ArrayList<>();
+        for (CsQuestion question : questions) {
+            List<CsCachedShortAnswer> shortAnswers = List.copyOf(
+                    answersByQuestionId.getOrDefault(question.getId(), List.of()));
+
+            Set<String> strictAnswers = new HashSet<>();
+            Set<String> relaxedAnswers = new HashSet<>();
+            for (CsCachedShortAnswer shortAnswer : shortAnswers) {
+                addNormalizedCandidate(strictAnswers, relaxedAnswers, shortAnswer.normalizedAnswer());
+                addNormalizedCandidate(strictAnswers, relaxedAnswers, shortAnswer.answerText());
+            }
+
+            boolean active = Boolean.TRUE.equals(question.getIsActive());
+            CsCachedQuestion cachedQuestion = new CsCachedQuestion(
+                    question.getId(),
+                    stageId,
+                    question.getQuestionType(),
+                    question.getPrompt(),
+                    question.getExplanation(),
+                    question.getContentMode(),
+                    question.getContentBlocks(),
+                    question.getGradingMode(),
+                    question.getMetadata(),
+                    active,
+                    List.copyOf(choicesByQuestionId.getOrDefault(question.getId(), List.of())),
+                    shortAnswers,
+                    Set.copyOf(strictAnswers),
+                    Set.copyOf(relaxedAnswers));
+
+            questionsById.put(question.getId(), cachedQuestion);
+            if (active) {
+                activeQuestions.add(cachedQuestion);
+            }
+        }
+
+        return new CsStageQuestionBank(
+                stageId,
+                loadVersion,
+                List.copyOf(activeQuestions),
+                Collections.unmodifiableMap(questionsById));
+    }
+
+    private void addNormalizedCandidate(Set<String> strictAnswers, Set<String> relaxedAnswers, String candidate) {
+        String strictCandidate = CsAnswerNormalizer.normalizeStrict(candidate);
+        if (strictCandidate.isBlank()) {
+            return;
+        }
+
+        strictAnswers.add(strictCandidate);
+
+        String relaxedCandidate = CsAnswerNormalizer.normalizeRelaxed(strictCandidate);
+        if (!relaxedCandidate.isBlank()) {
+            relaxedAnswers.add(relaxedCandidate);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.peekle.domain.cs.service.bank;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@RequiredArgsConstructor
+public class CsQuestionBankInvalidationListener implements MessageListener {
+
+    private final CsQuestionBank csQuestionBank;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String target = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        if (target.isEmpty()) {
+            return;
+        }
+        csQuestionBank.evictLocal(target);
+    }
+}
@@ -0,0 +1,19 @@
+package com.peekle.domain.cs.service.bank;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 한 스테이지의 문제 은행 스냅샷. version 은 스냅샷을 적재할 때의 캐시 무효화 버전이다.
+ */
+public record CsStageQuestionBank(
+        Long stageId,
+        long version,
+        List<CsCachedQuestion> activeQuestions,
+        Map<Long, CsCachedQuestion> questionsById) {
+
+    public Optional<CsCachedQuestion> findQuestion(Long questionId) {
+        return Optional.ofNullable(questionsById.get(questionId));
+    }
+}
@@ -0,0 +1,7 @@
+package com.peekle.domain.cs.service.home;
+
+public record CsHomeDomainProgress(
+        Integer domainId,
+        short currentTrackNo,
+        short currentStageNo) {
+}
@@ -0,0 +1,31 @@
+package com.peekle.domain.cs.service.home;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 CS 홈 상태. progresses 는 최근 학습 순(updatedAt 내림차순)이다.
+ * generation 은 전역 무효화 세대, epoch 는 사용자 단위 무효화 세대로, 조회 시점 값과 다르면 다시 적재한다.
+ */
+public record CsHomeView(
+        long generation,
+        long epoch,
+        Integer currentDomainId,
+        List<CsHomeDomainProgress> progresses) {
+
+    /**
+     * 선택된 현재 도메인이 없으면 가장 최근에 학습한 도메인을 사용한다.
+     */
+    public Integer resolveCurrentDomainId() {
+        if (currentDomainId != null) {
+            return currentDomainId;
+        }
+        return progresses.isEmpty() ? null : progresses.get(0).domainId();
+    }
+
+    public Optional<CsHomeDomainProgress> findProgress(Integer domainId) {
+        return progresses.stream()
+                .filter(progress -> progress.domainId().equals(domainId))
+                .findFirst();
+    }
+}
@@ -0,0 +1,97 @@
+package com.peekle.domain.cs.service.home;
+
+import com.peekle.domain.cs.entity.CsDomain;
+import com.peekle.domain.cs.entity.CsUserProfile;
+import com.peekle.domain.cs.repository.CsUserDomainProgressRepository;
+import com.peekle.domain.cs.repository.CsUserProfileRepository;
+import com.peekle.domain.cs.service.store.CsHomeViewStore;
+import com.peekle.domain.user.repository.UserRepository;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 사용자별 CS 홈 상태(현재 도메인, 도메인별 진행도) 캐시.
+ * 풀이 완료, 도메인 추가/변경, 트랙 스킵 시 사용자 단위로, 관리자 구조 편집 시 전역으로 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CsHomeViewCache {
+
+    private static final String METRIC_HIT = "cs.home_view.hit";
+    private static final String METRIC_MISS = "cs.home_view.miss";
+
+    private final CsHomeViewStore csHomeViewStore;
+    private final CsUserDomainProgressRepository csUserDomainProgressRepository;
+    private final CsUserProfileRepository csUserProfileRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    public CsHomeView get(Long userId) {
+        CsHomeViewLookup lookup = csHomeViewStore.find(userId);
+        if (lookup.isFresh()) {
+            meterRegistry.counter(METRIC_HIT).increment();
+            return lookup.view();
+        }
+
+        meterRegistry.counter(METRIC_MISS).increment();
+        CsHomeView loaded = load(userId, lookup.generation(), lookup.epoch());
+        runAfterCommit(() -> csHomeViewStore.save(userId, loaded));
+        return loaded;
+    }
+
+    public void invalidateUser(Long userId) {
+        csHomeViewStore.bumpEpoch(userId);
+        runAfterCommit(() -> csHomeViewStore.bumpEpoch(userId));
+    }
+
+    public void invalidateAllUsers() {
+        csHomeViewStore.bumpGeneration();
+        runAfterCommit(csHomeViewStore::bumpGeneration);
+    }
+
+    private CsHomeView load(Long userId, long generation, long epoch) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        Integer currentDomainId = csUserProfileRepository.findByUserIdWithCurrentDomain(userId)
+                .map(CsUserProfile::getCurrentDomain)
+                .map(CsDomain::getId)
+                .orElse(null);
+
+        List<CsHomeDomainProgress> progresses = csUserDomainProgressRepository
+                .findByUser_IdOrderByUpdatedAtDesc(userId)
+                .stream()
+                .map(progress -> new CsHomeDomainProgress(
+                        progress.getDomain().getId(),
+                        progress.getCurrentTrackNo(),
+                        progress.getCurrentStageNo()))
+                .toList();
+
+        return new CsHomeView(generation, epoch, currentDomainId, progresses);
+    }
+
+    /**
+     * 트랜잭션 안이라면 커밋 이후에 실행하여, 롤백될 상태가 캐시에 남거나 커밋 전에 다른 요청이 옛 값을 다시 적재하지 않도록 한다.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.peekle.domain.cs.service.home;
+
+/**
+ * 저장소에서 한 번에 읽어온 현재 세대 값과 캐시된 뷰. 뷰가 없으면 view 는 null 이다.
+ */
+public record CsHomeViewLookup(
+        long generation,
+        long epoch,
+        CsHomeView view) {
+
+    public boolean isFresh() {
+        return view != null && view.generation() == generation && view.epoch() == epoch;
+    }
+}
@@ -5,6 +5,13 @@ import java.util.Optional;
 public interface CsAttemptStore {
     void save(CsAttemptSession session);
 
+    /**
+     * 문제 순서 등 시작 시 고정되는 값은 그대로 두고, 답안 제출로 바뀌는 진행 상태만 저장한다.
+     */
+    default void saveProgress(CsAttemptSession session) {
+        save(session);
+    }
+
     Optional<CsAttemptSession> find(Long userId, Long stageId);
 
     void delete(Long userId, Long stageId);
@@ -0,0 +1,20 @@
+package com.peekle.domain.cs.service.store;
+
+import com.peekle.domain.cs.service.home.CsHomeView;
+import com.peekle.domain.cs.service.home.CsHomeViewLookup;
+
+public interface CsHomeViewStore {
+    CsHomeViewLookup find(Long userId);
+
+    void save(Long userId, CsHomeView view);
+
+    /**
+     * 사용자 단위 세대를 올려 이전에 저장된 뷰를 모두 무효화한다.
+     */
+    void bumpEpoch(Long userId);
+
+    /**
+     * 전역 세대를 올려 모든 사용자의 뷰를 무효화한다.
+     */
+    void bumpGeneration();
+}
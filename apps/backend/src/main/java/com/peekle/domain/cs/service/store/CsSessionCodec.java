@@ -0,0 +1,554 @@
+package com.peekle.domain.cs.service.store;
+
+import com.peekle.domain.cs.enums.CsAttemptPhase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CS 풀이/오답 복습 세션의 Redis 저장용 바이너리 코덱.
+ * <p>
+ * 세션은 거의 바뀌지 않는 meta 세그먼트(식별자, 문제 순서, 시작 시각)와 답안 제출마다 바뀌는 state 세그먼트로 나뉜다.
+ * 문항별 상태는 questionOrder 인덱스 기준의 비트셋/카운트 배열로 기록하므로 세그먼트 크기가 문항 수에 선형으로 작게 유지된다.
+ * 각 세그먼트는 포맷 버전 바이트로 시작하며, 버전이 맞지 않으면 {@link IllegalArgumentException} 을 던진다.
+ */
+public final class CsSessionCodec {
+
+    static final byte ATTEMPT_META_VERSION = 1;
+    static final byte ATTEMPT_STATE_VERSION = 1;
+    static final byte REVIEW_META_VERSION = 1;
+    static final byte REVIEW_STATE_VERSION = 1;
+
+    private static final CsAttemptPhase[] PHASES = CsAttemptPhase.values();
+
+    private CsSessionCodec() {
+    }
+
+    // ===== Attempt =====
+
+    public static byte[] encodeAttempt(CsAttemptSession session) {
+        List<Long> order = orderOf(session.getQuestionOrder());
+        Writer writer = new Writer(attemptMetaSize(order) + attemptStateSize(order.size()));
+        writeAttemptMeta(writer, session, order);
+        writeAttemptState(writer, session, order);
+        return writer.toByteArray();
+    }
+
+    public static CsAttemptSession decodeAttempt(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        CsAttemptSession session = readAttemptMeta(reader);
+        readAttemptState(reader, session);
+        return session;
+    }
+
+    public static byte[] encodeAttemptMeta(CsAttemptSession session) {
+        List<Long> order = orderOf(session.getQuestionOrder());
+        Writer writer = new Writer(attemptMetaSize(order));
+        writeAttemptMeta(writer, session, order);
+        return writer.toByteArray();
+    }
+
+    public static byte[] encodeAttemptState(CsAttemptSession session) {
+        List<Long> order = orderOf(session.getQuestionOrder());
+        Writer writer = new Writer(attemptStateSize(order.size()));
+        writeAttemptState(writer, session, order);
+        return writer.toByteArray();
+    }
+
+    public static CsAttemptSession decodeAttempt(byte[] meta, byte[] state) {
+        CsAttemptSession session = readAttemptMeta(new Reader(meta));
+        readAttemptState(new Reader(state), session);
+        return session;
+    }
+
+    private static void writeAttemptMeta(Writer writer, CsAttemptSession session, List<Long> order) {
+        writer.writeByte(ATTEMPT_META_VERSION);
+        writer.writeNullableLong(session.getUserId());
+        writer.writeNullableLong(session.getStageId());
+        writer.writeNullableInt(session.getDomainId());
+        writer.writeDateTime(session.getStartedAt());
+        writer.writeLongList(order);
+    }
+
+    private static CsAttemptSession readAttemptMeta(Reader reader) {
+        reader.expectVersion(ATTEMPT_META_VERSION);
+        CsAttemptSession session = new CsAttemptSession();
+        session.setUserId(reader.readNullableLong());
+        session.setStageId(reader.readNullableLong());
+        session.setDomainId(reader.readNullableInt());
+        session.setStartedAt(reader.readDateTime());
+        session.setQuestionOrder(reader.readLongList());
+        return session;
+    }
+
+    private static void writeAttemptState(Writer writer, CsAttemptSession session, List<Long> order) {
+        int size = order.size();
+        Map<Long, Integer> indexById = indexOf(order);
+
+        writer.writeByte(ATTEMPT_STATE_VERSION);
+        writer.writeVarInt(session.getPhase() == null ? 0 : session.getPhase().ordinal() + 1);
+        writer.writeNullableInt(session.getRetryRound());
+        writer.writeNullableInt(session.getCurrentRoundIndex());
+        writer.writeNullableInt(session.getFirstPassCorrectCount());
+        writer.writeDateTime(session.getUpdatedAt());
+
+        List<Long> currentRound = session.getCurrentRoundQuestionIds() == null
+                ? List.of()
+                : session.getCurrentRoundQuestionIds();
+        writer.writeVarInt(currentRound.size());
+        for (Long questionId : currentRound) {
+            writer.writeVarInt(requireIndex(indexById, questionId));
+        }
+
+        byte[] firstPassWrong = new byte[bitsetLength(size)];
+        if (session.getFirstPassWrongQuestionIds() != null) {
+            for (Long questionId : session.getFirstPassWrongQuestionIds()) {
+                setBit(firstPassWrong, requireIndex(indexById, questionId));
+            }
+        }
+        writer.writeBytes(firstPassWrong);
+
+        writeLatestCorrect(writer, session.getLatestCorrectByQuestionId(), indexById, size);
+
+        int[] wrongCounts = new int[size];
+        if (session.getWrongAttemptCountByQuestionId() != null) {
+            for (Map.Entry<Long, Integer> entry : session.getWrongAttemptCountByQuestionId().entrySet()) {
+                wrongCounts[requireIndex(indexById, entry.getKey())] = entry.getValue() == null ? 0 : entry.getValue();
+            }
+        }
+        for (int wrongCount : wrongCounts) {
+            writer.writeVarInt(wrongCount);
+        }
+    }
+
+    private static void readAttemptState(Reader reader, CsAttemptSession session) {
+        List<Long> order = session.getQuestionOrder();
+        int size = order.size();
+
+        reader.expectVersion(ATTEMPT_STATE_VERSION);
+        int phase = reader.readVarInt();
+        session.setPhase(phase == 0 ? null : PHASES[phase - 1]);
+        session.setRetryRound(reader.readNullableInt());
+        session.setCurrentRoundIndex(reader.readNullableInt());
+        session.setFirstPassCorrectCount(reader.readNullableInt());
+        session.setUpdatedAt(reader.readDateTime());
+
+        int currentRoundSize = reader.readVarInt();
+        List<Long> currentRound = new ArrayList<>(currentRoundSize);
+        for (int i = 0; i < currentRoundSize; i++) {
+            currentRound.add(order.get(reader.readVarInt()));
+        }
+        session.setCurrentRoundQuestionIds(currentRound);
+
+        byte[] firstPassWrong = reader.readBytes(bitsetLength(size));
+        Set<Long> firstPassWrongIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (isBitSet(firstPassWrong, i)) {
+                firstPassWrongIds.add(order.get(i));
+            }
+        }
+        session.setFirstPassWrongQuestionIds(firstPassWrongIds);
+
+        session.setLatestCorrectByQuestionId(readLatestCorrect(reader, order));
+
+        Map<Long, Integer> wrongCounts = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            int wrongCount = reader.readVarInt();
+            if (wrongCount > 0) {
+                wrongCounts.put(order.get(i), wrongCount);
+            }
+        }
+        session.setWrongAttemptCountByQuestionId(wrongCounts);
+    }
+
+    private static int attemptMetaSize(List<Long> order) {
+        return 1 + 10 + 10 + 5 + 15 + 5 + order.size() * 10;
+    }
+
+    private static int attemptStateSize(int size) {
+        return 1 + 1 + 5 + 5 + 5 + 15 + 5 + size * 5 + bitsetLength(size) * 3 + size * 5;
+    }
+
+    // ===== Wrong review =====
+
+    public static byte[] encodeReview(CsWrongReviewSession session) {
+        List<Long> order = orderOf(session.getQuestionOrder());
+        Writer writer = new Writer(reviewMetaSize(session, order) + reviewStateSize(order.size()));
+        writeReviewMeta(writer, session, order);
+        writeReviewState(writer, session, order);
+        return writer.toByteArray();
+    }
+
+    public static CsWrongReviewSession decodeReview(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        CsWrongReviewSession session = readReviewMeta(reader);
+        readReviewState(reader, session);
+        return session;
+    }
+
+    public static byte[] encodeReviewMeta(CsWrongReviewSession session) {
+        List<Long> order = orderOf(session.getQuestionOrder());
+        Writer writer = new Writer(reviewMetaSize(session, order));
+        writeReviewMeta(writer, session, order);
+        return writer.toByteArray();
+    }
+
+    public static byte[] encodeReviewState(CsWrongReviewSession session) {
+        List<Long> order = orderOf(session.getQuestionOrder());
+        Writer writer = new Writer(reviewStateSize(order.size()));
+        writeReviewState(writer, session, order);
+        return writer.toByteArray();
+    }
+
+    public static CsWrongReviewSession decodeReview(byte[] meta, byte[] state) {
+        CsWrongReviewSession session = readReviewMeta(new Reader(meta));
+        readReviewState(new Reader(state), session);
+        return session;
+    }
+
+    private static void writeReviewMeta(Writer writer, CsWrongReviewSession session, List<Long> order) {
+        writer.writeByte(REVIEW_META_VERSION);
+        writer.writeString(session.getReviewId());
+        writer.writeNullableLong(session.getUserId());
+        writer.writeNullableInt(session.getDomainId());
+        writer.writeNullableLong(session.getStageId());
+        writer.writeDateTime(session.getStartedAt());
+        writer.writeLongList(order);
+    }
+
+    private static CsWrongReviewSession readReviewMeta(Reader reader) {
+        reader.expectVersion(REVIEW_META_VERSION);
+        CsWrongReviewSession session = new CsWrongReviewSession();
+        session.setReviewId(reader.readString());
+        session.setUserId(reader.readNullableLong());
+        session.setDomainId(reader.readNullableInt());
+        session.setStageId(reader.readNullableLong());
+        session.setStartedAt(reader.readDateTime());
+        session.setQuestionOrder(reader.readLongList());
+        return session;
+    }
+
+    private static void writeReviewState(Writer writer, CsWrongReviewSession session, List<Long> order) {
+        writer.writeByte(REVIEW_STATE_VERSION);
+        writer.writeNullableInt(session.getCurrentIndex());
+        writer.writeNullableInt(session.getCorrectCount());
+        writer.writeNullableInt(session.getClearedCount());
+        writer.writeVarInt(session.getCompleted() == null ? 0 : (session.getCompleted() ? 2 : 1));
+        writer.writeDateTime(session.getUpdatedAt());
+        writeLatestCorrect(writer, session.getLatestCorrectByQuestionId(), indexOf(order), order.size());
+    }
+
+    private static void readReviewState(Reader reader, CsWrongReviewSession session) {
+        reader.expectVersion(REVIEW_STATE_VERSION);
+        session.setCurrentIndex(reader.readNullableInt());
+        session.setCorrectCount(reader.readNullableInt());
+        session.setClearedCount(reader.readNullableInt());
+        int completed = reader.readVarInt();
+        session.setCompleted(completed == 0 ? null : completed == 2);
+        session.setUpdatedAt(reader.readDateTime());
+        session.setLatestCorrectByQuestionId(readLatestCorrect(reader, session.getQuestionOrder()));
+    }
+
+    private static int reviewMetaSize(CsWrongReviewSession session, List<Long> order) {
+        int reviewIdLength = session.getReviewId() == null ? 0 : session.getReviewId().length() * 3;
+        return 1 + 5 + reviewIdLength + 10 + 5 + 10 + 15 + 5 + order.size() * 10;
+    }
+
+    private static int reviewStateSize(int size) {
+        return 1 + 5 + 5 + 5 + 1 + 15 + bitsetLength(size) * 2;
+    }
+
+    // ===== Shared =====
+
+    /**
+     * 최근 정답 여부는 (기록 여부, 정답 여부) 두 개의 비트셋으로 기록한다.
+     */
+    private static void writeLatestCorrect(
+            Writer writer,
+            Map<Long, Boolean> latestCorrectByQuestionId,
+            Map<Long, Integer> indexById,
+            int size) {
+        byte[] known = new byte[bitsetLength(size)];
+        byte[] correct = new byte[bitsetLength(size)];
+        if (latestCorrectByQuestionId != null) {
+            for (Map.Entry<Long, Boolean> entry : latestCorrectByQuestionId.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                int index = requireIndex(indexById, entry.getKey());
+                setBit(known, index);
+                if (entry.getValue()) {
+                    setBit(correct, index);
+                }
+            }
+        }
+        writer.writeBytes(known);
+        writer.writeBytes(correct);
+    }
+
+    private static Map<Long, Boolean> readLatestCorrect(Reader reader, List<Long> order) {
+        int size = order.size();
+        byte[] known = reader.readBytes(bitsetLength(size));
+        byte[] correct = reader.readBytes(bitsetLength(size));
+        Map<Long, Boolean> latestCorrect = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (isBitSet(known, i)) {
+                latestCorrect.put(order.get(i), isBitSet(correct, i));
+            }
+        }
+        return latestCorrect;
+    }
+
+    private static List<Long> orderOf(List<Long> questionOrder) {
+        return questionOrder == null ? List.of() : questionOrder;
+    }
+
+    private static Map<Long, Integer> indexOf(List<Long> order) {
+        Map<Long, Integer> indexById = new HashMap<>(order.size() * 2);
+        for (int i = 0; i < order.size(); i++) {
+            indexById.put(order.get(i), i);
+        }
+        return indexById;
+    }
+
+    private static int requireIndex(Map<Long, Integer> indexById, Long questionId) {
+        Integer index = indexById.get(questionId);
+        if (index == null) {
+            throw new IllegalArgumentException("Question " + questionId + " is not part of the session question order");
+        }
+        return index;
+    }
+
+    private static int bitsetLength(int size) {
+        return (size + 7) >>> 3;
+    }
+
+    private static void setBit(byte[] bitset, int index) {
+        bitset[index >>> 3] |= (byte) (1 << (index & 7));
+    }
+
+    private static boolean isBitSet(byte[] bitset, int index) {
+        return (bitset[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * 예상 크기로 한 번에 할당하고, 부족할 때만 늘리는 varint 기반 writer.
+     */
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        private Writer(int expectedSize) {
+            this.buffer = new byte[Math.max(expectedSize, 16)];
+        }
+
+        private void ensure(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+
+        private void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeNullableInt(Integer value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(1);
+            writeVarInt(zigZag(value));
+        }
+
+        private void writeNullableLong(Long value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(1);
+            writeVarLong(zigZag(value));
+        }
+
+        private void writeDateTime(LocalDateTime value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(1);
+            writeVarLong(zigZag(value.toEpochSecond(ZoneOffset.UTC)));
+            writeVarInt(value.getNano());
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes);
+        }
+
+        /**
+         * 문제 ID 는 정렬되어 있지 않으므로 직전 값과의 차이를 zigzag varint 로 기록한다.
+         */
+        private void writeLongList(List<Long> values) {
+            writeVarInt(values.size());
+            long previous = 0;
+            for (Long value : values) {
+                writeVarLong(zigZag(value - previous));
+                previous = value;
+            }
+        }
+
+        private byte[] toByteArray() {
+            return position == buffer.length ? buffer : Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer) {
+            if (buffer == null) {
+                throw new IllegalArgumentException("Session segment is empty");
+            }
+            this.buffer = buffer;
+        }
+
+        private void expectVersion(byte expected) {
+            byte version = readByte();
+            if (version != expected) {
+                throw new IllegalArgumentException("Unsupported session format version: " + version);
+            }
+        }
+
+        private byte readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("Truncated session segment");
+            }
+            return buffer[position++];
+        }
+
+        private byte[] readBytes(int length) {
+            if (position + length > buffer.length) {
+                throw new IllegalArgumentException("Truncated session segment");
+            }
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        private int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varlong");
+        }
+
+        private Integer readNullableInt() {
+            return readVarInt() == 0 ? null : unZigZag(readVarInt());
+        }
+
+        private Long readNullableLong() {
+            return readVarInt() == 0 ? null : unZigZag(readVarLong());
+        }
+
+        private LocalDateTime readDateTime() {
+            if (readVarInt() == 0) {
+                return null;
+            }
+            long epochSecond = unZigZag(readVarLong());
+            int nano = readVarInt();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+
+        private String readString() {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            byte[] bytes = readBytes(length - 1);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private List<Long> readLongList() {
+            int size = readVarInt();
+            List<Long> values = new ArrayList<>(size);
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                previous += unZigZag(readVarLong());
+                values.add(previous);
+            }
+            return values;
+        }
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.peekle.domain.cs.service.store;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 바이너리 세션 저장소 공통 Redis 명령. 필드 쓰기와 TTL 연장을 한 번의 파이프라인으로 보낸다.
+ */
+final class CsSessionRedisSupport {
+
+    static final String FIELD_META = "m";
+    static final String FIELD_STATE = "s";
+
+    private static final byte[] RAW_FIELD_META = FIELD_META.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_FIELD_STATE = FIELD_STATE.getBytes(StandardCharsets.UTF_8);
+
+    private CsSessionRedisSupport() {
+    }
+
+    static void writeAll(RedisTemplate<String, byte[]> redisTemplate, String key, byte[] meta, byte[] state, Duration ttl) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMSet(rawKey, Map.of(RAW_FIELD_META, meta, RAW_FIELD_STATE, state));
+            connection.keyCommands().expire(rawKey, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    static void writeState(RedisTemplate<String, byte[]> redisTemplate, String key, byte[] state, Duration ttl) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hSet(rawKey, RAW_FIELD_STATE, state);
+            connection.keyCommands().expire(rawKey, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * @return [meta, state] 순서의 세그먼트. 둘 중 하나라도 없으면 null
+     */
+    static byte[][] readAll(RedisTemplate<String, byte[]> redisTemplate, String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.hashCommands().hMGet(rawKey, RAW_FIELD_META, RAW_FIELD_STATE));
+        if (values == null || values.size() != 2 || values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+        return new byte[][]{values.get(0), values.get(1)};
+    }
+}
@@ -0,0 +1,11 @@
+package com.peekle.domain.cs.service.store;
+
+/**
+ * Redis 세션 저장 방식.
+ * VALUE: 세션 전체를 하나의 바이너리 값으로 저장한다.
+ * HASH: meta/state 세그먼트를 해시 필드로 나누어 저장하고, 답안 제출 시 state 필드만 갱신한다.
+ */
+public enum CsSessionStoreMode {
+    VALUE,
+    HASH
+}
@@ -0,0 +1,40 @@
+package com.peekle.domain.cs.service.store;
+
+import com.peekle.domain.cs.service.home.CsHomeView;
+import com.peekle.domain.cs.service.home.CsHomeViewLookup;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Profile("test")
+public class InMemoryCsHomeViewStore implements CsHomeViewStore {
+
+    private final ConcurrentMap<Long, CsHomeView> views = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> epochs = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Override
+    public CsHomeViewLookup find(Long userId) {
+        return new CsHomeViewLookup(generation.get(), epochs.getOrDefault(userId, 0L), views.get(userId));
+    }
+
+    @Override
+    public void save(Long userId, CsHomeView view) {
+        views.put(userId, view);
+    }
+
+    @Override
+    public void bumpEpoch(Long userId) {
+        epochs.merge(userId, 1L, Long::sum);
+        views.remove(userId);
+    }
+
+    @Override
+    public void bumpGeneration() {
+        generation.incrementAndGet();
+    }
+}
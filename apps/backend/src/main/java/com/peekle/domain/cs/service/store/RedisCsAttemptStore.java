@@ -1,8 +1,9 @@
 package com.peekle.domain.cs.service.store;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.peekle.global.redis.RedisKeyConst;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.util.Optional;
 
+@Slf4j
 @Component
 @Profile("!test")
 @RequiredArgsConstructor
@@ -17,35 +19,61 @@ public class RedisCsAttemptStore implements CsAttemptStore {
 
     private static final Duration ATTEMPT_TTL = Duration.ofHours(6);
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Value("${cs.session.store-mode:HASH}")
+    private CsSessionStoreMode storeMode;
 
     @Override
     public void save(CsAttemptSession session) {
-        redisTemplate.opsForValue().set(key(session.getUserId(), session.getStageId()), session, ATTEMPT_TTL);
+        String key = key(session.getUserId(), session.getStageId());
+        if (storeMode == CsSessionStoreMode.HASH) {
+            CsSessionRedisSupport.writeAll(
+                    binaryRedisTemplate,
+                    key,
+                    CsSessionCodec.encodeAttemptMeta(session),
+                    CsSessionCodec.encodeAttemptState(session),
+                    ATTEMPT_TTL);
+            return;
+        }
+        binaryRedisTemplate.opsForValue().set(key, CsSessionCodec.encodeAttempt(session), ATTEMPT_TTL);
     }
 
     @Override
-    public Optional<CsAttemptSession> find(Long userId, Long stageId) {
-        Object value = redisTemplate.opsForValue().get(key(userId, stageId));
-        if (value == null) {
-            return Optional.empty();
-        }
-
-        if (value instanceof CsAttemptSession session) {
-            return Optional.of(session);
+    public void saveProgress(CsAttemptSession session) {
+        if (storeMode != CsSessionStoreMode.HASH) {
+            save(session);
+            return;
         }
+        CsSessionRedisSupport.writeState(
+                binaryRedisTemplate,
+                key(session.getUserId(), session.getStageId()),
+                CsSessionCodec.encodeAttemptState(session),
+                ATTEMPT_TTL);
+    }
 
+    @Override
+    public Optional<CsAttemptSession> find(Long userId, Long stageId) {
+        String key = key(userId, stageId);
         try {
-            return Optional.of(objectMapper.convertValue(value, CsAttemptSession.class));
-        } catch (IllegalArgumentException ignored) {
+            if (storeMode == CsSessionStoreMode.HASH) {
+                byte[][] segments = CsSessionRedisSupport.readAll(binaryRedisTemplate, key);
+                return segments == null
+                        ? Optional.empty()
+                        : Optional.of(CsSessionCodec.decodeAttempt(segments[0], segments[1]));
+            }
+
+            byte[] value = binaryRedisTemplate.opsForValue().get(key);
+            return value == null ? Optional.empty() : Optional.of(CsSessionCodec.decodeAttempt(value));
+        } catch (IllegalArgumentException e) {
+            log.warn("[CS Attempt] Discarded unreadable session {}: {}", key, e.getMessage());
             return Optional.empty();
         }
     }
 
     @Override
     public void delete(Long userId, Long stageId) {
-        redisTemplate.delete(key(userId, stageId));
+        binaryRedisTemplate.delete(key(userId, stageId));
     }
 
     private String key(Long userId, Long stageId) {
@@ -0,0 +1,94 @@
+package com.peekle.domain.cs.service.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peekle.domain.cs.service.home.CsHomeView;
+import com.peekle.domain.cs.service.home.CsHomeViewLookup;
+import com.peekle.global.redis.RedisKeyConst;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+@Profile("!test")
+@RequiredArgsConstructor
+public class RedisCsHomeViewStore implements CsHomeViewStore {
+
+    private static final Duration VIEW_TTL = Duration.ofMinutes(30);
+    // epoch 가 뷰보다 먼저 만료되면 이전 뷰가 다시 유효해질 수 있으므로 더 길게 유지한다.
+    private static final Duration EPOCH_TTL = VIEW_TTL.multipliedBy(2);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CsHomeViewLookup find(Long userId) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(
+                RedisKeyConst.CS_HOME_VIEW_GENERATION,
+                epochKey(userId),
+                viewKey(userId)));
+        if (values == null || values.size() != 3) {
+            return new CsHomeViewLookup(0L, 0L, null);
+        }
+        return new CsHomeViewLookup(parseLong(values.get(0)), parseLong(values.get(1)), parseView(userId, values.get(2)));
+    }
+
+    @Override
+    public void save(Long userId, CsHomeView view) {
+        try {
+            stringRedisTemplate.opsForValue().set(viewKey(userId), objectMapper.writeValueAsString(view), VIEW_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("[CS Home] Failed to serialize home view for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void bumpEpoch(Long userId) {
+        String epochKey = epochKey(userId);
+        stringRedisTemplate.opsForValue().increment(epochKey);
+        stringRedisTemplate.expire(epochKey, EPOCH_TTL);
+        stringRedisTemplate.delete(viewKey(userId));
+    }
+
+    @Override
+    public void bumpGeneration() {
+        stringRedisTemplate.opsForValue().increment(RedisKeyConst.CS_HOME_VIEW_GENERATION);
+    }
+
+    private CsHomeView parseView(Long userId, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CsHomeView.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[CS Home] Discarded unreadable home view for user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private long parseLong(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private String viewKey(Long userId) {
+        return String.format(RedisKeyConst.CS_HOME_VIEW, userId);
+    }
+
+    private String epochKey(Long userId) {
+        return String.format(RedisKeyConst.CS_HOME_VIEW_EPOCH, userId);
+    }
+}
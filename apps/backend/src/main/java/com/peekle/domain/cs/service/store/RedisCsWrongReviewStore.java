@@ -1,8 +1,9 @@
 package com.peekle.domain.cs.service.store;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.peekle.global.redis.RedisKeyConst;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.util.Optional;
 
+@Slf4j
 @Component
 @Profile("!test")
 @RequiredArgsConstructor
@@ -17,35 +19,61 @@ public class RedisCsWrongReviewStore implements CsWrongReviewStore {
 
     private static final Duration REVIEW_TTL = Duration.ofHours(6);
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @Value("${cs.session.store-mode:HASH}")
+    private CsSessionStoreMode storeMode;
 
     @Override
     public void save(CsWrongReviewSession session) {
-        redisTemplate.opsForValue().set(key(session.getUserId(), session.getReviewId()), session, REVIEW_TTL);
+        String key = key(session.getUserId(), session.getReviewId());
+        if (storeMode == CsSessionStoreMode.HASH) {
+            CsSessionRedisSupport.writeAll(
+                    binaryRedisTemplate,
+                    key,
+                    CsSessionCodec.encodeReviewMeta(session),
+                    CsSessionCodec.encodeReviewState(session),
+                    REVIEW_TTL);
+            return;
+        }
+        binaryRedisTemplate.opsForValue().set(key, CsSessionCodec.encodeReview(session), REVIEW_TTL);
     }
 
     @Override
-    public Optional<CsWrongReviewSession> find(Long userId, String reviewId) {
-        Object value = redisTemplate.opsForValue().get(key(userId, reviewId));
-        if (value == null) {
-            return Optional.empty();
-        }
-
-        if (value instanceof CsWrongReviewSession session) {
-            return Optional.of(session);
+    public void saveProgress(CsWrongReviewSession session) {
+        if (storeMode != CsSessionStoreMode.HASH) {
+            save(session);
+            return;
         }
+        CsSessionRedisSupport.writeState(
+                binaryRedisTemplate,
+                key(session.getUserId(), session.getReviewId()),
+                CsSessionCodec.encodeReviewState(session),
+                REVIEW_TTL);
+    }
 
+    @Override
+    public Optional<CsWrongReviewSession> find(Long userId, String reviewId) {
+        String key = key(userId, reviewId);
         try {
-            return Optional.of(objectMapper.convertValue(value, CsWrongReviewSession.class));
-        } catch (IllegalArgumentException ignored) {
+            if (storeMode == CsSessionStoreMode.HASH) {
+                byte[][] segments = CsSessionRedisSupport.readAll(binaryRedisTemplate, key);
+                return segments == null
+                        ? Optional.empty()
+                        : Optional.of(CsSessionCodec.decodeReview(segments[0], segments[1]));
+            }
+
+            byte[] value = binaryRedisTemplate.opsForValue().get(key);
+            return value == null ? Optional.empty() : Optional.of(CsSessionCodec.decodeReview(value));
+        } catch (IllegalArgumentException e) {
+            log.warn("[CS Wrong Review] Discarded unreadable session {}: {}", key, e.getMessage());
             return Optional.empty();
         }
     }
 
     @Override
     public void delete(Long userId, String reviewId) {
-        redisTemplate.delete(key(userId, reviewId));
+        binaryRedisTemplate.delete(key(userId, reviewId));
     }
 
     private String key(Long userId, String reviewId) {
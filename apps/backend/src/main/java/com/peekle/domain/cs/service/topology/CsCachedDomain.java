@@ -0,0 +1,22 @@
+package com.peekle.domain.cs.service.topology;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * tracks 는 trackNo 오름차순이다.
+ */
+public record CsCachedDomain(
+        Integer id,
+        String name,
+        List<CsCachedTrack> tracks) {
+
+    public Optional<CsCachedTrack> findTrack(short trackNo) {
+        for (CsCachedTrack track : tracks) {
+            if (track.trackNo() == trackNo) {
+                return Optional.of(track);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,6 @@
+package com.peekle.domain.cs.service.topology;
+
+public record CsCachedStage(
+        Long id,
+        short stageNo) {
+}
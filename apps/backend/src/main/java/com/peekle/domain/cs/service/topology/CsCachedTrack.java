@@ -0,0 +1,32 @@
+package com.peekle.domain.cs.service.topology;
+
+import com.peekle.domain.cs.enums.CsTrackLearningMode;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * stages 는 stageNo 오름차순이다.
+ */
+public record CsCachedTrack(
+        Long id,
+        Integer domainId,
+        short trackNo,
+        String name,
+        CsTrackLearningMode learningMode,
+        Short examYear,
+        List<CsCachedStage> stages) {
+
+    public Optional<CsCachedStage> findStage(short stageNo) {
+        for (CsCachedStage stage : stages) {
+            if (stage.stageNo() == stageNo) {
+                return Optional.of(stage);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<CsCachedStage> lastStage() {
+        return stages.isEmpty() ? Optional.empty() : Optional.of(stages.get(stages.size() - 1));
+    }
+}
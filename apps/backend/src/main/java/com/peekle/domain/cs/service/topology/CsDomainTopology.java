@@ -0,0 +1,18 @@
+package com.peekle.domain.cs.service.topology;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 전체 도메인 → 트랙 → 스테이지 구조 스냅샷. domains 는 id 오름차순이다.
+ */
+public record CsDomainTopology(
+        long version,
+        List<CsCachedDomain> domains,
+        Map<Integer, CsCachedDomain> domainsById) {
+
+    public Optional<CsCachedDomain> findDomain(Integer domainId) {
+        return Optional.ofNullable(domainsById.get(domainId));
+    }
+}
@@ -0,0 +1,163 @@
+package com.peekle.domain.cs.service.topology;
+
+import com.peekle.domain.cs.entity.CsDomain;
+import com.peekle.domain.cs.entity.CsDomainTrack;
+import com.peekle.domain.cs.entity.CsStage;
+import com.peekle.domain.cs.repository.CsDomainRepository;
+import com.peekle.domain.cs.repository.CsDomainTrackRepository;
+import com.peekle.domain.cs.repository.CsStageRepository;
+import com.peekle.global.redis.RedisKeyConst;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 도메인 → 트랙 → 스테이지 구조 인메모리 캐시.
+ * 관리자 편집 시에만 바뀌므로 전체를 하나의 스냅샷으로 적재하고, pub/sub 으로 전 노드에서 무효화한다.
+ * 트랜잭션 안에서 적재한 스냅샷은 커밋된 이후에만 공유하여, 롤백될 데이터가 캐시에 남지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsDomainTopologyCache {
+
+    private static final String METRIC_HIT = "cs.topology.hit";
+    private static final String METRIC_MISS = "cs.topology.miss";
+    private static final String METRIC_EVICT = "cs.topology.evict";
+    private static final String INVALIDATE_ALL = "*";
+
+    private final AtomicReference<CsDomainTopology> snapshot = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final CsDomainRepository csDomainRepository;
+    private final CsDomainTrackRepository csDomainTrackRepository;
+    private final CsStageRepository csStageRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public CsDomainTopology get() {
+        CsDomainTopology cached = snapshot.get();
+        if (cached != null) {
+            meterRegistry.counter(METRIC_HIT).increment();
+            return cached;
+        }
+
+        meterRegistry.counter(METRIC_MISS).increment();
+        CsDomainTopology loaded = load(version.get());
+        shareAfterCommit(loaded);
+        return loaded;
+    }
+
+    /**
+     * 구조를 무효화한다. 트랜잭션 안이라면 커밋 이후 한 번 더 무효화하고 다른 노드에 전파한다.
+     */
+    public void invalidate() {
+        evictLocal();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishInvalidation();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictLocal();
+                publishInvalidation();
+            }
+        });
+    }
+
+    /**
+     * pub/sub 으로 수신한 무효화 메시지를 로컬 캐시에만 반영한다.
+     */
+    public void evictLocal() {
+        version.incrementAndGet();
+        snapshot.set(null);
+        meterRegistry.counter(METRIC_EVICT).increment();
+    }
+
+    private void shareAfterCommit(CsDomainTopology loaded) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            share(loaded);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                share(loaded);
+            }
+        });
+    }
+
+    private void share(CsDomainTopology loaded) {
+        if (version.get() != loaded.version()) {
+            return;
+        }
+        snapshot.compareAndSet(null, loaded);
+        // 공유 직후 무효화가 끼어들었다면 오래된 스냅샷이 남지 않도록 즉시 제거한다.
+        if (version.get() != loaded.version()) {
+            snapshot.compareAndSet(loaded, null);
+        }
+    }
+
+    private void publishInvalidation() {
+        try {
+            stringRedisTemplate.convertAndSend(RedisKeyConst.TOPIC_CS_TOPOLOGY_INVALIDATE, INVALIDATE_ALL);
+        } catch (Exception e) {
+            log.warn("[CS Topology] Failed to publish invalidation: {}", e.getMessage());
+        }
+    }
+
+    private CsDomainTopology load(long loadVersion) {
+        Map<Long, List<CsCachedStage>> stagesByTrackId = new HashMap<>();
+        for (CsStage stage : csStageRepository.findAllOrderByTrackAndStageNo()) {
+            stagesByTrackId.computeIfAbsent(stage.getTrack().getId(), key -> new ArrayList<>())
+                    .add(new CsCachedStage(stage.getId(), stage.getStageNo()));
+        }
+
+        Map<Integer, List<CsCachedTrack>> tracksByDomainId = new HashMap<>();
+        for (CsDomainTrack track : csDomainTrackRepository.findAllOrderByDomainAndTrackNo()) {
+            Integer domainId = track.getDomain().getId();
+            tracksByDomainId.computeIfAbsent(domainId, key -> new ArrayList<>())
+                    .add(new CsCachedTrack(
+                            track.getId(),
+                            domainId,
+                            track.getTrackNo(),
+                            track.getName(),
+                            track.getLearningMode(),
+                            track.getExamYear(),
+                            List.copyOf(stagesByTrackId.getOrDefault(track.getId(), List.of()))));
+        }
+
+        List<CsCachedDomain> domains = new ArrayList<>();
+        Map<Integer, CsCachedDomain> domainsById = new LinkedHashMap<>();
+        for (CsDomain domain : csDomainRepository.findAllByOrderByIdAsc()) {
+            CsCachedDomain cachedDomain = new CsCachedDomain(
+                    domain.getId(),
+                    domain.getName(),
+                    List.copyOf(tracksByDomainId.getOrDefault(domain.getId(), List.of())));
+            domains.add(cachedDomain);
+            domainsById.put(domain.getId(), cachedDomain);
+        }
+
+        return new CsDomainTopology(
+                loadVersion,
+                List.copyOf(domains),
+                Collections.unmodifiableMap(domainsById));
+    }
+}
@@ -0,0 +1,18 @@
+package com.peekle.domain.cs.service.topology;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CsDomainTopologyInvalidationListener implements MessageListener {
+
+    private final CsDomainTopologyCache csDomainTopologyCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        csDomainTopologyCache.evictLocal();
+    }
+}
@@ -0,0 +1,146 @@
+package com.peekle.domain.execution.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코드 실행 설정 Properties
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "execution")
+public class ExecutionProperties {
+
+    /**
+     * 실행 백엔드 (local: 로컬 프로세스 샌드박스, tio: tio.run 원격 실행)
+     */
+    private String backend = "tio";
+
+    /**
+     * 코드/입력 최대 크기 (bytes)
+     */
+    private int maxCodeBytes = 64 * 1024;
+    private int maxInputBytes = 1024 * 1024;
+
+    @Valid
+    private Queue queue = new Queue();
+    private Cache cache = new Cache();
+    private Batch batch = new Batch();
+    private Sandbox sandbox = new Sandbox();
+    private Tio tio = new Tio();
+
+    @Getter
+    @Setter
+    public static class Queue {
+        /**
+         * 동시에 실행하는 작업 수 (0 이하면 CPU 코어 수)
+         */
+        private int workers = 0;
+
+        /**
+         * 대기열 전체 / 사용자별 최대 대기 작업 수 (0 이하면 모든 작업이 거절되므로 기동 시 막는다)
+         */
+        @Min(1)
+        private int capacity = 200;
+        @Min(1)
+        private int perUserCapacity = 5;
+
+        /**
+         * 대기 + 실행을 합친 최대 응답 대기 시간 (ms)
+         */
+        private long maxWaitMs = 30_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private long ttlSeconds = 600;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        /**
+         * 한 번에 실행할 수 있는 최대 테스트케이스 수
+         */
+        private int maxCases = 50;
+
+        /**
+         * 한 일괄 실행이 동시에 대기열에 올리는 케이스 수 (queue.per-user-capacity 를 넘지 않는다)
+         */
+        private int parallelism = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Sandbox {
+        /**
+         * 빌드 산출물과 실행용 임시 디렉터리의 루트
+         */
+        private String workDir = System.getProperty("java.io.tmpdir") + "/peekle-exec";
+
+        /**
+         * 언어별 동시 실행 슬롯 수
+         */
+        private int slotsPerLanguage = 2;
+
+        /**
+         * 코드 해시별로 보관하는 빌드 산출물 수
+         */
+        private int buildCacheSize = 128;
+
+        private long compileTimeoutMs = 10_000;
+        private long wallTimeoutMs = 5_000;
+        private int cpuTimeSeconds = 5;
+        private int memoryMb = 256;
+        private int maxOutputBytes = 64 * 1024;
+        private int maxFileSizeKb = 10 * 1024;
+
+        /**
+         * 샌드박스 UID 전체의 최대 프로세스/스레드 수 (ulimit -u, 동시 실행 슬롯 전체가 나눠 쓴다)
+         */
+        private int maxProcesses = 256;
+
+        /**
+         * JVM 실행의 ulimit -v 에 memory-mb 외로 더하는 예약 가상 메모리 (메타스페이스, 코드 캐시, 스레드 스택)
+         */
+        private int jvmVirtualOverheadMb = 1536;
+
+        /**
+         * 실행 명령 앞에 붙일 격리 명령 (local 백엔드 필수)
+         * 전용 UID, 네트워크 차단, 읽기 전용 파일시스템을 보장해야 한다 (예: nsjail, bwrap)
+         */
+        private List<String> wrapper = new ArrayList<>();
+
+        /**
+         * wrapper 가 전환하는 샌드박스 사용자 (지정하면 빌드/실행 디렉터리 소유자를 이 사용자로 넘긴다)
+         * wrapper 인자의 {dir} 은 쓰기 가능한 작업 디렉터리, {build} 는 읽기 전용으로 둘 빌드 디렉터리로 바뀐다
+         */
+        private String user = "";
+
+        private String python = "python3";
+        private String javac = "javac";
+        private String java = "java";
+        private String cpp = "g++";
+    }
+
+    @Getter
+    @Setter
+    public static class Tio {
+        /**
+         * 연결/응답 타임아웃과 동시 호출 수는 outbound.destinations.tio 에서 관리한다
+         */
+        private String url = "https://tio.run/cgi-bin/run/api/";
+    }
+}
@@ -1,11 +1,15 @@
 package com.peekle.domain.execution.controller;
 
+import com.peekle.domain.execution.dto.request.ExecutionBatchRequest;
 import com.peekle.domain.execution.dto.request.ExecutionRequest;
+import com.peekle.domain.execution.dto.response.ExecutionBatchResponse;
 import com.peekle.domain.execution.dto.response.ExecutionResponse;
+import com.peekle.domain.execution.service.ExecutionBatchService;
 import com.peekle.domain.execution.service.ExecutionService;
 import com.peekle.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,10 +22,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExecutionController {
 
     private final ExecutionService executionService;
+    private final ExecutionBatchService executionBatchService;
 
     @PostMapping("/run")
-    public ApiResponse<ExecutionResponse> runCode(@RequestBody ExecutionRequest request) {
-        ExecutionResponse response = executionService.execute(request);
+    public ApiResponse<ExecutionResponse> runCode(
+            @AuthenticationPrincipal Long userId,
+            @RequestBody ExecutionRequest request) {
+        ExecutionResponse response = executionService.execute(userId, request);
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 테스트케이스 일괄 실행. 케이스별 결과와 요약은 /topic/executions/users/{userId} 로 전송된다.
+     */
+    @PostMapping("/batches")
+    public ApiResponse<ExecutionBatchResponse> runBatch(
+            @AuthenticationPrincipal Long userId,
+            @RequestBody ExecutionBatchRequest request) {
+        ExecutionBatchResponse response = executionBatchService.start(userId, request);
         return ApiResponse.success(response);
     }
 }
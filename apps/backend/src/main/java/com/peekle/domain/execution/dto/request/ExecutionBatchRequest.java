@@ -0,0 +1,26 @@
+package com.peekle.domain.execution.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 테스트케이스 일괄 실행 요청
+ * studyId + studyProblemId 를 주면 저장된 테스트케이스를, 아니면 cases 를 실행한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionBatchRequest {
+    private String language;
+    private String code;
+    private Long studyId;
+    private Long studyProblemId;
+    private List<ExecutionCaseRequest> cases;
+    // 첫 실패에서 남은 케이스를 취소한다.
+    private boolean abortOnFailure;
+}
@@ -0,0 +1,15 @@
+package com.peekle.domain.execution.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionCaseRequest {
+    private String input;
+    private String expectedOutput;
+}
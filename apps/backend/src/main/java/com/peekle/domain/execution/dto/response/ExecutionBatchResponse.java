@@ -0,0 +1,18 @@
+package com.peekle.domain.execution.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 실행 접수 응답. 결과는 /topic/executions/users/{userId} 로 케이스마다 전송된다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionBatchResponse {
+    private String batchId;
+    private Integer totalCases;
+}
@@ -0,0 +1,23 @@
+package com.peekle.domain.execution.dto.response;
+
+import com.peekle.domain.execution.enums.ExecutionVerdict;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionBatchSummaryResponse {
+    private String batchId;
+    private Integer totalCases;
+    private Integer completedCases;
+    private Integer passedCases;
+    // 모두 통과하면 ACCEPTED, 아니면 처음 실패한 케이스의 판정
+    private ExecutionVerdict verdict;
+    private boolean aborted;
+    private String compileOutput;
+    private Long elapsedMillis;
+}
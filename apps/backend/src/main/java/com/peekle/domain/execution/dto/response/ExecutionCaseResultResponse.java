@@ -0,0 +1,24 @@
+package com.peekle.domain.execution.dto.response;
+
+import com.peekle.domain.execution.enums.ExecutionVerdict;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionCaseResultResponse {
+    private String batchId;
+    private Integer caseIndex;
+    // 저장된 테스트케이스를 실행한 경우에만 있다.
+    private String testcaseId;
+    private ExecutionVerdict verdict;
+    private String stdout;
+    private String stderr;
+    private Integer exitCode;
+    private Long executionTime;
+    private Long memoryUsage;
+}
@@ -14,4 +14,6 @@ public class ExecutionResponse {
     private String stderr;
     private Integer exitCode;
     private Long executionTime;
+    // 최대 RSS (KB). 측정하지 못한 백엔드는 null
+    private Long memoryUsage;
 }
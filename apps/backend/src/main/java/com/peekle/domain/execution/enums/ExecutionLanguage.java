@@ -0,0 +1,37 @@
+package com.peekle.domain.execution.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExecutionLanguage {
+    PYTHON3("python3"),
+    JAVA("java-openjdk"),
+    CPP("cpp-gcc");
+
+    private final String tioId;
+
+    /**
+     * 프론트에서 넘어오는 언어 이름을 실행 언어로 변환한다. (모르는 언어는 Python3)
+     */
+    public static ExecutionLanguage from(String raw) {
+        String lang = raw == null ? "" : raw.trim().toLowerCase(Locale.ROOT);
+        if ("python".equals(lang) || "python3".equals(lang)) {
+            return PYTHON3;
+        }
+        if (lang.contains("java") && !lang.contains("script")) {
+            return JAVA;
+        }
+        if ("c".equals(lang)
+                || lang.contains("clang")
+                || lang.contains("c11")
+                || lang.contains("cpp")
+                || lang.contains("c++")) {
+            return CPP;
+        }
+        return PYTHON3;
+    }
+}
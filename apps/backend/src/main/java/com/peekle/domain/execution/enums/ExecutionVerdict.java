@@ -0,0 +1,49 @@
+package com.peekle.domain.execution.enums;
+
+import com.peekle.domain.execution.dto.response.ExecutionResponse;
+
+import java.util.List;
+
+public enum ExecutionVerdict {
+    ACCEPTED,
+    WRONG_ANSWER,
+    TIME_LIMIT_EXCEEDED,
+    RUNTIME_ERROR,
+    COMPILE_ERROR,
+    // 기대 출력이 없는 케이스 (실행만 하고 비교하지 않는다)
+    NOT_JUDGED,
+    SYSTEM_ERROR;
+
+    // 실행 백엔드가 시간 초과에 쓰는 exit code
+    private static final int TIME_LIMIT_EXIT_CODE = 124;
+
+    public boolean isFailure() {
+        return this != ACCEPTED && this != NOT_JUDGED;
+    }
+
+    /**
+     * 줄 끝 공백과 앞뒤 빈 줄은 무시하고 비교한다.
+     */
+    public static ExecutionVerdict judge(ExecutionResponse response, String expectedOutput) {
+        Integer exitCode = response.getExitCode();
+        if (exitCode != null && exitCode == TIME_LIMIT_EXIT_CODE) {
+            return TIME_LIMIT_EXCEEDED;
+        }
+        if (exitCode == null || exitCode != 0) {
+            return RUNTIME_ERROR;
+        }
+        if (expectedOutput == null || expectedOutput.isBlank()) {
+            return NOT_JUDGED;
+        }
+        return normalize(response.getStdout()).equals(normalize(expectedOutput)) ? ACCEPTED : WRONG_ANSWER;
+    }
+
+    private static List<String> normalize(String output) {
+        if (output == null) {
+            return List.of();
+        }
+        return output.strip().lines()
+                .map(String::stripTrailing)
+                .toList();
+    }
+}
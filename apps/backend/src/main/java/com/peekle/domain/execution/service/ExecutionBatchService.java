@@ -0,0 +1,357 @@
+package com.peekle.domain.execution.service;
+
+import com.peekle.domain.execution.config.ExecutionProperties;
+import com.peekle.domain.execution.dto.request.ExecutionBatchRequest;
+import com.peekle.domain.execution.dto.request.ExecutionCaseRequest;
+import com.peekle.domain.execution.dto.response.ExecutionBatchResponse;
+import com.peekle.domain.execution.dto.response.ExecutionBatchSummaryResponse;
+import com.peekle.domain.execution.dto.response.ExecutionCaseResultResponse;
+import com.peekle.domain.execution.dto.response.ExecutionResponse;
+import com.peekle.domain.execution.enums.ExecutionLanguage;
+import com.peekle.domain.execution.enums.ExecutionVerdict;
+import com.peekle.domain.execution.service.backend.ExecutionBackend;
+import com.peekle.domain.execution.service.backend.ExecutionBackend.ExecutionResult;
+import com.peekle.domain.execution.service.backend.ExecutionBackend.PreparedProgram;
+import com.peekle.domain.study.dto.response.TestcaseResponse;
+import com.peekle.domain.study.service.TestcaseService;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.redis.RedisKeyConst;
+import com.peekle.global.redis.RedisPublisher;
+import com.peekle.global.socket.SocketResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트케이스 일괄 실행
+ * - 코드는 한 번만 준비(컴파일)하고, 케이스는 실행 대기열에 나눠 넣어 워커들이 병렬로 실행한다
+ * - 케이스가 끝날 때마다 판정/시간/메모리를 /topic/executions/users/{userId} 로 보내고, 마지막에 요약을 보낸다
+ * - abortOnFailure 면 첫 실패에서 아직 시작하지 않은 케이스를 취소한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExecutionBatchService {
+
+    private static final String METRIC_RUN = "execution.run";
+    private static final String METRIC_BATCH = "execution.batch";
+    private static final String TYPE_CASE_RESULT = "EXECUTION_CASE_RESULT";
+    private static final String TYPE_BATCH_DONE = "EXECUTION_BATCH_DONE";
+
+    private final ExecutionBackend executionBackend;
+    private final ExecutionQueue executionQueue;
+    private final ExecutionResultCache executionResultCache;
+    private final TestcaseService testcaseService;
+    private final RedisPublisher redisPublisher;
+    private final ExecutionProperties executionProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요청을 검증하고 바로 반환한다. 결과는 소켓으로만 전달되므로 클라이언트는 요청 전에 토픽을 구독해 둔다.
+     */
+    public ExecutionBatchResponse start(Long userId, ExecutionBatchRequest request) {
+        ExecutionLanguage language = ExecutionLanguage.from(request.getLanguage());
+        String code = request.getCode() == null ? "" : request.getCode();
+        List<BatchCase> cases = resolveCases(request);
+        validate(code, cases);
+
+        String batchId = UUID.randomUUID().toString();
+        BatchRun batchRun = new BatchRun(batchId, userId, language, code, cases, request.isAbortOnFailure());
+        Thread.ofVirtual().name("execution-batch-" + batchId).start(batchRun::run);
+
+        return ExecutionBatchResponse.builder()
+                .batchId(batchId)
+                .totalCases(cases.size())
+                .build();
+    }
+
+    private List<BatchCase> resolveCases(ExecutionBatchRequest request) {
+        List<BatchCase> cases = new ArrayList<>();
+        if (request.getStudyId() != null && request.getStudyProblemId() != null) {
+            List<TestcaseResponse> testcases =
+                    testcaseService.getTestcases(request.getStudyId(), request.getStudyProblemId());
+            for (TestcaseResponse testcase : testcases) {
+                cases.add(new BatchCase(cases.size(), testcase.getId(),
+                        nullToEmpty(testcase.getInput()), testcase.getExpectedOutput()));
+            }
+        } else if (request.getCases() != null) {
+            for (ExecutionCaseRequest testcase : request.getCases()) {
+                cases.add(new BatchCase(cases.size(), null,
+                        nullToEmpty(testcase.getInput()), testcase.getExpectedOutput()));
+            }
+        }
+        return cases;
+    }
+
+    private void validate(String code, List<BatchCase> cases) {
+        if (cases.isEmpty()) {
+            throw new BusinessException(ErrorCode.EXECUTION_NO_TESTCASES);
+        }
+        if (cases.size() > executionProperties.getBatch().getMaxCases()) {
+            throw new BusinessException(ErrorCode.EXECUTION_TOO_MANY_TESTCASES);
+        }
+        boolean tooLarge = code.getBytes(StandardCharsets.UTF_8).length > executionProperties.getMaxCodeBytes()
+                || cases.stream().anyMatch(batchCase ->
+                batchCase.input().getBytes(StandardCharsets.UTF_8).length > executionProperties.getMaxInputBytes());
+        if (tooLarge) {
+            throw new BusinessException(ErrorCode.EXECUTION_PAYLOAD_TOO_LARGE);
+        }
+    }
+
+    private int parallelism() {
+        // 사용자별 대기 한도를 넘겨 넣으면 거절되므로 그 안에서만 동시에 올린다.
+        return Math.max(1, Math.min(
+                executionProperties.getBatch().getParallelism(),
+                executionProperties.getQueue().getPerUserCapacity()));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record BatchCase(int index, String testcaseId, String input, String expectedOutput) {
+    }
+
+    private record Completion(BatchCase batchCase, ExecutionResult result, Throwable error) {
+    }
+
+    /**
+     * 일괄 실행 한 건의 진행 상태. 조정(케이스 투입, 판정, 전송)은 이 객체를 만든 가상 스레드 하나에서만 한다.
+     */
+    private final class BatchRun {
+        private final String batchId;
+        private final Long userId;
+        private final ExecutionLanguage language;
+        private final String code;
+        private final List<BatchCase> cases;
+        private final boolean abortOnFailure;
+        private final ChannelTopic topic;
+
+        private final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        private final List<CompletableFuture<ExecutionResult>> submitted = new ArrayList<>();
+        private PreparedProgram program;
+        private int completedCases;
+        private int passedCases;
+        private ExecutionVerdict firstFailure;
+        private boolean aborted;
+
+        private BatchRun(String batchId, Long userId, ExecutionLanguage language, String code,
+                List<BatchCase> cases, boolean abortOnFailure) {
+            this.batchId = batchId;
+            this.userId = userId;
+            this.language = language;
+            this.code = code;
+            this.cases = cases;
+            this.abortOnFailure = abortOnFailure;
+            this.topic = new ChannelTopic(String.format(RedisKeyConst.TOPIC_EXECUTION_USER, userId));
+        }
+
+        private void run() {
+            long startedAt = System.nanoTime();
+            String compileOutput = null;
+            try {
+                compileOutput = dispatch();
+            } catch (BusinessException e) {
+                log.warn("[Execution] Batch {} stopped: {}", batchId, e.getErrorCode());
+                stop(ExecutionVerdict.SYSTEM_ERROR);
+            } catch (RuntimeException e) {
+                log.error("[Execution] Batch {} failed", batchId, e);
+                stop(ExecutionVerdict.SYSTEM_ERROR);
+            } finally {
+                if (program != null) {
+                    program.close();
+                }
+            }
+
+            long elapsedNanos = System.nanoTime() - startedAt;
+            ExecutionVerdict verdict = summaryVerdict();
+            meterRegistry.timer(METRIC_BATCH, "language", language.name(), "verdict", verdict.name())
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            redisPublisher.publish(topic, SocketResponse.of(TYPE_BATCH_DONE, ExecutionBatchSummaryResponse.builder()
+                    .batchId(batchId)
+                    .totalCases(cases.size())
+                    .completedCases(completedCases)
+                    .passedCases(passedCases)
+                    .verdict(verdict)
+                    .aborted(aborted)
+                    .compileOutput(compileOutput)
+                    .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    .build()));
+        }
+
+        /**
+         * 케이스를 병렬도만큼 대기열에 유지하며 끝나는 순서대로 판정한다. 컴파일에 실패하면 그 출력을 반환한다.
+         */
+        private String dispatch() {
+            int window = parallelism();
+            int next = 0;
+            int running = 0;
+            while (true) {
+                while (!aborted && next < cases.size() && running < window) {
+                    BatchCase batchCase = cases.get(next);
+                    Optional<ExecutionResponse> cached = executionResultCache.get(language, code, batchCase.input());
+                    if (cached.isPresent()) {
+                        record(batchCase, cached.get());
+                        next++;
+                        continue;
+                    }
+
+                    if (program == null) {
+                        program = prepare();
+                        Optional<ExecutionResult> compileFailure = program.compileFailure();
+                        if (compileFailure.isPresent()) {
+                            stop(ExecutionVerdict.COMPILE_ERROR);
+                            return compileFailure.get().response().getStderr();
+                        }
+                    }
+
+                    CompletableFuture<ExecutionResult> future;
+                    try {
+                        future = executionQueue.submitAsync(userId, () -> runCase(batchCase.input()));
+                    } catch (BusinessException e) {
+                        if (running == 0) {
+                            throw e;
+                        }
+                        // 대기열이 차 있으면 진행 중인 케이스가 끝난 뒤 다시 넣는다.
+                        break;
+                    }
+                    submitted.add(future);
+                    future.whenComplete((result, error) -> completions.add(new Completion(batchCase, result, error)));
+                    running++;
+                    next++;
+                }
+
+                if (running == 0) {
+                    return null;
+                }
+                Completion completion = awaitCompletion();
+                running--;
+                if (aborted) {
+                    // 중단 뒤에 끝났거나 취소된 케이스는 버린다.
+                    continue;
+                }
+                if (completion.error() != null) {
+                    log.warn("[Execution] Batch {} case {} failed: {}",
+                            batchId, completion.batchCase().index(), completion.error().toString());
+                    publishCase(completion.batchCase(), ExecutionVerdict.SYSTEM_ERROR, null);
+                    judged(ExecutionVerdict.SYSTEM_ERROR);
+                    continue;
+                }
+                if (completion.result().cacheable()) {
+                    executionResultCache.put(language, code, completion.batchCase().input(),
+                            completion.result().response());
+                }
+                record(completion.batchCase(), completion.result().response());
+            }
+        }
+
+        // 컴파일도 대기열을 거쳐 다른 사용자의 실행과 같은 워커 수 안에서 돈다.
+        private PreparedProgram prepare() {
+            CompletableFuture<PreparedProgram> future =
+                    executionQueue.submitAsync(userId, () -> executionBackend.prepare(language, code));
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.thenAccept(PreparedProgram::close);
+                throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        }
+
+        private ExecutionResult runCase(String input) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                return program.run(input);
+            } finally {
+                sample.stop(meterRegistry.timer(METRIC_RUN, "language", language.name()));
+            }
+        }
+
+        private Completion awaitCompletion() {
+            try {
+                return completions.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop(ExecutionVerdict.SYSTEM_ERROR);
+                throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+            }
+        }
+
+        private void record(BatchCase batchCase, ExecutionResponse response) {
+            ExecutionVerdict verdict = ExecutionVerdict.judge(response, batchCase.expectedOutput());
+            publishCase(batchCase, verdict, response);
+            judged(verdict);
+        }
+
+        private void judged(ExecutionVerdict verdict) {
+            completedCases++;
+            if (verdict == ExecutionVerdict.ACCEPTED) {
+                passedCases++;
+            }
+            if (verdict.isFailure()) {
+                if (firstFailure == null) {
+                    firstFailure = verdict;
+                }
+                if (abortOnFailure) {
+                    cancelRemaining();
+                }
+            }
+        }
+
+        private void stop(ExecutionVerdict verdict) {
+            if (firstFailure == null) {
+                firstFailure = verdict;
+            }
+            cancelRemaining();
+        }
+
+        private void cancelRemaining() {
+            aborted = completedCases < cases.size();
+            // 이미 워커가 잡은 케이스는 끝까지 돌고, 대기 중인 케이스는 워커가 건너뛴다.
+            submitted.forEach(future -> future.cancel(false));
+        }
+
+        private ExecutionVerdict summaryVerdict() {
+            if (firstFailure != null) {
+                return firstFailure;
+            }
+            return passedCases == cases.size() ? ExecutionVerdict.ACCEPTED : ExecutionVerdict.NOT_JUDGED;
+        }
+
+        private void publishCase(BatchCase batchCase, ExecutionVerdict verdict, ExecutionResponse response) {
+            ExecutionCaseResultResponse.ExecutionCaseResultResponseBuilder builder = ExecutionCaseResultResponse.builder()
+                    .batchId(batchId)
+                    .caseIndex(batchCase.index())
+                    .testcaseId(batchCase.testcaseId())
+                    .verdict(verdict);
+            if (response != null) {
+                builder.stdout(response.getStdout())
+                        .stderr(response.getStderr())
+                        .exitCode(response.getExitCode())
+                        .executionTime(response.getExecutionTime())
+                        .memoryUsage(response.getMemoryUsage());
+            }
+            redisPublisher.publish(topic, SocketResponse.of(TYPE_CASE_RESULT, builder.build()));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.peekle.domain.execution.service;
+
+import com.peekle.domain.execution.config.ExecutionProperties;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 코드 실행 대기열
+ * - 전체/사용자별 대기 수를 제한하고, 가득 차면 바로 거절한다
+ * - 사용자별 FIFO 를 라운드로빈으로 꺼내 한 사용자가 많이 넣어도 다른 사용자가 밀리지 않는다
+ * - 워커 수만큼만 동시에 실행한다
+ */
+@Slf4j
+@Component
+public class ExecutionQueue {
+
+    private static final String METRIC_WAIT = "execution.queue.wait";
+    private static final String METRIC_REJECTED = "execution.queue.rejected";
+    private static final String METRIC_PENDING = "execution.queue.pending";
+
+    private final ExecutionProperties.Queue properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // 대기 작업이 있는 사용자 순서 = 다음에 꺼낼 순서
+    private final LinkedHashMap<Long, ArrayDeque<Job<?>>> pendingByUser = new LinkedHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private int pendingCount;
+    private volatile boolean running = true;
+
+    public ExecutionQueue(ExecutionProperties executionProperties, MeterRegistry meterRegistry) {
+        this.properties = executionProperties.getQueue();
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = meterRegistry.timer(METRIC_WAIT);
+        meterRegistry.gauge(METRIC_PENDING, this, ExecutionQueue::pendingCount);
+    }
+
+    @PostConstruct
+    public void startWorkers() {
+        int workerCount = properties.getWorkers() > 0
+                ? properties.getWorkers()
+                : Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("execution-worker-" + i).start(this::workLoop));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 작업을 대기열에 넣고 결과를 기다린다.
+     */
+    public <T> T submit(Long userId, Supplier<T> task) {
+        Job<T> job = new Job<>(userId, task);
+        enqueue(job);
+
+        try {
+            return job.future.get(properties.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (remove(job)) {
+                meterRegistry.counter(METRIC_REJECTED, "reason", "timeout").increment();
+            }
+            throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            remove(job);
+            throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+        } catch (CancellationException e) {
+            throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 작업을 대기열에 넣고 기다리지 않고 반환한다. (가득 차면 바로 거절)
+     * 아직 시작하지 않은 작업은 반환된 future 를 cancel 하면 워커가 건너뛴다.
+     */
+    public <T> CompletableFuture<T> submitAsync(Long userId, Supplier<T> task) {
+        Job<T> job = new Job<>(userId, task);
+        enqueue(job);
+        return job.future;
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return pendingCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Job<?> job) {
+        lock.lock();
+        try {
+            if (pendingCount >= properties.getCapacity()) {
+                meterRegistry.counter(METRIC_REJECTED, "reason", "capacity").increment();
+                throw new BusinessException(ErrorCode.EXECUTION_QUEUE_FULL);
+            }
+            ArrayDeque<Job<?>> userJobs = pendingByUser.computeIfAbsent(job.userId, key -> new ArrayDeque<>());
+            if (userJobs.size() >= properties.getPerUserCapacity()) {
+                meterRegistry.counter(METRIC_REJECTED, "reason", "per_user").increment();
+                throw new BusinessException(ErrorCode.EXECUTION_QUEUE_FULL);
+            }
+            userJobs.addLast(job);
+            pendingCount++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Job<?> take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (pendingCount == 0) {
+                notEmpty.await();
+            }
+            Iterator<Map.Entry<Long, ArrayDeque<Job<?>>>> iterator = pendingByUser.entrySet().iterator();
+            Map.Entry<Long, ArrayDeque<Job<?>>> next = iterator.next();
+            Long userId = next.getKey();
+            ArrayDeque<Job<?>> userJobs = next.getValue();
+            Job<?> job = userJobs.pollFirst();
+            iterator.remove();
+            if (!userJobs.isEmpty()) {
+                // 남은 작업이 있으면 맨 뒤로 보내 다른 사용자 차례를 먼저 준다.
+                pendingByUser.put(userId, userJobs);
+            }
+            pendingCount--;
+            return job;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean remove(Job<?> job) {
+        lock.lock();
+        try {
+            ArrayDeque<Job<?>> userJobs = pendingByUser.get(job.userId);
+            if (userJobs == null || !userJobs.remove(job)) {
+                return false;
+            }
+            if (userJobs.isEmpty()) {
+                pendingByUser.remove(job.userId);
+            }
+            pendingCount--;
+            job.future.cancel(false);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void workLoop() {
+        while (running) {
+            Job<?> job;
+            try {
+                job = take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            waitTimer.record(System.nanoTime() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+            job.run();
+        }
+    }
+
+    private static final class Job<T> {
+        private final Long userId;
+        private final Supplier<T> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+
+        private Job(Long userId, Supplier<T> task) {
+            this.userId = userId == null ? 0L : userId;
+            this.task = task;
+        }
+
+        private void run() {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(task.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } catch (Throwable t) {
+                log.error("[Execution] Worker task failed", t);
+                future.completeExceptionally(t);
+            }
+        }
+    }
+}
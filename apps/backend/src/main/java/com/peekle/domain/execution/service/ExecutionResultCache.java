@@ -0,0 +1,71 @@
+package com.peekle.domain.execution.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peekle.domain.execution.config.ExecutionProperties;
+import com.peekle.domain.execution.dto.response.ExecutionResponse;
+import com.peekle.domain.execution.enums.ExecutionLanguage;
+import com.peekle.global.redis.RedisKeyConst;
+import com.peekle.global.util.HashUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 실행 결과 캐시 (String/JSON, key = 언어 + 코드 해시 + 입력 해시)
+ * - 같은 코드를 같은 입력으로 다시 돌리면 실행 없이 결과를 돌려준다
+ * - Redis 장애 시에는 캐시 없이 실행한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutionResultCache {
+
+    private static final String METRIC_CACHE = "execution.cache";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutionProperties executionProperties;
+    private final MeterRegistry meterRegistry;
+
+    public Optional<ExecutionResponse> get(ExecutionLanguage language, String code, String input) {
+        if (!executionProperties.getCache().isEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key(language, code, input));
+            meterRegistry.counter(METRIC_CACHE, "result", cached != null ? "hit" : "miss").increment();
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, ExecutionResponse.class));
+        } catch (Exception e) {
+            log.warn("[Execution] Failed to read result cache: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(ExecutionLanguage language, String code, String input, ExecutionResponse response) {
+        if (!executionProperties.getCache().isEnabled()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(
+                    key(language, code, input),
+                    objectMapper.writeValueAsString(response),
+                    Duration.ofSeconds(executionProperties.getCache().getTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("[Execution] Failed to write result cache: {}", e.getMessage());
+        }
+    }
+
+    private String key(ExecutionLanguage language, String code, String input) {
+        return String.format(RedisKeyConst.EXECUTION_RESULT,
+                language.name().toLowerCase(Locale.ROOT), HashUtil.sha256Hex(code), HashUtil.sha256Hex(input));
+    }
+}
@@ -0,0 +1,58 @@
+package com.peekle.domain.execution.service.backend;
+
+import com.peekle.domain.execution.dto.response.ExecutionResponse;
+import com.peekle.domain.execution.enums.ExecutionLanguage;
+
+import java.util.Optional;
+
+/**
+ * 코드 실행 백엔드 (execution.backend 설정으로 하나만 활성화된다)
+ */
+public interface ExecutionBackend {
+
+    ExecutionResult execute(ExecutionLanguage language, String code, String input);
+
+    /**
+     * 같은 코드를 여러 입력으로 실행할 때 사용한다. 컴파일이 있는 백엔드는 여기서 한 번만 컴파일한다.
+     * 기본 구현은 입력마다 execute 를 호출한다.
+     */
+    default PreparedProgram prepare(ExecutionLanguage language, String code) {
+        return new PreparedProgram() {
+            @Override
+            public Optional<ExecutionResult> compileFailure() {
+                return Optional.empty();
+            }
+
+            @Override
+            public ExecutionResult run(String input) {
+                return execute(language, code, input);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * @param cacheable 같은 (언어, 코드, 입력)이면 같은 결과가 나오는 실행인지 여부 (시간 초과 등은 false)
+     */
+    record ExecutionResult(ExecutionResponse response, boolean cacheable) {
+    }
+
+    interface PreparedProgram extends AutoCloseable {
+
+        /**
+         * 컴파일에 실패했으면 그 결과 (이 경우 run 을 호출하지 않는다)
+         */
+        Optional<ExecutionResult> compileFailure();
+
+        /**
+         * 여러 스레드에서 동시에 호출할 수 있다.
+         */
+        ExecutionResult run(String input);
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,613 @@
+package com.peekle.domain.execution.service.backend;
+
+import com.peekle.domain.execution.config.ExecutionProperties;
+import com.peekle.domain.execution.dto.response.ExecutionResponse;
+import com.peekle.domain.execution.enums.ExecutionLanguage;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.util.HashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 프로세스 샌드박스 실행 백엔드 (execution.backend=local 로 명시해야 켜진다)
+ * - 언어별 실행 슬롯(Semaphore)으로 동시 실행 수를 제한한다
+ * - 빌드 산출물은 (언어, 코드 해시)별로 보관해 같은 코드를 여러 입력으로 돌릴 때 컴파일을 건너뛴다
+ * - 실행은 ulimit(CPU 시간, 메모리, 파일 크기, 프로세스 수)과 wall-time 타임아웃을 걸고, 실행마다 빈 작업 디렉터리를 쓴다
+ * - 실행마다 새 프로세스 그룹(setsid)을 만들고, 끝나면 그룹 전체를 종료해 백그라운드로 빠져나간 자식도 정리한다
+ * - 격리(전용 UID, 네트워크 차단, 읽기 전용 파일시스템)는 execution.sandbox.wrapper (nsjail, bwrap 등)가 맡으며,
+ *   wrapper 가 없으면 API 프로세스 권한으로 사용자 코드를 돌리게 되므로 기동하지 않는다
+ * - 컴파일러와 bwrap 이 들어간 이미지는 apps/backend/Dockerfile 의 offline 스테이지, 설정은 docker/docker-compose.offline.yml 참고
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "execution.backend", havingValue = "local")
+public class LocalSandboxExecutionBackend implements ExecutionBackend {
+
+    // 시간 초과로 종료한 실행의 exit code (coreutils timeout 과 동일)
+    private static final int TIME_LIMIT_EXIT_CODE = 124;
+    // ulimit -t 초과 시 SIGXCPU(24)
+    private static final int CPU_LIMIT_EXIT_CODE = 128 + 24;
+    private static final long MEMORY_POLL_INTERVAL_MS = 10;
+    private static final Path PROC_ROOT = Paths.get("/proc");
+    private static final long KILL_TIMEOUT_MS = 1_000;
+
+    private static final Pattern JAVA_PUBLIC_CLASS =
+            Pattern.compile("public\\s+(?:final\\s+|abstract\\s+)*class\\s+([A-Za-z_$][A-Za-z0-9_$]*)");
+
+    private final ExecutionProperties.Sandbox properties;
+    private final Path buildRoot;
+    private final Path runRoot;
+    private final UserPrincipal sandboxUser;
+    private final Map<ExecutionLanguage, Semaphore> slots = new EnumMap<>(ExecutionLanguage.class);
+    private final Map<String, Object> buildLocks = new ConcurrentHashMap<>();
+    private final Map<String, Build> builds;
+
+    public LocalSandboxExecutionBackend(ExecutionProperties executionProperties) throws IOException {
+        this.properties = executionProperties.getSandbox();
+        if (properties.getWrapper().isEmpty()) {
+            throw new IllegalStateException(
+                    "execution.sandbox.wrapper is required for the local execution backend (e.g. nsjail, bwrap)");
+        }
+        Path workDir = Paths.get(properties.getWorkDir()).toAbsolutePath();
+        this.buildRoot = workDir.resolve("build");
+        this.runRoot = workDir.resolve("run");
+
+        // 이전 프로세스가 남긴 산출물은 재사용하지 않는다.
+        deleteRecursively(workDir);
+        Files.createDirectories(buildRoot);
+        Files.createDirectories(runRoot);
+        this.sandboxUser = properties.getUser().isBlank()
+                ? null
+                : workDir.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName(properties.getUser());
+
+        for (ExecutionLanguage language : ExecutionLanguage.values()) {
+            slots.put(language, new Semaphore(Math.max(1, properties.getSlotsPerLanguage()), true));
+        }
+
+        int buildCacheSize = Math.max(1, properties.getBuildCacheSize());
+        this.builds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Build> eldest) {
+                if (size() <= buildCacheSize) {
+                    return false;
+                }
+                buildLocks.remove(eldest.getKey());
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public ExecutionResult execute(ExecutionLanguage language, String code, String input) {
+        try (PreparedProgram program = prepare(language, code)) {
+            return program.compileFailure().orElseGet(() -> program.run(input));
+        }
+    }
+
+    /**
+     * 컴파일(또는 캐시된 빌드 조회)만 슬롯 안에서 하고, 실행은 run 마다 슬롯을 다시 잡는다.
+     */
+    @Override
+    public PreparedProgram prepare(ExecutionLanguage language, String code) {
+        Build build = withSlot(language, () -> acquireBuild(language, code));
+        return new LocalProgram(language, build);
+    }
+
+    private <T> T withSlot(ExecutionLanguage language, SandboxTask<T> task) {
+        Semaphore slot = slots.get(language);
+        try {
+            slot.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+        }
+
+        try {
+            return task.call();
+        } catch (IOException e) {
+            log.error("[Execution] Local sandbox failed for {}", language, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+        } finally {
+            slot.release();
+        }
+    }
+
+    private Build acquireBuild(ExecutionLanguage language, String code) throws IOException, InterruptedException {
+        String key = language.name().toLowerCase(Locale.ROOT) + "-" + HashUtil.sha256Hex(code);
+        Build cached = findBuild(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (buildLocks.computeIfAbsent(key, k -> new Object())) {
+            cached = findBuild(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            Build build = compile(language, code, buildRoot.resolve(key));
+            build.retain();
+            if (!build.timedOut()) {
+                synchronized (builds) {
+                    builds.put(key, build);
+                }
+            } else {
+                build.evict();
+            }
+            return build;
+        }
+    }
+
+    private Build findBuild(String key) {
+        synchronized (builds) {
+            Build build = builds.get(key);
+            if (build != null) {
+                build.retain();
+            }
+            return build;
+        }
+    }
+
+    private Build compile(ExecutionLanguage language, String code, Path directory)
+            throws IOException, InterruptedException {
+        deleteRecursively(directory);
+        Files.createDirectories(directory);
+        handOver(directory);
+
+        return switch (language) {
+            case PYTHON3 -> {
+                Files.writeString(directory.resolve("main.py"), code, StandardCharsets.UTF_8);
+                yield Build.ready(directory, "main.py");
+            }
+            case JAVA -> {
+                String mainClass = detectJavaMainClass(code);
+                Path source = directory.resolve(mainClass + ".java");
+                Files.writeString(source, code, StandardCharsets.UTF_8);
+                yield compileWith(directory, mainClass, List.of(
+                        properties.getJavac(), "-encoding", "UTF-8", "-J-Xmx" + properties.getMemoryMb() + "m",
+                        "-d", directory.toString(), source.toString()));
+            }
+            case CPP -> {
+                Path source = directory.resolve("main.cpp");
+                Files.writeString(source, code, StandardCharsets.UTF_8);
+                yield compileWith(directory, "main", List.of(
+                        properties.getCpp(), "-O2", "-std=gnu++17", "-pipe",
+                        "-o", directory.resolve("main").toString(), source.toString()));
+            }
+        };
+    }
+
+    private Build compileWith(Path directory, String entry, List<String> command)
+            throws IOException, InterruptedException {
+        ProcessResult result = runProcess(command, directory, directory, "", properties.getCompileTimeoutMs(), 0);
+        if (result.timedOut()) {
+            return Build.failed(directory, "Compilation timed out", true);
+        }
+        if (result.exitCode() != 0) {
+            return Build.failed(directory, joinOutput(result.stdout(), result.stderr()), false);
+        }
+        return Build.ready(directory, entry);
+    }
+
+    private ExecutionResult run(ExecutionLanguage language, Build build, String input)
+            throws IOException, InterruptedException {
+        Path runDirectory = Files.createTempDirectory(runRoot, "run-");
+        try {
+            handOver(runDirectory);
+            List<String> command = switch (language) {
+                case PYTHON3 -> List.of(properties.getPython(), "-S", build.directory().resolve(build.entry()).toString());
+                case JAVA -> List.of(properties.getJava(),
+                        "-Xmx" + properties.getMemoryMb() + "m", "-Xss64m",
+                        "-XX:+UseSerialGC", "-XX:TieredStopAtLevel=1", "-XX:ActiveProcessorCount=1",
+                        "-XX:CompressedClassSpaceSize=64m", "-XX:ReservedCodeCacheSize=32m",
+                        "-XX:MaxMetaspaceSize=128m",
+                        "-cp", build.directory().toString(), build.entry());
+                case CPP -> List.of(build.directory().resolve(build.entry()).toString());
+            };
+            // JVM 은 힙 외에도 가상 메모리를 크게 예약하므로 ulimit -v 에 jvm-virtual-overhead-mb 를 더한다.
+            long virtualMemoryMb = language == ExecutionLanguage.JAVA
+                    ? properties.getMemoryMb() + properties.getJvmVirtualOverheadMb()
+                    : properties.getMemoryMb();
+            ProcessResult result = runProcess(command, runDirectory, build.directory(), input,
+                    properties.getWallTimeoutMs(), virtualMemoryMb);
+
+            boolean timeLimitExceeded = result.timedOut() || result.exitCode() == CPU_LIMIT_EXIT_CODE;
+            String stderr = result.stderr();
+            if (timeLimitExceeded) {
+                stderr = joinOutput(stderr, "Time limit exceeded");
+            }
+            if (result.truncated()) {
+                stderr = joinOutput(stderr, "Output truncated at " + properties.getMaxOutputBytes() + " bytes");
+            }
+
+            return new ExecutionResult(ExecutionResponse.builder()
+                    .stdout(result.stdout())
+                    .stderr(stderr)
+                    .exitCode(timeLimitExceeded ? TIME_LIMIT_EXIT_CODE : result.exitCode())
+                    .executionTime(result.elapsedMillis())
+                    .memoryUsage(result.peakMemoryKb())
+                    .build(), !timeLimitExceeded);
+        } finally {
+            deleteRecursively(runDirectory);
+        }
+    }
+
+    private ProcessResult runProcess(
+            List<String> command,
+            Path directory,
+            Path buildDirectory,
+            String input,
+            long timeoutMillis,
+            long virtualMemoryMb) throws IOException, InterruptedException {
+        ProcessBuilder processBuilder =
+                new ProcessBuilder(withLimits(command, directory, buildDirectory, virtualMemoryMb))
+                        .directory(directory.toFile());
+        Map<String, String> environment = processBuilder.environment();
+        String path = environment.getOrDefault("PATH", "/usr/local/bin:/usr/bin:/bin");
+        environment.clear();
+        environment.put("PATH", path);
+        environment.put("HOME", directory.toString());
+        environment.put("LANG", "C.UTF-8");
+        // 스레드마다 잡는 glibc malloc arena 예약이 ulimit -v 를 잡아먹지 않도록 줄인다
+        environment.put("MALLOC_ARENA_MAX", "2");
+
+        long startedAt = System.nanoTime();
+        Process process = processBuilder.start();
+
+        OutputCapture stdout = new OutputCapture(process.getInputStream(), properties.getMaxOutputBytes());
+        OutputCapture stderr = new OutputCapture(process.getErrorStream(), properties.getMaxOutputBytes());
+        byte[] inputBytes = input.getBytes(StandardCharsets.UTF_8);
+        Thread stdinWriter = Thread.ofVirtual().start(() -> {
+            try (OutputStream stdin = process.getOutputStream()) {
+                stdin.write(inputBytes);
+            } catch (IOException ignored) {
+                // 프로그램이 입력을 다 읽지 않고 종료한 경우
+            }
+        });
+
+        // 종료를 기다리는 동안 /proc 의 최대 RSS 를 주기적으로 읽는다. (아주 짧은 실행은 0 일 수 있다)
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long peakMemoryKb = 0;
+        boolean finished = false;
+        while (!finished) {
+            peakMemoryKb = Math.max(peakMemoryKb, readPeakMemoryKb(process));
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                break;
+            }
+            finished = process.waitFor(
+                    Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(MEMORY_POLL_INTERVAL_MS)),
+                    TimeUnit.NANOSECONDS);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        // 정상 종료여도 백그라운드로 띄운 자식이 남아 있을 수 있으므로 항상 그룹 전체를 정리한다.
+        killProcessGroup(process);
+        if (!finished) {
+            process.waitFor(KILL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+
+        stdinWriter.join(1_000);
+        stdout.await();
+        stderr.await();
+        return new ProcessResult(
+                finished ? process.exitValue() : TIME_LIMIT_EXIT_CODE,
+                !finished,
+                stdout.text(),
+                stderr.text(),
+                stdout.truncated() || stderr.truncated(),
+                elapsedMillis,
+                peakMemoryKb);
+    }
+
+    /**
+     * setsid 로 시작했으므로 process 의 pid 가 곧 프로세스 그룹 id 다.
+     * 이중 fork 로 부모를 잃은 자식은 descendants() 에 잡히지 않으므로 그룹 단위로 SIGKILL 을 보낸다.
+     */
+    private void killProcessGroup(Process process) throws InterruptedException {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        try {
+            Process kill = new ProcessBuilder("/bin/sh", "-c", "kill -KILL -\"$0\" 2>/dev/null",
+                    Long.toString(process.pid()))
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!kill.waitFor(KILL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                kill.destroyForcibly();
+            }
+        } catch (IOException e) {
+            log.warn("[Execution] Failed to kill process group {}: {}", process.pid(), e.getMessage());
+        }
+        process.destroyForcibly();
+    }
+
+    /**
+     * setsid, sh 가 exec 로 대상 프로그램으로 바뀌므로 같은 pid 의 VmHWM(최대 RSS, kB)을 읽는다.
+     * bwrap 처럼 exec 하지 않고 자식으로 실행하는 wrapper 도 있으므로 자손 중 가장 큰 값을 쓴다.
+     */
+    private static long readPeakMemoryKb(Process process) {
+        long peak = readPeakMemoryKb(process.pid());
+        return Math.max(peak, process.descendants()
+                .mapToLong(descendant -> readPeakMemoryKb(descendant.pid()))
+                .max()
+                .orElse(0L));
+    }
+
+    private static long readPeakMemoryKb(long pid) {
+        try (Stream<String> lines = Files.lines(PROC_ROOT.resolve(Long.toString(pid)).resolve("status"))) {
+            return lines.filter(line -> line.startsWith("VmHWM:"))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            // 이미 종료됐거나 /proc 이 없는 환경
+            return 0L;
+        }
+    }
+
+    /**
+     * setsid wrapper... sh -c 'ulimit ... && exec "$0" "$@"' command... 형태로 감싸 인자를 다시 따옴표 처리하지 않는다.
+     * 한도 설정이 하나라도 실패하면 실행하지 않는다. 프로세스 수는 dash 에서 -p 옵션이다.
+     * ulimit -u 는 UID 단위 한도이므로 wrapper 가 전용 UID 로 바꿔 실행한다는 전제다.
+     * wrapper 인자의 {dir}, {build} 는 이번 실행의 작업 디렉터리, 빌드 디렉터리로 바꾼다. (컴파일은 둘이 같다)
+     */
+    private List<String> withLimits(List<String> command, Path directory, Path buildDirectory, long virtualMemoryMb) {
+        StringBuilder script = new StringBuilder()
+                .append("ulimit -t ").append(properties.getCpuTimeSeconds()).append(" && ")
+                .append("ulimit -f ").append(properties.getMaxFileSizeKb()).append(" && ")
+                .append("{ ulimit -u ").append(properties.getMaxProcesses()).append(" 2>/dev/null")
+                .append(" || ulimit -p ").append(properties.getMaxProcesses()).append("; } && ");
+        if (virtualMemoryMb > 0) {
+            script.append("ulimit -v ").append(virtualMemoryMb * 1024L).append(" && ");
+        }
+        script.append("exec \"$0\" \"$@\"");
+
+        List<String> wrapped = new ArrayList<>();
+        wrapped.add("setsid");
+        for (String argument : properties.getWrapper()) {
+            wrapped.add(argument
+                    .replace("{dir}", directory.toString())
+                    .replace("{build}", buildDirectory.toString()));
+        }
+        wrapped.add("/bin/sh");
+        wrapped.add("-c");
+        wrapped.add(script.toString());
+        wrapped.addAll(command);
+        return wrapped;
+    }
+
+    /**
+     * 샌드박스 사용자가 쓸 수 있도록 디렉터리 소유자를 넘긴다. (API 프로세스가 root 로 떠 있어야 한다)
+     */
+    private void handOver(Path directory) throws IOException {
+        if (sandboxUser != null) {
+            Files.setOwner(directory, sandboxUser);
+        }
+    }
+
+    private String detectJavaMainClass(String code) {
+        Matcher matcher = JAVA_PUBLIC_CLASS.matcher(code);
+        return matcher.find() ? matcher.group(1) : "Main";
+    }
+
+    private String joinOutput(String first, String second) {
+        if (first == null || first.isBlank()) {
+            return second == null ? "" : second;
+        }
+        if (second == null || second.isBlank()) {
+            return first;
+        }
+        return first.endsWith("\n") ? first + second : first + "\n" + second;
+    }
+
+    private static void deleteRecursively(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(target -> {
+                try {
+                    Files.deleteIfExists(target);
+                } catch (IOException e) {
+                    log.debug("[Execution] Failed to delete {}: {}", target, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.debug("[Execution] Failed to walk {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record ProcessResult(
+            int exitCode,
+            boolean timedOut,
+            String stdout,
+            String stderr,
+            boolean truncated,
+            long elapsedMillis,
+            long peakMemoryKb) {
+    }
+
+    @FunctionalInterface
+    private interface SandboxTask<T> {
+        T call() throws IOException, InterruptedException;
+    }
+
+    /**
+     * 한 번 준비한 빌드를 여러 입력으로 실행한다. close 할 때 빌드 참조를 놓는다.
+     */
+    private final class LocalProgram implements PreparedProgram {
+        private final ExecutionLanguage language;
+        private final Build build;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private LocalProgram(ExecutionLanguage language, Build build) {
+            this.language = language;
+            this.build = build;
+        }
+
+        @Override
+        public Optional<ExecutionResult> compileFailure() {
+            if (build.success()) {
+                return Optional.empty();
+            }
+            return Optional.of(new ExecutionResult(ExecutionResponse.builder()
+                    .stdout("")
+                    .stderr(build.compileOutput())
+                    .exitCode(1)
+                    .executionTime(0L)
+                    .build(), !build.timedOut()));
+        }
+
+        @Override
+        public ExecutionResult run(String input) {
+            return withSlot(language, () -> LocalSandboxExecutionBackend.this.run(language, build, input));
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                build.release();
+            }
+        }
+    }
+
+    /**
+     * 빌드 산출물. 실행 중인 쪽이 있으면 캐시에서 밀려나도 마지막 사용자가 끝난 뒤 지운다.
+     */
+    private static final class Build {
+        private final Path directory;
+        private final String entry;
+        private final boolean success;
+        private final String compileOutput;
+        private final boolean timedOut;
+        private final AtomicInteger users = new AtomicInteger();
+        private volatile boolean evicted;
+
+        private Build(Path directory, String entry, boolean success, String compileOutput, boolean timedOut) {
+            this.directory = directory;
+            this.entry = entry;
+            this.success = success;
+            this.compileOutput = compileOutput;
+            this.timedOut = timedOut;
+        }
+
+        static Build ready(Path directory, String entry) {
+            return new Build(directory, entry, true, "", false);
+        }
+
+        static Build failed(Path directory, String compileOutput, boolean timedOut) {
+            return new Build(directory, null, false, compileOutput, timedOut);
+        }
+
+        Path directory() {
+            return directory;
+        }
+
+        String entry() {
+            return entry;
+        }
+
+        boolean success() {
+            return success;
+        }
+
+        String compileOutput() {
+            return compileOutput;
+        }
+
+        boolean timedOut() {
+            return timedOut;
+        }
+
+        void retain() {
+            users.incrementAndGet();
+        }
+
+        void release() {
+            if (users.decrementAndGet() == 0 && evicted) {
+                deleteRecursively(directory);
+            }
+        }
+
+        void evict() {
+            evicted = true;
+            if (users.get() == 0) {
+                deleteRecursively(directory);
+            }
+        }
+    }
+
+    /**
+     * stdout/stderr 를 최대 크기까지만 담고 나머지는 읽어서 버린다. (파이프가 차서 프로세스가 멈추지 않도록)
+     */
+    private static final class OutputCapture {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final Thread reader;
+        private volatile boolean truncated;
+
+        OutputCapture(InputStream stream, int maxBytes) {
+            this.reader = Thread.ofVirtual().start(() -> {
+                byte[] chunk = new byte[8192];
+                try (InputStream input = stream) {
+                    int read;
+                    while ((read = input.read(chunk)) != -1) {
+                        int writable = Math.min(read, maxBytes - buffer.size());
+                        if (writable > 0) {
+                            buffer.write(chunk, 0, writable);
+                        }
+                        if (writable < read) {
+                            truncated = true;
+                        }
+                    }
+                } catch (IOException ignored) {
+                    // 프로세스가 강제 종료되면 스트림이 닫힌다.
+                }
+            });
+        }
+
+        void await() throws InterruptedException {
+            reader.join(1_000);
+        }
+
+        boolean truncated() {
+            return truncated;
+        }
+
+        String text() {
+            synchronized (buffer) {
+                return buffer.toString(StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.peekle.domain.execution.service.backend;
+
+import com.peekle.domain.execution.config.ExecutionProperties;
+import com.peekle.domain.execution.dto.response.ExecutionResponse;
+import com.peekle.domain.execution.enums.ExecutionLanguage;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
+import com.peekle.global.http.OutboundHttpException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * tio.run 원격 실행 백엔드 (execution.backend=tio, 기본값)
+ * - tio 전용 커넥션 풀/동시 호출 제한/타임아웃은 OutboundHttpClients(outbound.destinations.tio)를 따른다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "execution.backend", havingValue = "tio", matchIfMissing = true)
+public class TioExecutionBackend implements ExecutionBackend {
+
+    private final ExecutionProperties.Tio properties;
+    private final OutboundHttpClients outboundHttpClients;
+
+    public TioExecutionBackend(ExecutionProperties executionProperties, OutboundHttpClients outboundHttpClients) {
+        this.properties = executionProperties.getTio();
+        this.outboundHttpClients = outboundHttpClients;
+    }
+
+    @Override
+    public ExecutionResult execute(ExecutionLanguage language, String code, String input) {
+        try {
+            byte[] payload = buildPayload(language, code, input);
+            byte[] compressedPayload = compressDeflateRaw(payload);
+
+            HttpRequest.Builder httpRequest = HttpRequest.newBuilder()
+                    .uri(URI.create(properties.getUrl()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(compressedPayload));
+
+            HttpResponse<InputStream> response = outboundHttpClients.send(OutboundDestination.TIO, httpRequest,
+                    HttpResponse.BodyHandlers.ofInputStream());
+
+            if (response.statusCode() != 200) {
+                response.body().close();
+                log.error("TIO run api failed with status {}", response.statusCode());
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+
+            try (GZIPInputStream gzipInputStream = new GZIPInputStream(response.body())) {
+                byte[] uncompressed = gzipInputStream.readAllBytes();
+                String resultStr = new String(uncompressed, StandardCharsets.UTF_8);
+                return new ExecutionResult(parseTioResponse(resultStr), true);
+            }
+        } catch (BusinessException e) {
+            throw e;
+        } catch (OutboundHttpException e) {
+            if (e.isUnavailable() || e.getReason() == OutboundHttpException.Reason.INTERRUPTED) {
+                // 응답이 늦거나 동시 호출 자리가 없으면 잠시 뒤 다시 시도하도록 알린다
+                log.warn("TIO run api unavailable: {}", e.getMessage());
+                throw new BusinessException(ErrorCode.EXECUTION_UNAVAILABLE);
+            }
+            log.error("TIO run api failed", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (Exception e) {
+            log.error("Execution failed", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private byte[] buildPayload(ExecutionLanguage language, String code, String input) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        // Language
+        baos.write(("Vlang\0" + "1\0" + language.getTioId() + "\0").getBytes(StandardCharsets.UTF_8));
+
+        // Code
+        byte[] codeBytes = code.getBytes(StandardCharsets.UTF_8);
+        baos.write(("F.code.tio\0" + codeBytes.length + "\0").getBytes(StandardCharsets.UTF_8));
+        baos.write(codeBytes);
+
+        // Input
+        byte[] inputBytes = input.getBytes(StandardCharsets.UTF_8);
+        baos.write(("F.input.tio\0" + inputBytes.length + "\0").getBytes(StandardCharsets.UTF_8));
+        baos.write(inputBytes);
+
+        // Args (empty)
+        baos.write(("Vargs\0" + "0\0").getBytes(StandardCharsets.UTF_8));
+
+        // R command
+        baos.write("R".getBytes(StandardCharsets.UTF_8));
+
+        return baos.toByteArray();
+    }
+
+    private byte[] compressDeflateRaw(byte[] data) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        // nowrap = true for raw deflate
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try (DeflaterOutputStream dos = new DeflaterOutputStream(baos, deflater)) {
+            dos.write(data);
+        }
+        return baos.toByteArray();
+    }
+
+    private ExecutionResponse parseTioResponse(String rawResponse) {
+        if (rawResponse == null || rawResponse.length() < 16) {
+            return ExecutionResponse.builder()
+                    .stdout("")
+                    .stderr(rawResponse)
+                    .exitCode(-1)
+                    .executionTime(0L)
+                    .build();
+        }
+
+        String token = rawResponse.substring(0, 16);
+        String[] parts = rawResponse.substring(16).split(token);
+
+        String stdout = parts.length > 0 ? parts[0] : "";
+        String stderrAndStats = parts.length > 1 ? parts[1] : "";
+
+        // TIO returns stderr before stats.
+        String[] lines = stderrAndStats.split("\n");
+        StringBuilder stderrBuilder = new StringBuilder();
+        Integer exitCode = 0;
+        Long executionTimeSeconds = 0L;
+
+        for (String line : lines) {
+            if (line.startsWith("Real time: ")) {
+                try {
+                    String secStr = line.replace("Real time: ", "").replace(" s", "").trim();
+                    executionTimeSeconds = (long) (Double.parseDouble(secStr) * 1000);
+                } catch (Exception ignored) {
+                }
+            } else if (line.startsWith("Exit code: ")) {
+                try {
+                    exitCode = Integer.parseInt(line.replace("Exit code: ", "").trim());
+                } catch (Exception ignored) {
+                }
+            } else if (!line.trim().isEmpty() && !line.startsWith("User time: ") && !line.startsWith("Sys. time: ")
+                    && !line.startsWith("CPU share: ") && !line.startsWith("Exit code: ")) {
+                stderrBuilder.append(line).append("\n");
+            }
+        }
+
+        return ExecutionResponse.builder()
+                .stdout(stdout)
+                .stderr(stderrBuilder.toString().trim())
+                .exitCode(exitCode)
+                .executionTime(executionTimeSeconds)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.peekle.domain.execution.socket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 실행 결과 토픽(/topic/executions/users/{userId})은 세션 본인 것만 구독할 수 있다.
+ * simple broker 는 구독 권한을 보지 않으므로, 다른 유저 id 로의 SUBSCRIBE 는 여기서 거절해 ERROR 프레임으로 돌려준다.
+ */
+@Component
+public class ExecutionTopicInterceptor implements ChannelInterceptor {
+
+    private static final String EXECUTION_USER_TOPIC_PREFIX = "/topic/executions/users/";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (!StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(EXECUTION_USER_TOPIC_PREFIX)) {
+            return message;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        String target = destination.substring(EXECUTION_USER_TOPIC_PREFIX.length());
+        if (sessionAttributes == null || !(sessionAttributes.get("userId") instanceof Long userId)
+                || !target.equals(String.valueOf(userId))) {
+            throw new MessageDeliveryException(message, "다른 유저의 실행 결과는 구독할 수 없습니다: " + destination);
+        }
+        return message;
+    }
+}
@@ -55,7 +55,8 @@ public class GameSocketController {
                 log.info("Team Mode Detected. Assigning User {} to Video Room Suffix: {}", userId, roomSuffix);
             }
 
-            String token = mediaService.createGameAccessToken(request.getGameId(), userId, nickname, roomSuffix);
+            String token = mediaService.createGameAccessToken(request.getGameId(), userId, nickname, roomSuffix,
+                    headerAccessor.getSessionId());
             log.info("Generated LiveKit token for user {}, game {} (Suffix: {})", userId, request.getGameId(),
                     roomSuffix);
 
@@ -70,7 +71,7 @@ public class GameSocketController {
         }
 
         // [New] Add to online users list
-        gameAfterService.addOnlineUser(request.getGameId(), userId);
+        gameAfterService.addOnlineUser(request.getGameId(), userId, headerAccessor.getSessionId());
 
         // [New] Broadcast updated online user list
         gameAfterService.broadcastOnlineUsers(request.getGameId());
@@ -0,0 +1,120 @@
+package com.peekle.domain.game.repository;
+
+import com.peekle.domain.point.enums.PointCategory;
+import com.peekle.domain.user.entity.User;
+import com.peekle.global.metrics.BenchmarkSqlStatisticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class GameRewardJdbcRepository {
+
+    // 존재하는 유저에게만 로그를 남긴다 (기존 findById().ifPresent 와 동일한 의미)
+    private static final String INSERT_POINT_LOG_SQL = "INSERT INTO point_logs "
+            + "(user_id, category, amount, description, metadata, created_at, updated_at) "
+            + "SELECT u.id, ?, ?, ?, ?, ?, ? FROM users u WHERE u.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Optional<BenchmarkSqlStatisticsService> benchmarkSqlStatisticsService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 게임 보상을 한 번에 반영한다.
+     * 리그 포인트는 CASE 식 UPDATE 한 번, 포인트 로그는 batch INSERT 한 번으로 처리한다.
+     * @return 포인트 로그가 실제로 기록된 유저 수
+     */
+    public int applyRewards(List<RewardWrite> rewards, LocalDateTime now) {
+        if (rewards.isEmpty()) {
+            return 0;
+        }
+
+        updateLeaguePoints(rewards, now);
+        int written = insertPointLogs(rewards, now);
+        recordJdbcStatements(2);
+
+        detachManaged(rewards);
+        return written;
+    }
+
+    private void updateLeaguePoints(List<RewardWrite> rewards, LocalDateTime now) {
+        StringBuilder sql = new StringBuilder("UPDATE users SET league_point = COALESCE(league_point, 0) + CASE id");
+        List<Object> args = new ArrayList<>(rewards.size() * 3 + 1);
+        for (RewardWrite reward : rewards) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(reward.userId());
+            args.add(reward.points());
+        }
+        sql.append(" ELSE 0 END, updated_at = ? WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(rewards.size(), "?")))
+                .append(")");
+        args.add(Timestamp.valueOf(now));
+        for (RewardWrite reward : rewards) {
+            args.add(reward.userId());
+        }
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private int insertPointLogs(List<RewardWrite> rewards, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[] results = jdbcTemplate.batchUpdate(INSERT_POINT_LOG_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RewardWrite reward = rewards.get(i);
+                ps.setString(1, PointCategory.GAME.name());
+                ps.setInt(2, reward.points());
+                ps.setString(3, reward.description());
+                ps.setString(4, reward.metadata());
+                ps.setTimestamp(5, timestamp);
+                ps.setTimestamp(6, timestamp);
+                ps.setLong(7, reward.userId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rewards.size();
+            }
+        });
+
+        int written = 0;
+        for (int result : results) {
+            // 드라이버가 batch 결과를 SUCCESS_NO_INFO(-2)로 돌려주는 경우도 기록된 것으로 본다.
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private void detachManaged(List<RewardWrite> rewards) {
+        for (RewardWrite reward : rewards) {
+            // getReference 는 이미 관리 중인 인스턴스가 있으면 그대로 돌려주고, 없으면 SQL 없이 프록시만 만든다.
+            entityManager.detach(entityManager.getReference(User.class, reward.userId()));
+        }
+    }
+
+    // JdbcTemplate 문장은 Hibernate 통계에 잡히지 않으므로 game.finish.sql_count 비교를 위해 직접 더한다.
+    private void recordJdbcStatements(int count) {
+        benchmarkSqlStatisticsService.ifPresent(service -> service.recordJdbcStatements(count));
+    }
+
+    public record RewardWrite(Long userId, int rank, int points, String description, String metadata) {
+    }
+}
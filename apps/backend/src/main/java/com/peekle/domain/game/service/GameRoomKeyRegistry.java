@@ -0,0 +1,127 @@
+package com.peekle.domain.game.service;
+
+import com.peekle.global.redis.RedisKeyConst;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게임 방 단위 Redis 키 레지스트리
+ * - 유저/문제별로 생성되는 동적 키(점수, 해결 여부, 코드, 예상 길이, 예약)는 생성 시 레지스트리에 등록
+ * - 방 삭제 시 고정 키 + 레지스트리 키를 Lua 스크립트 한 번으로 UNLINK
+ * - 모든 방 키는 {roomId} 해시 태그를 공유하므로 클러스터에서도 같은 슬롯에서 실행된다
+ * - 레지스트리도 방 키와 같은 TTL 을 걸어, 정리되지 않은 방이나 삭제 뒤 늦게 들어온 등록이 영구히 남지 않게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameRoomKeyRegistry {
+
+    private static final String METRIC_RECLAIMED_BYTES = "redis.game.room.reclaimed_bytes";
+    private static final String METRIC_RECLAIMED_KEYS = "redis.game.room.reclaimed_keys";
+    // 방 동적 키(코드, 점수, 해결 여부)의 최대 TTL 과 같다
+    private static final Duration REGISTRY_TTL = Duration.ofHours(6);
+
+    // KEYS[1] = 레지스트리, ARGV[1] = 키, ARGV[2] = TTL(ms)
+    private static final DefaultRedisScript<Long> REGISTER_SCRIPT = buildScript(
+            "redis.call('SADD', KEYS[1], ARGV[1])\n"
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+                    + "return 1\n", Long.class);
+
+    // KEYS[1] = 레지스트리, KEYS[2..] = 고정 키. 존재하는 키의 MEMORY USAGE 합계를 반환한다.
+    // MEMORY 가 막힌 환경(일부 매니지드 Redis)에서는 바이트를 0 으로 세고 UNLINK 는 그대로 한다.
+    private static final DefaultRedisScript<List> TEARDOWN_SCRIPT = buildScript(
+            "local targets = {}\n"
+                    + "local total = 0\n"
+                    + "local function collect(key)\n"
+                    + "  local bytes = redis.pcall('MEMORY', 'USAGE', key)\n"
+                    + "  if type(bytes) == 'table' then\n"
+                    + "    bytes = redis.call('EXISTS', key) == 1 and 0 or false\n"
+                    + "  end\n"
+                    + "  if bytes then\n"
+                    + "    total = total + bytes\n"
+                    + "    targets[#targets + 1] = key\n"
+                    + "  end\n"
+                    + "end\n"
+                    + "for _, key in ipairs(redis.call('SMEMBERS', KEYS[1])) do\n"
+                    + "  collect(key)\n"
+                    + "end\n"
+                    + "for i = 1, #KEYS do\n"
+                    + "  collect(KEYS[i])\n"
+                    + "end\n"
+                    + "for i = 1, #targets, 500 do\n"
+                    + "  redis.call('UNLINK', unpack(targets, i, math.min(i + 499, #targets)))\n"
+                    + "end\n"
+                    + "return {total, #targets}\n", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private static <T> DefaultRedisScript<T> buildScript(String scriptText, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(resultType);
+        return script;
+    }
+
+    /**
+     * 방 단위 동적 키를 레지스트리에 등록하고 레지스트리 TTL 을 갱신한다. (SADD 이므로 중복 등록은 무시됨)
+     */
+    public void register(Long roomId, String key) {
+        stringRedisTemplate.execute(REGISTER_SCRIPT, List.of(registryKey(roomId)),
+                key, String.valueOf(REGISTRY_TTL.toMillis()));
+    }
+
+    /**
+     * 방의 모든 키를 한 번에 UNLINK 하고 회수한 메모리(bytes)를 반환한다.
+     */
+    public long teardown(Long roomId, String trigger) {
+        List<?> result = stringRedisTemplate.execute(TEARDOWN_SCRIPT, roomKeys(roomId));
+        long reclaimedBytes = readLong(result, 0);
+        long reclaimedKeys = readLong(result, 1);
+
+        meterRegistry.summary(METRIC_RECLAIMED_BYTES, "trigger", trigger).record(reclaimedBytes);
+        meterRegistry.summary(METRIC_RECLAIMED_KEYS, "trigger", trigger).record(reclaimedKeys);
+        log.info("🗑️ [Game Room] Unlinked {} keys ({} bytes) for room {} (trigger: {})",
+                reclaimedKeys, reclaimedBytes, roomId, trigger);
+        return reclaimedBytes;
+    }
+
+    private List<String> roomKeys(Long roomId) {
+        return List.of(
+                registryKey(roomId),
+                String.format(RedisKeyConst.GAME_ROOM_INFO, roomId),
+                String.format(RedisKeyConst.GAME_STATUS, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_TEAMS, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_PRESENCE, roomId),
+                String.format(RedisKeyConst.GAME_START_TIME, roomId),
+                String.format(RedisKeyConst.GAME_RANKING, roomId),
+                String.format(RedisKeyConst.GAME_TEAM_RANKING, roomId),
+                String.format(RedisKeyConst.GAME_PROBLEMS, roomId),
+                String.format(RedisKeyConst.GAME_PROBLEMS_PREVIEW, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_INVITE_CODE, roomId),
+                String.format(RedisKeyConst.GAME_FINISH_TIMER, roomId),
+                String.format(RedisKeyConst.GAME_FINISH_CLAIM, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_BROADCASTED, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_RESERVED_COUNT, roomId));
+    }
+
+    private String registryKey(Long roomId) {
+        return String.format(RedisKeyConst.GAME_ROOM_KEY_REGISTRY, roomId);
+    }
+
+    private long readLong(List<?> result, int index) {
+        if (result == null || result.size() <= index || !(result.get(index) instanceof Number number)) {
+            return 0L;
+        }
+        return number.longValue();
+    }
+}
@@ -1,10 +1,8 @@
 package com.peekle.domain.game.service;
 
-import com.peekle.domain.point.entity.PointLog;
-import com.peekle.domain.point.enums.PointCategory;
-import com.peekle.domain.point.repository.PointLogRepository;
-import com.peekle.domain.user.entity.User;
-import com.peekle.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peekle.domain.game.repository.GameRewardJdbcRepository;
 import com.peekle.global.redis.RedisKeyConst;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +12,7 @@ import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Slf4j
@@ -24,8 +23,8 @@ public class GameService {
     private static final String METRIC_GAME_FINISH_POINT_LOG_WRITTEN = "game.finish.point_log_written";
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final UserRepository userRepository;
-    private final PointLogRepository pointLogRepository;
+    private final GameRewardJdbcRepository gameRewardJdbcRepository;
+    private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
 
     /**
@@ -56,18 +55,17 @@ public class GameService {
             return Collections.emptyMap();
         }
 
-        // 방 정보 조회 (메타데이터용)
+        // 방 정보 조회 (메타데이터용) - 필요한 필드만 한 번에
         String infoKey = String.format(RedisKeyConst.GAME_ROOM_INFO, gameId);
-        String mode = (String) redisTemplate.opsForHash().get(infoKey, "mode");
-        String roomTitle = (String) redisTemplate.opsForHash().get(infoKey, "title");
+        List<Object> roomFields = redisTemplate.opsForHash().multiGet(infoKey, List.of("mode", "title"));
+        String mode = roomFields != null ? (String) roomFields.get(0) : null;
+        String roomTitle = roomFields != null ? (String) roomFields.get(1) : null;
 
-        Map<Long, Integer> gainedPointsMap = new HashMap<>();
-        int totalPlayers = rankingSet.size();
-
-        // 팀전 로직을 위한 준비
-        int[] scorePool = new int[totalPlayers];
-        for (int i = 0; i < totalPlayers; i++) {
-            scorePool[i] = (totalPlayers - i) * 10; // 1등부터 N*10, (N-1)*10 ...
+        // 팀전이면 팀 정보도 한 번만 읽는다 (유저별 HGET 제거)
+        Map<Object, Object> teamMap = Collections.emptyMap();
+        if ("TEAM".equals(teamType) && winner != null) {
+            String teamsKey = String.format(RedisKeyConst.GAME_ROOM_TEAMS, gameId);
+            teamMap = redisTemplate.opsForHash().entries(teamsKey);
         }
 
         // 각 유저별 기본 정보 매핑 (UserId -> RankIndex)
@@ -76,19 +74,54 @@ public class GameService {
             rankedUserIds.add(Long.parseLong(String.valueOf(entry.getValue())));
         }
 
+        // 2. 스냅샷만으로 메모리에서 보상 계산
+        Map<Long, Integer> gainedPointsMap = calculateRewards(rankedUserIds, winner, teamType, teamMap);
+
+        String displayTitle = roomTitle != null ? roomTitle : String.valueOf(gameId);
+        List<GameRewardJdbcRepository.RewardWrite> rewards = new ArrayList<>(rankedUserIds.size());
+        for (int rank = 0; rank < rankedUserIds.size(); rank++) {
+            Long userId = rankedUserIds.get(rank);
+            int gainedPoints = gainedPointsMap.get(userId);
+            rewards.add(new GameRewardJdbcRepository.RewardWrite(
+                    userId,
+                    rank + 1,
+                    gainedPoints,
+                    String.format("게임 결과 보상 (방: %s, 순위: %d)", displayTitle, rank + 1),
+                    buildRewardMetadata(rank + 1, gameId, displayTitle, mode, teamType)));
+        }
+
+        // 3. 리그 포인트 일괄 UPDATE + 포인트 로그 batch INSERT
+        int written = gameRewardJdbcRepository.applyRewards(rewards, LocalDateTime.now());
+        meterRegistry.counter(METRIC_GAME_FINISH_POINT_LOG_WRITTEN, "trigger", trigger).increment(written);
+
+        log.info("✅ Game result processed. {} players received rewards. ({} point logs written)",
+                rewards.size(), written);
+        return gainedPointsMap;
+    }
+
+    /**
+     * 순위/팀 스냅샷으로 유저별 획득 포인트 계산
+     * - 개인전: 1등부터 N*10, (N-1)*10 ...
+     * - 팀전: 상위 (승리팀 인원)명의 점수 합을 승리팀이, 나머지를 패배팀이 균등 분배
+     * - 최소 10점 (참가상) 보장
+     */
+    private Map<Long, Integer> calculateRewards(List<Long> rankedUserIds, String winner, String teamType,
+            Map<Object, Object> teamMap) {
+        int totalPlayers = rankedUserIds.size();
+        int[] scorePool = new int[totalPlayers];
+        for (int i = 0; i < totalPlayers; i++) {
+            scorePool[i] = (totalPlayers - i) * 10;
+        }
+
+        boolean teamMode = "TEAM".equals(teamType) && winner != null;
         int winTeamTotalScore = 0;
         int loseTeamTotalScore = 0;
         int winTeamCount = 0;
         int loseTeamCount = 0;
 
-        // 팀전일 경우 승리팀/패배팀 점수 Pool 계산
-        if ("TEAM".equals(teamType) && winner != null) {
-            // Redis에서 팀 정보 가져오기
-            String teamsKey = String.format(RedisKeyConst.GAME_ROOM_TEAMS, gameId);
-            Map<Object, Object> teamMap = redisTemplate.opsForHash().entries(teamsKey);
-
-            for (Object obj : teamMap.values()) {
-                if (winner.equals(obj))
+        if (teamMode) {
+            for (Object team : teamMap.values()) {
+                if (winner.equals(team))
                     winTeamCount++;
                 else
                     loseTeamCount++;
@@ -96,77 +129,46 @@ public class GameService {
 
             // 점수 풀 분배 (상위 N명 점수 -> 승리팀, 하위 M명 점수 -> 패배팀)
             int currentIndex = 0;
-            for (int i = 0; i < winTeamCount; i++) {
-                if (currentIndex < totalPlayers)
-                    winTeamTotalScore += scorePool[currentIndex++];
+            for (int i = 0; i < winTeamCount && currentIndex < totalPlayers; i++) {
+                winTeamTotalScore += scorePool[currentIndex++];
             }
-            for (int i = 0; i < loseTeamCount; i++) {
-                if (currentIndex < totalPlayers)
-                    loseTeamTotalScore += scorePool[currentIndex++];
+            for (int i = 0; i < loseTeamCount && currentIndex < totalPlayers; i++) {
+                loseTeamTotalScore += scorePool[currentIndex++];
             }
         }
 
-        int rank = 0;
-        for (Long userId : rankedUserIds) {
-            int points = 0;
-
-            if ("TEAM".equals(teamType) && winner != null) {
-                // 팀전 포인트 계산
-                String teamsKey = String.format(RedisKeyConst.GAME_ROOM_TEAMS, gameId);
-                String userTeam = (String) redisTemplate.opsForHash().get(teamsKey, String.valueOf(userId));
-
+        Map<Long, Integer> gainedPointsMap = new LinkedHashMap<>();
+        for (int rank = 0; rank < totalPlayers; rank++) {
+            Long userId = rankedUserIds.get(rank);
+            int points;
+            if (teamMode) {
+                Object userTeam = teamMap.get(String.valueOf(userId));
                 if (winner.equals(userTeam)) {
                     points = winTeamCount > 0 ? winTeamTotalScore / winTeamCount : 0;
                 } else {
                     points = loseTeamCount > 0 ? loseTeamTotalScore / loseTeamCount : 0;
                 }
             } else {
-                // 개인전 포인트 계산 (순위별 차등)
-                points = (rank < totalPlayers) ? scorePool[rank] : 10;
+                points = scorePool[rank];
             }
-
-            // 포인트가 0보다 작으면 최소 10점 (참가상) 보장 로직이 필요하다면 추가
-            if (points < 10)
-                points = 10;
-
-            final int gainedPoints = points;
-            final int finalRank = rank;
-
-            gainedPointsMap.put(userId, gainedPoints);
-
-            // 유저 조회 및 포인트 업데이트
-            userRepository.findById(userId).ifPresent(user -> {
-                // 리그 포인트 증가
-                user.addLeaguePoint(gainedPoints);
-                // 승급/강등 로직은 별도로 처리하거나 User 엔티티 메서드 활용
-                // 여기선 단순 포인트 증가만
-
-                userRepository.save(user);
-
-                // 포인트 로그 저장
-                String displayTitle = roomTitle != null ? roomTitle : String.valueOf(gameId);
-                String description = String.format("게임 결과 보상 (방: %s, 순위: %d)", displayTitle, finalRank + 1);
-                String metadata = String.format(
-                        "{\"rank\": %d, \"roomId\": \"%d\", \"roomTitle\": \"%s\", \"title\": \"게임 결과 보상\", \"mode\": \"%s\", \"teamType\": \"%s\"}",
-                        finalRank + 1, gameId, displayTitle.replace("\"", "\\\""), mode != null ? mode : "UNKNOWN",
-                        teamType != null ? teamType : "UNKNOWN");
-
-                PointLog pointLog = new PointLog(
-                        user,
-                        PointCategory.GAME,
-                        gainedPoints,
-                        description,
-                        metadata);
-                pointLogRepository.save(pointLog);
-                meterRegistry.counter(METRIC_GAME_FINISH_POINT_LOG_WRITTEN, "trigger", trigger).increment();
-
-                log.info("💰 User {} awarded {} points (Rank: {})", userId, gainedPoints, finalRank + 1);
-            });
-
-            rank++;
+            gainedPointsMap.put(userId, Math.max(points, 10));
         }
-
-        log.info("✅ Game result processed. {} players received rewards.", rank);
         return gainedPointsMap;
     }
+
+    private String buildRewardMetadata(int rank, Long gameId, String displayTitle, String mode, String teamType) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("rank", rank);
+        metadata.put("roomId", String.valueOf(gameId));
+        metadata.put("roomTitle", displayTitle);
+        metadata.put("title", "게임 결과 보상");
+        metadata.put("mode", mode != null ? mode : "UNKNOWN");
+        metadata.put("teamType", teamType != null ? teamType : "UNKNOWN");
+        try {
+            return objectMapper.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize game reward metadata for Game {}", gameId, e);
+            return null;
+        }
+    }
 }
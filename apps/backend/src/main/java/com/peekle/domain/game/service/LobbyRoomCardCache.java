@@ -0,0 +1,96 @@
+package com.peekle.domain.game.service;
+
+import com.peekle.domain.problem.entity.Problem;
+import com.peekle.global.redis.RedisKeyConst;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비 방 카드 중 방 설정(문제집)에서만 결정되는 부분을 공유 캐시로 보관
+ * - 키: 문제집 ID + 문제집 캐시 버전(previewCachedAt)
+ * - 같은 문제집으로 방이 연달아 만들어져도 미리보기 조회는 버전당 한 번만 수행
+ * - 문제집 캐시가 재구성되면 버전이 바뀌므로 이전 카드는 TTL 로 자연 소멸
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LobbyRoomCardCache {
+
+    private static final long CARD_TTL_MINUTES = 10;
+    private static final String METRIC_LOBBY_CARD_HIT = "game.lobby.card.hit";
+    private static final String METRIC_LOBBY_CARD_MISS = "game.lobby.card.miss";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final WorkbookPreviewCacheService workbookPreviewCacheService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 문제집 방의 로비 카드 필드(workbookTitle, problems)를 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getWorkbookCard(Long roomId, Map<Object, Object> roomInfo) {
+        String cardKey = resolveCardKey(roomInfo);
+        if (cardKey != null) {
+            Object cached = redisTemplate.opsForValue().get(cardKey);
+            if (cached instanceof Map<?, ?> cachedCard) {
+                meterRegistry.counter(METRIC_LOBBY_CARD_HIT).increment();
+                return (Map<String, Object>) cachedCard;
+            }
+        }
+
+        meterRegistry.counter(METRIC_LOBBY_CARD_MISS).increment();
+        Map<String, Object> card = buildWorkbookCard(roomId, roomInfo);
+
+        // 미리보기 적재 과정에서 버전이 새로 기록되었을 수 있으므로 최신 방 정보로 키를 다시 계산한다.
+        String storeKey = cardKey != null ? cardKey : resolveCardKey(reloadRoomInfo(roomId));
+        if (storeKey != null && card.containsKey("problems")) {
+            redisTemplate.opsForValue().set(storeKey, card, CARD_TTL_MINUTES, TimeUnit.MINUTES);
+        }
+        return card;
+    }
+
+    private Map<String, Object> buildWorkbookCard(Long roomId, Map<Object, Object> roomInfo) {
+        Map<String, Object> card = new HashMap<>();
+        card.put("workbookTitle", workbookPreviewCacheService.resolveWorkbookTitle(roomInfo));
+
+        List<Map<String, Object>> problems = new ArrayList<>();
+        for (Problem problem : workbookPreviewCacheService.loadPreviewProblems(roomId)) {
+            problems.add(Map.of(
+                    "id", problem.getId(),
+                    "externalId", problem.getExternalId(),
+                    "title", problem.getTitle(),
+                    "tier", problem.getTier(),
+                    "url", problem.getUrl()));
+        }
+        if (!problems.isEmpty()) {
+            card.put("problems", problems);
+        }
+        return card;
+    }
+
+    private String resolveCardKey(Map<Object, Object> roomInfo) {
+        if (!"WORKBOOK".equals(String.valueOf(roomInfo.getOrDefault("problemSource", "BOJ_RANDOM")))) {
+            return null;
+        }
+        Object workbookId = roomInfo.get("selectedWorkbookId");
+        Object version = roomInfo.get(WorkbookPreviewCacheService.PREVIEW_CACHED_AT_FIELD);
+        if (workbookId == null || version == null || String.valueOf(version).isBlank()) {
+            return null;
+        }
+        return String.format(RedisKeyConst.GAME_LOBBY_WORKBOOK_CARD,
+                workbookPreviewCacheService.parseWorkbookId(workbookId), String.valueOf(version));
+    }
+
+    private Map<Object, Object> reloadRoomInfo(Long roomId) {
+        return redisTemplate.opsForHash().entries(String.format(RedisKeyConst.GAME_ROOM_INFO, roomId));
+    }
+}
@@ -1,55 +1,45 @@
 package com.peekle.domain.game.service;
 
-import com.peekle.global.redis.RedisKeyConst;
-import com.peekle.global.socket.SocketResponse;
+import com.peekle.global.presence.PresenceScope;
+import com.peekle.global.presence.PresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisGameAfterService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final PresenceService presenceService;
     private final SimpMessagingTemplate messagingTemplate;
 
     /**
-     * 유저를 게임 온라인 목록에 추가
+     * 유저의 소켓 세션을 게임 온라인 목록에 추가
      */
-    public void addOnlineUser(Long gameId, Long userId) {
-        String onlineKey = String.format(RedisKeyConst.GAME_ROOM_ONLINE, gameId);
-        redisTemplate.opsForSet().add(onlineKey, userId);
+    public void addOnlineUser(Long gameId, Long userId, String sessionId) {
+        presenceService.join(PresenceScope.GAME, gameId, userId, sessionId);
     }
 
     /**
-     * 유저를 게임 온라인 목록에서 제거
+     * 유저의 소켓 세션을 게임 온라인 목록에서 제거
      */
-    public void removeOnlineUser(Long gameId, Long userId) {
-        String onlineKey = String.format(RedisKeyConst.GAME_ROOM_ONLINE, gameId);
-        redisTemplate.opsForSet().remove(onlineKey, userId);
+    public void removeOnlineUser(Long gameId, Long userId, String sessionId) {
+        presenceService.leave(PresenceScope.GAME, gameId, userId, sessionId);
     }
 
     /**
-     * 현재 방에 참여 중인(소켓 연결된) 유저 ID 목록을 반환
+     * 현재 방에 참여 중인(하트비트가 살아 있는 세션이 있는) 유저 ID 목록을 반환
      */
     public Set<Long> getOnlineUserIds(Long roomId) {
-        String onlineKey = String.format(RedisKeyConst.GAME_ROOM_ONLINE, roomId);
-        Set<Object> members = redisTemplate.opsForSet().members(onlineKey);
-
-        if (members == null || members.isEmpty()) {
-            return Set.of();
-        }
+        return presenceService.onlineUserIds(PresenceScope.GAME, roomId);
+    }
 
-        return members.stream()
-                .map(id -> Long.parseLong(String.valueOf(id)))
-                .collect(Collectors.toSet());
+    public boolean isOnline(Long roomId, Long userId) {
+        return presenceService.isOnline(PresenceScope.GAME, roomId, userId);
     }
 
     /**
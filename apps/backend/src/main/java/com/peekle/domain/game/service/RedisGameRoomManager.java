@@ -1,8 +1,9 @@
 package com.peekle.domain.game.service;
 
-import com.peekle.domain.problem.repository.TagRepository;
+import com.peekle.domain.problem.service.TagNameTranslator;
 import com.peekle.global.redis.RedisKeyConst;
 import com.peekle.global.redis.RedisPublisher;
+import com.peekle.global.redis.metrics.RedisOperation;
 import com.peekle.global.socket.SocketResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +12,6 @@ import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 게임 방 관리를 위한 공통 유틸리티 서비스
@@ -28,13 +28,15 @@ public class RedisGameRoomManager {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisPublisher redisPublisher;
-    private final TagRepository tagRepository;
+    private final TagNameTranslator tagNameTranslator;
     private final WorkbookPreviewCacheService workbookPreviewCacheService;
+    private final GameRoomKeyRegistry roomKeyRegistry;
 
     /**
      * 방 삭제 (Clean Up)
      * 참여자가 없으면 호출
      */
+    @RedisOperation("game.delete")
     public void deleteGameRoom(Long roomId) {
         // 0. 로비 브로드캐스트: 방 삭제 알림 (삭제 전에 전송)
         Map<String, Object> lobbyDeleteData = new HashMap<>();
@@ -46,49 +48,25 @@ public class RedisGameRoomManager {
 
         workbookPreviewCacheService.releaseRoomWorkbookCache(roomId);
 
-        // 1. Redis 데이터 삭제
-        String playersKey = String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId);
-
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_INFO, roomId));
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_STATUS, roomId));
-        redisTemplate.delete(playersKey); // Players Set
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId)); // Ready Hash
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_TEAMS, roomId)); // Teams Hash
+        // 1. 방 ID 목록에서 제거 + 초대 코드(방 슬롯 밖의 키) 정리
         redisTemplate.opsForSet().remove(RedisKeyConst.GAME_ROOM_IDS, String.valueOf(roomId));
 
-        // 게임 진행 중 생성된 키들 삭제
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_START_TIME, roomId));
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_RANKING, roomId));
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_TEAM_RANKING, roomId));
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_PROBLEMS, roomId));
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_PROBLEMS_PREVIEW, roomId));
-
-        // 초대 코드 삭제
         String inviteCode = (String) redisTemplate.opsForValue()
                 .get(String.format(RedisKeyConst.GAME_ROOM_INVITE_CODE, roomId));
         if (inviteCode != null) {
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_INVITE_CODE, inviteCode));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_INVITE_CODE, roomId));
+            redisTemplate.unlink(String.format(RedisKeyConst.GAME_INVITE_CODE, inviteCode));
         }
 
-        // 종료 타이머 키 삭제
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_FINISH_TIMER, roomId));
-        redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_BROADCASTED, roomId));
+        // 2. 방 단위 키 일괄 UNLINK (고정 키 + 플레이 중 생성된 유저/문제별 키)
+        roomKeyRegistry.teardown(roomId, "delete");
 
         log.info("🗑️ Game Room {} Deleted and Resources Cleaned up.", roomId);
     }
 
     /**
-     * 태그 키를 한국어 이름으로 변환
+     * 태그 키를 한국어 이름으로 변환 (메모리 변환 테이블 사용)
      */
     public List<String> translateTagsToKo(List<String> tagKeys) {
-        if (tagKeys == null || tagKeys.isEmpty())
-            return Collections.emptyList();
-
-        return tagKeys.stream()
-                .map(key -> tagRepository.findByKey(key.trim().toLowerCase())
-                        .map(com.peekle.domain.problem.entity.Tag::getName)
-                        .orElse(key))
-                .collect(Collectors.toList());
+        return tagNameTranslator.translateToKo(tagKeys);
     }
 }
@@ -11,15 +11,19 @@ import com.peekle.domain.problem.repository.TagRepository;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
 import com.peekle.global.metrics.BenchmarkSqlStatisticsService;
+import com.peekle.global.redis.DelayedTaskQueue;
 import com.peekle.global.redis.RedisKeyConst;
 import com.peekle.global.redis.RedisPublisher;
+import com.peekle.global.redis.metrics.RedisOperation;
 import com.peekle.global.socket.SocketResponse;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
@@ -28,8 +32,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -71,6 +75,13 @@ public class RedisGameService {
     private static final String FINISH_TRIGGER_SOLVE = "solve";
     private static final String FINISH_TRIGGER_GRACE_TIMEOUT = "grace_timeout";
     private static final long FINISH_CLAIM_TTL_SECONDS = 300L;
+    private static final String TASK_GAME_TIMEOUT = "game.timeout";
+    private static final String TASK_SPEED_RACE_GRACE = "game.finish.grace";
+    private static final String TASK_RESERVATION_EXPIRE = "game.reservation.expire";
+    private static final Duration SPEED_RACE_GRACE_PERIOD = Duration.ofSeconds(60);
+    private static final Duration RESERVATION_TTL = Duration.ofSeconds(30);
+    // 예약 키 자체의 TTL 은 만료 작업이 유실된 경우를 위한 안전망
+    private static final Duration RESERVATION_KEY_BACKSTOP_TTL = Duration.ofSeconds(60);
     private static final long FINISH_CLAIM_RESULT_NOOP_NON_PLAYING = 0L;
     private static final long FINISH_CLAIM_RESULT_GRANTED = 1L;
     private static final long FINISH_CLAIM_RESULT_GRANTED_FROM_STALE_ENDING = 2L;
@@ -156,13 +167,29 @@ public class RedisGameService {
     private final WorkbookProblemRepository workbookProblemRepository;
     private final RedisGameWaitService waitService;
     private final RedisGameRoomManager roomManager;
+    private final GameRoomKeyRegistry roomKeyRegistry;
     private final WorkbookPreviewCacheService workbookPreviewCacheService;
     private final MeterRegistry meterRegistry;
+    private final DelayedTaskQueue delayedTaskQueue;
     private final Optional<BenchmarkSqlStatisticsService> benchmarkSqlStatisticsService;
+    // 내부에서 finishGame 을 부를 때도 프록시를 거쳐 game.finish 연산으로 집계되도록 자기 자신을 늦게 꺼낸다
+    private final ObjectProvider<RedisGameService> self;
 
     @Value("${benchmark.game-finish.claim-enabled:true}")
     private boolean finishClaimEnabled;
 
+    @PostConstruct
+    void registerDelayedTaskHandlers() {
+        delayedTaskQueue.registerHandler(TASK_GAME_TIMEOUT,
+                taskId -> finishIfPlaying(Long.parseLong(taskId), FINISH_TRIGGER_TIMEOUT_ASYNC));
+        delayedTaskQueue.registerHandler(TASK_SPEED_RACE_GRACE,
+                taskId -> finishIfPlaying(Long.parseLong(taskId), FINISH_TRIGGER_GRACE_TIMEOUT));
+        delayedTaskQueue.registerHandler(TASK_RESERVATION_EXPIRE, taskId -> {
+            String[] ids = taskId.split(":");
+            expireReservation(Long.parseLong(ids[0]), Long.parseLong(ids[1]));
+        });
+    }
+
     /**
      * 게임 상태 변경 메서드
      * 분산 락(Redisson Lock)을 사용하여 상태 변경 시 동시성 문제를 방지합니다.
@@ -259,6 +286,7 @@ public class RedisGameService {
     }
 
     // 방 만들기
+    @RedisOperation("game.create")
     public Long createGameRoom(GameCreateRequest request, Long hostId) {
         Timer.Sample timerSample = Timer.start(meterRegistry);
         long sqlSnapshot = snapshotSqlCount();
@@ -415,6 +443,7 @@ public class RedisGameService {
     // ==============================
 
     // 게임 시작
+    @RedisOperation("game.start")
     public void startGame(Long roomId, Long userId) {
         Timer.Sample timerSample = Timer.start(meterRegistry);
         long sqlSnapshot = snapshotSqlCount();
@@ -578,20 +607,18 @@ public class RedisGameService {
 
         log.info("⏰ Scheduling game timeout for Game {} in {} seconds", roomId, delaySeconds);
 
-        CompletableFuture.runAsync(() -> {
-            try {
-                // 게임 상태 확인
-                String statusKey = String.format(RedisKeyConst.GAME_STATUS, roomId);
-                String currentStatus = (String) redisTemplate.opsForValue().get(statusKey);
+        delayedTaskQueue.schedule(TASK_GAME_TIMEOUT, String.valueOf(roomId), Duration.ofSeconds(delaySeconds));
+    }
 
-                if ("PLAYING".equals(currentStatus)) {
-                    log.info("⌛ Time is up for Game {}. Finishing game automatically.", roomId);
-                    finishGame(roomId, FINISH_TRIGGER_TIMEOUT_ASYNC);
-                }
-            } catch (Exception e) {
-                log.error("Failed to execute game timeout for Game {}", roomId, e);
-            }
-        }, CompletableFuture.delayedExecutor(delaySeconds, TimeUnit.SECONDS));
+    // 지연 작업 실행 시점에 아직 PLAYING 인 경우에만 종료 처리
+    private void finishIfPlaying(Long roomId, String trigger) {
+        String statusKey = String.format(RedisKeyConst.GAME_STATUS, roomId);
+        String currentStatus = (String) redisTemplate.opsForValue().get(statusKey);
+
+        if ("PLAYING".equals(currentStatus)) {
+            log.info("⌛ Time is up for Game {} (trigger: {}). Finishing game automatically.", roomId, trigger);
+            self.getObject().finishGame(roomId, trigger);
+        }
     }
 
     // 대기실용: 전체 문제 조회 (필터링 없이 모든 문제)
@@ -645,7 +672,7 @@ public class RedisGameService {
         return problemRepository.findRandomProblemsByTiers(tiersInRange, problemCount);
     }
 
-    private List<String> getTiersInRange(String tierMin, String tierMax) {
+    static List<String> getTiersInRange(String tierMin, String tierMax) {
         int startLevel = getMinLevelOfTier(tierMin); // E.g., Gold -> Base(10) + 1 = 11 (Gold 5)
         int endLevel = getMaxLevelOfTier(tierMax); // E.g., Gold -> Base(10) + 5 = 15 (Gold 1)
 
@@ -667,18 +694,18 @@ public class RedisGameService {
     }
 
     // "gold" -> Gold 5 (Level 11)
-    private int getMinLevelOfTier(String tier) {
+    private static int getMinLevelOfTier(String tier) {
         // If specific tier like "Gold 3", parse explicitly if needed.
         // But for this requirement, input is generic "Gold".
         return getBaseLevel(tier) + 1;
     }
 
     // "gold" -> Gold 1 (Level 15)
-    private int getMaxLevelOfTier(String tier) {
+    private static int getMaxLevelOfTier(String tier) {
         return getBaseLevel(tier) + 5;
     }
 
-    private int getBaseLevel(String tier) {
+    private static int getBaseLevel(String tier) {
         if (tier == null)
             return 0;
         // Check if tier contains specific step (e.g. "Gold 3") - Not expected from
@@ -922,6 +949,7 @@ public class RedisGameService {
 
         redisTemplate.opsForValue().set(codeKey, request.getCode());
         redisTemplate.expire(codeKey, 6, TimeUnit.HOURS); // 6시간 후 자동 삭제
+        roomKeyRegistry.register(request.getGameId(), codeKey);
     }
 
     // [New] 코드 제출 요청 시 예상 길이 저장 (검증용)
@@ -935,6 +963,7 @@ public class RedisGameService {
 
         redisTemplate.opsForValue().set(key, String.valueOf(normalizedLength));
         redisTemplate.expire(key, 1, TimeUnit.HOURS); // 제출 검증용이므로 1시간이면 충분
+        roomKeyRegistry.register(request.getGameId(), key);
     }
 
     // 템플릿 코드 확인 (공백 제거 및 ASCII만 비교, 모든 언어 템플릿 허용)
@@ -1044,6 +1073,7 @@ public class RedisGameService {
     }
 
     // 방 목록 조회 (WAITING, PLAYING 상태만)
+    @RedisOperation("game.list")
     public List<GameRoomResponse> getAllGameRooms() {
         // 1. 모든 방 ID 조회
         Set<Object> roomIds = redisTemplate.opsForSet().members(RedisKeyConst.GAME_ROOM_IDS);
@@ -1239,6 +1269,7 @@ public class RedisGameService {
     }
 
     // 문제 해결 (SubmissionService에서 호출)
+    @RedisOperation("game.solve")
     public void solveProblem(Long userId, Long gameId, Long problemId) {
 
         // 0. 게임 상태 체크 (PLAYING만 가능)
@@ -1286,6 +1317,7 @@ public class RedisGameService {
         }
 
         redisTemplate.expire(solvedKey, 6, TimeUnit.HOURS); // 6시간 후 자동 삭제
+        roomKeyRegistry.register(gameId, solvedKey);
 
         // 3. 경과 시간 계산 (초 단위)
         String startTimeKey = String.format(RedisKeyConst.GAME_START_TIME, gameId);
@@ -1301,6 +1333,7 @@ public class RedisGameService {
         redisTemplate.opsForHash().increment(scoreKey, "totalMinutes", elapsedMinutes);
         redisTemplate.opsForHash().put(scoreKey, "lastSolvedSeconds", String.valueOf(elapsedSeconds));
         redisTemplate.expire(scoreKey, 6, TimeUnit.HOURS); // 6시간 후 자동 삭제
+        roomKeyRegistry.register(gameId, scoreKey);
 
         // 5. ICPC 스타일 랭킹 점수 계산 & 업데이트 (ZSet)
         // 공식: (푼 문제 수 × 100,000,000) - 총 시간(분)
@@ -1400,7 +1433,7 @@ public class RedisGameService {
             if (teamScore != null && teamScore >= problemCount) {
                 log.info("🏆 Team {} completed all {} problems in mode {}! Finishing game...", solverTeam, problemCount,
                         mode);
-                finishGame(gameId, FINISH_TRIGGER_SOLVE);
+                self.getObject().finishGame(gameId, FINISH_TRIGGER_SOLVE);
             }
         }
         // 2. 개인전 스피드 레이스 종료 조건 -> 모든 참가자가 다 풀어야 끝
@@ -1427,7 +1460,7 @@ public class RedisGameService {
 
             if (allCompleted) {
                 log.info("🏆 All players completed all {} problems! Finishing game...", problemCount);
-                finishGame(gameId, FINISH_TRIGGER_SOLVE);
+                self.getObject().finishGame(gameId, FINISH_TRIGGER_SOLVE);
             } else if (anyCompleted) {
                 // 한 명이라도 다 풀었으면 그 사람의 닉네임을 찾아서 1분 유예 시간 시작 알림
                 String finisherNickname = "누군가";
@@ -1471,16 +1504,7 @@ public class RedisGameService {
             redisPublisher.publish(new ChannelTopic(topic), SocketResponse.of("FINISH_TIMER_START", timerData));
 
             // 60초 뒤 게임 종료 예약
-            CompletableFuture.delayedExecutor(60, TimeUnit.SECONDS).execute(() -> {
-                String statusKey = String.format(RedisKeyConst.GAME_STATUS, gameId);
-                String currentStatus = (String) redisTemplate.opsForValue().get(statusKey);
-
-                // 아직 플레이 중이라면 종료 처리
-                if ("PLAYING".equals(currentStatus)) {
-                    log.info("⏰ Grace period ended for Game {}. Auto finishing...", gameId);
-                    finishGame(gameId, FINISH_TRIGGER_GRACE_TIMEOUT);
-                }
-            });
+            delayedTaskQueue.schedule(TASK_SPEED_RACE_GRACE, String.valueOf(gameId), SPEED_RACE_GRACE_PERIOD);
         }
     }
 
@@ -1490,10 +1514,12 @@ public class RedisGameService {
      * - GameService.processGameResult 호출 (포인트 지급)
      * - 참여자들의 USER_CURRENT_GAME 키 삭제
      */
+    @RedisOperation("game.finish")
     public void finishGame(Long roomId) {
         finishGame(roomId, FINISH_TRIGGER_MANUAL);
     }
 
+    @RedisOperation("game.finish")
     public void finishGame(Long roomId, String trigger) {
         Timer.Sample timerSample = Timer.start(meterRegistry);
         long sqlSnapshot = snapshotSqlCount();
@@ -1657,37 +1683,19 @@ public class RedisGameService {
             String inviteCode = (String) redisTemplate.opsForValue()
                     .get(String.format(RedisKeyConst.GAME_ROOM_INVITE_CODE, roomId));
             if (inviteCode != null) {
-                redisTemplate.delete(String.format(RedisKeyConst.GAME_INVITE_CODE, inviteCode));
-                redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_INVITE_CODE, roomId));
+                redisTemplate.unlink(String.format(RedisKeyConst.GAME_INVITE_CODE, inviteCode));
             }
 
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_FINISH_TIMER, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_FINISH_CLAIM, roomId));
-
             log.info("🗑️ Cleaning up all Redis data for finished game {}", roomId);
 
             workbookPreviewCacheService.releaseRoomWorkbookCache(roomId);
-
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_INFO, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_STATUS, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_START_TIME, roomId));
-
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_RANKING, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_TEAM_RANKING, roomId));
-
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_TEAMS, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_ROOM_ONLINE, roomId));
-
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_PROBLEMS, roomId));
-            redisTemplate.delete(String.format(RedisKeyConst.GAME_PROBLEMS_PREVIEW, roomId));
-
-            if (rankingSet != null) {
-                for (ZSetOperations.TypedTuple<Object> entry : rankingSet) {
-                    Long uId = Long.parseLong(String.valueOf(entry.getValue()));
-                    redisTemplate.delete(String.format(RedisKeyConst.GAME_USER_SCORE, roomId, uId));
-                }
+            delayedTaskQueue.cancel(TASK_GAME_TIMEOUT, String.valueOf(roomId));
+            delayedTaskQueue.cancel(TASK_SPEED_RACE_GRACE, String.valueOf(roomId));
+            // 결과는 이미 발행/정산됐으므로 키 정리 실패로 종료 처리를 되돌리지 않는다
+            try {
+                roomKeyRegistry.teardown(roomId, "finish");
+            } catch (Exception e) {
+                log.warn("⚠️ Failed to unlink Redis keys for finished game {}", roomId, e);
             }
 
             log.info("✅ Game {} finished and cleaned up successfully. Winner: {}", roomId, winner);
@@ -1820,8 +1828,9 @@ public class RedisGameService {
 
             if (Boolean.TRUE.equals(hasReservation)) {
                 // Extend TTL
-                redisTemplate.expire(reservationKey, 30, TimeUnit.SECONDS);
-                return Map.of("success", true, "status", "EXTENDED", "ttl", 30);
+                redisTemplate.expire(reservationKey, RESERVATION_KEY_BACKSTOP_TTL);
+                scheduleReservationExpiry(roomId, userId);
+                return Map.of("success", true, "status", "EXTENDED", "ttl", RESERVATION_TTL.toSeconds());
             }
 
             // 3. Check room capacity (current players + reservations)
@@ -1851,7 +1860,9 @@ public class RedisGameService {
             }
 
             // 4. Create reservation
-            redisTemplate.opsForValue().set(reservationKey, "RESERVED", 30, TimeUnit.SECONDS);
+            redisTemplate.opsForValue().set(reservationKey, "RESERVED", RESERVATION_KEY_BACKSTOP_TTL);
+            roomKeyRegistry.register(roomId, reservationKey);
+            scheduleReservationExpiry(roomId, userId);
 
             // 5. Increment reserved counter
             redisTemplate.opsForValue().increment(countKey);
@@ -1871,7 +1882,7 @@ public class RedisGameService {
 
             log.info("🎫 User {} reserved slot in Room {} - currentPlayers: {} (Reserved count increased)", userId,
                     roomId, playerCount);
-            return Map.of("success", true, "status", "RESERVED", "ttl", 30);
+            return Map.of("success", true, "status", "RESERVED", "ttl", RESERVATION_TTL.toSeconds());
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -1909,22 +1920,8 @@ public class RedisGameService {
                 enterGameRoom(roomId, userId, password);
             } else {
                 // Reservation expired or never existed: Try atomic entry
+                // (정원은 입장 스크립트가 다른 예약 인원까지 포함해 검증한다)
                 log.warn("⏰ Reservation expired for User {} in Room {}. Attempting direct entry.", userId, roomId);
-
-                // Check capacity one more time
-                String playersKey = String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId);
-                String infoKey = String.format(RedisKeyConst.GAME_ROOM_INFO, roomId);
-                String maxPlayersStr = (String) redisTemplate.opsForHash().get(infoKey, "maxPlayers");
-                int maxPlayers = Integer.parseInt(maxPlayersStr != null ? maxPlayersStr : "8");
-
-                Long currentPlayers = redisTemplate.opsForSet().size(playersKey);
-                int currentCount = currentPlayers != null ? currentPlayers.intValue() : 0;
-
-                if (currentCount >= maxPlayers) {
-                    throw new com.peekle.global.exception.BusinessException(
-                            com.peekle.global.exception.ErrorCode.GAME_ROOM_FULL);
-                }
-
                 enterGameRoom(roomId, userId, password);
             }
 
@@ -1955,12 +1952,33 @@ public class RedisGameService {
         }
     }
 
+    /**
+     * 예약 만료 작업 예약 (연장 시에는 만료 시각만 갱신됨)
+     */
+    private void scheduleReservationExpiry(Long roomId, Long userId) {
+        delayedTaskQueue.schedule(TASK_RESERVATION_EXPIRE, roomId + ":" + userId, RESERVATION_TTL);
+    }
+
+    /**
+     * 확정/취소 없이 유효 시간이 지난 예약을 정리하고 예약 카운터를 돌려놓는다.
+     */
+    private void expireReservation(Long roomId, Long userId) {
+        if (deleteReservation(roomId, userId)) {
+            log.info("⏰ Reservation of User {} in Room {} expired (Reserved count decremented)", userId, roomId);
+        }
+    }
+
     /**
      * Helper method to delete reservation and decrement counter
+     * 예약 키를 실제로 지운 호출만 카운터를 감소시키므로 확정/취소/만료가 겹쳐도 한 번만 반영된다.
      */
-    private void deleteReservation(Long roomId, Long userId) {
+    private boolean deleteReservation(Long roomId, Long userId) {
+        delayedTaskQueue.cancel(TASK_RESERVATION_EXPIRE, roomId + ":" + userId);
+
         String reservationKey = String.format(RedisKeyConst.GAME_ROOM_RESERVATION, roomId, userId);
-        redisTemplate.delete(reservationKey);
+        if (!Boolean.TRUE.equals(redisTemplate.delete(reservationKey))) {
+            return false;
+        }
 
         String countKey = String.format(RedisKeyConst.GAME_ROOM_RESERVED_COUNT, roomId);
         Long remaining = redisTemplate.opsForValue().decrement(countKey);
@@ -1969,6 +1987,7 @@ public class RedisGameService {
         if (remaining != null && remaining <= 0) {
             redisTemplate.delete(countKey);
         }
+        return true;
     }
 
     /**
@@ -3,21 +3,26 @@ package com.peekle.domain.game.service;
 import com.peekle.domain.game.enums.GameStatus;
 import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
-import com.peekle.domain.problem.entity.Problem;
+import com.peekle.global.presence.PresenceScope;
+import com.peekle.global.presence.PresenceService;
+import com.peekle.global.redis.DelayedTaskQueue;
 import com.peekle.global.redis.RedisKeyConst;
 import com.peekle.global.redis.RedisPublisher;
+import com.peekle.global.redis.metrics.RedisOperation;
 import com.peekle.global.socket.SocketResponse;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 게임 대기방(Waiting Room) 관련 Redis 작업을 담당하는 서비스
@@ -33,10 +38,89 @@ import java.util.concurrent.TimeUnit;
 public class RedisGameWaitService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final RedisPublisher redisPublisher;
     private final UserRepository userRepository;
     private final RedisGameRoomManager roomManager;
-    private final WorkbookPreviewCacheService workbookPreviewCacheService;
+    private final LobbyRoomCardCache lobbyRoomCardCache;
+    private final DelayedTaskQueue delayedTaskQueue;
+    private final PresenceService presenceService;
+
+    private static final String LOBBY_EXIT_TASK_TYPE = "game.lobby.exit";
+    private static final Duration LOBBY_EXIT_GRACE_PERIOD = Duration.ofSeconds(5);
+
+    /**
+     * 방 입장 스크립트
+     * - 상태/비밀번호/정원 검증, 재접속 판별, 멤버 추가, 팀 배정, 현재 게임 포인터 설정을 한 번에 처리한다
+     * - 팀 배정이 스크립트 안에서 이뤄지므로 동시 입장에도 인원이 적은 팀으로 정확히 나뉜다
+     * - 값은 JSON 직렬화되어 저장되므로 cjson 으로 읽고 쓴다 (예약 카운터는 INCR 정수)
+     * - USER_CURRENT_GAME 키만 방 해시 태그 밖에 있으므로 단일 노드 구성을 전제로 한다
+     * KEYS: info, status, players, ready, teams, userCurrentGame, reservedCount, broadcasted
+     * ARGV: userId, roomId, 비밀번호 전달 여부(1/0), 비밀번호
+     * 반환: {결과, 재접속 여부, 팀, 현재 인원, 로비 생성 브로드캐스트 여부, 준비 상태, 방장 ID} / 실패 시 {사유, 부가정보}
+     */
+    private static final DefaultRedisScript<List> ENTER_SCRIPT = buildScript(
+            "local function decode(raw)\n"
+                    + "  if not raw then return nil end\n"
+                    + "  local ok, value = pcall(cjson.decode, raw)\n"
+                    + "  if ok then return value end\n"
+                    + "  return raw\n"
+                    + "end\n"
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return {'NOT_FOUND'} end\n"
+                    + "local member = cjson.encode(ARGV[1])\n"
+                    + "local inRoom = redis.call('SISMEMBER', KEYS[3], member) == 1\n"
+                    + "local current = decode(redis.call('GET', KEYS[6]))\n"
+                    + "local samePointer = current ~= nil and tostring(current) == ARGV[2]\n"
+                    + "if current ~= nil and not samePointer and not inRoom then\n"
+                    + "  return {'IN_OTHER_GAME', tostring(current)}\n"
+                    + "end\n"
+                    + "local rejoin = inRoom or samePointer\n"
+                    + "if not rejoin then\n"
+                    + "  local status = decode(redis.call('GET', KEYS[2]))\n"
+                    + "  if status ~= nil and status ~= 'WAITING' then return {'ALREADY_STARTED'} end\n"
+                    + "  local roomPassword = redis.call('HGET', KEYS[1], 'password')\n"
+                    + "  if roomPassword and (ARGV[3] ~= '1' or decode(roomPassword) ~= ARGV[4]) then\n"
+                    + "    return {'PASSWORD_MISMATCH'}\n"
+                    + "  end\n"
+                    + "  local maxPlayers = tonumber(decode(redis.call('HGET', KEYS[1], 'maxPlayers'))) or 8\n"
+                    + "  local reserved = tonumber(redis.call('GET', KEYS[7]) or 0) or 0\n"
+                    + "  if redis.call('SCARD', KEYS[3]) + reserved >= maxPlayers then return {'FULL'} end\n"
+                    + "  redis.call('SADD', KEYS[3], member)\n"
+                    + "  redis.call('HSET', KEYS[4], ARGV[1], cjson.encode('false'))\n"
+                    + "end\n"
+                    + "redis.call('SET', KEYS[6], cjson.encode(ARGV[2]))\n"
+                    + "local team = ''\n"
+                    + "if decode(redis.call('HGET', KEYS[1], 'teamType')) == 'TEAM' then\n"
+                    + "  local existing = redis.call('HGET', KEYS[5], ARGV[1])\n"
+                    + "  if existing then\n"
+                    + "    team = decode(existing)\n"
+                    + "  else\n"
+                    + "    local red, blue = 0, 0\n"
+                    + "    for _, value in ipairs(redis.call('HVALS', KEYS[5])) do\n"
+                    + "      local assigned = decode(value)\n"
+                    + "      if assigned == 'RED' then red = red + 1 elseif assigned == 'BLUE' then blue = blue + 1 end\n"
+                    + "    end\n"
+                    + "    if red <= blue then team = 'RED' else team = 'BLUE' end\n"
+                    + "    redis.call('HSET', KEYS[5], ARGV[1], cjson.encode(team))\n"
+                    + "  end\n"
+                    + "end\n"
+                    + "local hostId = decode(redis.call('HGET', KEYS[1], 'hostId'))\n"
+                    + "hostId = hostId ~= nil and tostring(hostId) or ''\n"
+                    + "local created = '0'\n"
+                    + "if not rejoin and hostId == ARGV[1] and redis.call('EXISTS', KEYS[8]) == 0 then\n"
+                    + "  redis.call('SET', KEYS[8], cjson.encode('true'))\n"
+                    + "  created = '1'\n"
+                    + "end\n"
+                    + "local ready = decode(redis.call('HGET', KEYS[4], ARGV[1]))\n"
+                    + "return {'OK', rejoin and '1' or '0', team, tostring(redis.call('SCARD', KEYS[3])), created,\n"
+                    + "  tostring(ready == 'true'), hostId}");
+
+    private static DefaultRedisScript<List> buildScript(String scriptText) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(List.class);
+        return script;
+    }
 
     /**
      * 게임 방 입장
@@ -45,174 +129,107 @@ public class RedisGameWaitService {
      * @param userId   유저 ID
      * @param password 비밀번호 (선택)
      */
+    @RedisOperation("game.enter")
     public void enterGameRoom(Long roomId, Long userId, String password) {
-        // 1. 방 정보 조회 (존재 여부만 확인)
-        Map<Object, Object> roomInfo = getRoomInfo(roomId);
+        // 1. 검증 + 멤버 추가 + 팀 배정 + 현재 게임 포인터 설정 (원자적으로 한 번에)
+        RoomEntry entry = runEnterScript(roomId, userId, password);
 
-        // 2. 재접속 시도 (성공 시 리턴)
-        if (tryRejoin(roomId, userId, roomInfo)) {
+        // 2. 재접속인 경우 ENTER 이벤트만 다시 보낸다
+        if (entry.rejoined()) {
+            log.info("User {} rejoined game room {}.", userId, roomId);
+            // 대기실 새로고침/페이지 이동으로 재입장한 경우 예약된 퇴장 처리를 취소
+            delayedTaskQueue.cancel(LOBBY_EXIT_TASK_TYPE, roomId + ":" + userId);
+            publishEnterEvent(roomId, userId, entry);
             return;
         }
 
-        // 3. 신규 입장 검증 (상태, 비밀번호)
-        validateNewEntry(roomId, password, roomInfo);
-
-        // 4. 신규 입장 처리 (맴버 추가)
-        addUserToRoom(roomId, userId);
-
-        // 5. 팀 배정 (팀전인 경우)
-        String teamType = (String) roomInfo.getOrDefault("teamType", "INDIVIDUAL");
-        if ("TEAM".equals(teamType)) {
-            handleTeamEntry(roomId, userId);
+        if (!entry.team().isEmpty()) {
+            log.info("User {} assigned to Team {} in Room {}", userId, entry.team(), roomId);
         }
 
-        // 6. ENTER 이벤트 발행
-        publishEnterEvent(roomId, userId, roomInfo);
-
-        // 7. 유저 상태 업데이트
-        redisTemplate.opsForValue().set(
-                String.format(RedisKeyConst.USER_CURRENT_GAME, userId),
-                String.valueOf(roomId));
+        // 3. ENTER 이벤트 발행
+        publishEnterEvent(roomId, userId, entry);
 
-        // 8. 로비 브로드캐스트
-        broadcastToLobby(roomId, userId, roomInfo);
+        // 4. 로비 브로드캐스트
+        broadcastToLobby(roomId, userId, entry);
     }
 
-    private Map<Object, Object> getRoomInfo(Long roomId) {
-        String infoKey = String.format(RedisKeyConst.GAME_ROOM_INFO, roomId);
-        Map<Object, Object> roomInfo = redisTemplate.opsForHash().entries(infoKey);
-
-        if (roomInfo.isEmpty()) {
-            throw new BusinessException(ErrorCode.GAME_ROOM_NOT_FOUND);
-        }
-        return roomInfo;
-    }
-
-    private void validateNewEntry(Long roomId, String password, Map<Object, Object> roomInfo) {
-        // 방 상태 확인
-        String status = (String) redisTemplate.opsForValue().get(String.format(RedisKeyConst.GAME_STATUS, roomId));
-        if (status != null && !"WAITING".equals(status)) {
-            throw new BusinessException(ErrorCode.GAME_ALREADY_STARTED);
+    private RoomEntry runEnterScript(Long roomId, Long userId, String password) {
+        List<String> keys = List.of(
+                String.format(RedisKeyConst.GAME_ROOM_INFO, roomId),
+                String.format(RedisKeyConst.GAME_STATUS, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_TEAMS, roomId),
+                String.format(RedisKeyConst.USER_CURRENT_GAME, userId),
+                String.format(RedisKeyConst.GAME_ROOM_RESERVED_COUNT, roomId),
+                String.format(RedisKeyConst.GAME_ROOM_BROADCASTED, roomId));
+
+        List<?> result = stringRedisTemplate.execute(ENTER_SCRIPT, keys,
+                String.valueOf(userId),
+                String.valueOf(roomId),
+                password != null ? "1" : "0",
+                password != null ? password : "");
+        if (result == null || result.isEmpty()) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
 
-        // 비밀번호 체크
-        if (roomInfo.containsKey("password")) {
-            String roomPassword = (String) roomInfo.get("password");
-            if (password == null || !password.equals(roomPassword)) {
+        String outcome = String.valueOf(result.get(0));
+        switch (outcome) {
+            case "OK":
+                return new RoomEntry(
+                        "1".equals(String.valueOf(result.get(1))),
+                        String.valueOf(result.get(2)),
+                        Integer.parseInt(String.valueOf(result.get(3))),
+                        "1".equals(String.valueOf(result.get(4))),
+                        Boolean.parseBoolean(String.valueOf(result.get(5))),
+                        String.valueOf(result.get(6)));
+            case "NOT_FOUND":
+                throw new BusinessException(ErrorCode.GAME_ROOM_NOT_FOUND);
+            case "IN_OTHER_GAME":
+                throw new BusinessException(ErrorCode.ALREADY_IN_GAME,
+                        "이미 다른 게임에 참여 중입니다. (Game ID: " + result.get(1) + ")");
+            case "ALREADY_STARTED":
+                throw new BusinessException(ErrorCode.GAME_ALREADY_STARTED);
+            case "PASSWORD_MISMATCH":
                 throw new BusinessException(ErrorCode.GAME_PASSWORD_MISMATCH);
-            }
-        }
-    }
-
-    private boolean tryRejoin(Long roomId, Long userId, Map<Object, Object> roomInfo) {
-        String userCurrentGameKey = String.format(RedisKeyConst.USER_CURRENT_GAME, userId);
-        Object currentGameIdObj = redisTemplate.opsForValue().get(userCurrentGameKey);
-
-        if (currentGameIdObj != null) {
-            String currentGameId = String.valueOf(currentGameIdObj);
-            // 이미 이 방에 참여 중인 경우
-            if (currentGameId.equals(String.valueOf(roomId))) {
-                ensureTeamAssignment(roomId, userId, roomInfo);
-                publishEnterEvent(roomId, userId, roomInfo);
-                return true;
-            }
-            // 다른 방 ID를 가지고 있지만 실제 Players Set에는 이 방에 있는 경우 (State 불일치 복구)
-            String playersKey = String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId);
-            if (redisTemplate.opsForSet().isMember(playersKey, String.valueOf(userId))) {
-                redisTemplate.opsForValue().set(userCurrentGameKey, String.valueOf(roomId));
-                ensureTeamAssignment(roomId, userId, roomInfo);
-                publishEnterEvent(roomId, userId, roomInfo);
-                return true;
-            }
-            throw new BusinessException(ErrorCode.ALREADY_IN_GAME,
-                    "이미 다른 게임에 참여 중입니다. (Game ID: " + currentGameId + ")");
-        }
-
-        // USER_CURRENT_GAME 키가 없더라도 Players Set에 있다면 재접속
-        String playersKey = String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId);
-        boolean isRejoining = redisTemplate.opsForSet().isMember(playersKey, String.valueOf(userId));
-
-        if (isRejoining) {
-            redisTemplate.opsForValue().set(userCurrentGameKey, String.valueOf(roomId));
-            log.info("User {} rejoined game room {}.", userId, roomId);
-            ensureTeamAssignment(roomId, userId, roomInfo);
-            publishEnterEvent(roomId, userId, roomInfo);
-            return true;
+            case "FULL":
+                throw new BusinessException(ErrorCode.GAME_ROOM_FULL);
+            default:
+                log.error("Unexpected enter script result for Room {}: {}", roomId, result);
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
-
-        return false;
     }
 
-    private void ensureTeamAssignment(Long roomId, Long userId, Map<Object, Object> roomInfo) {
-        String teamType = (String) roomInfo.getOrDefault("teamType", "INDIVIDUAL");
-        if ("TEAM".equals(teamType)) {
-            // handleTeamEntry 내부에서 이미 팀이 있으면 pass, 없으면 배정함
-            handleTeamEntry(roomId, userId);
-        }
-    }
-
-    private void addUserToRoom(Long roomId, Long userId) {
-        redisTemplate.opsForSet().add(String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId), String.valueOf(userId));
-        redisTemplate.opsForHash().put(String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId),
-                String.valueOf(userId), "false");
-    }
-
-    private void handleTeamEntry(Long roomId, Long userId) {
-        String teamsKey = String.format(RedisKeyConst.GAME_ROOM_TEAMS, roomId);
-
-        // 이미 팀이 배정되어 있는지 확인 (재접속 시 팀 유지)
-        Object existingTeam = redisTemplate.opsForHash().get(teamsKey, String.valueOf(userId));
-        if (existingTeam != null) {
-            log.info("User {} already assigned to Team {} in Room {} (Rejoin)", userId, existingTeam, roomId);
+    private void broadcastToLobby(Long roomId, Long userId, RoomEntry entry) {
+        // 방장 최초 입장 시 로비 브로드캐스트 (카드에 현재 인원이 포함되므로 인원 변경 이벤트는 생략)
+        // 브로드캐스트 여부는 스크립트가 선점하므로 동시 입장에도 한 번만 발행된다
+        if (entry.lobbyCreated()) {
+            Map<Object, Object> roomInfo = redisTemplate.opsForHash()
+                    .entries(String.format(RedisKeyConst.GAME_ROOM_INFO, roomId));
+            broadcastRoomCreation(roomId, userId, roomInfo, entry.currentPlayers());
+            log.info("📢 [Lobby] Game Room {} Broadcasted via enterGameRoom (Host Connected)", roomId);
             return;
         }
 
-        Map<Object, Object> teams = redisTemplate.opsForHash().entries(teamsKey);
-
-        long redCount = teams.values().stream().filter("RED"::equals).count();
-        long blueCount = teams.values().stream().filter("BLUE"::equals).count();
-
-        // 인원이 적은 팀으로 배정 (동점이면 RED)
-        String assignedTeam = (redCount <= blueCount) ? "RED" : "BLUE";
-
-        redisTemplate.opsForHash().put(teamsKey, String.valueOf(userId), assignedTeam);
-        log.info("User {} assigned to Team {} in Room {}", userId, assignedTeam, roomId);
-    }
-
-    private void broadcastToLobby(Long roomId, Long userId, Map<Object, Object> roomInfo) {
-        String broadcastKey = String.format(RedisKeyConst.GAME_ROOM_BROADCASTED, roomId);
-        String hostIdStr = (String) roomInfo.get("hostId");
-
-        // 방장 최초 입장 시 로비 브로드캐스트
-        if (Boolean.FALSE.equals(redisTemplate.hasKey(broadcastKey))) {
-            if (hostIdStr != null && hostIdStr.equals(String.valueOf(userId))) {
-                broadcastRoomCreation(roomId, userId, roomInfo);
-                redisTemplate.opsForValue().set(broadcastKey, "true");
-                log.info("📢 [Lobby] Game Room {} Broadcasted via enterGameRoom (Host Connected)", roomId);
-            }
-        }
-
-        // 플레이어 수 업데이트 브로드캐스트
-        String playersKey = String.format(RedisKeyConst.GAME_ROOM_PLAYERS, roomId);
-        Long currentPlayers = redisTemplate.opsForSet().size(playersKey);
-
+        // 플레이어 수 업데이트 브로드캐스트 (변경 필드만 전송)
         Map<String, Object> lobbyPlayerData = new HashMap<>();
         lobbyPlayerData.put("roomId", roomId);
-        lobbyPlayerData.put("currentPlayers", currentPlayers != null ? currentPlayers.intValue() : 0);
+        lobbyPlayerData.put("currentPlayers", entry.currentPlayers());
         redisPublisher.publish(
                 new ChannelTopic(RedisKeyConst.TOPIC_GAME_LOBBY),
                 SocketResponse.of("LOBBY_PLAYER_UPDATE", lobbyPlayerData));
-        log.info("📢 [Lobby] Player joined Room {} - Current players: {}", roomId, currentPlayers);
+        log.info("📢 [Lobby] Player joined Room {} - Current players: {}", roomId, entry.currentPlayers());
     }
 
-    private void broadcastRoomCreation(Long roomId, Long userId, Map<Object, Object> roomInfo) {
+    private void broadcastRoomCreation(Long roomId, Long userId, Map<Object, Object> roomInfo, int currentPlayers) {
         Map<String, Object> lobbyCreateData = new HashMap<>();
         lobbyCreateData.put("roomId", roomId);
         lobbyCreateData.put("title", (String) roomInfo.get("title"));
         lobbyCreateData.put("mode", (String) roomInfo.get("mode"));
         lobbyCreateData.put("teamType", (String) roomInfo.get("teamType"));
         lobbyCreateData.put("maxPlayers", Integer.parseInt((String) roomInfo.getOrDefault("maxPlayers", "4")));
-        lobbyCreateData.put("currentPlayers", 1);
+        lobbyCreateData.put("currentPlayers", Math.max(currentPlayers, 1));
         lobbyCreateData.put("status", GameStatus.WAITING.name());
 
         String roomPwd = (String) roomInfo.get("password");
@@ -253,25 +270,11 @@ public class RedisGameWaitService {
             lobbyCreateData.put("tags", Collections.emptyList());
         }
 
-        // Workbook Title
+        // Workbook Title / Problems (같은 문제집 버전이면 공유 카드 재사용)
         String selWbId = (String) roomInfo.get("selectedWorkbookId");
         if (selWbId != null) {
             try {
-                String wbTitle = workbookPreviewCacheService.resolveWorkbookTitle(roomInfo);
-                lobbyCreateData.put("workbookTitle", wbTitle);
-                List<Map<String, Object>> problems = new ArrayList<>();
-                for (Problem problem : workbookPreviewCacheService.loadPreviewProblems(roomId)) {
-                    problems.add(Map.of(
-                            "id", problem.getId(),
-                            "externalId", problem.getExternalId(),
-                            "title", problem.getTitle(),
-                            "tier", problem.getTier(),
-                            "url", problem.getUrl()));
-                }
-                if (!problems.isEmpty()) {
-                    lobbyCreateData.put("problems", problems);
-                }
-
+                lobbyCreateData.putAll(lobbyRoomCardCache.getWorkbookCard(roomId, roomInfo));
             } catch (Exception e) {
                 log.error("Failed to add workbook info to lobby broadcast", e);
             }
@@ -313,30 +316,7 @@ public class RedisGameWaitService {
         if ("WAITING".equals(status)) {
             log.info("🚪 User {} disconnected from lobby (WAITING). Delaying exit for 5 seconds to handle page transitions.", userId);
             
-            CompletableFuture.delayedExecutor(5, TimeUnit.SECONDS).execute(() -> {
-                try {
-                    // Check if the user is still assigned to this room in Redis
-                    String currentGameIdStr = (String) redisTemplate.opsForValue()
-                            .get(String.format(RedisKeyConst.USER_CURRENT_GAME, userId));
-                            
-                    if (currentGameIdStr == null || !roomId.equals(Long.parseLong(currentGameIdStr))) {
-                        return; // User has already joined a different room or properly exited
-                    }
-                    
-                    // Check if the user's socket is still offline
-                    String onlineKey = String.format(RedisKeyConst.GAME_ROOM_ONLINE, roomId);
-                    boolean isOnline = Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(onlineKey, userId));
-                    
-                    if (isOnline) {
-                        log.info("🔙 User {} successfully reconnected to Room {}. Ignoring exit.", userId, roomId);
-                    } else {
-                        log.info("🗑️ User {} did not reconnect to Room {} within 5 seconds. Exiting now.", userId, roomId);
-                        exitGameRoom(roomId, userId);
-                    }
-                } catch (Exception e) {
-                    log.error("Error during delayed exit process for user {} in room {}", userId, roomId, e);
-                }
-            });
+            delayedTaskQueue.schedule(LOBBY_EXIT_TASK_TYPE, roomId + ":" + userId, LOBBY_EXIT_GRACE_PERIOD);
             return;
         }
 
@@ -349,6 +329,36 @@ public class RedisGameWaitService {
         exitGameRoom(roomId, userId);
     }
 
+    @PostConstruct
+    void registerDelayedTaskHandlers() {
+        delayedTaskQueue.registerHandler(LOBBY_EXIT_TASK_TYPE, taskId -> {
+            String[] ids = taskId.split(":");
+            exitIfStillOffline(Long.parseLong(ids[0]), Long.parseLong(ids[1]));
+        });
+    }
+
+    /**
+     * 대기실 연결 끊김 유예 시간이 지난 뒤, 재접속하지 않은 유저만 퇴장 처리
+     */
+    private void exitIfStillOffline(Long roomId, Long userId) {
+        // Check if the user is still assigned to this room in Redis
+        String currentGameIdStr = (String) redisTemplate.opsForValue()
+                .get(String.format(RedisKeyConst.USER_CURRENT_GAME, userId));
+
+        if (currentGameIdStr == null || !roomId.equals(Long.parseLong(currentGameIdStr))) {
+            return; // User has already joined a different room or properly exited
+        }
+
+        // Check if the user's socket is still offline
+        boolean isOnline = presenceService.isOnline(PresenceScope.GAME, roomId, userId);
+
+        if (isOnline) {
+            log.info("🔙 User {} successfully reconnected to Room {}. Ignoring exit.", userId, roomId);
+        } else {
+            log.info("🗑️ User {} did not reconnect to Room {} within 5 seconds. Exiting now.", userId, roomId);
+            exitGameRoom(roomId, userId);
+        }
+    }
     /**
      * 방 퇴장
      */
@@ -581,35 +591,34 @@ public class RedisGameWaitService {
         log.info("📢 [Lobby] Player kicked from Room {} - Current players: {}", roomId, remainingCount);
     }
 
-    private void publishEnterEvent(Long roomId, Long userId, Map<Object, Object> roomInfo) {
+    private void publishEnterEvent(Long roomId, Long userId, RoomEntry entry) {
         // ENTER 이벤트 발행 (전체 참여자 정보 포함)
         String topic = String.format(RedisKeyConst.TOPIC_GAME_ROOM, roomId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // Team 정보 조회 (팀전인 경우)
-        String teamsKey = String.format(RedisKeyConst.GAME_ROOM_TEAMS, roomId);
-        String assignedTeam = (String) redisTemplate.opsForHash().get(teamsKey, String.valueOf(userId));
-
-        // Ready 상태 조회
-        String readyKey = String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId);
-        String readyStatus = (String) redisTemplate.opsForHash().get(readyKey, String.valueOf(userId));
-        boolean isReady = "true".equals(readyStatus);
-
-        // 방장 여부 확인
-        String hostIdStr = (String) roomInfo.get("hostId");
-        boolean isHost = hostIdStr != null && hostIdStr.equals(String.valueOf(userId));
-
         Map<String, Object> enterData = new HashMap<>();
         enterData.put("userId", userId);
         enterData.put("nickname", user.getNickname());
         enterData.put("profileImg", user.getProfileImg() != null ? user.getProfileImg() : "");
-        enterData.put("host", isHost);
-        enterData.put("ready", isReady);
-        if (assignedTeam != null) {
-            enterData.put("team", assignedTeam);
+        enterData.put("host", entry.hostId().equals(String.valueOf(userId)));
+        enterData.put("ready", entry.ready());
+        if (!entry.team().isEmpty()) {
+            enterData.put("team", entry.team());
         }
 
         redisPublisher.publish(new ChannelTopic(topic), SocketResponse.of("ENTER", enterData));
     }
+
+    /**
+     * 입장 스크립트 결과
+     */
+    private record RoomEntry(
+            boolean rejoined,
+            String team,
+            int currentPlayers,
+            boolean lobbyCreated,
+            boolean ready,
+            String hostId) {
+    }
 }
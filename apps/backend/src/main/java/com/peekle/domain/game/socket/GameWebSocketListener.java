@@ -1,6 +1,9 @@
 package com.peekle.domain.game.socket;
 
+import com.peekle.domain.game.service.RedisGameAfterService;
 import com.peekle.domain.game.service.RedisGameService;
+import com.peekle.global.presence.PresenceExpiredEvent;
+import com.peekle.global.presence.PresenceScope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -16,7 +19,7 @@ import java.util.Map;
 public class GameWebSocketListener {
 
     private final RedisGameService gameService;
-    private final com.peekle.domain.game.service.RedisGameAfterService gameAfterService;
+    private final RedisGameAfterService gameAfterService;
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
@@ -52,7 +55,7 @@ public class GameWebSocketListener {
                     gameService.handleDisconnect(gameId, userId);
 
                     // [New] Remove from online logic
-                    gameAfterService.removeOnlineUser(gameId, userId);
+                    gameAfterService.removeOnlineUser(gameId, userId, event.getSessionId());
 
                     // [New] Broadcast updated online user list (after disconnect handling)
                     gameAfterService.broadcastOnlineUsers(gameId);
@@ -62,4 +65,29 @@ public class GameWebSocketListener {
             }
         }
     }
+
+    /**
+     * 연결 종료 이벤트 없이 하트비트가 끊긴 세션 (노드 장애, SockJS 세션 유실)
+     */
+    @EventListener
+    public void handlePresenceExpired(PresenceExpiredEvent event) {
+        if (event.scope() != PresenceScope.GAME) {
+            return;
+        }
+        Long gameId = event.roomId();
+        Long userId = event.userId();
+
+        // 다른 탭/재접속 세션이 살아 있거나 이미 다른 방으로 옮겼으면 퇴장 처리하지 않는다.
+        if (gameAfterService.isOnline(gameId, userId) || !gameId.equals(gameService.getUserCurrentGameId(userId))) {
+            return;
+        }
+
+        log.info("[Game] Presence expired. Game ID: {}, User ID: {}", gameId, userId);
+        try {
+            gameService.handleDisconnect(gameId, userId);
+            gameAfterService.broadcastOnlineUsers(gameId);
+        } catch (Exception e) {
+            log.error("[Game] Error during presence expiry cleanup", e);
+        }
+    }
 }
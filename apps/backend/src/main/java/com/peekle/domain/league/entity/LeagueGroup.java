@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class LeagueGroup {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시즌 시작 시 그룹을 대량으로 만들므로 INSERT 배치가 가능한 pooled 시퀀스를 쓴다
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "league_groups_seq")
+    @SequenceGenerator(name = "league_groups_seq", sequenceName = "league_groups_seq", allocationSize = 50)
     private Long id;
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -19,7 +19,9 @@ import java.time.LocalDateTime;
 public class LeagueHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시즌 마감/시작 시 한 트랜잭션에서 대량으로 INSERT 되므로 배치가 가능한 pooled 시퀀스를 쓴다
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "league_history_seq")
+    @SequenceGenerator(name = "league_history_seq", sequenceName = "league_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
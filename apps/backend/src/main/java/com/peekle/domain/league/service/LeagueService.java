@@ -504,6 +504,7 @@ public class LeagueService {
             }
 
             // 4명 이상 그룹: 정상 처리
+            List<LeagueHistory> histories = new ArrayList<>(users.size());
             for (int i = 0; i < users.size(); i++) {
                 User user = users.get(i);
                 int rank = i + 1;
@@ -524,8 +525,10 @@ public class LeagueService {
                         .leagueGroupId(group.getId())
                         .build();
 
-                leagueHistoryRepository.save(history);
+                histories.add(history);
             }
+            // 시퀀스 ID 라 flush 시점에 batch INSERT 로 묶인다
+            leagueHistoryRepository.saveAll(histories);
         }
     }
 
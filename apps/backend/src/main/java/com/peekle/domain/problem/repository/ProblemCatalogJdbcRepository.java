@@ -0,0 +1,114 @@
+package com.peekle.domain.problem.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문제 카탈로그 대량 적재용 JDBC 저장소
+ * - problems/tags 는 IDENTITY 키라 Hibernate batch insert 가 꺼지므로 청크 단위 JDBC batch 로 넣는다
+ * - 중복 여부는 호출 측이 미리 걸러낸다는 전제로 DB 종류에 상관없는 INSERT 만 사용한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProblemCatalogJdbcRepository {
+
+    private static final String INSERT_TAG_SQL = "INSERT INTO tags (tag_key, name) VALUES (?, ?)";
+    private static final String INSERT_PROBLEM_SQL = "INSERT INTO problems "
+            + "(source, external_id, title, tier, url, accepted_user_count, level, language) "
+            + "VALUES (?, ?, ?, ?, ?, 0, 0, 'ko')";
+    private static final String INSERT_PROBLEM_TAG_SQL = "INSERT INTO problem_tags (problem_id, tag_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * tag_key → tag id
+     */
+    public Map<String, Long> findTagIdsByKey() {
+        Map<String, Long> tagIdsByKey = new HashMap<>();
+        jdbcTemplate.query("SELECT id, tag_key FROM tags",
+                (RowCallbackHandler) rs -> tagIdsByKey.put(rs.getString("tag_key"), rs.getLong("id")));
+        return tagIdsByKey;
+    }
+
+    /**
+     * 문제와 태그 연결을 한 청크씩 batch 로 넣는다.
+     * tagIdsByKey 에 없는 태그는 먼저 생성하고 맵에 채워 다음 청크에서 재사용한다.
+     * @return 저장한 문제 수
+     */
+    public int insertProblems(String source, List<ProblemWrite> problems, Map<String, Long> tagIdsByKey) {
+        if (problems.isEmpty()) {
+            return 0;
+        }
+
+        insertMissingTags(problems, tagIdsByKey);
+
+        List<Object[]> problemArgs = new ArrayList<>(problems.size());
+        for (ProblemWrite problem : problems) {
+            problemArgs.add(new Object[] {
+                    source, problem.externalId(), problem.title(), problem.tier(), problem.url() });
+        }
+        jdbcTemplate.batchUpdate(INSERT_PROBLEM_SQL, problemArgs);
+
+        Map<String, Long> problemIdsByExternalId = findIds(
+                "SELECT id, external_id AS lookup_key FROM problems WHERE external_id IN ",
+                problems.stream().map(ProblemWrite::externalId).toList());
+
+        List<Object[]> problemTagArgs = new ArrayList<>();
+        for (ProblemWrite problem : problems) {
+            Long problemId = problemIdsByExternalId.get(problem.externalId());
+            for (TagWrite tag : problem.tags()) {
+                problemTagArgs.add(new Object[] { problemId, tagIdsByKey.get(tag.key()) });
+            }
+        }
+        if (!problemTagArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PROBLEM_TAG_SQL, problemTagArgs);
+        }
+        return problems.size();
+    }
+
+    private void insertMissingTags(List<ProblemWrite> problems, Map<String, Long> tagIdsByKey) {
+        Map<String, String> missingTagNames = new LinkedHashMap<>();
+        for (ProblemWrite problem : problems) {
+            for (TagWrite tag : problem.tags()) {
+                if (!tagIdsByKey.containsKey(tag.key())) {
+                    missingTagNames.putIfAbsent(tag.key(), tag.name());
+                }
+            }
+        }
+        if (missingTagNames.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> tagArgs = new ArrayList<>(missingTagNames.size());
+        missingTagNames.forEach((key, name) -> tagArgs.add(new Object[] { key, name }));
+        jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tagArgs);
+        tagIdsByKey.putAll(findIds(
+                "SELECT id, tag_key AS lookup_key FROM tags WHERE tag_key IN ",
+                missingTagNames.keySet()));
+    }
+
+    private Map<String, Long> findIds(String selectPrefix, Collection<String> keys) {
+        String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+        Map<String, Long> idsByKey = new HashMap<>();
+        jdbcTemplate.query(selectPrefix + "(" + placeholders + ")",
+                (RowCallbackHandler) rs -> idsByKey.put(rs.getString("lookup_key"), rs.getLong("id")),
+                keys.toArray());
+        return idsByKey;
+    }
+
+    public record ProblemWrite(String externalId, String title, String tier, String url, List<TagWrite> tags) {
+    }
+
+    public record TagWrite(String key, String name) {
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -102,4 +103,28 @@ public interface ProblemRepository extends JpaRepository<Problem, Long>, Problem
                      "ORDER BY RANDOM() LIMIT :limit")
        List<Problem> findRandomProblemsByTiersAndTags(@Param("tiers") List<String> tiers,
                      @Param("tags") List<String> tags, @Param("limit") int limit);
+
+       // 목록 화면용 문제 요약 (엔티티/태그 컬렉션 로딩 없이 일괄 조회)
+       @Query("SELECT p.id AS id, p.externalId AS externalId, p.title AS title, p.tier AS tier " +
+                     "FROM Problem p WHERE p.id IN :ids")
+       List<ProblemSummaryProjection> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+       @Query("SELECT p.id AS problemId, t.name AS tagName FROM Problem p JOIN p.tags t WHERE p.id IN :ids")
+       List<ProblemTagNameProjection> findTagNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+       interface ProblemSummaryProjection {
+              Long getId();
+
+              String getExternalId();
+
+              String getTitle();
+
+              String getTier();
+       }
+
+       interface ProblemTagNameProjection {
+              Long getProblemId();
+
+              String getTagName();
+       }
 }
@@ -9,8 +9,9 @@ import com.peekle.domain.problem.repository.ProblemRepository;
 import com.peekle.domain.problem.repository.TagRepository;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
 import com.peekle.global.util.SolvedAcLevelUtil;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,7 +32,6 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ProblemService {
 
@@ -42,9 +42,23 @@ public class ProblemService {
 
     private final ProblemRepository problemRepository;
     private final TagRepository tagRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final TagNameTranslator tagNameTranslator;
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final TransactionTemplate transactionTemplate;
+    private final OutboundHttpClients outboundHttpClients;
+
+    public ProblemService(ProblemRepository problemRepository, TagRepository tagRepository,
+            TagNameTranslator tagNameTranslator, TransactionTemplate transactionTemplate,
+            OutboundHttpClients outboundHttpClients) {
+        this.problemRepository = problemRepository;
+        this.tagRepository = tagRepository;
+        this.tagNameTranslator = tagNameTranslator;
+        this.transactionTemplate = transactionTemplate;
+        this.outboundHttpClients = outboundHttpClients;
+        // solved.ac 전용 커넥션 풀과 타임아웃을 쓴다
+        this.restTemplate = new RestTemplate(outboundHttpClients.requestFactory(OutboundDestination.SOLVED_AC));
+    }
 
     public void fetchAndSaveAllProblems(int startPage) {
         syncAllBojProblems(startPage);
@@ -205,7 +219,8 @@ public class ProblemService {
 
     private JsonNode fetchProblemItems(int page) throws Exception {
         String url = SOLVED_AC_URL_TEMPLATE.formatted(page);
-        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        ResponseEntity<String> response = outboundHttpClients.execute(OutboundDestination.SOLVED_AC,
+                () -> restTemplate.getForEntity(url, String.class));
         if (response.getBody() == null) {
             throw new IllegalStateException("solved.ac 응답 body가 비어 있습니다.");
         }
@@ -242,8 +257,10 @@ public class ProblemService {
             if (tag == null) {
                 tag = tagRepository.save(new Tag(key, tagName));
                 pageTagMap.put(key, tag);
+                tagNameTranslator.put(key, tagName);
             } else if (!Objects.equals(tag.getName(), tagName)) {
                 tag.updateName(tagName);
+                tagNameTranslator.put(key, tagName);
             }
             tags.add(tag);
         }
@@ -0,0 +1,120 @@
+package com.peekle.domain.problem.service;
+
+import com.peekle.domain.problem.entity.Tag;
+import com.peekle.domain.problem.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 키(Solved.ac key) -> 한국어 이름 변환 테이블
+ * - 최초 사용 시 전체 태그를 한 번에 적재하고 이후에는 메모리에서 변환
+ * - 테이블에 없는 키만 모아서 한 번의 IN 조회로 보충
+ * - DB 에도 없는 키는 기억해 두고 다시 조회하지 않는다 (키 그대로 표시, 태그가 추가되면 put 으로 풀린다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagNameTranslator {
+
+    private final TagRepository tagRepository;
+
+    // 게임 생성 요청의 임의 키로 무한히 늘지 않도록 DB 에 없는 키는 이만큼만 기억한다
+    private static final int MAX_UNKNOWN_KEYS = 1_000;
+
+    private final Map<String, String> namesByKey = new ConcurrentHashMap<>();
+    private final Set<String> unknownKeys = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    public List<String> translateToKo(List<String> tagKeys) {
+        if (tagKeys == null || tagKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ensureLoaded();
+
+        Set<String> missingKeys = new LinkedHashSet<>();
+        for (String tagKey : tagKeys) {
+            String normalized = normalize(tagKey);
+            if (!normalized.isEmpty() && !namesByKey.containsKey(normalized) && !unknownKeys.contains(normalized)) {
+                missingKeys.add(normalized);
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            for (Tag tag : tagRepository.findByKeyIn(missingKeys)) {
+                namesByKey.put(tag.getKey(), tag.getName());
+                missingKeys.remove(normalize(tag.getKey()));
+            }
+            for (String missingKey : missingKeys) {
+                if (unknownKeys.size() >= MAX_UNKNOWN_KEYS) {
+                    break;
+                }
+                unknownKeys.add(missingKey);
+            }
+        }
+
+        List<String> translated = new ArrayList<>(tagKeys.size());
+        for (String tagKey : tagKeys) {
+            translated.add(namesByKey.getOrDefault(normalize(tagKey), tagKey));
+        }
+        return translated;
+    }
+
+    /**
+     * 문제 동기화 중 태그가 추가/변경되면 테이블에도 반영한다.
+     * 트랜잭션 안이라면 커밋 이후에 반영하여, 롤백된 이름이 테이블에 남지 않도록 한다.
+     */
+    public void put(String tagKey, String name) {
+        if (tagKey == null || name == null) {
+            return;
+        }
+        String normalized = normalize(tagKey);
+        runAfterCommit(() -> {
+            namesByKey.put(normalized, name);
+            unknownKeys.remove(normalized);
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            for (Tag tag : tagRepository.findAll()) {
+                namesByKey.putIfAbsent(tag.getKey(), tag.getName());
+            }
+            loaded = true;
+            log.info("🏷️ [Tag] Loaded {} tag translations", namesByKey.size());
+        }
+    }
+
+    private String normalize(String tagKey) {
+        return tagKey == null ? "" : tagKey.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,31 @@
+package com.peekle.domain.rank.scheduler;
+
+import com.peekle.domain.rank.service.StudyRankingBoard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 랭킹 보드 정합성 스케줄러
+ * 기동 직후 보드를 구성하고, 이후 10분마다 study_rooms 테이블 기준으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyRankingScheduler {
+
+    private final StudyRankingBoard studyRankingBoard;
+
+    @Scheduled(initialDelay = 0, fixedDelay = 10 * 60 * 1000)
+    public void reconcile() {
+        try {
+            int drift = studyRankingBoard.rebuild();
+            if (drift > 0) {
+                log.info("🏆 [Study Ranking] Reconciled ranking board ({} studies drifted)", drift);
+            }
+        } catch (Exception e) {
+            log.error("❌ [Study Ranking] Failed to reconcile ranking board", e);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,9 +26,18 @@ public class RankService {
 
     private final StudyRoomRepository studyRoomRepository;
     private final StudyMemberRepository studyMemberRepository;
+    private final StudyRankingBoard studyRankingBoard;
 
     public Page<RankResponse> getRanking(Long userId, String keyword, String scope, Pageable pageable) {
 
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        boolean mine = "MINE".equalsIgnoreCase(scope);
+
+        // 검색어가 없으면 랭킹 보드(ZSET)에서 순위/페이지를 바로 가져온다. 보드가 아직 없으면 DB 조회로 대체
+        if (!hasKeyword && studyRankingBoard.isReady()) {
+            return mine ? getMyRankingFromBoard(userId, pageable) : getRankingFromBoard(pageable);
+        }
+
         // 스터디 랭킹 조회
         Page<StudyRoom> studyPage = studyRoomRepository.findRankings(userId, keyword, scope, pageable);
 
@@ -35,8 +45,91 @@ public class RankService {
             return Page.empty(pageable);
         }
 
+        List<StudyRoom> studies = studyPage.getContent();
+        boolean calculateGlobalRank = mine || hasKeyword;
+        long offset = studyPage.getPageable().getOffset();
+
+        // 내 스터디 보기 또는 검색 시: 실제 전체 랭킹 조회 (보드의 ZREVRANK, 없으면 COUNT)
+        Map<Long, Integer> globalRanks = calculateGlobalRank
+                ? studyRankingBoard.getRanks(studies.stream().map(StudyRoom::getId).toList())
+                : Map.of();
+
+        List<Integer> ranks = new ArrayList<>(studies.size());
+        for (int i = 0; i < studies.size(); i++) {
+            StudyRoom study = studies.get(i);
+            if (!calculateGlobalRank) {
+                // 일반 전체 랭킹 조회: 페이징 오프셋 기반 계산
+                ranks.add((int) (offset + i + 1));
+            } else if (globalRanks.containsKey(study.getId())) {
+                ranks.add(globalRanks.get(study.getId()));
+            } else {
+                ranks.add((int) studyRoomRepository.countHigherRankStudies(study.getRankingPoint(), study.getId()) + 1);
+            }
+        }
+
+        return toRankPage(studies, ranks, pageable, studyPage.getTotalElements());
+    }
+
+    // 전체 랭킹: ZREVRANGE 로 페이지 ID를 가져오고, 순위는 오프셋으로 계산
+    private Page<RankResponse> getRankingFromBoard(Pageable pageable) {
+        List<Long> studyIds = studyRankingBoard.getPage(pageable.getOffset(), pageable.getPageSize());
+        if (studyIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, studyRankingBoard.size());
+        }
+
+        List<StudyRoom> studies = findAllInOrder(studyIds);
+        long offset = pageable.getOffset();
+        List<Integer> ranks = new ArrayList<>(studies.size());
+        for (StudyRoom study : studies) {
+            ranks.add((int) (offset + studyIds.indexOf(study.getId()) + 1));
+        }
+
+        return toRankPage(studies, ranks, pageable, studyRankingBoard.size());
+    }
+
+    // 내 스터디 랭킹: 참여 스터디의 ZREVRANK 를 한 번에 조회해 순위순으로 정렬 후 페이징
+    private Page<RankResponse> getMyRankingFromBoard(Long userId, Pageable pageable) {
+        List<Long> myStudyIds = studyMemberRepository.findActiveStudyIdsByUserId(userId);
+        if (myStudyIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<Long, Integer> ranks = studyRankingBoard.getRanks(myStudyIds);
+        List<Map.Entry<Long, Integer>> ordered = ranks.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        List<Long> pageIds = ordered.subList(from, to).stream().map(Map.Entry::getKey).toList();
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ordered.size());
+        }
+
+        List<StudyRoom> studies = findAllInOrder(pageIds);
+        List<Integer> pageRanks = studies.stream().map(study -> ranks.get(study.getId())).toList();
+
+        return toRankPage(studies, pageRanks, pageable, ordered.size());
+    }
+
+    // ID 순서(순위순)를 유지한 채 스터디 조회. 보드 반영 전에 삭제된 스터디는 건너뛴다.
+    private List<StudyRoom> findAllInOrder(List<Long> studyIds) {
+        Map<Long, StudyRoom> studyMap = studyRoomRepository.findAllById(studyIds).stream()
+                .collect(Collectors.toMap(StudyRoom::getId, Function.identity()));
+
+        return studyIds.stream()
+                .map(studyMap::get)
+                .filter(study -> study != null && study.isActive())
+                .toList();
+    }
+
+    private Page<RankResponse> toRankPage(List<StudyRoom> studies, List<Integer> ranks, Pageable pageable, long total) {
+        if (studies.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
         // studyId 추출
-        List<Long> studyIds = studyPage.getContent().stream().map(StudyRoom::getId).toList();
+        List<Long> studyIds = studies.stream().map(StudyRoom::getId).toList();
 
         // 스터디 멤버 조회
         List<StudyMember> members = studyMemberRepository.findAllByStudyIdIn(studyIds);
@@ -50,28 +143,13 @@ public class RankService {
                         )
                 ));
 
-        // 응답 DTO 변환 (랭킹 계산 포함)
-        List<StudyRoom> studies = studyPage.getContent();
+        // 응답 DTO 변환
         List<RankResponse> content = new ArrayList<>();
-
-        boolean calculateGlobalRank = "MINE".equalsIgnoreCase(scope) || (keyword != null && !keyword.isBlank());
-        long offset = studyPage.getPageable().getOffset();
-
         for (int i = 0; i < studies.size(); i++) {
             StudyRoom study = studies.get(i);
-
-            int rank;
-            if (calculateGlobalRank) {
-                // 내 스터디 보기 또는 검색 시: 실제 전체 랭킹 조회
-                rank = (int) studyRoomRepository.countHigherRankStudies(study.getRankingPoint(), study.getId()) + 1;
-            } else {
-                // 일반 전체 랭킹 조회: 페이징 오프셋 기반 계산
-                rank = (int) (offset + i + 1);
-            }
-
             List<StudyMemberResponse> studyMembers = membersByStudyId.getOrDefault(study.getId(), List.of());
             content.add(RankResponse.builder()
-                    .rank(rank)
+                    .rank(ranks.get(i))
                     .studyId(study.getId())
                     .name(study.getTitle())
                     .totalPoint(study.getRankingPoint())
@@ -80,6 +158,6 @@ public class RankService {
                     .build());
         }
 
-        return new PageImpl<>(content, pageable, studyPage.getTotalElements());
+        return new PageImpl<>(content, pageable, total);
     }
 }
@@ -0,0 +1,285 @@
+package com.peekle.domain.rank.service;
+
+import com.peekle.domain.study.repository.StudyRoomRepository;
+import com.peekle.global.redis.RedisKeyConst;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스터디 랭킹 보드 (Redis Sorted Set)
+ * - member = studyId, score = rankingPoint * ID_SPAN + (ID_SPAN - 1 - studyId)
+ * - 점수 내림차순, 동점 시 ID 오름차순이라는 기존 DB 정렬을 ZREVRANGE/ZREVRANK 만으로 재현
+ * - 갱신은 커밋 이후에만 반영하고, 누락/유실분은 주기적인 재구성으로 테이블과 맞춘다
+ * - 재구성은 한 인스턴스만 하고(Redisson 락), 그 사이의 갱신은 따로 기록했다가 교체하면서 다시 적용한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyRankingBoard {
+
+    // 2^24: 동점 처리를 위한 ID 구간. 점수(절댓값 2^29 미만)와 합쳐도 double 정수 정밀도(2^53) 안에 들어온다.
+    private static final long ID_SPAN = 1L << 24;
+    private static final long MAX_POINT = (1L << 29) - 1;
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+    private static final Duration REBUILD_ACTIVE_TTL = Duration.ofMinutes(5);
+    private static final String REMOVED = "";
+    private static final String METRIC_RECONCILE_DRIFT = "study.ranking.reconcile.drift";
+    private static final String METRIC_SCORE_CLAMPED = "study.ranking.score.clamped";
+
+    // KEYS[1] = 보드, KEYS[2] = 재구성 중 표시, KEYS[3] = 재구성 중 갱신 기록, ARGV[1] = studyId, ARGV[2] = 점수 ("" 이면 제거)
+    private static final DefaultRedisScript<Long> UPDATE_SCRIPT = buildScript(
+            "if ARGV[2] == '' then\n"
+                    + "  redis.call('ZREM', KEYS[1], ARGV[1])\n"
+                    + "else\n"
+                    + "  redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])\n"
+                    + "end\n"
+                    + "if redis.call('EXISTS', KEYS[2]) == 1 then\n"
+                    + "  redis.call('HSET', KEYS[3], ARGV[1], ARGV[2])\n"
+                    + "end\n"
+                    + "return 1\n");
+
+    // KEYS[1] = 스테이징, KEYS[2] = 보드, KEYS[3] = 재구성 중 표시, KEYS[4] = 재구성 중 갱신 기록
+    // 스테이징으로 보드를 교체하고, DB 를 읽은 뒤에 들어온 갱신을 그 위에 다시 적용한다 / 반환: 다시 적용한 갱신 수
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT = buildScript(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then\n"
+                    + "  redis.call('RENAME', KEYS[1], KEYS[2])\n"
+                    + "else\n"
+                    + "  redis.call('DEL', KEYS[2])\n"
+                    + "end\n"
+                    + "local pending = redis.call('HGETALL', KEYS[4])\n"
+                    + "for i = 1, #pending, 2 do\n"
+                    + "  if pending[i + 1] == '' then\n"
+                    + "    redis.call('ZREM', KEYS[2], pending[i])\n"
+                    + "  else\n"
+                    + "    redis.call('ZADD', KEYS[2], pending[i + 1], pending[i])\n"
+                    + "  end\n"
+                    + "end\n"
+                    + "redis.call('DEL', KEYS[3], KEYS[4])\n"
+                    + "return #pending / 2\n");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StudyRoomRepository studyRoomRepository;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    private static DefaultRedisScript<Long> buildScript(String scriptText) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 보드가 구성되어 있는지 여부. 비어 있으면 호출 측은 DB 조회로 대체한다.
+     */
+    public boolean isReady() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(RedisKeyConst.STUDY_RANKING));
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(RedisKeyConst.STUDY_RANKING);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 전체 랭킹의 [offset, offset + limit) 구간 스터디 ID (순위순)
+     */
+    public List<Long> getPage(long offset, int limit) {
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .reverseRange(RedisKeyConst.STUDY_RANKING, offset, offset + limit - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<Long> studyIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            studyIds.add(Long.parseLong(member));
+        }
+        return studyIds;
+    }
+
+    /**
+     * 스터디별 전체 순위(1부터). 보드에 없는 스터디는 결과에서 빠진다.
+     */
+    public Map<Long, Integer> getRanks(Collection<Long> studyIds) {
+        if (studyIds == null || studyIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> orderedIds = new ArrayList<>(studyIds);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long studyId : orderedIds) {
+                stringConnection.zRevRank(RedisKeyConst.STUDY_RANKING, String.valueOf(studyId));
+            }
+            return null;
+        });
+
+        Map<Long, Integer> ranks = new LinkedHashMap<>();
+        for (int i = 0; i < orderedIds.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof Number rank) {
+                ranks.put(orderedIds.get(i), rank.intValue() + 1);
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * 스터디의 현재 누적 점수를 보드에 반영한다. (트랜잭션 중이면 커밋 이후)
+     */
+    public void update(Long studyId, int rankingPoint) {
+        String score = String.valueOf((long) score(studyId, rankingPoint));
+        afterCommit(() -> apply(String.valueOf(studyId), score));
+    }
+
+    /**
+     * 비활성화된 스터디를 보드에서 제거한다. (트랜잭션 중이면 커밋 이후)
+     */
+    public void remove(Long studyId) {
+        afterCommit(() -> apply(String.valueOf(studyId), REMOVED));
+    }
+
+    /**
+     * 활성 스터디 테이블로 보드를 다시 만든다. 다른 인스턴스가 재구성 중이면 건너뛴다.
+     * 스테이징 키에 채운 뒤 RENAME 으로 교체하므로 조회 측은 항상 완성된 보드만 본다.
+     * DB 를 읽기 전부터 교체까지 들어온 갱신/제거는 교체와 같은 스크립트에서 다시 적용해 예전 점수로 덮이지 않는다.
+     * @return 기존 보드와 점수가 달랐거나 누락/잔존했던 스터디 수
+     */
+    public int rebuild() {
+        RLock lock = redissonClient.getLock(RedisKeyConst.LOCK_STUDY_RANKING_REBUILD);
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(0, TimeUnit.SECONDS);
+            if (!acquired) {
+                log.debug("[Study Ranking] Rebuild skipped: another instance is rebuilding");
+                return 0;
+            }
+            return rebuildLocked();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int rebuildLocked() {
+        // 갱신 기록을 비우고 표시를 먼저 세운 뒤 DB 를 읽는다 (그 뒤의 갱신은 모두 기록된다)
+        stringRedisTemplate.delete(List.of(RedisKeyConst.STUDY_RANKING_REBUILD,
+                RedisKeyConst.STUDY_RANKING_REBUILD_PENDING));
+        stringRedisTemplate.opsForValue().set(RedisKeyConst.STUDY_RANKING_REBUILD_ACTIVE, "1", REBUILD_ACTIVE_TTL);
+
+        Map<String, Double> expected = new HashMap<>();
+        for (StudyRoomRepository.RankingPointProjection row : studyRoomRepository.findActiveRankingPoints()) {
+            expected.put(String.valueOf(row.getId()), score(row.getId(), row.getRankingPoint()));
+        }
+        int drift = countDrift(expected);
+
+        if (!expected.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> chunk = new HashSet<>();
+            for (Map.Entry<String, Double> entry : expected.entrySet()) {
+                chunk.add(new DefaultTypedTuple<>(entry.getKey(), entry.getValue()));
+                if (chunk.size() >= REBUILD_CHUNK_SIZE) {
+                    stringRedisTemplate.opsForZSet().add(RedisKeyConst.STUDY_RANKING_REBUILD, chunk);
+                    chunk = new HashSet<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                stringRedisTemplate.opsForZSet().add(RedisKeyConst.STUDY_RANKING_REBUILD, chunk);
+            }
+        }
+        Long replayed = stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(RedisKeyConst.STUDY_RANKING_REBUILD,
+                RedisKeyConst.STUDY_RANKING, RedisKeyConst.STUDY_RANKING_REBUILD_ACTIVE,
+                RedisKeyConst.STUDY_RANKING_REBUILD_PENDING));
+        if (replayed != null && replayed > 0) {
+            log.debug("[Study Ranking] Replayed {} updates made during rebuild", replayed);
+        }
+
+        meterRegistry.counter(METRIC_RECONCILE_DRIFT).increment(drift);
+        return drift;
+    }
+
+    private int countDrift(Map<String, Double> expected) {
+        Set<ZSetOperations.TypedTuple<String>> current = stringRedisTemplate.opsForZSet()
+                .rangeWithScores(RedisKeyConst.STUDY_RANKING, 0, -1);
+        Map<String, Double> actual = new HashMap<>();
+        if (current != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : current) {
+                actual.put(tuple.getValue(), tuple.getScore());
+            }
+        }
+
+        int drift = 0;
+        for (Map.Entry<String, Double> entry : expected.entrySet()) {
+            if (!entry.getValue().equals(actual.remove(entry.getKey()))) {
+                drift++;
+            }
+        }
+        return drift + actual.size();
+    }
+
+    /**
+     * 점수는 절댓값 2^29 미만, ID 는 2^24 미만이어야 순서가 정확하다.
+     * 범위를 넘으면 경계값으로 잘라 다른 스터디의 점수 구간을 침범하지 않게 하고 지표로 남긴다.
+     */
+    private double score(Long studyId, int rankingPoint) {
+        long point = Math.max(-MAX_POINT, Math.min(MAX_POINT, rankingPoint));
+        long id = Math.max(0L, Math.min(ID_SPAN - 1, studyId));
+        if (point != rankingPoint || id != studyId) {
+            log.warn("[Study Ranking] Score out of range for study {} (point {}), clamped", studyId, rankingPoint);
+            meterRegistry.counter(METRIC_SCORE_CLAMPED).increment();
+        }
+        return (double) point * ID_SPAN + (ID_SPAN - 1 - id);
+    }
+
+    private void apply(String member, String score) {
+        stringRedisTemplate.execute(UPDATE_SCRIPT, List.of(RedisKeyConst.STUDY_RANKING,
+                RedisKeyConst.STUDY_RANKING_REBUILD_ACTIVE, RedisKeyConst.STUDY_RANKING_REBUILD_PENDING),
+                member, score);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(action);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            // 보드 반영 실패는 다음 재구성에서 복구된다.
+            log.warn("[Study Ranking] Failed to update ranking board: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.peekle.domain.study.access;
+
+import com.peekle.domain.study.repository.StudyMemberRepository;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.redis.RedisKeyConst;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스터디 멤버 권한 확인
+ * - HTTP: 스터디별 Redis Set 에 멤버 목록을 미러링하고, 없으면 DB 에서 한 번 읽어 채운다
+ * - 소켓: 입장/구독 시 한 번 확인한 결과를 세션 속성에 저장해 이후 메시지는 Redis 도 거치지 않는다
+ * - 가입/탈퇴/강퇴/삭제는 커밋 후 멤버 구성 버전을 올리면서 Redis Set 을 지우고 전 인스턴스에 무효화를 알린다
+ *   (DB 를 읽는 사이 버전이 바뀌면 채우지 않으므로 지워진 멤버가 되살아나지 않는다, 세션 캐시는 리비전이 바뀌면 다시 확인한다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyAccessGuard {
+
+    static final String SESSION_ATTRIBUTE = "studyAccess";
+    private static final String EMPTY_MARKER = "-";
+    private static final Duration MEMBERS_TTL = Duration.ofMinutes(30);
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // KEYS[1] = 멤버 Set, ARGV[1] = userId / 반환: -1 = 미적재, 0 = 멤버 아님, 1 = 멤버
+    private static final DefaultRedisScript<Long> IS_MEMBER_SCRIPT = buildScript(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end\n"
+                    + "return redis.call('SISMEMBER', KEYS[1], ARGV[1])\n");
+
+    // KEYS[1] = 멤버 Set, KEYS[2] = 멤버 구성 버전, ARGV[1] = DB 를 읽기 전에 본 버전, ARGV[2] = TTL(ms), ARGV[3..] = 멤버
+    // 그 사이 무효화로 버전이 바뀌었으면 채우지 않는다 / 반환: 1 = 채움, 0 = 건너뜀
+    private static final DefaultRedisScript<Long> FILL_SCRIPT = buildScript(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end\n"
+                    + "redis.call('SADD', KEYS[1], unpack(ARGV, 3))\n"
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+                    + "return 1\n");
+
+    // KEYS[1] = 멤버 Set, KEYS[2] = 멤버 구성 버전, ARGV[1] = 버전 TTL(ms)
+    private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = buildScript(
+            "redis.call('INCR', KEYS[2])\n"
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[1])\n"
+                    + "redis.call('DEL', KEYS[1])\n"
+                    + "return 1\n");
+
+    private final StudyMemberRepository studyMemberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 스터디별 멤버 구성 리비전 (무효화될 때마다 증가)
+    private final Map<Long, Long> revisions = new ConcurrentHashMap<>();
+
+    private static DefaultRedisScript<Long> buildScript(String scriptText) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * HTTP 경로용 멤버 확인 (Redis Set, 미적재 시 DB)
+     */
+    public boolean isMember(Long studyId, Long userId) {
+        if (studyId == null || userId == null) {
+            return false;
+        }
+
+        String key = membersKey(studyId);
+        Long cached = stringRedisTemplate.execute(IS_MEMBER_SCRIPT, List.of(key), String.valueOf(userId));
+        if (cached != null && cached >= 0) {
+            return cached == 1L;
+        }
+
+        // 버전은 DB 를 읽기 전에 확인해야 그 뒤의 무효화를 알아챌 수 있다
+        String versionKey = versionKey(studyId);
+        String version = stringRedisTemplate.opsForValue().get(versionKey);
+        List<Long> memberIds = studyMemberRepository.findUserIdsByStudyId(studyId);
+        String[] args = new String[memberIds.size() + 3];
+        args[0] = version != null ? version : "0";
+        args[1] = String.valueOf(MEMBERS_TTL.toMillis());
+        args[2] = EMPTY_MARKER;
+        for (int i = 0; i < memberIds.size(); i++) {
+            args[i + 3] = String.valueOf(memberIds.get(i));
+        }
+        stringRedisTemplate.execute(FILL_SCRIPT, List.of(key, versionKey), (Object[]) args);
+        return memberIds.contains(userId);
+    }
+
+    public void requireMember(Long studyId, Long userId) {
+        if (!isMember(studyId, userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 소켓 경로용 멤버 확인
+     * 세션에 확인 결과가 있고 그 뒤로 멤버 구성이 바뀌지 않았으면 바로 통과한다.
+     */
+    public boolean isMember(Map<String, Object> sessionAttributes, Long studyId, Long userId) {
+        if (sessionAttributes == null || studyId == null) {
+            return isMember(studyId, userId);
+        }
+
+        Map<Long, Long> resolved = resolvedStudies(sessionAttributes);
+        long revision = revisions.getOrDefault(studyId, 0L);
+        Long resolvedRevision = resolved.get(studyId);
+        if (resolvedRevision != null && resolvedRevision == revision) {
+            return true;
+        }
+
+        boolean member = isMember(studyId, userId);
+        if (member) {
+            resolved.put(studyId, revision);
+        } else {
+            resolved.remove(studyId);
+        }
+        return member;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(StudyMembershipChangedEvent event) {
+        Long studyId = event.studyId();
+        evictLocal(String.valueOf(studyId));
+        try {
+            stringRedisTemplate.execute(INVALIDATE_SCRIPT, List.of(membersKey(studyId), versionKey(studyId)),
+                    String.valueOf(VERSION_TTL.toMillis()));
+            stringRedisTemplate.convertAndSend(RedisKeyConst.TOPIC_STUDY_MEMBERSHIP_INVALIDATE, String.valueOf(studyId));
+        } catch (Exception e) {
+            log.warn("[Study Access] Failed to invalidate membership of study {}: {}", studyId, e.getMessage());
+        }
+    }
+
+    public void evictLocal(String target) {
+        try {
+            revisions.merge(Long.parseLong(target), 1L, Long::sum);
+        } catch (NumberFormatException e) {
+            log.warn("[Study Access] Ignored invalid invalidation target: {}", target);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> resolvedStudies(Map<String, Object> sessionAttributes) {
+        return (Map<Long, Long>) sessionAttributes.computeIfAbsent(SESSION_ATTRIBUTE,
+                key -> new ConcurrentHashMap<Long, Long>());
+    }
+
+    private String membersKey(Long studyId) {
+        return String.format(RedisKeyConst.STUDY_MEMBERS, studyId);
+    }
+
+    private String versionKey(Long studyId) {
+        return String.format(RedisKeyConst.STUDY_MEMBERS_VERSION, studyId);
+    }
+}
@@ -0,0 +1,60 @@
+package com.peekle.domain.study.access;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 스터디 토픽 구독 시점에 멤버 여부를 미리 확인해 세션에 저장한다.
+ * 구독 자체는 막지 않고, 이후 소켓 핸들러가 StudyAccessGuard 로 세션 결과를 재사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyAccessInterceptor implements ChannelInterceptor {
+
+    private static final String STUDY_TOPIC_PREFIX = "/topic/studies/";
+
+    private final StudyAccessGuard studyAccessGuard;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (!StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Long studyId = parseStudyId(accessor.getDestination());
+        if (sessionAttributes == null || studyId == null
+                || !(sessionAttributes.get("userId") instanceof Long userId)) {
+            return message;
+        }
+
+        studyAccessGuard.isMember(sessionAttributes, studyId, userId);
+        return message;
+    }
+
+    // "/topic/studies/{studyId}/..." (rooms/{studyId} 형태 포함)
+    private Long parseStudyId(String destination) {
+        if (destination == null || !destination.startsWith(STUDY_TOPIC_PREFIX)) {
+            return null;
+        }
+        String[] segments = destination.substring(STUDY_TOPIC_PREFIX.length()).split("/");
+        for (String segment : segments) {
+            if (!segment.isEmpty() && segment.chars().allMatch(Character::isDigit)) {
+                try {
+                    return Long.valueOf(segment);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.peekle.domain.study.access;
+
+/**
+ * 스터디 멤버 구성이 바뀌었을 때 (가입/탈퇴/강퇴/삭제)
+ *
+ * @param userId 대상 유저 (스터디 삭제처럼 전체가 바뀌면 null)
+ */
+public record StudyMembershipChangedEvent(Long studyId, Long userId) {
+
+    public static StudyMembershipChangedEvent of(Long studyId, Long userId) {
+        return new StudyMembershipChangedEvent(studyId, userId);
+    }
+
+    public static StudyMembershipChangedEvent wholeStudy(Long studyId) {
+        return new StudyMembershipChangedEvent(studyId, null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.peekle.domain.study.access;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@RequiredArgsConstructor
+public class StudyMembershipInvalidationListener implements MessageListener {
+
+    private final StudyAccessGuard studyAccessGuard;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String target = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        if (target.isEmpty()) {
+            return;
+        }
+        studyAccessGuard.evictLocal(target);
+    }
+}
@@ -2,8 +2,7 @@ package com.peekle.domain.study.controller;
 
 import com.peekle.domain.study.dto.curriculum.ProblemStatusResponse;
 import com.peekle.domain.study.dto.ide.StudyProblemDraftResponse;
-import com.peekle.domain.study.entity.StudyRoom;
-import com.peekle.domain.study.repository.StudyMemberRepository;
+import com.peekle.domain.study.access.StudyAccessGuard;
 import com.peekle.domain.study.service.RedisIdeService;
 import com.peekle.domain.study.service.StudyMemberProgressService;
 import com.peekle.domain.study.service.StudyProblemDraftService;
@@ -29,7 +28,7 @@ public class StudyCurriculumController {
     private final RedisIdeService redisIdeService;
     private final StudyProblemDraftService studyProblemDraftService;
     private final StudyMemberProgressService studyMemberProgressService;
-    private final StudyMemberRepository studyMemberRepository;
+    private final StudyAccessGuard studyAccessGuard;
 
     /**
      * 커스텀 문제 설명 저장
@@ -88,9 +87,8 @@ public class StudyCurriculumController {
             return ApiResponse.success(Map.of());
         }
 
-        StudyRoom studyRef = StudyRoom.builder().id(studyId).build();
-        boolean requesterInStudy = studyMemberRepository.existsByStudyAndUser_Id(studyRef, userId);
-        boolean targetInStudy = studyMemberRepository.existsByStudyAndUser_Id(studyRef, targetUserId);
+        boolean requesterInStudy = studyAccessGuard.isMember(studyId, userId);
+        boolean targetInStudy = requesterInStudy && studyAccessGuard.isMember(studyId, targetUserId);
 
         if (!requesterInStudy || !targetInStudy) {
             return ApiResponse.success(Map.of());
@@ -136,8 +134,7 @@ public class StudyCurriculumController {
             return ApiResponse.success(Map.of());
         }
 
-        StudyRoom studyRef = StudyRoom.builder().id(studyId).build();
-        boolean requesterInStudy = studyMemberRepository.existsByStudyAndUser_Id(studyRef, userId);
+        boolean requesterInStudy = studyAccessGuard.isMember(studyId, userId);
         if (!requesterInStudy) {
             return ApiResponse.success(Map.of());
         }
@@ -8,11 +8,12 @@ import com.peekle.domain.study.dto.http.response.StudyRoomResponse;
 import com.peekle.domain.study.dto.ide.IdeResponse;
 import com.peekle.domain.study.dto.socket.request.*;
 import com.peekle.domain.study.entity.StudyChatLog;
-import com.peekle.domain.study.entity.StudyRoom;
-import com.peekle.domain.study.repository.StudyMemberRepository;
+import com.peekle.domain.study.access.StudyAccessGuard;
 import com.peekle.domain.study.service.*;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.global.media.service.MediaService;
+import com.peekle.global.presence.PresenceScope;
+import com.peekle.global.presence.PresenceService;
 import com.peekle.global.redis.RedisPublisher;
 import com.peekle.global.socket.SocketResponse;
 import lombok.RequiredArgsConstructor;
@@ -26,8 +27,6 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
@@ -37,7 +36,7 @@ public class StudySocketController {
         private final RedisPublisher redisPublisher;
         private final StringRedisTemplate stringRedisTemplate;
         private final StudyRoomService studyRoomService;
-        private final StudyMemberRepository studyMemberRepository;
+        private final StudyAccessGuard studyAccessGuard;
         private final StudyCurriculumService studyCurriculumService;
         private final RedisIdeService redisIdeService;
         private final StudyProblemDraftService studyProblemDraftService;
@@ -47,6 +46,7 @@ public class StudySocketController {
         private final StudyChatService studyChatService; // Injected
         private final WhiteboardService whiteboardService; // Injected
         private final UserRepository userRepository; // Custom injection
+        private final PresenceService presenceService;
 
         // 스터디 입장 알림
         @MessageMapping("/studies/enter")
@@ -61,9 +61,9 @@ public class StudySocketController {
 
                 Long studyId = request.getStudyId();
 
-                // 0. 검증
-                boolean isUserMember = studyMemberRepository.existsByStudyAndUser_Id(
-                                StudyRoom.builder().id(studyId).build(), userId);
+                // 0. 검증 (결과는 세션에 저장되어 이후 소켓 요청에서 재사용)
+                boolean isUserMember = studyAccessGuard.isMember(headerAccessor.getSessionAttributes(), studyId,
+                                userId);
 
                 if (!isUserMember) {
                         // ... (Error handling)
@@ -89,10 +89,9 @@ public class StudySocketController {
 
                         try {
                                 Long oldStudyId = Long.valueOf(currentActiveStudy);
-                                String oldOnlineKey = "study:" + oldStudyId + ":online_users";
 
                                 // 1. Remove from old study presence
-                                stringRedisTemplate.opsForSet().remove(oldOnlineKey, userId.toString());
+                                presenceService.leaveAll(PresenceScope.STUDY, oldStudyId, userId);
                                 Long persistedProblemId = studyProblemDraftService
                                                 .persistActiveProblemFromRedis(oldStudyId, userId);
                                 studyMemberProgressService.updateLastStudyProblem(oldStudyId, userId,
@@ -105,8 +104,7 @@ public class StudySocketController {
                                                 SocketResponse.of("LEAVE", userId));
 
                                 // 3. Clean up if empty
-                                Long remainingUsers = stringRedisTemplate.opsForSet().size(oldOnlineKey);
-                                if (remainingUsers != null && remainingUsers == 0) {
+                                if (presenceService.onlineCount(PresenceScope.STUDY, oldStudyId) == 0) {
                                         log.info("Study Room {} is empty (Switch). Scheduling whiteboard cleanup...",
                                                         oldStudyId);
                                         whiteboardService.scheduleCleanup(oldStudyId);
@@ -120,11 +118,9 @@ public class StudySocketController {
 
                 // Mark as Active
                 stringRedisTemplate.opsForValue().set(activeStudyKey, String.valueOf(studyId));
-                stringRedisTemplate.opsForSet().add("study:" + studyId + ":online_users", userId.toString());
-                Set<String> onlineUsers = stringRedisTemplate.opsForSet().members("study:" + studyId + ":online_users");
-                List<Long> onlineUserIds = onlineUsers == null
-                                ? List.of()
-                                : onlineUsers.stream().map(Long::valueOf).collect(Collectors.toList());
+                presenceService.join(PresenceScope.STUDY, studyId, userId, headerAccessor.getSessionId());
+                whiteboardService.cancelCleanup(studyId);
+                List<Long> onlineUserIds = List.copyOf(presenceService.onlineUserIds(PresenceScope.STUDY, studyId));
 
                 // 2. LiveKit 및 초기화 (Bundled)
                 try {
@@ -137,7 +133,8 @@ public class StudySocketController {
 
                 try {
                         log.info("[Study] Enter Flow - Step 2: Token Gen Start");
-                        String token = mediaService.createAccessToken(studyId, userId, getUserNickname(userId));
+                        String token = mediaService.createAccessToken(studyId, userId, getUserNickname(userId),
+                                        headerAccessor.getSessionId());
                         log.info("Generated LiveKit token for user {}, study {}", userId, studyId);
 
                         messagingTemplate.convertAndSend(
@@ -248,17 +245,13 @@ public class StudySocketController {
                         return;
                 }
 
-                boolean isUserMember = studyMemberRepository.existsByStudyAndUser_Id(
-                                StudyRoom.builder().id(studyId).build(), userId);
+                boolean isUserMember = studyAccessGuard.isMember(headerAccessor.getSessionAttributes(), studyId,
+                                userId);
                 if (!isUserMember) {
                         return;
                 }
 
-                Set<String> onlineUsers = stringRedisTemplate.opsForSet()
-                                .members("study:" + studyId + ":online_users");
-                List<Long> onlineUserIds = onlineUsers == null
-                                ? List.of()
-                                : onlineUsers.stream().map(Long::valueOf).collect(Collectors.toList());
+                List<Long> onlineUserIds = List.copyOf(presenceService.onlineUserIds(PresenceScope.STUDY, studyId));
 
                 messagingTemplate.convertAndSend(
                                 "/topic/studies/" + studyId + "/info/" + userId,
@@ -275,8 +268,8 @@ public class StudySocketController {
                         return;
                 }
 
-                boolean isUserMember = studyMemberRepository.existsByStudyAndUser_Id(
-                                StudyRoom.builder().id(studyId).build(), userId);
+                boolean isUserMember = studyAccessGuard.isMember(headerAccessor.getSessionAttributes(), studyId,
+                                userId);
                 if (!isUserMember) {
                         messagingTemplate.convertAndSend(
                                         "/topic/studies/" + studyId + "/video-token/" + userId,
@@ -286,7 +279,8 @@ public class StudySocketController {
                 }
 
                 try {
-                        String token = mediaService.createAccessToken(studyId, userId, getUserNickname(userId));
+                        String token = mediaService.createAccessToken(studyId, userId, getUserNickname(userId),
+                                        headerAccessor.getSessionId());
                         messagingTemplate.convertAndSend(
                                         "/topic/studies/" + studyId + "/video-token/" + userId,
                                         SocketResponse.of("VIDEO_TOKEN", token));
@@ -320,8 +314,7 @@ public class StudySocketController {
                 Long userId = (Long) headerAccessor.getSessionAttributes().get("userId");
 
                 // 1. Redis Presence
-                String onlineKey = "study:" + request.getStudyId() + ":online_users";
-                stringRedisTemplate.opsForSet().remove(onlineKey, userId.toString());
+                presenceService.leaveAll(PresenceScope.STUDY, request.getStudyId(), userId);
                 stringRedisTemplate.delete("user:" + userId + ":active_study");
                 Long persistedProblemId = studyProblemDraftService
                                 .persistActiveProblemFromRedis(request.getStudyId(), userId);
@@ -329,8 +322,7 @@ public class StudySocketController {
                 redisIdeService.clearActiveProblem(request.getStudyId(), userId);
 
                 // [Auto-Clean] 마지막 사람이 나갔으면 화이트보드 데이터 정리
-                Long remainingUsers = stringRedisTemplate.opsForSet().size(onlineKey);
-                if (remainingUsers != null && remainingUsers == 0) {
+                if (presenceService.onlineCount(PresenceScope.STUDY, request.getStudyId()) == 0) {
                         log.info("Study Room {} is empty. Scheduling whiteboard cleanup...", request.getStudyId());
                         whiteboardService.scheduleCleanup(request.getStudyId());
                 }
@@ -378,14 +370,12 @@ public class StudySocketController {
                 studyRoomService.leaveStudyRoom(userId, request.getStudyId());
 
                 // 2. Redis Presence
-                String onlineKey = "study:" + request.getStudyId() + ":online_users";
-                stringRedisTemplate.opsForSet().remove(onlineKey, userId.toString());
+                presenceService.leaveAll(PresenceScope.STUDY, request.getStudyId(), userId);
                 stringRedisTemplate.delete("user:" + userId + ":active_study");
                 redisIdeService.clearActiveProblem(request.getStudyId(), userId);
 
                 // [Auto-Clean] 마지막 사람이 나갔으면 화이트보드 데이터 정리
-                Long remainingUsers = stringRedisTemplate.opsForSet().size(onlineKey);
-                if (remainingUsers != null && remainingUsers == 0) {
+                if (presenceService.onlineCount(PresenceScope.STUDY, request.getStudyId()) == 0) {
                         log.info("Study Room {} is empty (Quit). Scheduling whiteboard cleanup...",
                                         request.getStudyId());
                         whiteboardService.scheduleCleanup(request.getStudyId());
@@ -428,8 +418,7 @@ public class StudySocketController {
                                 persistedProblemId);
                 studyRoomService.kickMemberByUserId(userId, request.getStudyId(), request.getTargetUserId());
 
-                stringRedisTemplate.opsForSet().remove("study:" + request.getStudyId() + ":online_users",
-                                request.getTargetUserId().toString());
+                presenceService.leaveAll(PresenceScope.STUDY, request.getStudyId(), request.getTargetUserId());
                 stringRedisTemplate.delete("user:" + request.getTargetUserId() + ":active_study");
                 redisIdeService.clearActiveProblem(request.getStudyId(), request.getTargetUserId());
 
@@ -463,7 +452,7 @@ public class StudySocketController {
                                 new ChannelTopic("topic/studies/rooms/" + request.getStudyId()),
                                 SocketResponse.of("DELETE", "Room Deleted"));
 
-                stringRedisTemplate.delete("study:" + request.getStudyId() + ":online_users");
+                presenceService.clear(PresenceScope.STUDY, request.getStudyId());
         }
 
         // 스터디 문제 관리
@@ -588,11 +577,7 @@ public class StudySocketController {
         }
 
         private void publishOnlineUsers(Long studyId) {
-                Set<String> onlineUsers = stringRedisTemplate.opsForSet()
-                                .members("study:" + studyId + ":online_users");
-                List<Long> onlineUserIds = onlineUsers == null
-                                ? List.of()
-                                : onlineUsers.stream().map(Long::valueOf).collect(Collectors.toList());
+                List<Long> onlineUserIds = List.copyOf(presenceService.onlineUserIds(PresenceScope.STUDY, studyId));
                 redisPublisher.publish(
                                 new ChannelTopic("topic/studies/rooms/" + studyId),
                                 SocketResponse.of("ONLINE_USERS", onlineUserIds));
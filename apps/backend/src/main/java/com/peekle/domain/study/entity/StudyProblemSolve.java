@@ -0,0 +1,81 @@
+package com.peekle.domain.study.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스터디 풀이 현황 읽기 모델
+ * - (스터디, 문제, 유저) 당 한 행만 유지하며 최초 해결 시각을 기록한다.
+ * - 제출 로그(code TEXT 포함)를 읽지 않고 일일 커리큘럼 풀이 현황을 계산하기 위한 용도
+ * - PostgreSQL 에서는 StudyProblemSolveRepository.upsertSolve (ON CONFLICT) 로 기록하고, 엔티티 저장은 그 외 DB 용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(StudyProblemSolveId.class)
+@Table(name = "study_problem_solves")
+public class StudyProblemSolve implements Persistable<StudyProblemSolveId> {
+
+    @Id
+    @Column(name = "study_id", nullable = false)
+    private Long studyId;
+
+    @Id
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "first_solved_at", nullable = false)
+    private LocalDateTime firstSolvedAt;
+
+    // 식별자를 직접 할당하므로 save 시 merge(SELECT) 없이 바로 INSERT 되도록 신규 여부를 추적한다.
+    @Transient
+    private boolean isNew;
+
+    public static StudyProblemSolve of(Long studyId, Long problemId, Long userId, LocalDateTime solvedAt) {
+        StudyProblemSolve solve = new StudyProblemSolve();
+        solve.studyId = studyId;
+        solve.problemId = problemId;
+        solve.userId = userId;
+        solve.firstSolvedAt = solvedAt;
+        solve.isNew = true;
+        return solve;
+    }
+
+    public void recordSolvedAt(LocalDateTime solvedAt) {
+        if (solvedAt != null && solvedAt.isBefore(firstSolvedAt)) {
+            this.firstSolvedAt = solvedAt;
+        }
+    }
+
+    @Override
+    public StudyProblemSolveId getId() {
+        return new StudyProblemSolveId(studyId, problemId, userId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
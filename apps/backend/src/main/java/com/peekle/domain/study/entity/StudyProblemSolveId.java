@@ -0,0 +1,16 @@
+package com.peekle.domain.study.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class StudyProblemSolveId implements Serializable {
+    private Long studyId;
+    private Long problemId;
+    private Long userId;
+}
@@ -2,6 +2,7 @@ package com.peekle.domain.study.repository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.peekle.domain.study.dto.chat.ChatMessageResponse;
+import com.peekle.global.metrics.BenchmarkSqlStatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
@@ -12,6 +13,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Repository
@@ -20,6 +22,7 @@ public class ChatJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
     private final ObjectMapper objectMapper;
+    private final Optional<BenchmarkSqlStatisticsService> benchmarkSqlStatisticsService;
 
     /**
      * Bulk Insert Chat Logs
@@ -72,5 +75,6 @@ public class ChatJdbcRepository {
                 return chatLogs.size();
             }
         });
+        benchmarkSqlStatisticsService.ifPresent(service -> service.recordJdbcStatements(1));
     }
 }
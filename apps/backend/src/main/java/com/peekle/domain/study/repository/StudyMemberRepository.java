@@ -26,4 +26,11 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
 
     @Query("SELECT sm.lastStudyProblem.id FROM StudyMember sm WHERE sm.study.id = :studyId AND sm.user.id = :userId")
     Optional<Long> findLastStudyProblemId(@Param("studyId") Long studyId, @Param("userId") Long userId);
+
+    @Query("SELECT sm.user.id FROM StudyMember sm WHERE sm.study.id = :studyId")
+    List<Long> findUserIdsByStudyId(@Param("studyId") Long studyId);
+
+    // 내가 참여한 활성 스터디 ID 목록
+    @Query("SELECT sm.study.id FROM StudyMember sm WHERE sm.user.id = :userId AND sm.study.isActive = true")
+    List<Long> findActiveStudyIdsByUserId(@Param("userId") Long userId);
 }
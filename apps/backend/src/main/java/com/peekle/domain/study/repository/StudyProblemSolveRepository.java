@@ -0,0 +1,47 @@
+package com.peekle.domain.study.repository;
+
+import com.peekle.domain.study.entity.StudyProblemSolve;
+import com.peekle.domain.study.entity.StudyProblemSolveId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StudyProblemSolveRepository extends JpaRepository<StudyProblemSolve, StudyProblemSolveId> {
+
+    // (스터디, 문제, 유저) 해결 기록 upsert. 동시 제출이 같은 행을 만들어도 PK 충돌 없이 더 이른 시각만 남긴다
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true, value = """
+            INSERT INTO study_problem_solves (study_id, problem_id, user_id, first_solved_at)
+            VALUES (:studyId, :problemId, :userId, :solvedAt)
+            ON CONFLICT (study_id, problem_id, user_id)
+            DO UPDATE SET first_solved_at = EXCLUDED.first_solved_at
+            WHERE EXCLUDED.first_solved_at < study_problem_solves.first_solved_at
+            """)
+    int upsertSolve(
+            @Param("studyId") Long studyId,
+            @Param("problemId") Long problemId,
+            @Param("userId") Long userId,
+            @Param("solvedAt") LocalDateTime solvedAt);
+
+    // 스터디 문제별 해결 유저 목록 (읽기 모델만 조회)
+    @Query("""
+            SELECT s.problemId AS problemId, s.userId AS userId
+            FROM StudyProblemSolve s
+            WHERE s.studyId = :studyId
+              AND s.problemId IN :problemIds
+            """)
+    List<SolverProjection> findSolvers(
+            @Param("studyId") Long studyId,
+            @Param("problemIds") Collection<Long> problemIds);
+
+    interface SolverProjection {
+        Long getProblemId();
+
+        Long getUserId();
+    }
+}
@@ -1,9 +1,21 @@
 package com.peekle.domain.study.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.peekle.domain.study.entity.StudyRoom;
 
+import java.util.List;
+
 public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long>, StudyRoomRepositoryCustom {
 
+    // 랭킹 보드 재구성용 (활성 스터디의 ID, 점수만 조회)
+    @Query("SELECT s.id AS id, s.rankingPoint AS rankingPoint FROM StudyRoom s WHERE s.isActive = true")
+    List<RankingPointProjection> findActiveRankingPoints();
+
+    interface RankingPointProjection {
+        Long getId();
+
+        int getRankingPoint();
+    }
 }
@@ -11,7 +11,6 @@ import com.peekle.domain.study.enums.ProblemType;
 import com.peekle.domain.study.repository.StudyMemberRepository;
 import com.peekle.domain.study.repository.StudyProblemRepository;
 import com.peekle.domain.study.repository.StudyRoomRepository;
-import com.peekle.domain.submission.entity.SubmissionLog;
 import com.peekle.domain.submission.repository.SubmissionLogRepository;
 import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
@@ -29,6 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,6 +45,7 @@ public class StudyCurriculumService {
         private final UserRepository userRepository;
         private final StudyMemberRepository studyMemberRepository;
         private final SubmissionLogRepository submissionLogRepository;
+        private final StudySolveMatrixService studySolveMatrixService;
         private final RedisPublisher redisPublisher;
 
         /**
@@ -237,30 +240,32 @@ public class StudyCurriculumService {
                 // 2. 스터디 멤버 수 조회
                 int totalMembers = studyMemberRepository.countByStudy_Id(studyId);
 
-                // 3. 해당 문제들에 대한 제출 기록 조회 (최적화: 일괄 조회)
+                // 3. 해당 문제들의 풀이 현황/요약 일괄 조회 (제출 로그 대신 풀이 읽기 모델 사용)
                 // Filter out custom problems (problemId is null)
                 List<Long> problemIds = curriculum.stream()
-                                .filter(sp -> sp.getProblemId() != null)
                                 .map(StudyProblem::getProblemId)
+                                .filter(Objects::nonNull)
+                                .distinct()
                                 .collect(Collectors.toList());
 
-                List<SubmissionLog> logs = problemIds.isEmpty() ? List.of()
-                                : submissionLogRepository.findAllByRoomIdAndProblemIdIn(studyId, problemIds);
-
-                List<SubmissionLog> solvedLogs = logs.stream()
-                                .filter(log -> !Boolean.FALSE.equals(log.getIsSuccess()))
-                                .collect(Collectors.toList());
-
-                // 4. 문제 ID -> 푼 유저 ID 매핑
-                Map<Long, List<Long>> solvedUserMap = solvedLogs.stream()
-                                .collect(Collectors.groupingBy(
-                                                log -> log.getProblem().getId(),
-                                                Collectors.mapping(log -> log.getUser().getId(), Collectors.toList())));
-
-                // 5. 응답 생성
+                Map<Long, Set<Long>> solvedUserMap = studySolveMatrixService.getSolvedUsers(studyId, problemIds);
+                Map<Long, ProblemRepository.ProblemSummaryProjection> problemMap = problemIds.isEmpty() ? Map.of()
+                                : problemRepository.findSummariesByIdIn(problemIds).stream()
+                                                .collect(Collectors.toMap(
+                                                                ProblemRepository.ProblemSummaryProjection::getId,
+                                                                Function.identity()));
+                Map<Long, List<String>> tagMap = problemIds.isEmpty() ? Map.of()
+                                : problemRepository.findTagNamesByIdIn(problemIds).stream()
+                                                .collect(Collectors.groupingBy(
+                                                                ProblemRepository.ProblemTagNameProjection::getProblemId,
+                                                                Collectors.mapping(
+                                                                                ProblemRepository.ProblemTagNameProjection::getTagName,
+                                                                                Collectors.toList())));
+
+                // 4. 응답 생성
                 return curriculum.stream().map(sp -> {
-                        Problem problem = (sp.getProblemId() != null)
-                                        ? problemRepository.findById(sp.getProblemId()).orElse(null)
+                        ProblemRepository.ProblemSummaryProjection problem = (sp.getProblemId() != null)
+                                        ? problemMap.get(sp.getProblemId())
                                         : null;
 
                         String title = (problem != null) ? problem.getTitle() : sp.getCustomTitle();
@@ -270,14 +275,14 @@ public class StudyCurriculumService {
 
                         // Use builder with all fields
                         List<String> tags = (problem != null)
-                                        ? problem.getTags().stream().map(Tag::getName).collect(Collectors.toList())
+                                        ? tagMap.getOrDefault(problem.getId(), List.of())
                                         : List.of();
 
-                        List<Long> solvedUsers = (sp.getProblemId() != null)
-                                        ? solvedUserMap.getOrDefault(sp.getProblemId(), List.of())
-                                        : List.of();
+                        Set<Long> solvedUsers = (sp.getProblemId() != null)
+                                        ? solvedUserMap.getOrDefault(sp.getProblemId(), Set.of())
+                                        : Set.of();
                         boolean isSolvedByMe = solvedUsers.contains(userId);
-                        int solvedCount = (int) solvedUsers.stream().distinct().count();
+                        int solvedCount = solvedUsers.size();
 
                         return ProblemStatusResponse.builder()
                                         .studyProblemId(sp.getId())
@@ -1,5 +1,7 @@
 package com.peekle.domain.study.service;
 
+import com.peekle.domain.rank.service.StudyRankingBoard;
+import com.peekle.domain.study.access.StudyMembershipChangedEvent;
 import com.peekle.domain.study.aop.CheckStudyOwner;
 import com.peekle.domain.study.dto.http.request.StudyRoomCreateRequest;
 import com.peekle.domain.study.dto.http.request.StudyRoomJoinRequest;
@@ -20,10 +22,13 @@ import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.presence.PresenceScope;
+import com.peekle.global.presence.PresenceService;
 import com.peekle.global.redis.RedisPublisher;
 import com.peekle.global.socket.SocketResponse;
 import org.springframework.data.redis.listener.ChannelTopic;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -52,6 +57,9 @@ public class StudyRoomService {
         private final SubmissionService submissionService;
         private final SubmissionLogRepository submissionLogRepository; // Added
         private final RedisPublisher redisPublisher; // Added
+        private final StudyRankingBoard studyRankingBoard;
+        private final PresenceService presenceService;
+        private final ApplicationEventPublisher eventPublisher;
 
         // 스터디 방 생성 (초대코드 반환)
         @Transactional
@@ -77,6 +85,7 @@ public class StudyRoomService {
                                 .build();
 
                 studyMemberRepository.save(ownerMember);
+                studyRankingBoard.update(studyRoom.getId(), studyRoom.getRankingPoint());
 
                 // 3. 초대 코드 생성 및 Redis 저장
                 String inviteCode = generateInviteCode();
@@ -176,6 +185,7 @@ public class StudyRoomService {
                                 .build();
 
                 studyMemberRepository.save(member);
+                eventPublisher.publishEvent(StudyMembershipChangedEvent.of(studyRoomId, userId));
 
                 return buildStudyRoomResponse(studyRoom, userId);
         }
@@ -229,9 +239,11 @@ public class StudyRoomService {
 
                 // 1. 멤버 전체 삭제 (방 폭파)
                 studyMemberRepository.deleteByStudy(studyRoom);
+                eventPublisher.publishEvent(StudyMembershipChangedEvent.wholeStudy(studyId));
 
                 // 2. 방 비활성화 (Soft Delete)
                 studyRoom.deactivate();
+                studyRankingBoard.remove(studyId);
         }
 
         // 스터디 탈퇴 (스스로 나가기)
@@ -244,6 +256,7 @@ public class StudyRoomService {
                                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
 
                 studyMemberRepository.delete(member);
+                eventPublisher.publishEvent(StudyMembershipChangedEvent.of(studyId, userId));
         }
 
         // 멤버 강퇴 (UserId 기반)
@@ -257,6 +270,7 @@ public class StudyRoomService {
                                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
                 studyMemberRepository.delete(targetMember);
+                eventPublisher.publishEvent(StudyMembershipChangedEvent.of(studyId, targetUserId));
         }
 
         // 방장 권한 위임
@@ -286,22 +300,18 @@ public class StudyRoomService {
                 List<StudyMember> members = studyMemberRepository.findAllByStudy(studyRoom);
 
                 // 2. Redis Presence 조회
-                String onlineUsersKey = "study:" + studyRoom.getId() + ":online_users";
-                java.util.Set<String> onlineUserIds = redisTemplate.opsForSet().members(onlineUsersKey);
-                if (onlineUserIds == null) {
-                        onlineUserIds = java.util.Collections.emptySet();
-                }
+                java.util.Set<Long> onlineUserIds = presenceService.onlineUserIds(PresenceScope.STUDY, studyRoom.getId());
 
                 // 2-2. Connection IDs 조회
                 String connectionIdsKey = "study:" + studyRoom.getId() + ":connection_ids";
                 Map<Object, Object> connectionIds = redisTemplate.opsForHash().entries(connectionIdsKey);
 
-                final java.util.Set<String> finalOnlineUserIds = onlineUserIds;
+                final java.util.Set<Long> finalOnlineUserIds = onlineUserIds;
 
                 // 3. Response 매핑
                 List<StudyMemberResponse> memberResponses = members.stream()
                                 .map(member -> StudyMemberResponse.of(member,
-                                                finalOnlineUserIds.contains(String.valueOf(member.getUser().getId())),
+                                                finalOnlineUserIds.contains(member.getUser().getId()),
                                                 (String) connectionIds.get(String.valueOf(member.getUser().getId()))))
                                 .collect(Collectors.toList());
 
@@ -358,6 +368,7 @@ public class StudyRoomService {
                                 StudyRoom studyRoom = studyRoomRepository.findById(studyId)
                                                 .orElseThrow(() -> new BusinessException(ErrorCode.STUDY_ROOM_NOT_FOUND));
                                 studyRoom.addRankingPoint(response.getEarnedPoints());
+                                studyRankingBoard.update(studyId, studyRoom.getRankingPoint());
                                 System.out.println("[StudyRoomService] Updated ranking point for study " + studyId
                                                 + ": +" + response.getEarnedPoints());
                         }
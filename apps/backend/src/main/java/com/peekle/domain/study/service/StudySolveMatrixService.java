@@ -0,0 +1,76 @@
+package com.peekle.domain.study.service;
+
+import com.peekle.domain.study.entity.StudyProblemSolve;
+import com.peekle.domain.study.entity.StudyProblemSolveId;
+import com.peekle.domain.study.repository.StudyProblemSolveRepository;
+import com.peekle.domain.study.repository.StudyRoomRepository;
+import com.peekle.global.persistence.DatabaseVendor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스터디 풀이 현황 읽기 모델 관리
+ * - 제출 저장 시 (스터디, 문제, 유저) 최초 해결 기록을 갱신
+ * - 일일 커리큘럼 조회 시 문제별 해결 유저 집합을 제공
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudySolveMatrixService {
+
+    private final StudyProblemSolveRepository studyProblemSolveRepository;
+    private final StudyRoomRepository studyRoomRepository;
+    private final DatabaseVendor databaseVendor;
+
+    /**
+     * 스터디 문제 해결을 기록한다. 이미 기록이 있으면 더 이른 해결 시각만 반영한다.
+     */
+    @Transactional
+    public void recordSolve(Long studyId, Long problemId, Long userId, LocalDateTime solvedAt) {
+        if (studyId == null || problemId == null || userId == null) {
+            return;
+        }
+        if (!studyRoomRepository.existsById(studyId)) {
+            return;
+        }
+
+        LocalDateTime effectiveSolvedAt = solvedAt != null ? solvedAt : LocalDateTime.now();
+        if (databaseVendor.isPostgres()) {
+            // 같은 (스터디, 문제, 유저)의 동시 제출도 PK 충돌로 제출 트랜잭션을 롤백시키지 않는다
+            studyProblemSolveRepository.upsertSolve(studyId, problemId, userId, effectiveSolvedAt);
+            return;
+        }
+        // ON CONFLICT 가 없는 DB (H2 테스트, MySQL benchmark)
+        studyProblemSolveRepository.findById(new StudyProblemSolveId(studyId, problemId, userId))
+                .ifPresentOrElse(
+                        solve -> solve.recordSolvedAt(effectiveSolvedAt),
+                        () -> studyProblemSolveRepository.save(
+                                StudyProblemSolve.of(studyId, problemId, userId, effectiveSolvedAt)));
+    }
+
+    /**
+     * 문제 ID -> 해결한 유저 ID 집합
+     */
+    public Map<Long, Set<Long>> getSolvedUsers(Long studyId, Collection<Long> problemIds) {
+        if (problemIds == null || problemIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Set<Long>> solvedUsers = new HashMap<>();
+        for (StudyProblemSolveRepository.SolverProjection solver : studyProblemSolveRepository.findSolvers(studyId,
+                problemIds)) {
+            solvedUsers.computeIfAbsent(solver.getProblemId(), key -> new HashSet<>()).add(solver.getUserId());
+        }
+        return solvedUsers;
+    }
+}
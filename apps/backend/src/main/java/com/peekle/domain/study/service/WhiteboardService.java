@@ -6,13 +6,16 @@ import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.presence.PresenceScope;
+import com.peekle.global.presence.PresenceService;
+import com.peekle.global.redis.DelayedTaskQueue;
 import com.peekle.global.redis.RedisKeyConst;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -30,6 +33,11 @@ public class WhiteboardService {
     private final StringRedisTemplate stringRedisTemplate;
     private final SimpMessagingTemplate messagingTemplate;
     private final UserRepository userRepository;
+    private final DelayedTaskQueue delayedTaskQueue;
+    private final PresenceService presenceService;
+
+    private static final String CLEANUP_TASK_TYPE = "whiteboard.cleanup";
+    private static final Duration CLEANUP_GRACE_PERIOD = Duration.ofSeconds(15);
 
     // 화이트보드 시작
     public void startWhiteboard(Long studyId, Long userId) {
@@ -249,21 +257,29 @@ public class WhiteboardService {
     }
 
     // [System] Graceful Cleanup (15초 지연 후 재검사)
-    @Async
+    // 지연 작업 큐에 예약만 하고 반환하므로 비동기 스레드를 점유하지 않는다. 같은 방의 재예약은 실행 시각만 갱신된다.
     public void scheduleCleanup(Long studyId) {
         log.info("[Whiteboard] Scheduling cleanup for study {} in 15 seconds...", studyId);
-        try {
-            Thread.sleep(15000); // 15s Grace Period
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return;
+        delayedTaskQueue.schedule(CLEANUP_TASK_TYPE, String.valueOf(studyId), CLEANUP_GRACE_PERIOD);
+    }
+
+    // [System] 유예 시간 안에 누군가 다시 입장하면 예약된 정리를 취소
+    public void cancelCleanup(Long studyId) {
+        if (delayedTaskQueue.cancel(CLEANUP_TASK_TYPE, String.valueOf(studyId))) {
+            log.info("[Whiteboard] Cleanup cancelled for study {} (user rejoined)", studyId);
         }
+    }
+
+    @PostConstruct
+    void registerCleanupHandler() {
+        delayedTaskQueue.registerHandler(CLEANUP_TASK_TYPE, taskId -> runCleanup(Long.parseLong(taskId)));
+    }
 
+    private void runCleanup(Long studyId) {
         // 재검사
-        String onlineKey = "study:" + studyId + ":online_users";
-        Long remainingUsers = redisTemplate.opsForSet().size(onlineKey);
+        int remainingUsers = presenceService.onlineCount(PresenceScope.STUDY, studyId);
 
-        if (remainingUsers != null && remainingUsers == 0) {
+        if (remainingUsers == 0) {
             log.info("[Whiteboard] 15s passed, still empty. Executing cleanup for study {}", studyId);
             forceFinish(studyId);
         } else {
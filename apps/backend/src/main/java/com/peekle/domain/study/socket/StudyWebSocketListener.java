@@ -4,9 +4,14 @@ import com.peekle.domain.study.service.RedisIdeService;
 import com.peekle.domain.study.service.StudyMemberProgressService;
 import com.peekle.domain.study.service.StudyProblemDraftService;
 import com.peekle.domain.study.service.WhiteboardService;
+import com.peekle.global.logging.HotPathLogger;
 import com.peekle.global.media.service.MediaService;
+import com.peekle.global.presence.PresenceExpiredEvent;
+import com.peekle.global.presence.PresenceScope;
+import com.peekle.global.presence.PresenceService;
 import com.peekle.global.redis.RedisKeyConst;
 import com.peekle.global.redis.RedisPublisher;
+import com.peekle.global.redis.metrics.RedisOperation;
 import com.peekle.global.socket.SocketResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +27,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -37,6 +41,8 @@ public class StudyWebSocketListener {
     private final RedisIdeService redisIdeService;
     private final StudyProblemDraftService studyProblemDraftService;
     private final StudyMemberProgressService studyMemberProgressService;
+    private final PresenceService presenceService;
+    private final HotPathLogger hotPathLogger;
 
     // 연결 시 스터디 관련 처리
     @EventListener
@@ -55,11 +61,10 @@ public class StudyWebSocketListener {
             Long userId = (Long) userIdObj;
             Long studyId = (Long) studyIdObj;
 
-            log.info("[Study] User connected to study. Study ID: {}, User ID: {}", studyId, userId);
+            hotPathLogger.sessionEvent("study", "connect", headerAccessor.getSessionId(), userId);
 
-            // 1. 스터디 방 온라인 유저 목록에 추가
-            String onlineKey = "study:" + studyId + ":online_users";
-            stringRedisTemplate.opsForSet().add(onlineKey, userId.toString());
+            // 1. 스터디 방 온라인 세션 등록
+            presenceService.join(PresenceScope.STUDY, studyId, userId, headerAccessor.getSessionId());
 
             // 2. 유저의 현재 활성 스터디 설정
             stringRedisTemplate.opsForValue().set("user:" + userId + ":active_study", studyId.toString());
@@ -73,6 +78,7 @@ public class StudyWebSocketListener {
 
     // 연결 종료 시 스터디 관련 정리
     @EventListener
+    @RedisOperation("study.disconnect")
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         Map<String, Object> attributes = headerAccessor.getSessionAttributes();
@@ -92,6 +98,10 @@ public class StudyWebSocketListener {
 
             // [Fix] Session Validation
             String currentSessionId = event.getSessionId(); // Use event ID directly
+
+            // 끊긴 세션은 새 세션 여부와 상관없이 온라인 목록에서 뺀다.
+            presenceService.leave(PresenceScope.STUDY, studyId, userId, currentSessionId);
+
             String sessionKey = String.format(RedisKeyConst.USER_SESSION, userId);
             String initialSessionId = stringRedisTemplate.opsForValue().get(sessionKey);
 
@@ -112,37 +122,61 @@ public class StudyWebSocketListener {
                 log.info("[Study] No active session found. Proceeding with disconnect cleanup.");
             }
 
-            // 1. 스터디 방 온라인 유저 목록에서 제거
-            String onlineKey = "study:" + studyId + ":online_users";
-            stringRedisTemplate.opsForSet().remove(onlineKey, userId.toString());
+            cleanUpLeave(studyId, userId, "Disconnect");
+        }
+    }
 
-            stringRedisTemplate.delete("user:" + userId + ":active_study");
-            Long persistedProblemId = studyProblemDraftService.persistActiveProblemFromRedis(studyId, userId);
-            studyMemberProgressService.updateLastStudyProblem(studyId, userId, persistedProblemId);
-            redisIdeService.clearActiveProblem(studyId, userId);
+    /**
+     * 연결 종료 이벤트 없이 하트비트가 끊긴 세션 (노드 장애, SockJS 세션 유실)
+     */
+    @EventListener
+    public void handlePresenceExpired(PresenceExpiredEvent event) {
+        if (event.scope() != PresenceScope.STUDY) {
+            return;
+        }
+        Long studyId = event.roomId();
+        Long userId = event.userId();
 
-            // [Auto-Clean] 마지막 사람이 나갔으면 화이트보드 데이터 정리
-            Long remainingUsers = stringRedisTemplate.opsForSet().size(onlineKey);
-            if (remainingUsers != null && remainingUsers == 0) {
-                log.info("Study Room {} is empty (Disconnect). Scheduling whiteboard cleanup...", studyId);
-                whiteboardService.scheduleCleanup(studyId);
-            }
+        // 다른 탭/재접속 세션이 살아 있으면 퇴장이 아니다.
+        if (presenceService.isOnline(PresenceScope.STUDY, studyId, userId)) {
+            return;
+        }
+        String activeStudy = stringRedisTemplate.opsForValue().get("user:" + userId + ":active_study");
+        if (activeStudy != null && !activeStudy.equals(String.valueOf(studyId))) {
+            return;
+        }
 
-            // 2. 다른 유저들에게 퇴장 알림 전송
-            redisPublisher.publish(
-                    new ChannelTopic("topic/studies/rooms/" + studyId),
-                    SocketResponse.of("LEAVE", userId));
+        log.info("[Study] Presence expired. Study ID: {}, User ID: {}", studyId, userId);
+        cleanUpLeave(studyId, userId, "Expired");
+    }
 
-            // 3. 화상 채팅 강제 연결 종료 (중복 방지)
-            try {
-                mediaService.evictUser(studyId, userId);
-            } catch (Exception e) {
-                log.warn("Media Evict Error: {}", e.getMessage());
-            }
+    private void cleanUpLeave(Long studyId, Long userId, String trigger) {
+        // 1. 활성 스터디/문제 상태 정리
+        stringRedisTemplate.delete("user:" + userId + ":active_study");
+        Long persistedProblemId = studyProblemDraftService.persistActiveProblemFromRedis(studyId, userId);
+        studyMemberProgressService.updateLastStudyProblem(studyId, userId, persistedProblemId);
+        redisIdeService.clearActiveProblem(studyId, userId);
+
+        // [Auto-Clean] 마지막 사람이 나갔으면 화이트보드 데이터 정리
+        if (presenceService.onlineCount(PresenceScope.STUDY, studyId) == 0) {
+            log.info("Study Room {} is empty ({}). Scheduling whiteboard cleanup...", studyId, trigger);
+            whiteboardService.scheduleCleanup(studyId);
+        }
 
-            // 4. IDE 관찰자(Watcher) 목록 정리
-            cleanUpWatchers(studyId, userId);
+        // 2. 다른 유저들에게 퇴장 알림 전송
+        redisPublisher.publish(
+                new ChannelTopic("topic/studies/rooms/" + studyId),
+                SocketResponse.of("LEAVE", userId));
+
+        // 3. 화상 채팅 강제 연결 종료 (중복 방지)
+        try {
+            mediaService.evictUser(studyId, userId);
+        } catch (Exception e) {
+            log.warn("Media Evict Error: {}", e.getMessage());
         }
+
+        // 4. IDE 관찰자(Watcher) 목록 정리
+        cleanUpWatchers(studyId, userId);
     }
 
     private void cleanUpWatchers(Long studyId, Long viewerId) {
@@ -173,10 +207,7 @@ public class StudyWebSocketListener {
     }
 
     private void publishOnlineUsers(Long studyId) {
-        Set<String> onlineUsers = stringRedisTemplate.opsForSet().members("study:" + studyId + ":online_users");
-        List<Long> onlineUserIds = onlineUsers == null
-                ? List.of()
-                : onlineUsers.stream().map(Long::valueOf).collect(Collectors.toList());
+        List<Long> onlineUserIds = List.copyOf(presenceService.onlineUserIds(PresenceScope.STUDY, studyId));
         redisPublisher.publish(
                 new ChannelTopic("topic/studies/rooms/" + studyId),
                 SocketResponse.of("ONLINE_USERS", onlineUserIds));
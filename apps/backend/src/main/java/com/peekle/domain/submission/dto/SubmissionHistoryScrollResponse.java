@@ -0,0 +1,14 @@
+package com.peekle.domain.submission.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 제출 기록 키셋 페이지 (다음 페이지는 nextCursorSubmittedAt/nextCursorId 로 요청)
+ */
+public record SubmissionHistoryScrollResponse(
+        List<SubmissionLogResponse> content,
+        boolean hasNext,
+        LocalDateTime nextCursorSubmittedAt,
+        Long nextCursorId) {
+}
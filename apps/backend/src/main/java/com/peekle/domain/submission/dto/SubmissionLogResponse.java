@@ -1,6 +1,7 @@
 package com.peekle.domain.submission.dto;
 
 import com.peekle.domain.submission.entity.SubmissionLog;
+import com.peekle.domain.user.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -56,4 +57,28 @@ public class SubmissionLogResponse {
                 .isSuccess(log.getIsSuccess())
                 .build();
     }
+
+    /**
+     * 목록용 (code 없음, 코드는 상세 조회 GET /api/submissions/{id} 에서 받는다)
+     */
+    public static SubmissionLogResponse from(SubmissionSummary summary, User user) {
+        return SubmissionLogResponse.builder()
+                .submissionId(summary.id())
+                .userId(summary.userId())
+                .nickname(user.getNickname())
+                .profileImage(user.getProfileImgThumb())
+                .memory(summary.memory())
+                .executionTime(summary.executionTime())
+                .language(summary.language())
+                .submittedAt(summary.submittedAt())
+                .problemId(summary.externalId())
+                .problemTitle(summary.problemTitle())
+                .tier(summary.problemTier())
+                .sourceType(summary.sourceType() != null ? summary.sourceType().name() : "SOLO")
+                .sourceDetail(summary.tag())
+                .studyProblemId(summary.studyProblemId())
+                .result(summary.result())
+                .isSuccess(summary.isSuccess())
+                .build();
+    }
 }
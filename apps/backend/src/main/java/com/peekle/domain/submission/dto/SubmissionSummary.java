@@ -0,0 +1,25 @@
+package com.peekle.domain.submission.dto;
+
+import com.peekle.domain.submission.enums.SourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 제출 요약 (code 컬럼과 problem 조인 없이 비정규화 컬럼만 읽는다)
+ */
+public record SubmissionSummary(
+        Long id,
+        Long userId,
+        String externalId,
+        String problemTitle,
+        String problemTier,
+        String tag,
+        SourceType sourceType,
+        Long studyProblemId,
+        String language,
+        Integer memory,
+        Integer executionTime,
+        String result,
+        Boolean isSuccess,
+        LocalDateTime submittedAt) {
+}
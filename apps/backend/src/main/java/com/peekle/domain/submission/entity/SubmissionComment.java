@@ -9,6 +9,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -47,6 +50,10 @@ public class SubmissionComment extends BaseTimeEntity {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted;
 
+    // 조상 경로 (루트 "/", 답글은 부모 경로 + 부모 id + "/")
+    @Column(name = "path", nullable = false, length = 1024)
+    private String path;
+
     @Builder
     private SubmissionComment(
             SubmissionLog submission,
@@ -64,6 +71,7 @@ public class SubmissionComment extends BaseTimeEntity {
         this.lineEnd = lineEnd;
         this.content = content;
         this.isDeleted = false;
+        this.path = parent == null ? "/" : parent.getPath() + parent.getId() + "/";
     }
 
     public void markDeleted() {
@@ -74,4 +82,18 @@ public class SubmissionComment extends BaseTimeEntity {
     public void updateContent(String content) {
         this.content = content;
     }
+
+    /**
+     * 이 댓글과 조상 댓글 id (루트부터)
+     */
+    public List<Long> getThreadIds() {
+        List<Long> ids = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                ids.add(Long.parseLong(segment));
+            }
+        }
+        ids.add(id);
+        return ids;
+    }
 }
@@ -54,6 +54,10 @@ public class SubmissionLog {
     @Column(columnDefinition = "TEXT")
     private String code;
 
+    // 코드 줄 수 (댓글 줄 범위 검증용, 제출 시점에 계산)
+    @Column(name = "line_count")
+    private Integer lineCount;
+
     private Integer memory;
 
     @Column(name = "execution_time")
@@ -89,10 +93,18 @@ public class SubmissionLog {
         log.result = result;
         log.isSuccess = isSuccess;
         log.code = code;
+        log.lineCount = countLines(code);
         log.memory = memory;
         log.executionTime = executionTime;
         log.language = language;
         log.submittedAt = submittedAt;
         return log;
     }
+
+    public static int countLines(String code) {
+        if (code == null || code.isEmpty()) {
+            return 1;
+        }
+        return code.split("\\R", -1).length;
+    }
 }
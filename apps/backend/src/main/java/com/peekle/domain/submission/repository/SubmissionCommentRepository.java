@@ -2,6 +2,7 @@ package com.peekle.domain.submission.repository;
 
 import com.peekle.domain.submission.entity.SubmissionComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,11 +16,28 @@ public interface SubmissionCommentRepository extends JpaRepository<SubmissionCom
             FROM SubmissionComment comment
             JOIN FETCH comment.user
             WHERE comment.submission.id = :submissionId
-            ORDER BY comment.createdAt ASC, comment.id ASC
+            ORDER BY comment.commentType ASC, comment.lineStart ASC, comment.lineEnd ASC,
+                     comment.createdAt ASC, comment.id ASC
             """)
     List<SubmissionComment> findAllBySubmissionIdWithUser(@Param("submissionId") Long submissionId);
 
     Optional<SubmissionComment> findByIdAndSubmission_Id(Long id, Long submissionId);
 
-    boolean existsByParent_Id(Long parentId);
+    /**
+     * 삭제 표시된 댓글 중 살아 있는 하위 댓글이 없는 것을 한 번에 지운다.
+     * ids 는 삭제 대상 댓글과 그 조상들 (경로에서 얻음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            DELETE FROM SubmissionComment comment
+            WHERE comment.submission.id = :submissionId
+              AND comment.id IN :ids
+              AND comment.isDeleted = true
+              AND NOT EXISTS (
+                  SELECT 1 FROM SubmissionComment descendant
+                  WHERE descendant.submission.id = :submissionId
+                    AND descendant.path LIKE CONCAT(comment.path, CAST(comment.id AS String), '/%')
+                    AND descendant.isDeleted = false)
+            """)
+    int deleteOrphanedThread(@Param("submissionId") Long submissionId, @Param("ids") List<Long> ids);
 }
@@ -65,9 +65,6 @@ public interface SubmissionLogRepository extends JpaRepository<SubmissionLog, Lo
         // 스터디 내 특정 문제 풀이 기록 존재 여부 (삭제 시 체크)
         boolean existsByProblemIdAndRoomId(Long problemId, Long roomId);
 
-        // 스터디 내 여러 문제에 대한 풀이 기록 조회 (현황 집계)
-        List<SubmissionLog> findAllByRoomIdAndProblemIdIn(Long roomId, List<Long> problemIds);
-
         // [New] 특정 스터디, 특정 문제에 대해 각 유저별 최신 성공 풀이 조회
         // SourceType이나 Success 여부를 걸러야 한다면 조건 추가 (여기선 모든 log가 성공 가정 혹은 score 체크)
         // 현재 구조상 SubmissionLog에 'success' 필드가 없지만, 생성 시 검증된 것만 저장된다면 모두 성공임.
@@ -89,9 +86,18 @@ public interface SubmissionLogRepository extends JpaRepository<SubmissionLog, Lo
                         java.time.LocalDateTime start,
                         java.time.LocalDateTime end);
 
+        boolean existsByUserIdAndSubmittedAtBetween(
+                        Long userId,
+                        java.time.LocalDateTime start,
+                        java.time.LocalDateTime end);
+
         // [New] 유저의 전체 제출 기록 조회 (페이징)
         Page<SubmissionLog> findAllByUserIdOrderBySubmittedAtDesc(Long userId, Pageable pageable);
 
+        // 댓글 작성/삭제용 (code 컬럼 없이 스터디 소속과 줄 수만)
+        @Query("SELECT s.id AS id, s.roomId AS roomId, s.lineCount AS lineCount FROM SubmissionLog s WHERE s.id = :id")
+        java.util.Optional<SubmissionCommentTarget> findCommentTargetById(@Param("id") Long id);
+
         @Query("SELECT DISTINCT t.key FROM SubmissionLog s " +
                         "JOIN s.problem p " +
                         "JOIN p.tags t " +
@@ -101,4 +107,12 @@ public interface SubmissionLogRepository extends JpaRepository<SubmissionLog, Lo
         List<String> findDistinctSolvedTagKeysBefore(
                         @Param("userId") Long userId,
                         @Param("cutoff") java.time.LocalDateTime cutoff);
+
+        interface SubmissionCommentTarget {
+                Long getId();
+
+                Long getRoomId();
+
+                Integer getLineCount();
+        }
 }
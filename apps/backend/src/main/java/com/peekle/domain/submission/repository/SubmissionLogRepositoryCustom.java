@@ -1,15 +1,27 @@
 package com.peekle.domain.submission.repository;
 
+import com.peekle.domain.submission.dto.SubmissionSummary;
 import com.peekle.domain.submission.entity.SubmissionLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface SubmissionLogRepositoryCustom {
     // 유저별 최신 제출 내역 조회 (Pagination 지원)
     Page<SubmissionLog> findLatestSubmissionsByRoomIdAndProblemId(
             Long roomId, Long problemId, Pageable pageable);
 
-    // 필터링 조회
-    Page<SubmissionLog> findHistory(com.peekle.domain.submission.dto.SubmissionHistoryFilterDto filter,
+    // 필터링 조회 (code 제외 요약)
+    Page<SubmissionSummary> findHistory(com.peekle.domain.submission.dto.SubmissionHistoryFilterDto filter,
             Pageable pageable);
+
+    // 필터링 조회 - (submittedAt, id) 키셋, cursor 가 null 이면 처음부터
+    List<SubmissionSummary> findHistoryBefore(com.peekle.domain.submission.dto.SubmissionHistoryFilterDto filter,
+            LocalDateTime cursorSubmittedAt, Long cursorId, int limit);
+
+    // 유저의 기간 [start, end) 제출 요약 (최신순)
+    List<SubmissionSummary> findSummariesByUserIdAndSubmittedAtRange(Long userId, LocalDateTime start,
+            LocalDateTime end);
 }
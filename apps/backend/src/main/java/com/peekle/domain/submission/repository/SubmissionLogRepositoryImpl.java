@@ -1,7 +1,11 @@
 package com.peekle.domain.submission.repository;
 
+import com.peekle.domain.submission.dto.SubmissionSummary;
 import com.peekle.domain.submission.entity.QSubmissionLog;
 import com.peekle.domain.submission.entity.SubmissionLog;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.peekle.domain.submission.entity.QSubmissionLog.submissionLog;
@@ -59,9 +64,64 @@ public class SubmissionLogRepositoryImpl implements SubmissionLogRepositoryCusto
         }
 
         @Override
-        public Page<SubmissionLog> findHistory(com.peekle.domain.submission.dto.SubmissionHistoryFilterDto filter,
+        public Page<SubmissionSummary> findHistory(com.peekle.domain.submission.dto.SubmissionHistoryFilterDto filter,
                         Pageable pageable) {
-                com.querydsl.core.BooleanBuilder builder = new com.querydsl.core.BooleanBuilder();
+                BooleanBuilder builder = historyCondition(filter);
+
+                List<SubmissionSummary> content = queryFactory
+                                .select(summary())
+                                .from(submissionLog)
+                                .where(builder)
+                                .orderBy(submissionLog.submittedAt.desc(), submissionLog.id.desc())
+                                .offset(pageable.getOffset())
+                                .limit(pageable.getPageSize())
+                                .fetch();
+
+                Long count = queryFactory
+                                .select(submissionLog.count())
+                                .from(submissionLog)
+                                .where(builder)
+                                .fetchOne();
+
+                return new PageImpl<>(content, pageable, count != null ? count : 0);
+        }
+
+        @Override
+        public List<SubmissionSummary> findHistoryBefore(
+                        com.peekle.domain.submission.dto.SubmissionHistoryFilterDto filter,
+                        LocalDateTime cursorSubmittedAt, Long cursorId, int limit) {
+                BooleanBuilder builder = historyCondition(filter);
+                if (cursorSubmittedAt != null && cursorId != null) {
+                        builder.and(submissionLog.submittedAt.lt(cursorSubmittedAt)
+                                        .or(submissionLog.submittedAt.eq(cursorSubmittedAt)
+                                                        .and(submissionLog.id.lt(cursorId))));
+                }
+
+                return queryFactory
+                                .select(summary())
+                                .from(submissionLog)
+                                .where(builder)
+                                .orderBy(submissionLog.submittedAt.desc(), submissionLog.id.desc())
+                                .limit(limit)
+                                .fetch();
+        }
+
+        @Override
+        public List<SubmissionSummary> findSummariesByUserIdAndSubmittedAtRange(Long userId, LocalDateTime start,
+                        LocalDateTime end) {
+                return queryFactory
+                                .select(summary())
+                                .from(submissionLog)
+                                .where(
+                                                submissionLog.user.id.eq(userId),
+                                                submissionLog.submittedAt.goe(start),
+                                                submissionLog.submittedAt.lt(end))
+                                .orderBy(submissionLog.submittedAt.desc(), submissionLog.id.desc())
+                                .fetch();
+        }
+
+        private BooleanBuilder historyCondition(com.peekle.domain.submission.dto.SubmissionHistoryFilterDto filter) {
+                BooleanBuilder builder = new BooleanBuilder();
 
                 // User Filtering
                 if (filter.getUserId() != null) {
@@ -70,10 +130,9 @@ public class SubmissionLogRepositoryImpl implements SubmissionLogRepositoryCusto
                         builder.and(submissionLog.user.nickname.eq(filter.getNickname()));
                 }
 
-                // Tier
+                // Tier - 'Gold' -> problem_tier like 'Gold%' (problem 조인 없이 비정규화 컬럼 사용)
                 if (filter.getTier() != null && !filter.getTier().equals("전체") && !filter.getTier().equals("ALL")) {
-                        // 'Gold' -> tier like 'Gold%'
-                        builder.and(submissionLog.problem.tier.startsWith(filter.getTier()));
+                        builder.and(submissionLog.problemTier.startsWith(filter.getTier()));
                 }
 
                 // SourceType
@@ -93,23 +152,25 @@ public class SubmissionLogRepositoryImpl implements SubmissionLogRepositoryCusto
                 if (filter.getIsSuccess() != null) {
                         builder.and(submissionLog.isSuccess.eq(filter.getIsSuccess()));
                 }
+                return builder;
+        }
 
-                List<SubmissionLog> content = queryFactory
-                                .selectFrom(submissionLog)
-                                .join(submissionLog.user).fetchJoin()
-                                .leftJoin(submissionLog.problem).fetchJoin()
-                                .where(builder)
-                                .orderBy(submissionLog.submittedAt.desc())
-                                .offset(pageable.getOffset())
-                                .limit(pageable.getPageSize())
-                                .fetch();
-
-                Long count = queryFactory
-                                .select(submissionLog.count())
-                                .from(submissionLog)
-                                .where(builder)
-                                .fetchOne();
-
-                return new PageImpl<>(content, pageable, count != null ? count : 0);
+        // 목록용 컬럼만 (code TEXT 제외)
+        private ConstructorExpression<SubmissionSummary> summary() {
+                return Projections.constructor(SubmissionSummary.class,
+                                submissionLog.id,
+                                submissionLog.user.id,
+                                submissionLog.externalId,
+                                submissionLog.problemTitle,
+                                submissionLog.problemTier,
+                                submissionLog.tag,
+                                submissionLog.sourceType,
+                                submissionLog.studyProblemId,
+                                submissionLog.language,
+                                submissionLog.memory,
+                                submissionLog.executionTime,
+                                submissionLog.result,
+                                submissionLog.isSuccess,
+                                submissionLog.submittedAt);
         }
 }
@@ -1,15 +1,14 @@
 package com.peekle.domain.submission.service;
 
-import com.peekle.domain.study.entity.StudyRoom;
-import com.peekle.domain.study.repository.StudyMemberRepository;
+import com.peekle.domain.study.access.StudyAccessGuard;
 import com.peekle.domain.submission.dto.SubmissionCommentCreateRequest;
 import com.peekle.domain.submission.dto.SubmissionCommentResponse;
 import com.peekle.domain.submission.dto.SubmissionCommentUpdateRequest;
 import com.peekle.domain.submission.entity.SubmissionComment;
-import com.peekle.domain.submission.entity.SubmissionLog;
 import com.peekle.domain.submission.enums.SubmissionCommentType;
 import com.peekle.domain.submission.repository.SubmissionCommentRepository;
 import com.peekle.domain.submission.repository.SubmissionLogRepository;
+import com.peekle.domain.submission.repository.SubmissionLogRepository.SubmissionCommentTarget;
 import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.global.exception.BusinessException;
@@ -26,14 +25,15 @@ public class SubmissionCommentService {
 
     private final SubmissionLogRepository submissionLogRepository;
     private final SubmissionCommentRepository submissionCommentRepository;
-    private final StudyMemberRepository studyMemberRepository;
+    private final StudyAccessGuard studyAccessGuard;
     private final UserRepository userRepository;
 
     @Transactional(readOnly = true)
     public List<SubmissionCommentResponse> getComments(Long studyId, Long submissionId, Long requesterId) {
         validateStudyMember(studyId, requesterId);
-        SubmissionLog submission = getSubmissionInStudy(studyId, submissionId);
+        SubmissionCommentTarget submission = getSubmissionInStudy(studyId, submissionId);
 
+        // 줄 범위 순으로 정렬된 전체 댓글을 한 번에 읽는다.
         return submissionCommentRepository.findAllBySubmissionIdWithUser(submission.getId())
                 .stream()
                 .map(SubmissionCommentResponse::from)
@@ -47,7 +47,7 @@ public class SubmissionCommentService {
             Long requesterId,
             SubmissionCommentCreateRequest request) {
         validateStudyMember(studyId, requesterId);
-        SubmissionLog submission = getSubmissionInStudy(studyId, submissionId);
+        SubmissionCommentTarget submission = getSubmissionInStudy(studyId, submissionId);
         User author = userRepository.findById(requesterId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -71,7 +71,7 @@ public class SubmissionCommentService {
         Integer lineEnd = request.getLineEnd();
 
         if (commentType == SubmissionCommentType.INLINE) {
-            int maxLine = countCodeLines(submission.getCode());
+            int maxLine = submission.getLineCount() != null ? submission.getLineCount() : 1;
 
             if (lineStart == null && parent != null) {
                 lineStart = parent.getLineStart();
@@ -94,7 +94,7 @@ public class SubmissionCommentService {
 
         SubmissionComment saved = submissionCommentRepository.save(
                 SubmissionComment.builder()
-                        .submission(submission)
+                        .submission(submissionLogRepository.getReferenceById(submission.getId()))
                         .user(author)
                         .parent(parent)
                         .commentType(commentType)
@@ -118,16 +118,10 @@ public class SubmissionCommentService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        SubmissionComment parent = target.getParent();
-        boolean hasChildren = submissionCommentRepository.existsByParent_Id(target.getId());
-
-        if (hasChildren) {
-            target.markDeleted();
-            return;
-        }
-
-        submissionCommentRepository.delete(target);
-        cleanupDeletedAncestors(parent);
+        // 삭제 표시 후, 살아 있는 답글이 없는 댓글과 조상을 한 번의 DELETE 로 정리한다.
+        // (답글이 남아 있으면 "삭제된 댓글입니다." 로 남는다)
+        target.markDeleted();
+        submissionCommentRepository.deleteOrphanedThread(submissionId, target.getThreadIds());
     }
 
     @Transactional
@@ -160,11 +154,7 @@ public class SubmissionCommentService {
     }
 
     private void validateStudyMember(Long studyId, Long userId) {
-        StudyRoom studyRef = StudyRoom.builder().id(studyId).build();
-        boolean isMember = studyMemberRepository.existsByStudyAndUser_Id(studyRef, userId);
-        if (!isMember) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
-        }
+        studyAccessGuard.requireMember(studyId, userId);
     }
 
     private SubmissionCommentType resolveCommentType(String typeRaw, SubmissionComment parent) {
@@ -179,8 +169,8 @@ public class SubmissionCommentService {
         }
     }
 
-    private SubmissionLog getSubmissionInStudy(Long studyId, Long submissionId) {
-        SubmissionLog submission = submissionLogRepository.findById(submissionId)
+    private SubmissionCommentTarget getSubmissionInStudy(Long studyId, Long submissionId) {
+        SubmissionCommentTarget submission = submissionLogRepository.findCommentTargetById(submissionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SUBMISSION_NOT_FOUND));
 
         if (submission.getRoomId() == null || !submission.getRoomId().equals(studyId)) {
@@ -189,31 +179,10 @@ public class SubmissionCommentService {
         return submission;
     }
 
-    private void cleanupDeletedAncestors(SubmissionComment parent) {
-        SubmissionComment cursor = parent;
-        while (cursor != null) {
-            boolean hasChildren = submissionCommentRepository.existsByParent_Id(cursor.getId());
-            if (Boolean.TRUE.equals(cursor.getIsDeleted()) && !hasChildren) {
-                SubmissionComment next = cursor.getParent();
-                submissionCommentRepository.delete(cursor);
-                cursor = next;
-                continue;
-            }
-            break;
-        }
-    }
-
     private void validateLineRange(Integer lineStart, Integer lineEnd, int maxLine) {
         boolean invalidBounds = lineStart < 1 || lineEnd < lineStart || lineStart > maxLine || lineEnd > maxLine;
         if (invalidBounds) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
     }
-
-    private int countCodeLines(String code) {
-        if (code == null || code.isEmpty()) {
-            return 1;
-        }
-        return code.split("\\R", -1).length;
-    }
 }
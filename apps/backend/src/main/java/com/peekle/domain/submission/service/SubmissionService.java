@@ -6,6 +6,7 @@ import com.peekle.domain.problem.entity.Problem;
 import com.peekle.domain.problem.repository.ProblemRepository;
 import com.peekle.domain.study.entity.StudyProblem;
 import com.peekle.domain.study.repository.StudyProblemRepository;
+import com.peekle.domain.study.service.StudySolveMatrixService;
 import com.peekle.domain.submission.dto.SubmissionLogResponse;
 import com.peekle.domain.submission.dto.SubmissionRequest;
 import com.peekle.domain.submission.dto.SubmissionResponse;
@@ -58,6 +59,7 @@ public class SubmissionService {
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisGameService redisGameService;
     private final RecommendProblemRepository recommendProblemRepository;
+    private final StudySolveMatrixService studySolveMatrixService;
 
     @Transactional
     public SubmissionResponse saveGeneralSubmission(SubmissionRequest request) {
@@ -231,6 +233,11 @@ public class SubmissionService {
 
         submissionLogRepository.save(log);
 
+        // 스터디 풀이 현황 읽기 모델 갱신 (게임 제출은 roomId 가 게임 방 ID 이므로 제외)
+        if (sourceType != SourceType.GAME && !Boolean.FALSE.equals(log.getIsSuccess())) {
+            studySolveMatrixService.recordSolve(log.getRoomId(), problem.getId(), user.getId(), submittedAt);
+        }
+
         if (Boolean.TRUE.equals(request.getIsSuccess())) {
             recommendProblemRepository.markSolved(user.getId(), problem.getId());
         }
@@ -1,5 +1,6 @@
 package com.peekle.domain.submission.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -7,7 +8,8 @@ import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,9 +17,13 @@ import java.util.Optional;
 
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
+import com.peekle.global.http.OutboundHttpException;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SubmissionValidator {
 
     private static final String BOJ_STATUS_URL = "https://www.acmicpc.net/status?problem_id=%s&user_id=%s"; // 모든 결과 조회
@@ -26,6 +32,10 @@ public class SubmissionValidator {
     private static final int VALIDATION_MAX_RETRY = 5;
     private static final long VALIDATION_RETRY_DELAY_MS = 700L;
     private static final int DEBUG_GLOBAL_SCAN_PAGES = 12;
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final OutboundHttpClients outboundHttpClients;
 
     public void validateSubmission(String problemId, String userId, String submitId, String code) {
         String url = String.format(BOJ_STATUS_URL, problemId, userId);
@@ -39,26 +49,12 @@ public class SubmissionValidator {
             List<String> lastParsedRows = new ArrayList<>();
             int lastRowCount = 0;
             for (int attempt = 1; attempt <= VALIDATION_MAX_RETRY; attempt++) {
-                Document doc = Jsoup.connect(url)
-                        .userAgent(
-                                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                        .timeout(5000)
-                        .get();
+                Document doc = fetchDocument(url);
 
                 Elements rows = doc.select("table#status-table tbody tr");
                 lastRowCount = rows.size();
                 lastParsedRows = summarizeRows(rows);
-                for (Element row : rows) {
-                    Element firstCol = row.select("td").first();
-                    if (firstCol == null) {
-                        continue;
-                    }
-                    String rowSubmitId = firstCol.text() == null ? "" : firstCol.text().trim();
-                    if (rowSubmitId.equals(normalizedSubmitId)) {
-                        targetRow = row;
-                        break;
-                    }
-                }
+                targetRow = findRowBySubmitId(rows, normalizedSubmitId);
 
                 if (targetRow != null) {
                     break;
@@ -100,10 +96,7 @@ public class SubmissionValidator {
             Element resultElement = targetRow.select("td").get(3);
             String resultText = resultElement.text();
 
-            // 성공으로 간주할 텍스트들 (필요시 더 추가: "100 점", "AC" 등)
-            boolean isSuccess = resultText.contains("맞았습니다") || resultText.contains("100점");
-
-            if (!isSuccess) {
+            if (!isAcceptedResult(resultText)) {
                 System.out.println("❌ Validation Failed: 성공하지 못한 제출입니다. (Result: " + resultText + ")");
                 throw new BusinessException(ErrorCode.INVALID_SUBMISSION_STATUS, "성공한 제출이 아닙니다. 상태: " + resultText);
             }
@@ -111,13 +104,9 @@ public class SubmissionValidator {
             // ... (코드 길이 검증 로직)
 
             Element lengthElement = targetRow.select("td").get(7);
-            String lengthText = lengthElement.text().replace(" B", "").trim();
-
-            int bojLength;
-            try {
-                bojLength = Integer.parseInt(lengthText);
-            } catch (NumberFormatException e) {
-                log.warn("코드 길이 파싱 실패: {}", lengthText);
+            Integer bojLength = parseCodeLength(lengthElement.text());
+            if (bojLength == null) {
+                log.warn("코드 길이 파싱 실패: {}", lengthElement.text());
                 return;
             }
 
@@ -150,7 +139,7 @@ public class SubmissionValidator {
             System.out.println("✅ Validation Passed! (User: " + userId + ", Problem: " + problemId + ")");
             log.info("Submission Validated! ID: {}, Diff: {}B", normalizedSubmitId, diff);
 
-        } catch (IOException e) {
+        } catch (OutboundHttpException e) {
             log.error("BOJ Validation Failed (Network Error)", e);
             // 네트워크 에러 시에는 막아야 할까 통과시켜야 할까?
             // "일시적 오류"라고 알려주고 재시도 유도하는 게 안전함
@@ -158,6 +147,44 @@ public class SubmissionValidator {
         }
     }
 
+    /**
+     * BOJ 전용 커넥션 풀로 페이지를 받아 파싱한다 (타임아웃/재시도는 outbound.destinations.boj)
+     */
+    private Document fetchDocument(String url) {
+        String html = outboundHttpClients.getString(OutboundDestination.BOJ,
+                HttpRequest.newBuilder(URI.create(url)).header("User-Agent", USER_AGENT));
+        return Jsoup.parse(html, url);
+    }
+
+    static Element findRowBySubmitId(Elements rows, String submitId) {
+        for (Element row : rows) {
+            Element firstCol = row.selectFirst("td");
+            if (firstCol == null) {
+                continue;
+            }
+            if (firstCol.text().trim().equals(submitId)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    // 성공으로 간주할 텍스트들 (필요시 더 추가: "100 점", "AC" 등)
+    static boolean isAcceptedResult(String resultText) {
+        return resultText.contains("맞았습니다") || resultText.contains("100점");
+    }
+
+    /**
+     * "1234 B" → 1234, 숫자가 아니면 null
+     */
+    static Integer parseCodeLength(String lengthText) {
+        try {
+            return Integer.parseInt(lengthText.replace(" B", "").trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private List<String> summarizeRows(Elements rows) {
         List<String> samples = new ArrayList<>();
         int limit = Math.min(10, rows.size());
@@ -192,11 +219,7 @@ public class SubmissionValidator {
             String pageUrl = top == null ? BOJ_GLOBAL_STATUS_URL : BOJ_GLOBAL_STATUS_URL + "?top=" + top;
 
             try {
-                Document doc = Jsoup.connect(pageUrl)
-                        .userAgent(
-                                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                        .timeout(5000)
-                        .get();
+                Document doc = fetchDocument(pageUrl);
 
                 Elements rows = doc.select("table#status-table tbody tr");
                 if (rows.isEmpty()) {
@@ -229,7 +252,7 @@ public class SubmissionValidator {
                 }
                 top = lastSubmitId;
 
-            } catch (IOException e) {
+            } catch (OutboundHttpException e) {
                 log.debug("Global status debug scan failed: pageUrl={}", pageUrl, e);
                 return Optional.empty();
             }
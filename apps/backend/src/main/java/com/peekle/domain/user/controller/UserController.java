@@ -1,5 +1,6 @@
 package com.peekle.domain.user.controller;
 
+import com.peekle.domain.submission.dto.SubmissionHistoryScrollResponse;
 import com.peekle.domain.submission.dto.SubmissionLogResponse;
 import com.peekle.domain.user.dto.ExtensionStatusResponse;
 import com.peekle.domain.user.dto.TokenValidationRequest;
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -24,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -198,6 +201,36 @@ public class UserController {
         return ApiResponse.success(userService.getUserSubmissions(userId, pageable, date, tier, sourceType, status));
     }
 
+    // 키셋 페이지네이션 (다음 페이지는 응답의 nextCursorSubmittedAt/nextCursorId 를 그대로 넘긴다)
+    @GetMapping("/{nickname}/history/scroll")
+    public ApiResponse<SubmissionHistoryScrollResponse> scrollUserSubmissionsByNickname(
+            @PathVariable String nickname,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorSubmittedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String date,
+            @RequestParam(required = false) String tier,
+            @RequestParam(required = false) String sourceType,
+            @RequestParam(required = false) String status) {
+        return ApiResponse.success(userService.scrollUserSubmissionsByNickname(
+                nickname, cursorSubmittedAt, cursorId, size, date, tier, sourceType, status));
+    }
+
+    @GetMapping("/me/history/scroll")
+    public ApiResponse<SubmissionHistoryScrollResponse> scrollMySubmissions(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorSubmittedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String date,
+            @RequestParam(required = false) String tier,
+            @RequestParam(required = false) String sourceType,
+            @RequestParam(required = false) String status) {
+        requireAuthenticatedUserId(userId);
+        return ApiResponse.success(userService.scrollUserSubmissions(
+                userId, cursorSubmittedAt, cursorId, size, date, tier, sourceType, status));
+    }
+
     private void requireAuthenticatedUserId(Long userId) {
         if (userId == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
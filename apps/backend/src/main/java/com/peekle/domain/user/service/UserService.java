@@ -8,23 +8,22 @@ import com.peekle.domain.user.entity.User;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.global.exception.BusinessException;
 import com.peekle.global.exception.ErrorCode;
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
 import com.peekle.domain.submission.dto.SubmissionLogResponse;
-import com.peekle.domain.submission.entity.SubmissionLog;
 import com.peekle.domain.submission.dto.SubmissionHistoryFilterDto;
+import com.peekle.domain.submission.dto.SubmissionHistoryScrollResponse;
+import com.peekle.domain.submission.dto.SubmissionSummary;
 import com.peekle.domain.submission.enums.SourceType;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +41,8 @@ import com.peekle.domain.cs.repository.CsStageAttemptLogRepository;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
+    private static final int MAX_HISTORY_SCROLL_SIZE = 50;
+
     private final UserRepository userRepository;
     private final SubmissionLogRepository submissionLogRepository;
     private final com.peekle.global.storage.R2StorageService r2StorageService;
@@ -49,7 +50,7 @@ public class UserService {
     private final CsUserProfileRepository csUserProfileRepository;
     private final CsUserDomainProgressRepository csUserDomainProgressRepository;
     private final CsStageAttemptLogRepository csStageAttemptLogRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OutboundHttpClients outboundHttpClients;
 
     @Transactional
     public String generateExtensionToken(Long userId, boolean forceRegenerate) {
@@ -233,90 +234,80 @@ public class UserService {
         java.time.LocalDateTime startOfDay = date.atStartOfDay();
         java.time.LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
 
-        java.util.List<com.peekle.domain.submission.entity.SubmissionLog> logs = submissionLogRepository
-                .findAllByUserIdAndSubmittedAtBetweenOrderBySubmittedAtDesc(
-                        userId, startOfDay, endOfDay);
+        // code 컬럼/problem 조인 없이 비정규화 컬럼만 읽는다.
+        List<SubmissionSummary> submissions = submissionLogRepository
+                .findSummariesByUserIdAndSubmittedAtRange(userId, startOfDay, endOfDay);
 
         java.util.List<CsStageAttemptLog> csStageLogs = csStageAttemptLogRepository.findMainLearningTimeline(
                 userId,
                 startOfDay,
                 endOfDay);
 
-        java.util.List<TimelineItemDto> timeline = new java.util.ArrayList<>();
-
-        for (com.peekle.domain.submission.entity.SubmissionLog log : logs) {
-            com.peekle.domain.problem.entity.Problem problem = log.getProblem();
-
-            // Use denormalized fields from SubmissionLog if available to avoid potential
-            // N+1 or extra joins if not fetched.
-            String tierStr = log.getProblemTier() != null ? log.getProblemTier().toLowerCase() : "unknown";
-            String title = log.getProblemTitle() != null ? log.getProblemTitle() : problem.getTitle();
-            String problemIdStr = log.getExternalId() != null ? log.getExternalId() : problem.getExternalId();
-            String problemLink = "https://www.acmicpc.net/problem/" + problemIdStr;
-
-            String tierName = "unknown";
-            int tierLevel = 0;
-
-            String[] parts = tierStr.split(" ");
-            if (parts.length >= 2) {
-                tierName = parts[0];
-                try {
-                    tierLevel = Integer.parseInt(parts[1]);
-                } catch (NumberFormatException e) {
-                    tierLevel = 0;
-                }
+        // 두 목록 모두 최신순이므로 시간 기준으로 병합한다.
+        java.util.List<TimelineItemDto> timeline = new java.util.ArrayList<>(submissions.size() + csStageLogs.size());
+        int submissionIndex = 0;
+        int csIndex = 0;
+        while (submissionIndex < submissions.size() || csIndex < csStageLogs.size()) {
+            boolean takeSubmission = csIndex >= csStageLogs.size()
+                    || (submissionIndex < submissions.size()
+                            && !submissions.get(submissionIndex).submittedAt()
+                                    .isBefore(csStageLogs.get(csIndex).getCompletedAt()));
+            if (takeSubmission) {
+                timeline.add(toSubmissionTimelineItem(submissions.get(submissionIndex++)));
             } else {
-                tierName = tierStr;
+                timeline.add(toCsStageTimelineItem(csStageLogs.get(csIndex++)));
             }
-
-            timeline.add(TimelineItemDto.builder()
-                    .timelineKey("SUBMISSION:" + log.getId())
-                    .activityType("SUBMISSION")
-                    .submissionId(log.getId())
-                    .problemId(problemIdStr)
-                    .title(title)
-                    .tier(tierName)
-                    .tierLevel(tierLevel)
-                    .link(problemLink)
-                    .tag(log.getTag())
-                    .sourceType(log.getSourceType() != null ? log.getSourceType().name() : "EXTENSION")
-                    .language(log.getLanguage())
-                    .memory(log.getMemory())
-                    .executionTime(log.getExecutionTime())
-                    .result(log.getResult())
-                    .isSuccess(log.getIsSuccess())
-                    .submittedAt(log.getSubmittedAt().toString())
-                    .build());
-        }
-
-        for (CsStageAttemptLog csLog : csStageLogs) {
-            timeline.add(TimelineItemDto.builder()
-                    .timelineKey("CS_STAGE:" + csLog.getId())
-                    .activityType("CS_STAGE")
-                    .sourceType("CS")
-                    .submittedAt(csLog.getCompletedAt().toString())
-                    .csDomainName(csLog.getDomain().getName())
-                    .csTrackNo((int) csLog.getTrackNo())
-                    .csStageNo((int) csLog.getStageNo())
-                    .csCorrectCount(csLog.getCorrectCount())
-                    .csTotalCount(csLog.getTotalCount())
-                    .build());
         }
-
-        timeline.sort((a, b) -> parseTimelineDateTime(b.getSubmittedAt()).compareTo(parseTimelineDateTime(a.getSubmittedAt())));
         return timeline;
     }
 
-    private java.time.LocalDateTime parseTimelineDateTime(String value) {
-        if (value == null || value.isBlank()) {
-            return java.time.LocalDateTime.MIN;
+    private TimelineItemDto toSubmissionTimelineItem(SubmissionSummary submission) {
+        // "Gold 3" -> ("gold", 3)
+        String tierStr = submission.problemTier() != null ? submission.problemTier().toLowerCase() : "unknown";
+        String tierName = tierStr;
+        int tierLevel = 0;
+        int space = tierStr.indexOf(' ');
+        if (space > 0) {
+            tierName = tierStr.substring(0, space);
+            try {
+                tierLevel = Integer.parseInt(tierStr.substring(space + 1).trim());
+            } catch (NumberFormatException e) {
+                tierLevel = 0;
+            }
         }
 
-        try {
-            return java.time.LocalDateTime.parse(value);
-        } catch (Exception e) {
-            return java.time.LocalDateTime.MIN;
-        }
+        return TimelineItemDto.builder()
+                .timelineKey("SUBMISSION:" + submission.id())
+                .activityType("SUBMISSION")
+                .submissionId(submission.id())
+                .problemId(submission.externalId())
+                .title(submission.problemTitle())
+                .tier(tierName)
+                .tierLevel(tierLevel)
+                .link("https://www.acmicpc.net/problem/" + submission.externalId())
+                .tag(submission.tag())
+                .sourceType(submission.sourceType() != null ? submission.sourceType().name() : "EXTENSION")
+                .language(submission.language())
+                .memory(submission.memory())
+                .executionTime(submission.executionTime())
+                .result(submission.result())
+                .isSuccess(submission.isSuccess())
+                .submittedAt(submission.submittedAt().toString())
+                .build();
+    }
+
+    private TimelineItemDto toCsStageTimelineItem(CsStageAttemptLog csLog) {
+        return TimelineItemDto.builder()
+                .timelineKey("CS_STAGE:" + csLog.getId())
+                .activityType("CS_STAGE")
+                .sourceType("CS")
+                .submittedAt(csLog.getCompletedAt().toString())
+                .csDomainName(csLog.getDomain().getName())
+                .csTrackNo((int) csLog.getTrackNo())
+                .csStageNo((int) csLog.getStageNo())
+                .csCorrectCount(csLog.getCorrectCount())
+                .csTotalCount(csLog.getTotalCount())
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -328,11 +319,8 @@ public class UserService {
         java.time.LocalDateTime startOfDay = java.time.LocalDate.now().atStartOfDay();
         java.time.LocalDateTime endOfDay = java.time.LocalDate.now().plusDays(1).atStartOfDay();
 
-        List<com.peekle.domain.submission.entity.SubmissionLog> todayLogs = submissionLogRepository
-                .findAllByUserIdAndSubmittedAtBetweenOrderBySubmittedAtDesc(
-                        userId, startOfDay, endOfDay);
-
-        boolean isSolvedToday = !todayLogs.isEmpty();
+        boolean isSolvedToday = submissionLogRepository.existsByUserIdAndSubmittedAtBetween(
+                userId, startOfDay, endOfDay);
 
         // 그룹 내 순위 및 상태 계산 (LeagueService 활용)
         com.peekle.domain.league.dto.UserLeagueStatusDto statusDto = leagueService.getUserLeagueStatus(user);
@@ -352,28 +340,76 @@ public class UserService {
     public Page<SubmissionLogResponse> getUserSubmissionsByNickname(
             String nickname, Pageable pageable,
             String date, String tier, String sourceType, String status) {
+        User user = userRepository.findByNickname(nickname)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return findSubmissionHistory(user, pageable, date, tier, sourceType, status);
+    }
 
+    @Transactional(readOnly = true)
+    public Page<SubmissionLogResponse> getUserSubmissions(
+            Long userId, Pageable pageable,
+            String date, String tier, String sourceType, String status) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return findSubmissionHistory(user, pageable, date, tier, sourceType, status);
+    }
+
+    @Transactional(readOnly = true)
+    public SubmissionHistoryScrollResponse scrollUserSubmissionsByNickname(
+            String nickname, java.time.LocalDateTime cursorSubmittedAt, Long cursorId, int size,
+            String date, String tier, String sourceType, String status) {
+        User user = userRepository.findByNickname(nickname)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return scrollSubmissionHistory(user, cursorSubmittedAt, cursorId, size, date, tier, sourceType, status);
+    }
+
+    @Transactional(readOnly = true)
+    public SubmissionHistoryScrollResponse scrollUserSubmissions(
+            Long userId, java.time.LocalDateTime cursorSubmittedAt, Long cursorId, int size,
+            String date, String tier, String sourceType, String status) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return scrollSubmissionHistory(user, cursorSubmittedAt, cursorId, size, date, tier, sourceType, status);
+    }
+
+    private Page<SubmissionLogResponse> findSubmissionHistory(
+            User user, Pageable pageable,
+            String date, String tier, String sourceType, String status) {
         SubmissionHistoryFilterDto.SubmissionHistoryFilterDtoBuilder builder = SubmissionHistoryFilterDto.builder()
-                .nickname(nickname);
+                .userId(user.getId());
 
         applyFilters(builder, date, tier, sourceType, status);
 
-        Page<SubmissionLog> logs = submissionLogRepository.findHistory(builder.build(), pageable);
-        return logs.map(SubmissionLogResponse::from);
+        Page<SubmissionSummary> summaries = submissionLogRepository.findHistory(builder.build(), pageable);
+        return summaries.map(summary -> SubmissionLogResponse.from(summary, user));
     }
 
-    @Transactional(readOnly = true)
-    public Page<SubmissionLogResponse> getUserSubmissions(
-            Long userId, Pageable pageable,
+    private SubmissionHistoryScrollResponse scrollSubmissionHistory(
+            User user, java.time.LocalDateTime cursorSubmittedAt, Long cursorId, int size,
             String date, String tier, String sourceType, String status) {
-
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_SCROLL_SIZE));
         SubmissionHistoryFilterDto.SubmissionHistoryFilterDtoBuilder builder = SubmissionHistoryFilterDto.builder()
-                .userId(userId);
+                .userId(user.getId());
 
         applyFilters(builder, date, tier, sourceType, status);
 
-        Page<SubmissionLog> logs = submissionLogRepository.findHistory(builder.build(), pageable);
-        return logs.map(SubmissionLogResponse::from);
+        // 한 건 더 읽어 다음 페이지 여부를 판단한다 (count 쿼리 없음)
+        List<SubmissionSummary> summaries = submissionLogRepository.findHistoryBefore(
+                builder.build(), cursorSubmittedAt, cursorId, pageSize + 1);
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries = summaries.subList(0, pageSize);
+        }
+
+        List<SubmissionLogResponse> content = summaries.stream()
+                .map(summary -> SubmissionLogResponse.from(summary, user))
+                .toList();
+        SubmissionSummary last = summaries.isEmpty() ? null : summaries.get(summaries.size() - 1);
+        return new SubmissionHistoryScrollResponse(
+                content,
+                hasNext,
+                hasNext ? last.submittedAt() : null,
+                hasNext ? last.id() : null);
     }
 
     private void applyFilters(
@@ -543,16 +579,15 @@ public class UserService {
         String url = "https://www.acmicpc.net/user/" + bojId.trim();
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent",
-                    "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36");
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-            return response.getStatusCode() == HttpStatus.OK;
-        } catch (HttpClientErrorException.NotFound e) {
-            return false;
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                    .header("User-Agent",
+                            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36")
+                    .GET();
+            HttpResponse<Void> response = outboundHttpClients.send(OutboundDestination.BOJ, request,
+                    HttpResponse.BodyHandlers.discarding());
+
+            // 404 는 없는 아이디
+            return response.statusCode() == 200;
         } catch (Exception e) {
             System.err.println("Error validating BOJ ID: " + e.getMessage());
             // 에러 발생 시(타임아웃 등)는 일단 false 처리하거나, 혹은 별도 에러 처리가 필요할 수 있음
@@ -1,5 +1,7 @@
 package com.peekle.global.config;
 
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,16 +16,12 @@ public class AiConfig {
     private String aiServerUrl;
     
     @Bean
-    public RestClient aiRestClient(RestClient.Builder builder) {
-        // HTTP/2 Upgrade 요청을 방지하기 위해 HTTP/1.1을 강제로 설정
-        java.net.http.HttpClient httpClient = java.net.http.HttpClient.newBuilder()
-            .version(java.net.http.HttpClient.Version.HTTP_1_1)
-            .build();
-
+    public RestClient aiRestClient(RestClient.Builder builder, OutboundHttpClients outboundHttpClients) {
+        // AI 서버 전용 커넥션 풀(HTTP/1.1)과 응답 타임아웃은 outbound.destinations.ai 에서 관리한다
         return builder
                 .baseUrl(aiServerUrl)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .requestFactory(new org.springframework.http.client.JdkClientHttpRequestFactory(httpClient))
+                .requestFactory(outboundHttpClients.requestFactory(OutboundDestination.AI))
                 .build();
     }
 }
@@ -1,10 +1,17 @@
 package com.peekle.global.config;
 
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpProperties;
 import io.livekit.server.RoomServiceClient;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class LiveKitConfig {
 
@@ -16,7 +23,7 @@ public class LiveKitConfig {
     private String secret;
 
     @Bean
-    public RoomServiceClient roomServiceClient() {
+    public RoomServiceClient roomServiceClient(OutboundHttpProperties outboundHttpProperties) {
         // RoomServiceClient requires http/https scheme, but we might have ws/wss in
         // config
         String apiUrl = url;
@@ -25,6 +32,15 @@ public class LiveKitConfig {
         } else if (apiUrl.startsWith("wss://")) {
             apiUrl = apiUrl.replace("wss://", "https://");
         }
-        return RoomServiceClient.create(apiUrl, apiKey, secret);
+
+        // Retrofit(OkHttp) 클라이언트도 outbound.destinations.livekit 의 풀 크기/타임아웃을 따른다
+        OutboundHttpProperties.Policy policy = outboundHttpProperties.policy(OutboundDestination.LIVEKIT);
+        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(policy.getMaxConcurrent(), 5, TimeUnit.MINUTES))
+                .connectTimeout(Duration.ofMillis(policy.getConnectTimeoutMs()))
+                .readTimeout(Duration.ofMillis(policy.getRequestTimeoutMs()))
+                .callTimeout(Duration.ofMillis(policy.getConnectTimeoutMs() + policy.getRequestTimeoutMs()))
+                .build();
+        return RoomServiceClient.createClient(apiUrl, apiKey, secret, () -> okHttpClient);
     }
 }
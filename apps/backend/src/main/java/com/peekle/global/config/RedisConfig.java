@@ -1,17 +1,26 @@
 package com.peekle.global.config;
 
+import com.peekle.domain.cs.service.bank.CsQuestionBankInvalidationListener;
+import com.peekle.domain.cs.service.topology.CsDomainTopologyInvalidationListener;
+import com.peekle.domain.study.access.StudyMembershipInvalidationListener;
+import com.peekle.global.redis.RedisKeyConst;
+import com.peekle.global.redis.metrics.InstrumentedRedisConnectionFactory;
+import com.peekle.global.redis.metrics.RedisOperationMetrics;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -26,8 +35,11 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String password;
 
+    /**
+     * 실제 Lettuce 커넥션 팩토리 (생명주기는 컨테이너가 관리, Pub/Sub 리스너는 이걸 직접 쓴다)
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory lettuceConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
         config.setHostName(host);
         config.setPort(port);
@@ -37,6 +49,15 @@ public class RedisConfig {
         return new LettuceConnectionFactory(config);
     }
 
+    /**
+     * 템플릿이 쓰는 기본 팩토리 - 명령마다 논리 연산별 Redis 메트릭을 남긴다
+     */
+    @Bean
+    @Primary
+    public RedisConnectionFactory redisConnectionFactory(RedisOperationMetrics redisOperationMetrics) {
+        return new InstrumentedRedisConnectionFactory(lettuceConnectionFactory(), redisOperationMetrics);
+    }
+
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
@@ -52,9 +73,9 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+        template.setConnectionFactory(redisConnectionFactory);
 
         // Configure ObjectMapper for LocalDateTime support
         com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
@@ -72,10 +93,27 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 직접 인코딩한 바이너리 값을 그대로 저장하는 템플릿 (CS 세션 등).
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
     @Bean
     public org.springframework.data.redis.listener.RedisMessageListenerContainer redisMessageListener(
-            RedisConnectionFactory connectionFactory,
-            com.peekle.global.redis.RedisSubscriber redisSubscriber) {
+            LettuceConnectionFactory connectionFactory,
+            com.peekle.global.redis.RedisSubscriber redisSubscriber,
+            CsQuestionBankInvalidationListener csQuestionBankInvalidationListener,
+            CsDomainTopologyInvalidationListener csDomainTopologyInvalidationListener,
+            StudyMembershipInvalidationListener studyMembershipInvalidationListener) {
         org.springframework.data.redis.listener.RedisMessageListenerContainer container = new org.springframework.data.redis.listener.RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         // Subscribe to all study room chat topics
@@ -85,6 +123,22 @@ public class RedisConfig {
         // 게임 관련 토픽 구독 추가
         container.addMessageListener(redisSubscriber,
                 new PatternTopic("topic/games/**"));
+
+        // 코드 일괄 실행 결과
+        container.addMessageListener(redisSubscriber,
+                new PatternTopic("topic/executions/**"));
+
+        // CS 문제 은행 캐시 무효화
+        container.addMessageListener(csQuestionBankInvalidationListener,
+                new ChannelTopic(RedisKeyConst.TOPIC_CS_QUESTION_BANK_INVALIDATE));
+
+        // CS 도메인 구조 캐시 무효화
+        container.addMessageListener(csDomainTopologyInvalidationListener,
+                new ChannelTopic(RedisKeyConst.TOPIC_CS_TOPOLOGY_INVALIDATE));
+
+        // 스터디 멤버 권한 캐시 무효화
+        container.addMessageListener(studyMembershipInvalidationListener,
+                new ChannelTopic(RedisKeyConst.TOPIC_STUDY_MEMBERSHIP_INVALIDATE));
         return container;
     }
 }
@@ -0,0 +1,15 @@
+package com.peekle.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * - 명령/SQL 수를 세는 통합 테스트에서는 app.scheduling.enabled=false 로 주기 작업(지연 작업 폴링, 접속 정리 등)을 끈다
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "app.scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -67,7 +67,7 @@ public class SecurityConfig {
                                                                 "/api/users/*/profile")
                                                 .permitAll() // 남의 프로필 조회
                                                 .requestMatchers(org.springframework.http.HttpMethod.GET,
-                                                                "/api/users/*/history")
+                                                                "/api/users/*/history", "/api/users/*/history/scroll")
                                                 .permitAll() // 남의 히스토리 조회
                                                 .requestMatchers(org.springframework.http.HttpMethod.GET,
                                                                 "/api/users/*/streak")
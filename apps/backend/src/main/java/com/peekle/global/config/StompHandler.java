@@ -1,5 +1,6 @@
 package com.peekle.global.config;
 
+import com.peekle.global.logging.HotPathLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
@@ -19,6 +20,8 @@ import java.util.Map;
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
 public class StompHandler implements ChannelInterceptor {
 
+    private final HotPathLogger hotPathLogger;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
@@ -30,7 +33,7 @@ public class StompHandler implements ChannelInterceptor {
             }
             String studyId = accessor.getFirstNativeHeader("studyId");
 
-            log.info("[StompHandler] Connect request: userId={}, studyId={}", userId, studyId);
+            hotPathLogger.sessionEvent("stomp", "connect", accessor.getSessionId(), userId);
 
             Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
             if (sessionAttributes != null) {
@@ -38,7 +41,7 @@ public class StompHandler implements ChannelInterceptor {
                 if (userId != null) {
                     try {
                         sessionAttributes.put("userId", Long.valueOf(userId));
-                        log.info("[StompHandler] User ID set: {}", userId);
+                        log.debug("[StompHandler] User ID set: {}", userId);
                     } catch (NumberFormatException e) {
                         log.error("[StompHandler] Invalid userId format: {}", userId);
                     }
@@ -50,7 +53,7 @@ public class StompHandler implements ChannelInterceptor {
                 if (studyId != null) {
                     try {
                         sessionAttributes.put("studyId", Long.valueOf(studyId));
-                        log.info("[StompHandler] Study ID set: {}", studyId);
+                        log.debug("[StompHandler] Study ID set: {}", studyId);
                     } catch (NumberFormatException e) {
                         log.error("[StompHandler] Invalid studyId format: {}", studyId);
                     }
@@ -61,7 +64,7 @@ public class StompHandler implements ChannelInterceptor {
                 if (gameId != null) {
                     try {
                         sessionAttributes.put("gameId", Long.valueOf(gameId));
-                        log.info("[StompHandler] Game ID set: {}", gameId);
+                        log.debug("[StompHandler] Game ID set: {}", gameId);
                     } catch (NumberFormatException e) {
                         log.error("[StompHandler] Invalid gameId format: {}", gameId);
                     }
@@ -1,9 +1,14 @@
 package com.peekle.global.config;
 
+import com.peekle.domain.execution.socket.ExecutionTopicInterceptor;
+import com.peekle.domain.study.access.StudyAccessInterceptor;
+import com.peekle.global.presence.PresenceHeartbeatInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -14,7 +19,13 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 서버 ↔ 클라이언트 STOMP 하트비트 주기 (ms). 접속 상태 TTL(30초)은 이 값을 기준으로 잡혀 있다.
+    private static final long HEARTBEAT_INTERVAL_MS = 10_000;
+
     private final StompHandler stompHandler;
+    private final PresenceHeartbeatInterceptor presenceHeartbeatInterceptor;
+    private final StudyAccessInterceptor studyAccessInterceptor;
+    private final ExecutionTopicInterceptor executionTopicInterceptor;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -25,13 +36,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[] { HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS })
+                .setTaskScheduler(stompHeartbeatScheduler());
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
+        registration.interceptors(stompHandler, presenceHeartbeatInterceptor, studyAccessInterceptor,
+                executionTopicInterceptor);
     }
 
     @Override
@@ -41,4 +55,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registration.setSendBufferSizeLimit(20 * 1024 * 1024);
         registration.setSendTimeLimit(20 * 1000);
     }
-}
\ No newline at end of file
+
+    /**
+     * 하트비트 전용 스케줄러. 컨테이너가 초기화/종료를 관리한다.
+     * 타입으로 찾는 @Scheduled 스케줄러 선택에 끼지 않도록 autowire 후보에서 뺀다.
+     */
+    @Bean(autowireCandidate = false)
+    public ThreadPoolTaskScheduler stompHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
+    }
+}
@@ -80,7 +80,14 @@ public enum ErrorCode {
     CS_ATTEMPT_EXPIRED(HttpStatus.GONE, "CS_008", "시도가 만료되었습니다."),
     CS_DOMAIN_PROGRESS_NOT_FOUND(HttpStatus.NOT_FOUND, "CS_009", "도메인 진행 정보를 찾을 수 없습니다."),
     CS_FORBIDDEN_STAGE_ACCESS(HttpStatus.FORBIDDEN, "CS_010", "해당 스테이지에 접근할 수 없습니다."),
-    CS_DOMAIN_NOT_STUDYING(HttpStatus.BAD_REQUEST, "CS_013", "학습 중인 도메인이 아닙니다.");
+    CS_DOMAIN_NOT_STUDYING(HttpStatus.BAD_REQUEST, "CS_013", "학습 중인 도메인이 아닙니다."),
+
+    // Execution
+    EXECUTION_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "EXECUTION_001", "실행 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    EXECUTION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "EXECUTION_002", "코드 실행이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+    EXECUTION_PAYLOAD_TOO_LARGE(HttpStatus.BAD_REQUEST, "EXECUTION_003", "코드 또는 입력이 너무 큽니다."),
+    EXECUTION_NO_TESTCASES(HttpStatus.BAD_REQUEST, "EXECUTION_004", "실행할 테스트케이스가 없습니다."),
+    EXECUTION_TOO_MANY_TESTCASES(HttpStatus.BAD_REQUEST, "EXECUTION_005", "한 번에 실행할 수 있는 테스트케이스 수를 넘었습니다.");
 
     private final HttpStatus status;
     private final String code;
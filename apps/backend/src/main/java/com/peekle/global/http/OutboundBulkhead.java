@@ -0,0 +1,151 @@
+package com.peekle.global.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대상 하나의 동시 호출 제한 + 재시도
+ * - 가상 스레드는 요청마다 스레드가 생기므로 순간적으로 몰린 요청이 그대로 외부로 나가지 않게 자리 수를 둔다
+ * - 자리는 시도 한 번 동안만 잡고, 재시도 대기 중에는 돌려준다
+ * - 타임아웃/연결 실패/5xx 만 재시도하고, 자리가 없어 거절된 호출은 재시도하지 않는다
+ */
+public class OutboundBulkhead {
+
+    private static final String METRIC_REQUESTS = "outbound.http.requests";
+    private static final String METRIC_REJECTED = "outbound.http.rejected";
+    private static final String METRIC_AVAILABLE = "outbound.http.bulkhead.available";
+
+    private final OutboundDestination destination;
+    private final OutboundHttpProperties.Policy policy;
+    private final Semaphore permits;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public OutboundBulkhead(OutboundDestination destination, OutboundHttpProperties.Policy policy,
+            MeterRegistry meterRegistry) {
+        this.destination = destination;
+        this.policy = policy;
+        this.permits = new Semaphore(policy.getMaxConcurrent(), true);
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder(METRIC_REJECTED)
+                .tag("destination", destination.getKey())
+                .register(meterRegistry);
+        meterRegistry.gauge(METRIC_AVAILABLE, Tags.of("destination", destination.getKey()),
+                permits, Semaphore::availablePermits);
+    }
+
+    public <T> T execute(OutboundCall<T> call) {
+        long backoffMs = policy.getBackoffMs();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(call);
+            } catch (RuntimeException e) {
+                if (attempt >= policy.getMaxAttempts() || !isRetryable(e)) {
+                    throw e;
+                }
+                sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, policy.getMaxBackoffMs());
+            }
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private <T> T attempt(OutboundCall<T> call) {
+        acquire();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.call();
+            outcome = "success";
+            return result;
+        } catch (OutboundHttpException e) {
+            outcome = e.getReason().name().toLowerCase();
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = isTimeout(e) ? "timeout" : "error";
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+            throw new OutboundHttpException(destination, OutboundHttpException.Reason.INTERRUPTED,
+                    destination.getKey() + " call interrupted", e);
+        } catch (Exception e) {
+            boolean timeout = isTimeout(e);
+            outcome = timeout ? "timeout" : "io";
+            throw new OutboundHttpException(destination,
+                    timeout ? OutboundHttpException.Reason.TIMEOUT : OutboundHttpException.Reason.IO,
+                    destination.getKey() + " call failed: " + e.getMessage(), e);
+        } finally {
+            permits.release();
+            sample.stop(Timer.builder(METRIC_REQUESTS)
+                    .tag("destination", destination.getKey())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(policy.getAcquireTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                throw new OutboundHttpException(destination, OutboundHttpException.Reason.REJECTED,
+                        destination.getKey() + " bulkhead full after " + policy.getAcquireTimeoutMs() + "ms", null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutboundHttpException(destination, OutboundHttpException.Reason.INTERRUPTED,
+                    "Interrupted while waiting for " + destination.getKey() + " bulkhead", e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutboundHttpException(destination, OutboundHttpException.Reason.INTERRUPTED,
+                    "Interrupted while backing off " + destination.getKey(), e);
+        }
+    }
+
+    private boolean isRetryable(RuntimeException e) {
+        if (e instanceof OutboundHttpException outbound) {
+            return switch (outbound.getReason()) {
+                case TIMEOUT, IO -> true;
+                case STATUS -> outbound.getStatusCode() >= 500 || outbound.getStatusCode() == 429;
+                default -> false;
+            };
+        }
+        if (e instanceof HttpServerErrorException) {
+            return true;
+        }
+        return hasCause(e, IOException.class);
+    }
+
+    private boolean isTimeout(Throwable throwable) {
+        return hasCause(throwable, HttpTimeoutException.class) || hasCause(throwable, InterruptedIOException.class);
+    }
+
+    private boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
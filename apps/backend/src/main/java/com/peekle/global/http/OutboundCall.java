@@ -0,0 +1,10 @@
+package com.peekle.global.http;
+
+/**
+ * 자리를 얻은 뒤 실제로 보내는 외부 호출 한 번
+ */
+@FunctionalInterface
+public interface OutboundCall<T> {
+
+    T call() throws Exception;
+}
@@ -0,0 +1,30 @@
+package com.peekle.global.http;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 호출 대상
+ * - 대상마다 커넥션 풀, 동시 호출 제한, 타임아웃, 재시도 정책을 따로 둔다 (outbound.destinations.{key})
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboundDestination {
+
+    AI("ai"),
+    TIO("tio"),
+    BOJ("boj"),
+    SOLVED_AC("solved-ac"),
+    LIVEKIT("livekit");
+
+    private final String key;
+
+    public static OutboundDestination fromKey(String key) {
+        for (OutboundDestination destination : values()) {
+            if (destination.key.equals(key)) {
+                return destination;
+            }
+        }
+        throw new IllegalArgumentException("Unknown outbound destination: " + key);
+    }
+}
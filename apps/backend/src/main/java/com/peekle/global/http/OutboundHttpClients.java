@@ -0,0 +1,130 @@
+package com.peekle.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 호출 공용 클라이언트
+ * - 대상마다 HttpClient 하나를 재사용해 대상별 커넥션 풀을 둔다 (동시 호출 수가 곧 풀 크기)
+ * - 모든 호출은 대상의 OutboundBulkhead 를 거쳐 동시 호출 제한, 재시도, outbound.http.requests 타이머가 적용된다
+ */
+@Component
+public class OutboundHttpClients {
+
+    private final OutboundHttpProperties properties;
+    private final Map<OutboundDestination, HttpClient> clients = new EnumMap<>(OutboundDestination.class);
+    private final Map<OutboundDestination, OutboundBulkhead> bulkheads = new EnumMap<>(OutboundDestination.class);
+
+    public OutboundHttpClients(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (OutboundDestination destination : OutboundDestination.values()) {
+            OutboundHttpProperties.Policy policy = properties.policy(destination);
+            // HTTP/2 Upgrade 요청을 받지 못하는 서버(AI 서버 등)가 있어 HTTP/1.1 로 맞춘다
+            clients.put(destination, HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofMillis(policy.getConnectTimeoutMs()))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build());
+            bulkheads.put(destination, new OutboundBulkhead(destination, policy, meterRegistry));
+        }
+    }
+
+    public HttpClient client(OutboundDestination destination) {
+        return clients.get(destination);
+    }
+
+    public OutboundBulkhead bulkhead(OutboundDestination destination) {
+        return bulkheads.get(destination);
+    }
+
+    public OutboundHttpProperties.Policy policy(OutboundDestination destination) {
+        return properties.policy(destination);
+    }
+
+    /**
+     * RestClient 용 요청 팩토리 (대상의 커넥션 풀과 응답 타임아웃을 그대로 쓴다)
+     */
+    public ClientHttpRequestFactory requestFactory(OutboundDestination destination) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(client(destination));
+        requestFactory.setReadTimeout(Duration.ofMillis(policy(destination).getRequestTimeoutMs()));
+        if (policy(destination).getRedirectUrl() == null) {
+            return requestFactory;
+        }
+        return (uri, httpMethod) -> requestFactory.createRequest(resolve(destination, uri), httpMethod);
+    }
+
+    /**
+     * redirect-url 이 설정된 대상이면 요청 주소를 그쪽으로 바꾼다
+     */
+    public URI resolve(OutboundDestination destination, URI uri) {
+        String redirectUrl = policy(destination).getRedirectUrl();
+        if (redirectUrl == null || redirectUrl.isBlank()) {
+            return uri;
+        }
+        String base = redirectUrl.endsWith("/") ? redirectUrl.substring(0, redirectUrl.length() - 1) : redirectUrl;
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+        return URI.create(base + path + query);
+    }
+
+    /**
+     * 대상의 동시 호출 제한과 재시도 정책 아래에서 호출한다 (RestClient, Retrofit 등 다른 클라이언트용)
+     */
+    public <T> T execute(OutboundDestination destination, OutboundCall<T> call) {
+        return bulkhead(destination).execute(call);
+    }
+
+    /**
+     * 대상의 커넥션 풀로 요청을 보낸다. 5xx/429 응답은 재시도 대상이 되도록 예외로 바꾼다.
+     */
+    public <T> HttpResponse<T> send(OutboundDestination destination, HttpRequest.Builder request,
+            HttpResponse.BodyHandler<T> bodyHandler) {
+        return send(destination, request, bodyHandler, false);
+    }
+
+    /**
+     * 2xx 응답 본문을 문자열로 받는다. 그 밖의 응답은 OutboundHttpException(STATUS) 으로 던진다.
+     */
+    public String getString(OutboundDestination destination, HttpRequest.Builder request) {
+        return send(destination, request.GET(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8), true)
+                .body();
+    }
+
+    private <T> HttpResponse<T> send(OutboundDestination destination, HttpRequest.Builder request,
+            HttpResponse.BodyHandler<T> bodyHandler, boolean requireSuccess) {
+        HttpRequest built = request
+                .timeout(Duration.ofMillis(policy(destination).getRequestTimeoutMs()))
+                .build();
+        HttpRequest httpRequest = HttpRequest.newBuilder(built, (name, value) -> true)
+                .uri(resolve(destination, built.uri()))
+                .build();
+        return execute(destination, () -> {
+            HttpResponse<T> response = client(destination).send(httpRequest, bodyHandler);
+            int status = response.statusCode();
+            if (status >= 500 || status == 429 || (requireSuccess && status / 100 != 2)) {
+                discard(response.body());
+                throw new OutboundHttpException(destination, status);
+            }
+            return response;
+        });
+    }
+
+    private void discard(Object body) throws IOException {
+        if (body instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.peekle.global.http;
+
+import lombok.Getter;
+
+/**
+ * 외부 호출 실패
+ * - 호출부가 원인(거절/타임아웃/응답 코드)에 따라 ErrorCode 를 고를 수 있게 이유를 함께 담는다
+ */
+@Getter
+public class OutboundHttpException extends RuntimeException {
+
+    public enum Reason {
+        REJECTED, TIMEOUT, STATUS, IO, INTERRUPTED
+    }
+
+    private final OutboundDestination destination;
+    private final Reason reason;
+    private final int statusCode;
+
+    public OutboundHttpException(OutboundDestination destination, Reason reason, String message, Throwable cause) {
+        this(destination, reason, 0, message, cause);
+    }
+
+    public OutboundHttpException(OutboundDestination destination, int statusCode) {
+        this(destination, Reason.STATUS, statusCode, destination.getKey() + " responded " + statusCode, null);
+    }
+
+    private OutboundHttpException(OutboundDestination destination, Reason reason, int statusCode, String message,
+            Throwable cause) {
+        super(message, cause);
+        this.destination = destination;
+        this.reason = reason;
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * 상대가 늦거나 자리가 없어 응답을 못 받은 경우 (잠시 뒤 다시 시도할 만한 실패)
+     */
+    public boolean isUnavailable() {
+        return reason == Reason.REJECTED || reason == Reason.TIMEOUT;
+    }
+}
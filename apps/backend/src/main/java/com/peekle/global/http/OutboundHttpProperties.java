@@ -0,0 +1,68 @@
+package com.peekle.global.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 호출 정책 Properties
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbound")
+public class OutboundHttpProperties {
+
+    /**
+     * 대상별 정책 (키: ai, tio, boj, solved-ac, livekit). 없으면 기본값을 쓴다.
+     */
+    private Map<String, Policy> destinations = new HashMap<>();
+
+    public Policy policy(OutboundDestination destination) {
+        return destinations.getOrDefault(destination.getKey(), new Policy());
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * 동시에 나갈 수 있는 호출 수 (커넥션 풀 크기와 같다)
+         */
+        private int maxConcurrent = 16;
+
+        /**
+         * 자리가 날 때까지 기다리는 최대 시간 (ms), 넘으면 호출하지 않고 거절
+         */
+        private long acquireTimeoutMs = 500;
+
+        private long connectTimeoutMs = 3_000;
+
+        /**
+         * 응답 대기 최대 시간 (ms)
+         */
+        private long requestTimeoutMs = 5_000;
+
+        /**
+         * 첫 시도를 포함한 최대 시도 횟수 (1 이면 재시도 안 함)
+         */
+        private int maxAttempts = 1;
+
+        /**
+         * 재시도 간격 (ms), 시도마다 두 배씩 늘리고 maxBackoffMs 에서 멈춘다
+         */
+        private long backoffMs = 200;
+
+        private long maxBackoffMs = 2_000;
+
+        /**
+         * 설정하면 요청의 scheme/host/port 를 이 주소로 바꾸고 경로는 그 뒤에 붙인다 (오프라인 시험용 스텁 연결)
+         * 예) http://localhost:9000/boj + https://www.acmicpc.net/status → http://localhost:9000/boj/status
+         */
+        private String redirectUrl;
+    }
+}
@@ -0,0 +1,159 @@
+package com.peekle.global.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 헤더가 있는 CSV 를 한 레코드씩 읽는 Iterator
+ * - 따옴표 안의 쉼표/줄바꿈과 "" 이스케이프를 지원한다
+ * - 컬럼명은 대소문자 구분 없이 조회하고, 빈 줄은 건너뛴다
+ */
+public class CsvRecordReader implements Iterator<CsvRecordReader.CsvRecord>, Closeable {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columnIndexes;
+    private long lineNumber;
+    private long recordStartLine;
+    private CsvRecord next;
+
+    public CsvRecordReader(Reader reader) throws IOException {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+        this.columnIndexes = readHeader();
+    }
+
+    public boolean isEmpty() {
+        return columnIndexes.isEmpty();
+    }
+
+    public boolean hasColumn(String column) {
+        return columnIndexes.containsKey(column.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                List<String> values = readRecord();
+                next = values == null ? null : new CsvRecord(recordStartLine, values, columnIndexes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public CsvRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CsvRecord current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Map<String, Integer> readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            return Map.of();
+        }
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1);
+            }
+            indexes.putIfAbsent(column.toLowerCase(Locale.ROOT), i);
+        }
+        return Collections.unmodifiableMap(indexes);
+    }
+
+    private List<String> readRecord() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        recordStartLine = lineNumber;
+
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char currentChar = line.charAt(i);
+                if (currentChar == '"') {
+                    if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                        continue;
+                    }
+                    inQuotes = !inQuotes;
+                    continue;
+                }
+
+                if (currentChar == ',' && !inQuotes) {
+                    columns.add(current.toString());
+                    current.setLength(0);
+                    continue;
+                }
+
+                current.append(currentChar);
+            }
+
+            if (!inQuotes) {
+                break;
+            }
+            // 따옴표 안의 줄바꿈: 다음 줄까지 같은 컬럼으로 이어 붙인다.
+            line = readLine();
+            if (line == null) {
+                break;
+            }
+            current.append('\n');
+        }
+
+        columns.add(current.toString());
+        return columns;
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    public record CsvRecord(long lineNumber, List<String> values, Map<String, Integer> columnIndexes) {
+
+        /**
+         * 컬럼 값 (앞뒤 공백 제거). 없는 컬럼이면 빈 문자열
+         */
+        public String get(String column) {
+            Integer index = columnIndexes.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) {
+                return "";
+            }
+            return values.get(index).trim();
+        }
+    }
+}
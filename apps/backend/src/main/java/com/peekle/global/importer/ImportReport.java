@@ -0,0 +1,29 @@
+package com.peekle.global.importer;
+
+import java.util.List;
+
+/**
+ * import 한 건의 처리 결과
+ * - acceptedRows: 검증을 통과한 행, writtenRows: 실제로 저장된 행 (중복/한도 초과로 건너뛴 행은 제외)
+ * - rejections 는 앞쪽 일부만 담는다 (전체 개수는 rejectedRows)
+ */
+public record ImportReport(
+        String name,
+        long rowsRead,
+        long acceptedRows,
+        long rejectedRows,
+        long writtenRows,
+        int chunks,
+        long elapsedMillis,
+        List<Rejection> rejections) {
+
+    public double rowsPerSecond() {
+        if (elapsedMillis <= 0) {
+            return rowsRead;
+        }
+        return rowsRead * 1000.0 / elapsedMillis;
+    }
+
+    public record Rejection(long rowNumber, String reason) {
+    }
+}
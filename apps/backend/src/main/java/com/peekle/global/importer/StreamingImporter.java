@@ -0,0 +1,182 @@
+package com.peekle.global.importer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * 대량 import 공용 파이프라인
+ * - 원본은 Iterator 로 한 행씩 읽고 chunkSize 단위로 끊어 검증 → 저장을 반복한다 (전체를 메모리에 올리지 않음)
+ * - 청크 안의 행 검증은 병렬로, 저장은 청크 순서대로 호출 스레드에서 수행한다 (트랜잭션 유지)
+ * - 검증에서 던진 예외는 거절 행으로 기록하거나, failFast 면 첫 번째 거절 예외를 그대로 전파한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingImporter {
+
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 64;
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private static final String METRIC_ROWS = "import.rows";
+    private static final String METRIC_DURATION = "import.duration";
+
+    private final MeterRegistry meterRegistry;
+
+    public <S, T> ImportReport run(
+            String name,
+            Iterator<S> source,
+            RowValidator<S, T> validator,
+            ChunkWriter<T> writer,
+            ImportOptions options) {
+        long startedAt = System.nanoTime();
+        long rowsRead = 0;
+        long acceptedRows = 0;
+        long rejectedRows = 0;
+        long writtenRows = 0;
+        int chunks = 0;
+        List<ImportReport.Rejection> rejections = new ArrayList<>();
+
+        while (!options.stopWhen().getAsBoolean()) {
+            List<S> chunk = nextChunk(source, options.chunkSize());
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            long firstRowNumber = rowsRead + 1;
+            rowsRead += chunk.size();
+
+            List<T> accepted = new ArrayList<>(chunk.size());
+            for (Validated<T> result : validate(chunk, firstRowNumber, validator)) {
+                if (result.error() == null) {
+                    accepted.add(result.value());
+                    continue;
+                }
+                if (options.failFast()) {
+                    throw result.error();
+                }
+                rejectedRows++;
+                if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                    rejections.add(new ImportReport.Rejection(result.rowNumber(), result.error().getMessage()));
+                }
+            }
+
+            acceptedRows += accepted.size();
+            if (!accepted.isEmpty()) {
+                writtenRows += writer.write(accepted);
+            }
+            chunks++;
+            log.debug("[Import:{}] chunk {} done (read={}, accepted={}, rejected={}, written={})",
+                    name, chunks, rowsRead, acceptedRows, rejectedRows, writtenRows);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        ImportReport report = new ImportReport(
+                name,
+                rowsRead,
+                acceptedRows,
+                rejectedRows,
+                writtenRows,
+                chunks,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                List.copyOf(rejections));
+        record(report, elapsedNanos);
+        return report;
+    }
+
+    private <S> List<S> nextChunk(Iterator<S> source, int chunkSize) {
+        List<S> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize && source.hasNext()) {
+            chunk.add(source.next());
+        }
+        return chunk;
+    }
+
+    private <S, T> List<Validated<T>> validate(List<S> chunk, long firstRowNumber, RowValidator<S, T> validator) {
+        IntStream indexes = IntStream.range(0, chunk.size());
+        if (chunk.size() >= PARALLEL_VALIDATION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        // 병렬이어도 toList 는 원래 순서를 유지하므로 저장 순서와 failFast 대상 행이 결정적이다.
+        return indexes
+                .mapToObj(i -> validateRow(chunk.get(i), firstRowNumber + i, validator))
+                .toList();
+    }
+
+    private <S, T> Validated<T> validateRow(S row, long rowNumber, RowValidator<S, T> validator) {
+        try {
+            T value = validator.validate(rowNumber, row);
+            if (value == null) {
+                return new Validated<>(rowNumber, null, new IllegalArgumentException("empty row"));
+            }
+            return new Validated<>(rowNumber, value, null);
+        } catch (RuntimeException e) {
+            return new Validated<>(rowNumber, null, e);
+        }
+    }
+
+    private void record(ImportReport report, long elapsedNanos) {
+        meterRegistry.counter(METRIC_ROWS, "job", report.name(), "result", "accepted").increment(report.acceptedRows());
+        meterRegistry.counter(METRIC_ROWS, "job", report.name(), "result", "rejected").increment(report.rejectedRows());
+        meterRegistry.timer(METRIC_DURATION, "job", report.name()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        log.info("[Import:{}] read={} accepted={} rejected={} written={} chunks={} elapsed={}ms ({} rows/s)",
+                report.name(), report.rowsRead(), report.acceptedRows(), report.rejectedRows(),
+                report.writtenRows(), report.chunks(), report.elapsedMillis(),
+                String.format("%.1f", report.rowsPerSecond()));
+        if (!report.rejections().isEmpty()) {
+            log.warn("[Import:{}] rejected rows (first {}): {}",
+                    report.name(), report.rejections().size(), report.rejections());
+        }
+    }
+
+    /**
+     * 원본 한 행을 저장할 값으로 변환한다. 예외를 던지면 거절 행이 된다.
+     * 청크 안에서 병렬로 호출되므로 공유 상태를 바꾸면 안 된다.
+     */
+    @FunctionalInterface
+    public interface RowValidator<S, T> {
+        T validate(long rowNumber, S row);
+    }
+
+    /**
+     * 검증을 통과한 한 청크를 저장한다.
+     * @return 실제로 저장한 행 수
+     */
+    @FunctionalInterface
+    public interface ChunkWriter<T> {
+        int write(List<T> rows);
+    }
+
+    public record ImportOptions(int chunkSize, boolean failFast, BooleanSupplier stopWhen) {
+
+        public ImportOptions {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be positive");
+            }
+        }
+
+        public static ImportOptions chunked(int chunkSize) {
+            return new ImportOptions(chunkSize, false, () -> false);
+        }
+
+        public ImportOptions failingFast() {
+            return new ImportOptions(chunkSize, true, stopWhen);
+        }
+
+        public ImportOptions stoppingWhen(BooleanSupplier condition) {
+            return new ImportOptions(chunkSize, failFast, condition);
+        }
+    }
+
+    private record Validated<T>(long rowNumber, T value, RuntimeException error) {
+    }
+}
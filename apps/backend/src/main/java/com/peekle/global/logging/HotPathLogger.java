@@ -0,0 +1,181 @@
+package com.peekle.global.logging;
+
+import com.peekle.global.socket.SocketResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pub/Sub, 소켓 연결처럼 메시지마다 호출되는 경로 전용 로거
+ * - 처리량은 Micrometer 카운터로 집계하고, 로그는 토픽별로 sample-interval 당 한 줄만 남긴다
+ * - 메시지 본문 대신 타입/크기 요약만 기록해 큰 페이로드의 toString 비용을 없앤다
+ * - 토픽의 숫자 구간은 {id} 로 치환해 태그/샘플 키의 개수를 토픽 종류 수로 제한한다
+ * - 본문까지 보려면 com.peekle.hotpath 로거를 DEBUG 로 올린다 (샘플링된 줄에만 적용)
+ */
+@Component
+public class HotPathLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("com.peekle.hotpath");
+
+    private static final String METRIC_MESSAGE_COUNT = "socket.message.count";
+    private static final String METRIC_MESSAGE_BYTES = "socket.message.bytes";
+    private static final String METRIC_SESSION_EVENT = "socket.session.event";
+
+    private final MeterRegistry meterRegistry;
+    private final long sampleIntervalMillis;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> byteSummaries = new ConcurrentHashMap<>();
+    private final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+
+    public HotPathLogger(MeterRegistry meterRegistry,
+            @Value("${logging.hot-path.sample-interval-ms:10000}") long sampleIntervalMillis) {
+        this.meterRegistry = meterRegistry;
+        this.sampleIntervalMillis = sampleIntervalMillis;
+    }
+
+    /**
+     * Redis 채널로 발행한 메시지
+     */
+    public void published(String topic, Object payload) {
+        String topicKey = normalizeTopic(topic);
+        counter("publish", topicKey).increment();
+        sample("publish|" + topicKey, topic, -1, payload);
+    }
+
+    /**
+     * Redis 에서 수신해 STOMP 로 전달한 메시지
+     */
+    public void forwarded(String topic, int bytes, Object payload) {
+        String topicKey = normalizeTopic(topic);
+        counter("forward", topicKey).increment();
+        byteSummaries.computeIfAbsent(topicKey, key -> DistributionSummary.builder(METRIC_MESSAGE_BYTES)
+                .tag("topic", key)
+                .baseUnit("bytes")
+                .register(meterRegistry))
+                .record(bytes);
+        sample("forward|" + topicKey, topic, bytes, payload);
+    }
+
+    /**
+     * 소켓 연결/해제 등 세션 단위 이벤트 (scope 예: global, study, stomp)
+     */
+    public void sessionEvent(String scope, String event, Object sessionId, Object userId) {
+        counters.computeIfAbsent("session|" + scope + "|" + event, key -> meterRegistry.counter(
+                METRIC_SESSION_EVENT, "scope", scope, "event", event)).increment();
+
+        long suppressed = acquire("session|" + scope + "|" + event);
+        if (suppressed >= 0) {
+            log.info("[{}] {} session={} user={} (+{} suppressed)", scope, event, sessionId, userId, suppressed);
+        }
+    }
+
+    private Counter counter(String direction, String topicKey) {
+        return counters.computeIfAbsent(direction + "|" + topicKey, key -> meterRegistry.counter(
+                METRIC_MESSAGE_COUNT, "direction", direction, "topic", topicKey));
+    }
+
+    private void sample(String samplerKey, String topic, int bytes, Object payload) {
+        long suppressed = acquire(samplerKey);
+        if (suppressed < 0) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("[{}] topic={} bytes={} payload={} (+{} suppressed)",
+                    samplerKey, topic, bytes, payload, suppressed);
+        } else if (log.isInfoEnabled()) {
+            log.info("[{}] topic={} bytes={} payload={} (+{} suppressed)",
+                    samplerKey, topic, bytes, summarize(payload), suppressed);
+        }
+    }
+
+    /**
+     * @return 이번 호출이 샘플로 선택되면 직전 샘플 이후 생략된 건수, 아니면 -1
+     */
+    private long acquire(String samplerKey) {
+        return samplers.computeIfAbsent(samplerKey, key -> new Sampler()).tryAcquire(sampleIntervalMillis);
+    }
+
+    static String summarize(Object payload) {
+        if (payload instanceof SocketResponse<?> response) {
+            return "SocketResponse[type=" + response.getType() + ", data=" + shape(response.getData()) + "]";
+        }
+        return shape(payload);
+    }
+
+    private static String shape(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(len=" + text.length() + ")";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "(size=" + map.size() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[](len=" + bytes.length + ")";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+            return String.valueOf(value);
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    /**
+     * topic/studies/rooms/12/ide/7 -> topic/studies/rooms/{id}/ide/{id}
+     */
+    static String normalizeTopic(String topic) {
+        if (topic == null) {
+            return "unknown";
+        }
+        StringBuilder normalized = null;
+        int length = topic.length();
+        int i = 0;
+        while (i < length) {
+            char c = topic.charAt(i);
+            if (Character.isDigit(c)) {
+                if (normalized == null) {
+                    normalized = new StringBuilder(length).append(topic, 0, i);
+                }
+                while (i < length && Character.isDigit(topic.charAt(i))) {
+                    i++;
+                }
+                normalized.append("{id}");
+                continue;
+            }
+            if (normalized != null) {
+                normalized.append(c);
+            }
+            i++;
+        }
+        return normalized != null ? normalized.toString() : topic;
+    }
+
+    private static final class Sampler {
+        private final AtomicLong nextAllowedAt = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        long tryAcquire(long intervalMillis) {
+            long now = System.currentTimeMillis();
+            long allowedAt = nextAllowedAt.get();
+            if (now >= allowedAt && nextAllowedAt.compareAndSet(allowedAt, now + intervalMillis)) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.peekle.global.media.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * (방, 유저, 소켓 세션) 별 LiveKit 토큰 캐시
+ * - 같은 세션이 다시 받을 때(토큰 갱신, 재입장)는 만료 refresh-before-ms 전까지 같은 토큰을 돌려줘 재서명 비용을 없앤다
+ * - 세션(탭/기기)마다 identity 가 달라서, 다른 탭이 같은 identity 로 들어가 기존 연결을 끊는 일(DUPLICATE_IDENTITY)은 없다
+ * - 인스턴스 로컬 캐시라 다른 인스턴스에서 발급된 identity 는 LiveKitIdentityRegistry 로 찾는다
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessTokenCache {
+
+    private static final String METRIC_TOKEN_ISSUE = "media.token.issue";
+
+    private final MediaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, IssuedToken> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * 재사용할 수 있는 토큰이 있으면 그대로, 없거나 곧 만료되면 issuer 로 새로 서명해 캐시한다
+     * - issuer(서명 + Redis 기록)는 맵 밖에서 호출해 느린 Redis 가 같은 bin 의 다른 요청을 막지 않게 한다
+     * - 같은 세션이 동시에 발급하면 먼저 넣은 토큰을 쓰고, 나중 것은 버린다 (버려진 identity 는 강퇴 시 404 로 끝난다)
+     */
+    public String getOrIssue(String roomName, Long userId, String sessionId, String nickname,
+            Supplier<IssuedToken> issuer) {
+        long now = System.currentTimeMillis();
+        long refreshBeforeMs = properties.getToken().getRefreshBeforeMs();
+        String key = key(roomName, userId, sessionId);
+        IssuedToken cached = tokens.get(key);
+        if (cached != null && cached.isReusable(nickname, now, refreshBeforeMs)) {
+            meterRegistry.counter(METRIC_TOKEN_ISSUE, "cache", "hit").increment();
+            return cached.jwt();
+        }
+
+        IssuedToken fresh = issuer.get();
+        IssuedToken token = tokens.compute(key, (k, current) ->
+                current != null && current != cached && current.isReusable(nickname, now, refreshBeforeMs)
+                        ? current
+                        : fresh);
+        meterRegistry.counter(METRIC_TOKEN_ISSUE, "cache", "miss").increment();
+        if (tokens.size() > properties.getToken().getMaxEntries()) {
+            purge(now);
+        }
+        return token.jwt();
+    }
+
+    /**
+     * (방, 유저)의 모든 세션 항목을 캐시에서 빼고 그 identity 를 돌려준다 (강퇴 대상 확인용)
+     */
+    public List<String> invalidate(String roomName, Long userId) {
+        String prefix = roomName + "|" + userId + "|";
+        List<String> identities = new ArrayList<>();
+        tokens.entrySet().removeIf(entry -> {
+            if (!entry.getKey().startsWith(prefix)) {
+                return false;
+            }
+            identities.add(entry.getValue().identity());
+            return true;
+        });
+        return identities;
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    /**
+     * 만료된 항목을 지우고, 그래도 넘치면 전부 비운다 (발급된 토큰은 그대로 유효하고 재사용만 끊긴다)
+     */
+    private void purge(long now) {
+        tokens.values().removeIf(token -> token.expiresAt() <= now);
+        if (tokens.size() > properties.getToken().getMaxEntries()) {
+            tokens.clear();
+        }
+    }
+
+    private String key(String roomName, Long userId, String sessionId) {
+        return roomName + "|" + userId + "|" + sessionId;
+    }
+
+    public record IssuedToken(String identity, String nickname, String jwt, long expiresAt) {
+
+        boolean isReusable(String nickname, long now, long refreshBeforeMs) {
+            return Objects.equals(this.nickname, nickname) && now < expiresAt - refreshBeforeMs;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.peekle.global.media.service;
+
+import com.peekle.global.http.OutboundDestination;
+import com.peekle.global.http.OutboundHttpClients;
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import retrofit2.Response;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * LiveKit 참가자 강퇴 큐
+ * - 요청한 쪽은 기다리지 않고, flush-interval-ms 마다 쌓인 요청을 방 단위로 모아 보낸다
+ * - 같은 방/참가자 요청이 여러 번 들어와도 한 번만 보낸다
+ * - 방끼리는 가상 스레드로 동시에, 방 안에서는 차례로 보낸다 (전체 동시 호출 수는 livekit bulkhead 가 제한)
+ * - LiveKit 에 여러 명을 한 번에 내보내는 API 가 없어 호출은 참가자마다 한 번이다
+ * - 실패하면 retry-backoff-ms 부터 두 배씩 늘려 max-attempts 까지 다시 시도하고, 404(이미 나감)는 성공으로 본다
+ * - 인스턴스 메모리 큐라 종료 시 남은 요청은 한 번만 보내 보고 버린다 (best-effort)
+ */
+@Slf4j
+@Component
+public class LiveKitEvictionQueue {
+
+    private static final String METRIC_EVICTION = "media.eviction";
+    private static final String METRIC_PENDING = "media.eviction.pending";
+    private static final String METRIC_FLUSH = "media.eviction.flush";
+
+    private final RoomServiceClient roomServiceClient;
+    private final OutboundHttpClients outboundHttpClients;
+    private final MediaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 방 이름 → (identity → 대기 중인 요청). 안쪽 맵은 compute 안에서만 건드린다
+    private final Map<String, Map<String, PendingEviction>> pending = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public LiveKitEvictionQueue(RoomServiceClient roomServiceClient, OutboundHttpClients outboundHttpClients,
+            MediaProperties properties, MeterRegistry meterRegistry) {
+        this.roomServiceClient = roomServiceClient;
+        this.outboundHttpClients = outboundHttpClients;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_PENDING, this, LiveKitEvictionQueue::pendingCount).register(meterRegistry);
+    }
+
+    public void enqueue(String roomName, String identity) {
+        pending.compute(roomName, (room, identities) -> {
+            Map<String, PendingEviction> target = identities != null ? identities : new HashMap<>();
+            target.putIfAbsent(identity, PendingEviction.FIRST);
+            return target;
+        });
+    }
+
+    public int pendingCount() {
+        int count = 0;
+        for (String roomName : pending.keySet()) {
+            Map<String, PendingEviction> identities = pending.get(roomName);
+            if (identities != null) {
+                count += identities.size();
+            }
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${livekit.eviction.flush-interval-ms:200}")
+    public void flush() {
+        flush(System.currentTimeMillis());
+    }
+
+    /**
+     * now 시점에 보낼 수 있는 요청을 모두 꺼내 보내고, 끝날 때까지 기다린다
+     */
+    public void flush(long now) {
+        Map<String, List<Map.Entry<String, PendingEviction>>> batch = claimDue(now);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Callable<Void>> tasks = new ArrayList<>(batch.size());
+        batch.forEach((roomName, evictions) -> tasks.add(() -> {
+            evictRoom(roomName, evictions);
+            return null;
+        }));
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sample.stop(meterRegistry.timer(METRIC_FLUSH));
+        }
+    }
+
+    private Map<String, List<Map.Entry<String, PendingEviction>>> claimDue(long now) {
+        Map<String, List<Map.Entry<String, PendingEviction>>> batch = new HashMap<>();
+        for (String roomName : pending.keySet()) {
+            pending.computeIfPresent(roomName, (room, identities) -> {
+                Iterator<Map.Entry<String, PendingEviction>> iterator = identities.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<String, PendingEviction> entry = iterator.next();
+                    if (entry.getValue().notBefore() <= now) {
+                        batch.computeIfAbsent(room, key -> new ArrayList<>()).add(Map.entry(entry.getKey(), entry.getValue()));
+                        iterator.remove();
+                    }
+                }
+                return identities.isEmpty() ? null : identities;
+            });
+        }
+        return batch;
+    }
+
+    private void evictRoom(String roomName, List<Map.Entry<String, PendingEviction>> evictions) {
+        for (Map.Entry<String, PendingEviction> eviction : evictions) {
+            String identity = eviction.getKey();
+            PendingEviction attempt = eviction.getValue().next();
+            try {
+                // Retrofit Call 은 한 번만 실행할 수 있어 재시도마다 새로 만든다
+                Response<Void> response = outboundHttpClients.execute(OutboundDestination.LIVEKIT,
+                        () -> roomServiceClient.removeParticipant(roomName, identity).execute());
+                if (response.isSuccessful()) {
+                    record("removed");
+                    log.info("Evicted {} from room {}", identity, roomName);
+                } else if (response.code() == 404) {
+                    // 이미 퇴장/연결 종료된 참가자일 수 있으므로 noisy log를 피한다.
+                    record("not_found");
+                    log.debug("Skip evict for {} in room {}: participant not found", identity, roomName);
+                } else {
+                    retryOrDrop(roomName, identity, attempt, "status=" + response.code() + " message=" + response.message());
+                }
+            } catch (Exception e) {
+                retryOrDrop(roomName, identity, attempt, e.getMessage());
+                if (isConnectionRefused(e)) {
+                    // LiveKit 일시 불가용 시 퇴장 플로우 자체는 계속 진행되도록 debug로만 남긴다.
+                    log.debug("Evict for {} in room {} deferred: livekit unreachable ({})",
+                            identity, roomName, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void retryOrDrop(String roomName, String identity, PendingEviction attempt, String reason) {
+        MediaProperties.Eviction policy = properties.getEviction();
+        if (attempt.attempts() >= policy.getMaxAttempts()) {
+            record("dropped");
+            log.warn("Failed to evict {} from room {} after {} attempts: {}",
+                    identity, roomName, attempt.attempts(), reason);
+            return;
+        }
+        long backoffMs = policy.getRetryBackoffMs() << Math.min(attempt.attempts() - 1, 10);
+        PendingEviction retry = new PendingEviction(attempt.attempts(), System.currentTimeMillis() + backoffMs);
+        pending.compute(roomName, (room, identities) -> {
+            Map<String, PendingEviction> target = identities != null ? identities : new HashMap<>();
+            // 그 사이 새 요청이 들어왔으면 그쪽(즉시 실행)을 남긴다
+            target.putIfAbsent(identity, retry);
+            return target;
+        });
+        record("retried");
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(METRIC_EVICTION, "result", result).increment();
+    }
+
+    private boolean isConnectionRefused(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof ConnectException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush(Long.MAX_VALUE);
+        executor.shutdown();
+    }
+
+    /**
+     * attempts = 지금까지 보낸 횟수, notBefore = 다음 시도 가능 시각 (epoch ms)
+     */
+    private record PendingEviction(int attempts, long notBefore) {
+
+        private static final PendingEviction FIRST = new PendingEviction(0, 0L);
+
+        private PendingEviction next() {
+            return new PendingEviction(attempts + 1, notBefore);
+        }
+    }
+}
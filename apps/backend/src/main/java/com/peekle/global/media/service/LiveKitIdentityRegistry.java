@@ -0,0 +1,75 @@
+package com.peekle.global.media.service;
+
+import com.peekle.global.redis.RedisKeyConst;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * (방, 유저) 별로 발급한 LiveKit identity 목록 (Redis Set)
+ * - 토큰은 세션(탭)마다 다른 identity(userId_uuid)로 발급되므로, 강퇴는 여기 모인 identity 를 전부 내보낸다
+ * - 어느 인스턴스에서 발급했든 강퇴하는 인스턴스가 identity 를 찾을 수 있다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveKitIdentityRegistry {
+
+    // KEYS[1] = identity Set, ARGV[1] = identity, ARGV[2] = TTL(ms)
+    private static final DefaultRedisScript<Long> REGISTER_SCRIPT = buildScript(
+            "redis.call('SADD', KEYS[1], ARGV[1])\n"
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+                    + "return 1\n",
+            Long.class);
+
+    // KEYS[1] = identity Set
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = buildScript(
+            "local identities = redis.call('SMEMBERS', KEYS[1])\n"
+                    + "redis.call('DEL', KEYS[1])\n"
+                    + "return identities\n",
+            List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static <T> DefaultRedisScript<T> buildScript(String scriptText, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(resultType);
+        return script;
+    }
+
+    /**
+     * 새로 발급한 identity 를 기록한다. Set 의 TTL 은 가장 최근 토큰의 유효 시간으로 맞춘다.
+     * 기록에 실패해도 토큰 발급은 막지 않는다 (같은 인스턴스의 캐시로는 여전히 강퇴할 수 있다)
+     */
+    public void register(String roomName, Long userId, String identity, long ttlMs) {
+        try {
+            stringRedisTemplate.execute(REGISTER_SCRIPT, List.of(key(roomName, userId)), identity,
+                    String.valueOf(ttlMs));
+        } catch (RuntimeException e) {
+            log.warn("[LiveKit] identity 기록 실패 room={}, userId={}: {}", roomName, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 기록된 identity 를 모두 꺼내고 지운다 (강퇴용)
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> drain(String roomName, Long userId) {
+        try {
+            List<String> identities = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(key(roomName, userId)));
+            return identities == null ? List.of() : identities;
+        } catch (RuntimeException e) {
+            log.warn("[LiveKit] identity 조회 실패 room={}, userId={}: {}", roomName, userId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private String key(String roomName, Long userId) {
+        return String.format(RedisKeyConst.LIVEKIT_IDENTITIES, roomName, userId);
+    }
+}
@@ -0,0 +1,60 @@
+package com.peekle.global.media.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * LiveKit 토큰 캐시 / 강퇴 큐 Properties (접속 정보 url, api-key 는 LiveKitConfig 에서 읽는다)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "livekit")
+public class MediaProperties {
+
+    private Token token = new Token();
+
+    private Eviction eviction = new Eviction();
+
+    @Getter
+    @Setter
+    public static class Token {
+
+        /**
+         * 발급하는 토큰의 유효 시간 (ms)
+         */
+        private long ttlMs = 6 * 60 * 60 * 1000L;
+
+        /**
+         * 만료까지 이만큼 남으면 캐시된 토큰 대신 새로 서명한다 (ms)
+         */
+        private long refreshBeforeMs = 10 * 60 * 1000L;
+
+        /**
+         * 캐시 항목 수가 이를 넘으면 만료된 항목부터 정리한다
+         */
+        private int maxEntries = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Eviction {
+
+        /**
+         * 쌓인 강퇴 요청을 모아 보내는 주기 (ms)
+         */
+        private long flushIntervalMs = 200;
+
+        /**
+         * 첫 시도를 포함한 최대 시도 횟수, 넘으면 버린다
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * 재시도 간격 (ms), 시도마다 두 배씩 늘린다
+         */
+        private long retryBackoffMs = 1_000;
+    }
+}
@@ -1,24 +1,24 @@
 package com.peekle.global.media.service;
 
+import com.peekle.global.media.service.AccessTokenCache.IssuedToken;
 import io.livekit.server.AccessToken;
 import io.livekit.server.RoomJoin;
 import io.livekit.server.RoomName;
-import io.livekit.server.RoomServiceClient;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import retrofit2.Call;
-import retrofit2.Response;
 
-import java.net.ConnectException;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MediaService {
 
-    private final RoomServiceClient roomServiceClient;
+    private final AccessTokenCache accessTokenCache;
+    private final LiveKitIdentityRegistry identityRegistry;
+    private final LiveKitEvictionQueue evictionQueue;
+    private final MediaProperties properties;
 
     @Value("${livekit.api-key}")
     private String apiKey;
@@ -26,81 +26,58 @@ public class MediaService {
     @Value("${livekit.api-secret}")
     private String secret;
 
-    // LiveKit 접속을 위한 Access Token 생성
-    public String createAccessToken(Long studyId, Long userId, String nickname) {
-        String roomName = "study_" + studyId;
-        // DUPLICATE_IDENTITY 방지를 위해 UUID를 결합하여 고유 Identity 생성
-        String identity = userId + "_" + java.util.UUID.randomUUID().toString();
-        AccessToken token = new AccessToken(apiKey, secret);
-        token.setName(nickname); // 화면에 표시될 이름
-        token.setIdentity(identity); // 유저 고유 ID
-        token.setMetadata("{\"userId\": " + userId + "}");
-        // 권한 설정: 방 참여 가능, 방 이름 지정
-        token.addGrants(new RoomJoin(true), new RoomName(roomName));
-        // 토큰 발급 (JWT 문자열 반환)
-        return token.toJwt();
+    // LiveKit 접속을 위한 Access Token 생성 (같은 소켓 세션은 만료 직전까지 캐시된 토큰 재사용)
+    public String createAccessToken(Long studyId, Long userId, String nickname, String sessionId) {
+        return issueToken("study_" + studyId, userId, nickname, sessionId);
     }
 
     // 게임방 LiveKit 접속을 위한 Access Token 생성 (기본)
-    public String createGameAccessToken(Long gameId, Long userId, String nickname) {
-        return createGameAccessToken(gameId, userId, nickname, null);
+    public String createGameAccessToken(Long gameId, Long userId, String nickname, String sessionId) {
+        return createGameAccessToken(gameId, userId, nickname, null, sessionId);
     }
 
     // 게임방 LiveKit 접속을 위한 Access Token 생성 (Team Suffix 지원)
-    public String createGameAccessToken(Long gameId, Long userId, String nickname, String roomSuffix) {
+    public String createGameAccessToken(Long gameId, Long userId, String nickname, String roomSuffix,
+            String sessionId) {
         String roomName = "game_" + gameId;
         if (roomSuffix != null && !roomSuffix.isEmpty()) {
             roomName += "_" + roomSuffix;
         }
+        return issueToken(roomName, userId, nickname, sessionId);
+    }
 
+    // 특정 유저 강퇴 (강퇴 큐에 넣고 바로 반환, LiveKit 호출은 큐가 모아서 보낸다)
+    public void evictUser(Long studyId, Long userId) {
+        String roomName = "study_" + studyId;
+        // 참가자 identity 는 세션마다 발급한 토큰의 것(userId_uuid)이다. 어느 인스턴스에서 발급했든 모두 내보내고,
+        // 기록이 없으면 userId 로 시도한다 (큐가 같은 identity 는 하나로 합친다)
+        Set<String> identities = new LinkedHashSet<>(identityRegistry.drain(roomName, userId));
+        identities.addAll(accessTokenCache.invalidate(roomName, userId));
+        if (identities.isEmpty()) {
+            identities.add(String.valueOf(userId));
+        }
+        identities.forEach(identity -> evictionQueue.enqueue(roomName, identity));
+    }
+
+    private String issueToken(String roomName, Long userId, String nickname, String sessionId) {
+        return accessTokenCache.getOrIssue(roomName, userId, sessionId, nickname,
+                () -> signToken(roomName, userId, nickname));
+    }
+
+    private IssuedToken signToken(String roomName, Long userId, String nickname) {
         // DUPLICATE_IDENTITY 방지를 위해 UUID를 결합하여 고유 Identity 생성
         String identity = userId + "_" + java.util.UUID.randomUUID().toString();
+        long ttlMs = properties.getToken().getTtlMs();
         AccessToken token = new AccessToken(apiKey, secret);
+        token.setTtl(ttlMs);
         token.setName(nickname); // 화면에 표시될 이름
         token.setIdentity(identity); // 유저 고유 ID
         token.setMetadata("{\"userId\": " + userId + "}");
         // 권한 설정: 방 참여 가능, 방 이름 지정
         token.addGrants(new RoomJoin(true), new RoomName(roomName));
         // 토큰 발급 (JWT 문자열 반환)
-        return token.toJwt();
+        String jwt = token.toJwt();
+        identityRegistry.register(roomName, userId, identity, ttlMs);
+        return new IssuedToken(identity, nickname, jwt, System.currentTimeMillis() + ttlMs);
     }
-
-    // 특정 유저 강퇴 (LiveKit 서버 API 호출)
-    public void evictUser(Long studyId, Long userId) {
-        String roomName = "study_" + studyId;
-        String identity = String.valueOf(userId);
-        try {
-            Call<Void> call = roomServiceClient.removeParticipant(roomName, identity);
-            Response<Void> response = call.execute();
-            if (response.isSuccessful()) {
-                log.info("Evicted user {} from room {}", userId, roomName);
-            } else if (response.code() == 404) {
-                // 이미 퇴장/연결 종료된 참가자일 수 있으므로 noisy log를 피한다.
-                log.debug("Skip evict for user {} in room {}: participant not found", userId, roomName);
-            } else {
-                log.warn("Failed to evict user {} from room {}: status={} message={}",
-                        userId, roomName, response.code(), response.message());
-            }
-        } catch (Exception e) {
-            if (isConnectionRefused(e)) {
-                // LiveKit 일시 불가용 시 퇴장 플로우 자체는 계속 진행되도록 debug로만 남긴다.
-                log.debug("Skip evict for user {} in room {}: livekit unreachable ({})",
-                        userId, roomName, e.getMessage());
-                return;
-            }
-            log.warn("Error evicting user {} from room {}: {}", userId, roomName, e.getMessage());
-        }
-    }
-
-    private boolean isConnectionRefused(Throwable throwable) {
-        Throwable current = throwable;
-        while (current != null) {
-            if (current instanceof ConnectException) {
-                return true;
-            }
-            current = current.getCause();
-        }
-        return false;
-    }
-
 }
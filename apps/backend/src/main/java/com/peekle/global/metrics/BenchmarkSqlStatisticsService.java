@@ -6,11 +6,15 @@ import org.hibernate.stat.Statistics;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 @Service
 @Profile("benchmark")
 public class BenchmarkSqlStatisticsService {
 
     private final Statistics statistics;
+    // Hibernate 를 거치지 않는 JdbcTemplate 문장 수
+    private final AtomicLong jdbcStatementCount = new AtomicLong();
 
     public BenchmarkSqlStatisticsService(EntityManagerFactory entityManagerFactory) {
         SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
@@ -19,6 +23,10 @@ public class BenchmarkSqlStatisticsService {
     }
 
     public long getPrepareStatementCount() {
-        return statistics.getPrepareStatementCount();
+        return statistics.getPrepareStatementCount() + jdbcStatementCount.get();
+    }
+
+    public void recordJdbcStatements(long count) {
+        jdbcStatementCount.addAndGet(count);
     }
 }
@@ -0,0 +1,42 @@
+package com.peekle.global.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hikari DataSource 를 ConnectionAdmissionDataSource 로 감싼다.
+ * (BeanPostProcessor 는 일찍 만들어지므로 의존 빈은 ObjectProvider 로 늦게 꺼낸다)
+ */
+@Slf4j
+@Component
+public class ConnectionAdmissionPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConnectionAdmissionProperties> properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionAdmissionPostProcessor(ObjectProvider<ConnectionAdmissionProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource hikariDataSource)) {
+            return bean;
+        }
+        ConnectionAdmissionProperties admission = properties.getObject();
+        if (!admission.isEnabled()) {
+            return bean;
+        }
+        int maxConnections = hikariDataSource.getMaximumPoolSize();
+        log.info("[DB] Connection admission enabled. permits={}, acquireTimeoutMs={}",
+                maxConnections, admission.getAcquireTimeoutMs());
+        return new ConnectionAdmissionDataSource(hikariDataSource, maxConnections,
+                admission.getAcquireTimeoutMs(), meterRegistry.getObject());
+    }
+}
@@ -0,0 +1,26 @@
+package com.peekle.global.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 획득 대기 제한 Properties
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "persistence.admission")
+public class ConnectionAdmissionProperties {
+
+    /**
+     * 풀 크기만큼만 커넥션 요청을 통과시킬지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 통과 대기 최대 시간 (ms), 넘으면 SQLTransientConnectionException
+     */
+    private long acquireTimeoutMs = 3000;
+}
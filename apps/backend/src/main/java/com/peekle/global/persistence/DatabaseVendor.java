@@ -0,0 +1,31 @@
+package com.peekle.global.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 DataSource 의 DB 종류 (네이티브 upsert 구문 선택용)
+ * - 운영/개발은 PostgreSQL 이라 INSERT ... ON CONFLICT 를 쓰고,
+ *   테스트(H2)와 benchmark 프로필(MySQL)은 조회 후 UPDATE/INSERT 로 대체한다
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseVendor {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public boolean isPostgres() {
+        Boolean resolved = postgres;
+        if (resolved == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            resolved = productName != null && productName.toLowerCase().contains("postgresql");
+            postgres = resolved;
+        }
+        return resolved;
+    }
+}
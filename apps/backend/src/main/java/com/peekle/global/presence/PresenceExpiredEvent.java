@@ -0,0 +1,8 @@
+package com.peekle.global.presence;
+
+/**
+ * 하트비트가 끊긴 세션을 스위퍼가 만료시켰을 때 발행된다. (클러스터에서 한 인스턴스만 발행)
+ * 같은 유저의 다른 세션이 아직 살아 있을 수 있으므로 리스너는 isOnline 으로 다시 확인한다.
+ */
+public record PresenceExpiredEvent(PresenceScope scope, Long roomId, Long userId, String sessionId) {
+}
@@ -0,0 +1,28 @@
+package com.peekle.global.presence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트에서 들어오는 모든 프레임(STOMP 하트비트 포함)을 세션 활동으로 기록한다.
+ * 메모리에만 표시하고 Redis 반영은 PresenceService 가 주기적으로 모아서 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PresenceHeartbeatInterceptor implements ChannelInterceptor {
+
+    private final PresenceService presenceService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            presenceService.heartbeat(sessionId);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.peekle.global.presence;
+
+import com.peekle.global.redis.RedisKeyConst;
+
+/**
+ * 접속 상태를 관리하는 방 종류
+ */
+public enum PresenceScope {
+    STUDY(RedisKeyConst.STUDY_PRESENCE),
+    GAME(RedisKeyConst.GAME_ROOM_PRESENCE);
+
+    private final String keyFormat;
+
+    PresenceScope(String keyFormat) {
+        this.keyFormat = keyFormat;
+    }
+
+    public String key(Long roomId) {
+        return String.format(keyFormat, roomId);
+    }
+}
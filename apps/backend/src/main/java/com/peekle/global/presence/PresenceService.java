@@ -0,0 +1,311 @@
+package com.peekle.global.presence;
+
+import com.peekle.global.redis.RedisKeyConst;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 단위 접속 상태 (Redis ZSET)
+ * - 방 키: member = "{userId}|{sessionId}", score = 마지막 활동 시각(epoch ms)
+ * - 세션 인덱스(presence:sessions): member = "{scope}|{roomId}|{userId}|{sessionId}", 스위퍼가 만료 대상을 찾는 용도
+ * - 하트비트는 메모리에 표시만 하고, 주기적으로 이 인스턴스의 활성 세션을 한 번의 파이프라인으로 갱신한다
+ * - 스위퍼는 TTL 이 지난 세션을 Lua 로 꺼내면서 지우므로 여러 인스턴스 중 한 곳에서만 만료 이벤트를 발행한다
+ * - 온라인 조회는 TTL 안에 활동한 세션만 보므로, 노드가 죽어 정리가 안 된 세션도 목록에서 빠진다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceService {
+
+    private static final String MEMBER_DELIMITER = "|";
+    // 서버 하트비트(10초)를 두 번 넘게 놓치면 끊긴 것으로 본다.
+    private static final Duration SESSION_TTL = Duration.ofSeconds(30);
+    private static final int SWEEP_BATCH_SIZE = 200;
+
+    private static final String METRIC_EXPIRED = "presence.expired";
+    private static final String METRIC_REFRESHED = "presence.refreshed";
+    private static final String METRIC_LOCAL_SESSIONS = "presence.local.sessions";
+
+    // KEYS[1] = 세션 인덱스 ZSET, ARGV[1] = 만료 기준 시각(ms), ARGV[2] = 최대 개수
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = buildScript(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))\n"
+                    + "if #expired > 0 then\n"
+                    + "  redis.call('ZREM', KEYS[1], unpack(expired))\n"
+                    + "end\n"
+                    + "return expired\n");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    // 이 인스턴스에 붙은 세션 → 참여 중인 방
+    private final Map<String, Set<Membership>> localSessions = new ConcurrentHashMap<>();
+    // 마지막 갱신 이후 프레임이 들어온 세션
+    private final Set<String> activeSessions = ConcurrentHashMap.newKeySet();
+
+    private static DefaultRedisScript<List> buildScript(String scriptText) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(List.class);
+        return script;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge(METRIC_LOCAL_SESSIONS, localSessions, Map::size);
+    }
+
+    /**
+     * 세션을 방에 등록한다. 같은 세션으로 다시 호출하면 활동 시각만 갱신된다.
+     */
+    public void join(PresenceScope scope, Long roomId, Long userId, String sessionId) {
+        Membership membership = new Membership(scope, roomId, userId, sessionId);
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zAdd(scope.key(roomId), now, membership.roomMember());
+            stringConnection.zAdd(RedisKeyConst.PRESENCE_SESSIONS, now, membership.indexMember());
+            return null;
+        });
+        localSessions.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet()).add(membership);
+    }
+
+    /**
+     * 세션 하나를 방에서 뺀다. (연결 종료)
+     */
+    public void leave(PresenceScope scope, Long roomId, Long userId, String sessionId) {
+        Membership membership = new Membership(scope, roomId, userId, sessionId);
+        remove(List.of(membership));
+    }
+
+    /**
+     * 유저의 모든 세션을 방에서 뺀다. (퇴장, 탈퇴, 강퇴, 방 이동)
+     */
+    public void leaveAll(PresenceScope scope, Long roomId, Long userId) {
+        String prefix = userId + MEMBER_DELIMITER;
+        List<Membership> memberships = new ArrayList<>();
+        for (String member : roomMembers(scope, roomId)) {
+            if (member.startsWith(prefix)) {
+                memberships.add(new Membership(scope, roomId, userId, member.substring(prefix.length())));
+            }
+        }
+        remove(memberships);
+    }
+
+    /**
+     * 방의 접속 상태를 모두 지운다. (방 삭제)
+     */
+    public void clear(PresenceScope scope, Long roomId) {
+        List<Membership> memberships = new ArrayList<>();
+        for (String member : roomMembers(scope, roomId)) {
+            Membership membership = Membership.fromRoomMember(scope, roomId, member);
+            if (membership != null) {
+                memberships.add(membership);
+            }
+        }
+        remove(memberships);
+        stringRedisTemplate.delete(scope.key(roomId));
+    }
+
+    /**
+     * TTL 안에 활동한 세션이 있는 유저 ID (여러 탭으로 접속해도 한 번만)
+     */
+    public Set<Long> onlineUserIds(PresenceScope scope, Long roomId) {
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .rangeByScore(scope.key(roomId), freshSince(), Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (String member : members) {
+            Membership membership = Membership.fromRoomMember(scope, roomId, member);
+            if (membership != null) {
+                userIds.add(membership.userId());
+            }
+        }
+        return userIds;
+    }
+
+    public boolean isOnline(PresenceScope scope, Long roomId, Long userId) {
+        return onlineUserIds(scope, roomId).contains(userId);
+    }
+
+    public int onlineCount(PresenceScope scope, Long roomId) {
+        return onlineUserIds(scope, roomId).size();
+    }
+
+    /**
+     * 세션에서 프레임이 들어왔음을 표시한다. (Redis 호출 없음)
+     */
+    public void heartbeat(String sessionId) {
+        if (localSessions.containsKey(sessionId)) {
+            activeSessions.add(sessionId);
+        }
+    }
+
+    /**
+     * 활동이 있었던 세션의 점수를 한 번의 파이프라인으로 갱신한다.
+     * XX 로만 갱신하므로 이미 퇴장/만료된 세션이 되살아나지 않는다.
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void flushHeartbeats() {
+        List<Membership> refreshed = new ArrayList<>();
+        Iterator<String> iterator = activeSessions.iterator();
+        while (iterator.hasNext()) {
+            String sessionId = iterator.next();
+            iterator.remove();
+            Set<Membership> memberships = localSessions.get(sessionId);
+            if (memberships != null) {
+                refreshed.addAll(memberships);
+            }
+        }
+        if (refreshed.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Membership membership : refreshed) {
+                    stringConnection.zAdd(membership.scope().key(membership.roomId()), now,
+                            membership.roomMember(), ZAddArgs.ifExists());
+                    stringConnection.zAdd(RedisKeyConst.PRESENCE_SESSIONS, now,
+                            membership.indexMember(), ZAddArgs.ifExists());
+                }
+                return null;
+            });
+            meterRegistry.counter(METRIC_REFRESHED).increment(refreshed.size());
+        } catch (Exception e) {
+            log.warn("[Presence] Failed to refresh {} sessions: {}", refreshed.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * TTL 이 지난 세션을 꺼내 방에서 지우고 만료 이벤트를 발행한다.
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void sweepExpired() {
+        List<?> claimed;
+        try {
+            claimed = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                    List.of(RedisKeyConst.PRESENCE_SESSIONS),
+                    String.valueOf((long) freshSince()),
+                    String.valueOf(SWEEP_BATCH_SIZE));
+        } catch (Exception e) {
+            log.warn("[Presence] Failed to claim expired sessions: {}", e.getMessage());
+            return;
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        List<Membership> expired = new ArrayList<>();
+        for (Object member : claimed) {
+            Membership membership = Membership.fromIndexMember(String.valueOf(member));
+            if (membership == null) {
+                log.warn("[Presence] Dropped malformed session entry: {}", member);
+                continue;
+            }
+            expired.add(membership);
+        }
+        remove(expired);
+
+        for (Membership membership : expired) {
+            log.info("[Presence] Session {} of user {} expired in {} {}",
+                    membership.sessionId(), membership.userId(), membership.scope(), membership.roomId());
+            meterRegistry.counter(METRIC_EXPIRED, "scope", membership.scope().name()).increment();
+            try {
+                eventPublisher.publishEvent(new PresenceExpiredEvent(
+                        membership.scope(), membership.roomId(), membership.userId(), membership.sessionId()));
+            } catch (Exception e) {
+                log.error("[Presence] Expiry handling failed for user {} in {} {}",
+                        membership.userId(), membership.scope(), membership.roomId(), e);
+            }
+        }
+    }
+
+    private void remove(List<Membership> memberships) {
+        if (memberships.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Membership membership : memberships) {
+                stringConnection.zRem(membership.scope().key(membership.roomId()), membership.roomMember());
+                stringConnection.zRem(RedisKeyConst.PRESENCE_SESSIONS, membership.indexMember());
+            }
+            return null;
+        });
+        for (Membership membership : memberships) {
+            localSessions.computeIfPresent(membership.sessionId(), (sessionId, joined) -> {
+                joined.remove(membership);
+                return joined.isEmpty() ? null : joined;
+            });
+        }
+    }
+
+    private Set<String> roomMembers(PresenceScope scope, Long roomId) {
+        Set<String> members = stringRedisTemplate.opsForZSet().range(scope.key(roomId), 0, -1);
+        return members == null ? Set.of() : members;
+    }
+
+    private double freshSince() {
+        return System.currentTimeMillis() - SESSION_TTL.toMillis();
+    }
+
+    private record Membership(PresenceScope scope, Long roomId, Long userId, String sessionId) {
+
+        String roomMember() {
+            return userId + MEMBER_DELIMITER + sessionId;
+        }
+
+        String indexMember() {
+            return scope.name() + MEMBER_DELIMITER + roomId + MEMBER_DELIMITER + roomMember();
+        }
+
+        static Membership fromRoomMember(PresenceScope scope, Long roomId, String member) {
+            String[] parts = member.split("\\|", 2);
+            if (parts.length != 2) {
+                return null;
+            }
+            try {
+                return new Membership(scope, roomId, Long.valueOf(parts[0]), parts[1]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        static Membership fromIndexMember(String member) {
+            String[] parts = member.split("\\|", 4);
+            if (parts.length != 4) {
+                return null;
+            }
+            try {
+                return new Membership(PresenceScope.valueOf(parts[0]), Long.valueOf(parts[1]),
+                        Long.valueOf(parts[2]), parts[3]);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
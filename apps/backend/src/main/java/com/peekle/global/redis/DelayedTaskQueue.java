@@ -0,0 +1,235 @@
+package com.peekle.global.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis ZSET 기반 지연 작업 큐
+ * - member = "{type}|{taskId}", score = 실행 시각(epoch ms)
+ * - 같은 작업을 다시 예약하면 실행 시각만 갱신되고(ZADD), 취소는 ZREM 한 번
+ * - 폴러는 Lua 스크립트로 만기 작업을 실행 중 ZSET(score = 리스 만료 시각)으로 옮기므로 여러 인스턴스 중 한 곳에서만 실행된다
+ * - 실행이 끝나면 실행 중 ZSET 에서 지우고, 배포/장애로 끝내지 못한 작업은 리스가 지나면 다시 큐로 돌아간다
+ * - 리스를 넘긴 작업은 다시 실행될 수 있으므로(at-least-once) 핸들러는 실행 시점에 상태를 다시 확인해야 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DelayedTaskQueue {
+
+    private static final String MEMBER_DELIMITER = "|";
+    private static final int CLAIM_BATCH_SIZE = 100;
+    private static final long LEASE_MS = 30_000;
+    private static final long SHUTDOWN_AWAIT_MS = 10_000;
+
+    // 해시 태그를 붙이기 전의 키 (기동 시 남은 작업을 새 키로 옮긴다)
+    private static final List<String> LEGACY_KEYS = List.of("delayed:tasks", "delayed:tasks:processing");
+
+    private static final String METRIC_QUEUED = "delayed.task.queued";
+    private static final String METRIC_FIRED = "delayed.task.fired";
+    private static final String METRIC_CANCELLED = "delayed.task.cancelled";
+    private static final String METRIC_FAILED = "delayed.task.failed";
+
+    // KEYS[1] = 작업 ZSET, KEYS[2] = 실행 중 ZSET, ARGV[1] = 현재 시각(ms), ARGV[2] = 최대 개수, ARGV[3] = 리스 만료 시각(ms)
+    // 리스가 지난 작업을 먼저 큐로 되돌리고(그 사이 다시 예약됐으면 그 시각 유지), 만기 작업을 리스와 함께 꺼낸다
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = buildScript(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))\n"
+                    + "for _, member in ipairs(expired) do\n"
+                    + "  redis.call('ZADD', KEYS[1], 'NX', ARGV[1], member)\n"
+                    + "  redis.call('ZREM', KEYS[2], member)\n"
+                    + "end\n"
+                    + "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))\n"
+                    + "for _, member in ipairs(due) do\n"
+                    + "  redis.call('ZREM', KEYS[1], member)\n"
+                    + "  redis.call('ZADD', KEYS[2], ARGV[3], member)\n"
+                    + "end\n"
+                    + "return due\n");
+
+    // KEYS[1] = 실행 중 ZSET, ARGV[1] = member, ARGV[2] = 이 인스턴스가 받은 리스 만료 시각(ms)
+    // 리스가 지나 다른 인스턴스가 다시 가져간 작업의 리스는 지우지 않는다
+    private static final DefaultRedisScript<Long> ACK_SCRIPT = buildLongScript(
+            "local lease = redis.call('ZSCORE', KEYS[1], ARGV[1])\n"
+                    + "if lease and tonumber(lease) == tonumber(ARGV[2]) then\n"
+                    + "  return redis.call('ZREM', KEYS[1], ARGV[1])\n"
+                    + "end\n"
+                    + "return 0\n");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean shuttingDown;
+
+    private static DefaultRedisScript<List> buildScript(String scriptText) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(List.class);
+        return script;
+    }
+
+    private static DefaultRedisScript<Long> buildLongScript(String scriptText) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * 이전 키에 남은 작업(예약 + 실행 중)을 새 작업 ZSET 으로 옮긴다.
+     * 실행 중이던 작업은 리스 만료 시각에 다시 실행되고, 새 키에 이미 있는 작업은 그 시각을 유지한다.
+     * 두 키가 다른 슬롯일 수 있으므로 스크립트 없이 명령 단위로 옮긴다.
+     */
+    @PostConstruct
+    void migrateLegacyKeys() {
+        for (String legacyKey : LEGACY_KEYS) {
+            Set<ZSetOperations.TypedTuple<String>> tasks =
+                    stringRedisTemplate.opsForZSet().rangeWithScores(legacyKey, 0, -1);
+            if (tasks == null || tasks.isEmpty()) {
+                continue;
+            }
+            stringRedisTemplate.opsForZSet().addIfAbsent(RedisKeyConst.DELAYED_TASKS, tasks);
+            stringRedisTemplate.delete(legacyKey);
+            log.info("[DelayedTask] Migrated {} tasks from {}", tasks.size(), legacyKey);
+        }
+    }
+
+    /**
+     * 작업 타입별 실행 핸들러 등록 (각 서비스의 @PostConstruct 에서 호출)
+     */
+    public void registerHandler(String type, Consumer<String> handler) {
+        handlers.put(type, handler);
+    }
+
+    /**
+     * delay 뒤에 실행되도록 예약한다. 이미 예약된 같은 작업은 실행 시각만 갱신된다.
+     */
+    public void schedule(String type, String taskId, Duration delay) {
+        long dueAt = System.currentTimeMillis() + delay.toMillis();
+        stringRedisTemplate.opsForZSet().add(RedisKeyConst.DELAYED_TASKS, member(type, taskId), dueAt);
+        meterRegistry.counter(METRIC_QUEUED, "type", type).increment();
+    }
+
+    /**
+     * 예약된 작업을 취소한다. (아직 실행되지 않은 경우에만 의미가 있음)
+     * 실행 중인 작업의 리스도 지워, 실행하던 인스턴스가 죽더라도 다시 큐로 돌아가지 않게 한다
+     */
+    public boolean cancel(String type, String taskId) {
+        String member = member(type, taskId);
+        Long removed = stringRedisTemplate.opsForZSet().remove(RedisKeyConst.DELAYED_TASKS, member);
+        stringRedisTemplate.opsForZSet().remove(RedisKeyConst.DELAYED_TASKS_PROCESSING, member);
+        boolean cancelled = removed != null && removed > 0;
+        if (cancelled) {
+            meterRegistry.counter(METRIC_CANCELLED, "type", type).increment();
+        }
+        return cancelled;
+    }
+
+    @Scheduled(fixedDelay = 500)
+    public void pollDueTasks() {
+        if (shuttingDown) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        String leaseUntil = String.valueOf(now + LEASE_MS);
+        List<?> due;
+        try {
+            due = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                    List.of(RedisKeyConst.DELAYED_TASKS, RedisKeyConst.DELAYED_TASKS_PROCESSING),
+                    String.valueOf(now),
+                    String.valueOf(CLAIM_BATCH_SIZE),
+                    leaseUntil);
+        } catch (Exception e) {
+            log.warn("[Delayed Task] Failed to claim due tasks: {}", e.getMessage());
+            return;
+        }
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+
+        for (Object member : due) {
+            String value = String.valueOf(member);
+            int delimiterIndex = value.indexOf(MEMBER_DELIMITER);
+            if (delimiterIndex < 0) {
+                log.warn("[Delayed Task] Dropped malformed task: {}", value);
+                acknowledge(value, leaseUntil);
+                continue;
+            }
+            String type = value.substring(0, delimiterIndex);
+            String taskId = value.substring(delimiterIndex + 1);
+            try {
+                executor.execute(() -> fire(type, taskId, leaseUntil));
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 리스가 지난 뒤 다른 인스턴스가 다시 가져간다
+                log.info("[Delayed Task] Task {} of type {} left for another instance (shutting down)", taskId, type);
+            }
+        }
+    }
+
+    private void fire(String type, String taskId, String leaseUntil) {
+        Consumer<String> handler = handlers.get(type);
+        if (handler == null) {
+            log.warn("[Delayed Task] No handler registered for type {} (task {})", type, taskId);
+            meterRegistry.counter(METRIC_FAILED, "type", type).increment();
+            acknowledge(member(type, taskId), leaseUntil);
+            return;
+        }
+        try {
+            handler.accept(taskId);
+            meterRegistry.counter(METRIC_FIRED, "type", type).increment();
+        } catch (Exception e) {
+            log.error("[Delayed Task] Task {} of type {} failed", taskId, type, e);
+            meterRegistry.counter(METRIC_FAILED, "type", type).increment();
+        }
+        acknowledge(member(type, taskId), leaseUntil);
+    }
+
+    // 실행을 마친 작업의 리스를 지운다. 실패하면 리스가 지난 뒤 한 번 더 실행된다
+    private void acknowledge(String member, String leaseUntil) {
+        try {
+            stringRedisTemplate.execute(ACK_SCRIPT, List.of(RedisKeyConst.DELAYED_TASKS_PROCESSING), member,
+                    leaseUntil);
+        } catch (Exception e) {
+            log.warn("[Delayed Task] Failed to release lease of {}: {}", member, e.getMessage());
+        }
+    }
+
+    private String member(String type, String taskId) {
+        return type + MEMBER_DELIMITER + taskId;
+    }
+
+    /**
+     * 새 작업은 더 꺼내지 않고, 실행 중인 작업이 끝나기를 기다린다.
+     * 시간 안에 끝나지 않은 작업은 리스가 지난 뒤 다른 인스턴스에서 다시 실행된다
+     */
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_AWAIT_MS, TimeUnit.MILLISECONDS)) {
+                log.warn("[Delayed Task] In-flight tasks did not finish within {}ms", SHUTDOWN_AWAIT_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,8 +1,21 @@
 package com.peekle.global.redis;
 
 public class RedisKeyConst {
-    // Presence (Set)
-    public static final String STUDY_ONLINE_USERS = "study:%d:online_users";
+    // Presence (Sorted Set: member = "{userId}|{sessionId}", score = last activity epoch ms)
+    public static final String STUDY_PRESENCE = "study:%d:presence";
+
+    // Presence session index for the sweeper (Sorted Set)
+    // member = "{scope}|{roomId}|{userId}|{sessionId}", score = last activity epoch ms
+    public static final String PRESENCE_SESSIONS = "presence:sessions";
+
+    // Study membership mirror (Set: member = userId, "-" = 빈 스터디 표시)
+    public static final String STUDY_MEMBERS = "study:%d:members";
+
+    // Study membership version (String/Counter, 무효화마다 증가 -> 그 사이 DB 를 읽은 채우기는 버린다)
+    public static final String STUDY_MEMBERS_VERSION = "study:%d:members:version";
+
+    // Study membership invalidation (Pub/Sub) -> payload: studyId
+    public static final String TOPIC_STUDY_MEMBERSHIP_INVALIDATE = "study/membership/invalidate";
 
     // Chat (List)
     public static final String CHAT_ROOM_LOGS = "chat:room:%d:logs";
@@ -49,9 +62,12 @@ public class RedisKeyConst {
     // /topic/studies/rooms/{studyId}/whiteboard/{userId}
     public static final String TOPIC_WHITEBOARD_USER = "topic/studies/rooms/%d/whiteboard/%d";
 
+    // 게임 방 단위 키는 모두 방 ID 를 해시 태그({roomId})로 감싸 같은 슬롯에 배치한다.
+    // (방 삭제 스크립트가 한 번에 접근할 수 있도록)
+
     // Game Status (Value)
     // game:room:{roomId}:status -> WAITING, PLAYING...
-    public static final String GAME_STATUS = "game:room:%d:status";
+    public static final String GAME_STATUS = "game:room:{%d}:status";
 
     // Game Lock (Lock)
     // lock:game:room:{roomId}:status
@@ -75,7 +91,7 @@ public class RedisKeyConst {
     public static final String TOPIC_GAME_CHAT_TEAM = "topic/games/%d/chat/team/%s";
 
     // Game Room Info (Hash) -> title, password, mode, capacity...
-    public static final String GAME_ROOM_INFO = "game:room:%d:info";
+    public static final String GAME_ROOM_INFO = "game:room:{%d}:info";
 
     // Active Game Room IDs (Set) -> 목록 조회를 위해 활성화된 방 ID들 저장
     public static final String GAME_ROOM_IDS = "game:rooms";
@@ -84,20 +100,20 @@ public class RedisKeyConst {
     public static final String GAME_ROOM_ID_SEQ = "game:room:seq";
 
     // Game Room Participants (Set) -> game:room:{roomId}:players
-    public static final String GAME_ROOM_PLAYERS = "game:room:%d:players";
+    public static final String GAME_ROOM_PLAYERS = "game:room:{%d}:players";
 
     // Game Room Ready Status (Hash) -> game:room:{roomId}:ready : {userId} ->
     // "true"/"false"
-    public static final String GAME_ROOM_READY_STATUS = "game:room:%d:ready";
+    public static final String GAME_ROOM_READY_STATUS = "game:room:{%d}:ready";
 
     // Game Room Team Info (Hash) -> game:room:{roomId}:teams : {userId} ->
     // "RED"/"BLUE"
-    public static final String GAME_ROOM_TEAMS = "game:room:%d:teams";
+    public static final String GAME_ROOM_TEAMS = "game:room:{%d}:teams";
 
     // Game Code (Value)
     // game:{gameId}:problem:{problemId}:user:{userId}:code
     // Changed problemId placeholder to %d
-    public static final String GAME_CODE_KEY = "game:%d:problem:%d:user:%d:code";
+    public static final String GAME_CODE_KEY = "game:{%d}:problem:%d:user:%d:code";
 
     // Game Code Load Topic (Pub/Sub)
     // /topic/games/code/load/{userId}
@@ -107,34 +123,34 @@ public class RedisKeyConst {
     public static final String USER_CURRENT_GAME = "user:%d:game";
 
     // 게임 시작 시간(String) -> System.currentTimeMillis()
-    public static final String GAME_START_TIME = "game:%d:start_time";
+    public static final String GAME_START_TIME = "game:{%d}:start_time";
 
     // 문제 해결 여부 (Set) -> game:{gameId}:problem:{problemId}:solved
-    public static final String GAME_SOLVED_PROBLEM = "game:%d:problem:%d:solved";
+    public static final String GAME_SOLVED_PROBLEM = "game:{%d}:problem:%d:solved";
 
-    // Game Room Online Users (Set) -> game:{gameId}:online_users
-    public static final String GAME_ROOM_ONLINE = "game:%d:online_users";
+    // Game Room Presence (Sorted Set) -> game:{gameId}:presence
+    public static final String GAME_ROOM_PRESENCE = "game:{%d}:presence";
 
     // User Session (Value) -> user:{userId}:session -> sessionId
     public static final String USER_SESSION = "user:%d:session";
 
     // 실시간 랭킹(ZSet) -> game:{gameId}:ranking
-    public static final String GAME_RANKING = "game:%d:ranking";
+    public static final String GAME_RANKING = "game:{%d}:ranking";
 
     // 팀 랭킹(ZSet) -> game:{gameId}:team_ranking (Members: "RED", "BLUE")
-    public static final String GAME_TEAM_RANKING = "game:%d:team_ranking";
+    public static final String GAME_TEAM_RANKING = "game:{%d}:team_ranking";
 
     // 개인 점수 기록(Hash) -> game:{gameId}:user:{userId}:score
-    public static final String GAME_USER_SCORE = "game:%d:user:%d:score";
+    public static final String GAME_USER_SCORE = "game:{%d}:user:%d:score";
 
     // 토픽 (Pub/Sub)
     public static final String TOPIC_GAME_RANKING = "topic/games/%d/ranking";
 
     // 게임 내 문제 목록 (List) -> game:%d:problems
-    public static final String GAME_PROBLEMS = "game:%d:problems";
+    public static final String GAME_PROBLEMS = "game:{%d}:problems";
 
     // 대기실용 문제 미리보기 (List) -> game:%d:problems:preview
-    public static final String GAME_PROBLEMS_PREVIEW = "game:%d:problems:preview";
+    public static final String GAME_PROBLEMS_PREVIEW = "game:{%d}:problems:preview";
 
     // Shared workbook cache
     public static final String WORKBOOK_CACHE_INFO = "workbook:%d:cache:info";
@@ -145,7 +161,7 @@ public class RedisKeyConst {
     public static final String LOCK_WORKBOOK_CACHE = "lock:workbook:%d:cache";
 
     // 게임 제출 예상 코드 길이 (Value) -> game:%d:problem:%d:user:%d:expected_length
-    public static final String GAME_EXPECTED_LENGTH = "game:%d:problem:%d:user:%d:expected_length";
+    public static final String GAME_EXPECTED_LENGTH = "game:{%d}:problem:%d:user:%d:expected_length";
 
     // 게임 내 경고 알림 (Pub/Sub) -> topic/games/%d/alert/%d
     public static final String TOPIC_GAME_ALERT = "topic/games/%d/alert/%d";
@@ -153,22 +169,28 @@ public class RedisKeyConst {
     // 게임 초대 코드 (String: Code -> roomId)
     public static final String GAME_INVITE_CODE = "game:invite:code:%s";
     // 게임 방 초대 코드 (String: roomId -> Code)
-    public static final String GAME_ROOM_INVITE_CODE = "game:room:invite:%d";
+    public static final String GAME_ROOM_INVITE_CODE = "game:room:invite:{%d}";
 
     // 개인전 스피드 레이스 1등 종료 타이머 시작 여부 (Value)
-    public static final String GAME_FINISH_TIMER = "game:room:%d:finish_timer";
-    public static final String GAME_FINISH_CLAIM = "game:room:%d:finish_claim";
+    public static final String GAME_FINISH_TIMER = "game:room:{%d}:finish_timer";
+    public static final String GAME_FINISH_CLAIM = "game:room:{%d}:finish_claim";
 
     // Game Room Broadcasted (Value) -> game:room:{roomId}:broadcasted -> "true"
-    public static final String GAME_ROOM_BROADCASTED = "game:room:%d:broadcasted";
+    public static final String GAME_ROOM_BROADCASTED = "game:room:{%d}:broadcasted";
+
+    // 게임 방 동적 키 레지스트리 (Set) -> 유저/문제별로 생성되는 방 키 목록 (방 삭제 시 일괄 UNLINK)
+    public static final String GAME_ROOM_KEY_REGISTRY = "game:room:{%d}:keys";
+
+    // 로비 방 카드의 문제집 영역 (Value) -> game:lobby:card:workbook:{workbookId}:{previewCachedAt}
+    public static final String GAME_LOBBY_WORKBOOK_CARD = "game:lobby:card:workbook:%d:%s";
 
     // Game Room Reservation (Value) -> game:room:{roomId}:reservation:{userId} ->
     // "RESERVED" (TTL: 30s)
-    public static final String GAME_ROOM_RESERVATION = "game:room:%d:reservation:%d";
+    public static final String GAME_ROOM_RESERVATION = "game:room:{%d}:reservation:%d";
 
     // Game Room Reserved Count (Value) -> game:room:{roomId}:reserved_count ->
     // counter
-    public static final String GAME_ROOM_RESERVED_COUNT = "game:room:%d:reserved_count";
+    public static final String GAME_ROOM_RESERVED_COUNT = "game:room:{%d}:reserved_count";
 
     // Reservation Lock (Lock)
     public static final String LOCK_GAME_RESERVE = "lock:game:reserve:%d";
@@ -182,11 +204,62 @@ public class RedisKeyConst {
     // /topic/studies/rooms/{studyId}/problems/{problemId}/description
     public static final String TOPIC_STUDY_PROBLEM_DESC = "topic/studies/rooms/%d/problems/%d/description";
 
-    // CS learning temporary attempt state (Hash/JSON)
-    // cs:attempt:{userId}:{stageId}
-    public static final String CS_ATTEMPT = "cs:attempt:%d:%d";
+    // CS learning temporary attempt state (Hash or String / CsSessionCodec binary)
+    // cs:attempt:bin:{userId}:{stageId}
+    public static final String CS_ATTEMPT = "cs:attempt:bin:%d:%d";
+
+    // CS wrong-review temporary state (Hash or String / CsSessionCodec binary)
+    // cs:wrong-review:bin:{userId}:{reviewId}
+    public static final String CS_WRONG_REVIEW = "cs:wrong-review:bin:%d:%s";
+
+    // CS question bank invalidation (Pub/Sub) -> payload: stageId or "*"
+    public static final String TOPIC_CS_QUESTION_BANK_INVALIDATE = "cs/question-bank/invalidate";
+
+    // CS domain -> track -> stage topology invalidation (Pub/Sub) -> payload: "*"
+    public static final String TOPIC_CS_TOPOLOGY_INVALIDATE = "cs/topology/invalidate";
+
+    // CS per-user home view (String/JSON)
+    // cs:home:{userId}
+    public static final String CS_HOME_VIEW = "cs:home:%d";
+
+    // CS per-user home view invalidation epoch (String/Counter)
+    // cs:home:epoch:{userId}
+    public static final String CS_HOME_VIEW_EPOCH = "cs:home:epoch:%d";
+
+    // CS home view global invalidation generation (String/Counter)
+    public static final String CS_HOME_VIEW_GENERATION = "cs:home:generation";
+
+    // Study ranking board (Sorted Set: member = studyId, score = rankingPoint + tie-break)
+    public static final String STUDY_RANKING = "study:ranking";
+
+    // Study ranking board rebuild staging key (Sorted Set)
+    public static final String STUDY_RANKING_REBUILD = "study:ranking:rebuild";
+
+    // Study ranking board rebuild in progress marker (String, TTL)
+    public static final String STUDY_RANKING_REBUILD_ACTIVE = "study:ranking:rebuild:active";
+
+    // Study ranking updates made during a rebuild (Hash: field = studyId, value = score or "" for removal)
+    public static final String STUDY_RANKING_REBUILD_PENDING = "study:ranking:rebuild:pending";
+
+    // Study ranking board rebuild lock (Redisson)
+    public static final String LOCK_STUDY_RANKING_REBUILD = "lock:study:ranking:rebuild";
+
+    // 지연 작업 키는 claim 스크립트가 두 ZSET 을 함께 다루므로 해시 태그({tasks})로 같은 슬롯에 둔다.
+    // Delayed tasks (Sorted Set: member = "{type}|{taskId}", score = due time epoch ms)
+    public static final String DELAYED_TASKS = "delayed:{tasks}";
+
+    // Delayed tasks being executed (Sorted Set: member = "{type}|{taskId}", score = lease expiry epoch ms)
+    public static final String DELAYED_TASKS_PROCESSING = "delayed:{tasks}:processing";
+
+    // Code execution result cache (String/JSON)
+    // execution:result:{language}:{codeSha256}:{inputSha256}
+    public static final String EXECUTION_RESULT = "execution:result:%s:%s:%s";
+
+    // Code execution batch results (Pub/Sub)
+    // /topic/executions/users/{userId} (본인만 구독 가능, ExecutionTopicInterceptor)
+    public static final String TOPIC_EXECUTION_USER = "topic/executions/users/%d";
 
-    // CS wrong-review temporary state (Hash/JSON)
-    // cs:wrong-review:{userId}:{reviewId}
-    public static final String CS_WRONG_REVIEW = "cs:wrong-review:%d:%s";
+    // LiveKit identities issued per room/user (Set: member = "{userId}_{uuid}", TTL = token TTL)
+    // livekit:{roomName}:identities:{userId}
+    public static final String LIVEKIT_IDENTITIES = "livekit:%s:identities:%d";
 }
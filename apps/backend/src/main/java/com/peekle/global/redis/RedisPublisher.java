@@ -1,20 +1,20 @@
 package com.peekle.global.redis;
 
+import com.peekle.global.logging.HotPathLogger;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Service;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final HotPathLogger hotPathLogger;
 
     public void publish(ChannelTopic topic, Object message) {
-        log.info("Topic: {}, Message: {}", topic.getTopic(), message);
+        hotPathLogger.published(topic.getTopic(), message);
         redisTemplate.convertAndSend(topic.getTopic(), message);
     }
 }
@@ -1,6 +1,7 @@
 package com.peekle.global.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peekle.global.logging.HotPathLogger;
 import com.peekle.global.socket.SocketResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,7 @@ public class RedisSubscriber implements MessageListener {
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, Object> redisTemplate;
     private final SimpMessagingTemplate messagingTemplate;
+    private final HotPathLogger hotPathLogger;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
@@ -31,7 +33,7 @@ public class RedisSubscriber implements MessageListener {
             String topic = new String(message.getChannel());
 
             messagingTemplate.convertAndSend("/" + topic, roomMessage);
-            log.info("Redis Sub >> Stomp Send: {} -> {}", topic, roomMessage);
+            hotPathLogger.forwarded(topic, message.getBody().length, roomMessage);
 
         } catch (Exception e) {
             log.error("Redis Subscriber Error", e);
@@ -0,0 +1,168 @@
+package com.peekle.global.redis.metrics;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RedisTemplate 이 꺼내는 커넥션을 감싸 명령마다 지연/바이트를 현재 논리 연산에 기록한다
+ * - stringCommands() 처럼 *Commands 를 돌려주는 메서드는 그 결과도 감싸고, 실제 명령 호출만 센다
+ * - 파이프라인 안의 명령은 큐에 넣는 시간만 잡히므로 closePipeline 대기 시간은 명령 수 없이 지연에만 더한다
+ * - 바이트는 키/값 byte[] 길이 합으로 어림한다 (RESP 프로토콜 오버헤드 제외)
+ */
+public class InstrumentedRedisConnectionFactory implements RedisConnectionFactory {
+
+    private static final Set<String> PASS_THROUGH_METHODS = Set.of(
+            "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined", "openPipeline",
+            "isSubscribed", "getSubscription", "getSentinelConnection");
+
+    private static final String CLOSE_PIPELINE = "closePipeline";
+
+    private final RedisConnectionFactory delegate;
+    private final RedisOperationMetrics metrics;
+
+    public InstrumentedRedisConnectionFactory(RedisConnectionFactory delegate, RedisOperationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public RedisConnection getConnection() {
+        return (RedisConnection) instrument(delegate.getConnection());
+    }
+
+    @Override
+    public RedisClusterConnection getClusterConnection() {
+        return delegate.getClusterConnection();
+    }
+
+    @Override
+    public boolean getConvertPipelineAndTxResults() {
+        return delegate.getConvertPipelineAndTxResults();
+    }
+
+    @Override
+    public RedisSentinelConnection getSentinelConnection() {
+        return delegate.getSentinelConnection();
+    }
+
+    @Override
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        return delegate.translateExceptionIfPossible(ex);
+    }
+
+    private Object instrument(Object target) {
+        Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(target.getClass(), getClass().getClassLoader());
+        return Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, new CommandRecorder(target));
+    }
+
+    private class CommandRecorder implements InvocationHandler {
+
+        private final Object target;
+
+        private CommandRecorder(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (name) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "Instrumented(" + target + ")";
+                };
+            }
+            if (PASS_THROUGH_METHODS.contains(name)) {
+                return call(method, args);
+            }
+            if (isCommandsAccessor(method)) {
+                Object commands = call(method, args);
+                return commands != null ? instrument(commands) : null;
+            }
+
+            long startedAt = System.nanoTime();
+            Object result = null;
+            try {
+                result = call(method, args);
+                return result;
+            } finally {
+                long elapsed = System.nanoTime() - startedAt;
+                boolean flush = CLOSE_PIPELINE.equals(name);
+                String command = flush ? name.toLowerCase(Locale.ROOT) : commandName(name, args);
+                metrics.recordCommand(RedisOperationContext.currentOperation(), command, elapsed);
+                RedisOperationContext.record(!flush, elapsed, flush ? 0 : sizeOf(args), sizeOf(result));
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static boolean isCommandsAccessor(Method method) {
+        return method.getParameterCount() == 0
+                && method.getReturnType().isInterface()
+                && method.getReturnType().getSimpleName().endsWith("Commands");
+    }
+
+    private static String commandName(String methodName, Object[] args) {
+        // execute("CMD", args...) 는 메서드 이름 대신 실제 명령 이름을 태그로 쓴다
+        if ("execute".equals(methodName) && args != null && args.length > 0 && args[0] instanceof String command) {
+            return command.toLowerCase(Locale.ROOT);
+        }
+        return methodName.toLowerCase(Locale.ROOT);
+    }
+
+    static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (value instanceof ByteBuffer buffer) {
+            return buffer.remaining();
+        }
+        if (value instanceof CharSequence text) {
+            return text.length();
+        }
+        if (value instanceof Tuple tuple) {
+            return sizeOf(tuple.getValue()) + Double.BYTES;
+        }
+        long total = 0;
+        if (value instanceof Object[] values) {
+            for (Object element : values) {
+                total += sizeOf(element);
+            }
+        } else if (value instanceof Collection<?> values) {
+            for (Object element : values) {
+                total += sizeOf(element);
+            }
+        } else if (value instanceof Map<?, ?> entries) {
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                total += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,21 @@
+package com.peekle.global.redis.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 실행 동안 나간 Redis 명령을 이 논리 연산 이름으로 집계한다 (redis.operation.* 메트릭)
+ * - 프록시를 거쳐 호출될 때만 적용된다 (같은 클래스 안의 self-invocation 은 바깥 연산에 합산)
+ * - 스코프는 스레드 단위라 @Async / 다른 스레드에서 나간 명령은 잡히지 않는다
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RedisOperation {
+
+    /**
+     * 연산 이름 (예: game.enter). 메트릭 태그로 쓰이므로 고정된 값만 사용한다
+     */
+    String value();
+}
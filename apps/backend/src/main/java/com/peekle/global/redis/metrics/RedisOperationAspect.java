@@ -0,0 +1,26 @@
+package com.peekle.global.redis.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RedisOperationAspect {
+
+    private final RedisOperationMetrics redisOperationMetrics;
+
+    @Around("@annotation(redisOperation)")
+    public Object measure(ProceedingJoinPoint joinPoint, RedisOperation redisOperation) throws Throwable {
+        RedisOperationContext.Scope scope = RedisOperationContext.open(redisOperation.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            redisOperationMetrics.recordOperation(scope);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.peekle.global.redis.metrics;
+
+/**
+ * 현재 스레드에서 진행 중인 Redis 논리 연산 스코프
+ * - 명령은 가장 안쪽 스코프에 기록되고, 스코프가 닫히면 합계를 바깥 스코프로 올린다
+ * - 스코프 밖에서 나간 명령은 unscoped 연산으로 본다
+ */
+public final class RedisOperationContext {
+
+    public static final String UNSCOPED = "unscoped";
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private RedisOperationContext() {
+    }
+
+    public static Scope open(String operation) {
+        Scope scope = new Scope(operation, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static String currentOperation() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.operation : UNSCOPED;
+    }
+
+    /**
+     * 명령 한 번(또는 파이프라인 flush)의 결과를 현재 스코프에 더한다
+     */
+    static void record(boolean command, long nanos, long bytesOut, long bytesIn) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.add(command ? 1 : 0, nanos, bytesOut, bytesIn);
+        }
+    }
+
+    public static final class Scope {
+
+        private final String operation;
+        private final Scope parent;
+        private long commands;
+        private long redisNanos;
+        private long bytesOut;
+        private long bytesIn;
+        private boolean closed;
+
+        private Scope(String operation, Scope parent) {
+            this.operation = operation;
+            this.parent = parent;
+        }
+
+        private void add(long commands, long nanos, long bytesOut, long bytesIn) {
+            this.commands += commands;
+            this.redisNanos += nanos;
+            this.bytesOut += bytesOut;
+            this.bytesIn += bytesIn;
+        }
+
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent != null) {
+                parent.add(commands, redisNanos, bytesOut, bytesIn);
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public long getCommands() {
+            return commands;
+        }
+
+        public long getRedisNanos() {
+            return redisNanos;
+        }
+
+        public long getBytesOut() {
+            return bytesOut;
+        }
+
+        public long getBytesIn() {
+            return bytesIn;
+        }
+    }
+}
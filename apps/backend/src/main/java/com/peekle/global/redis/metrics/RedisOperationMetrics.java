@@ -0,0 +1,72 @@
+package com.peekle.global.redis.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 논리 연산별 Redis 사용량 메트릭
+ * - redis.operation.command.latency : 명령 1회 지연 (operation, command)
+ * - redis.operation.commands / bytes / latency : 연산 1회당 명령 수, 송수신 바이트, Redis 대기 시간 합
+ * - 히스토그램 버킷은 application.yml 의 management.metrics.distribution 에서 켠다
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisOperationMetrics {
+
+    static final String METRIC_COMMAND_LATENCY = "redis.operation.command.latency";
+    static final String METRIC_COMMANDS = "redis.operation.commands";
+    static final String METRIC_BYTES = "redis.operation.bytes";
+    static final String METRIC_LATENCY = "redis.operation.latency";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> commandTimers = new ConcurrentHashMap<>();
+    private final Map<String, OperationMeters> operationMeters = new ConcurrentHashMap<>();
+
+    public void recordCommand(String operation, String command, long nanos) {
+        commandTimers.computeIfAbsent(operation + "|" + command, key -> Timer.builder(METRIC_COMMAND_LATENCY)
+                .tag("operation", operation)
+                .tag("command", command)
+                .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOperation(RedisOperationContext.Scope scope) {
+        OperationMeters meters = operationMeters.computeIfAbsent(scope.getOperation(), this::createOperationMeters);
+        meters.commands.record(scope.getCommands());
+        meters.bytesOut.record(scope.getBytesOut());
+        meters.bytesIn.record(scope.getBytesIn());
+        meters.latency.record(scope.getRedisNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private OperationMeters createOperationMeters(String operation) {
+        return new OperationMeters(
+                DistributionSummary.builder(METRIC_COMMANDS)
+                        .tag("operation", operation)
+                        .register(meterRegistry),
+                bytesSummary(operation, "out"),
+                bytesSummary(operation, "in"),
+                Timer.builder(METRIC_LATENCY)
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+    }
+
+    private DistributionSummary bytesSummary(String operation, String direction) {
+        return DistributionSummary.builder(METRIC_BYTES)
+                .tag("operation", operation)
+                .tag("direction", direction)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private record OperationMeters(DistributionSummary commands, DistributionSummary bytesOut,
+            DistributionSummary bytesIn, Timer latency) {
+    }
+}
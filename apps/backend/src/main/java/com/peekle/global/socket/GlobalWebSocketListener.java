@@ -1,7 +1,7 @@
 package com.peekle.global.socket;
 
+import com.peekle.global.logging.HotPathLogger;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -11,12 +11,12 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import java.util.Map;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class GlobalWebSocketListener {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final HotPathLogger hotPathLogger;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -26,12 +26,12 @@ public class GlobalWebSocketListener {
 
         if (attributes != null && attributes.containsKey("userId")) {
             Long userId = (Long) attributes.get("userId");
-            log.info("[Global] WebSocket Connected. Session ID: {}, User ID: {}", sessionId, userId);
+            hotPathLogger.sessionEvent("global", "connect", sessionId, userId);
 
             // 전역 세션 매핑 저장
             redisTemplate.opsForValue().set("user:" + userId + ":session", sessionId);
         } else {
-            log.info("[Global] Anonymous WebSocket Connected. Session ID: {}", sessionId);
+            hotPathLogger.sessionEvent("global", "connect_anonymous", sessionId, null);
         }
     }
 
@@ -43,7 +43,7 @@ public class GlobalWebSocketListener {
 
         if (attributes != null && attributes.containsKey("userId")) {
             Long userId = (Long) attributes.get("userId");
-            log.info("[Global] WebSocket Disconnected. Session ID: {}, User ID: {}", sessionId, userId);
+            hotPathLogger.sessionEvent("global", "disconnect", sessionId, userId);
 
             // 전역 세션 매핑 삭제
             redisTemplate.delete("user:" + userId + ":session");
@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS study_problem_solves (
+    study_id BIGINT NOT NULL,
+    problem_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    first_solved_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_study_problem_solves
+        PRIMARY KEY (study_id, problem_id, user_id),
+    CONSTRAINT fk_study_problem_solves_study
+        FOREIGN KEY (study_id) REFERENCES study_rooms (id) ON DELETE CASCADE,
+    CONSTRAINT fk_study_problem_solves_problem
+        FOREIGN KEY (problem_id) REFERENCES problems (id) ON DELETE CASCADE,
+    CONSTRAINT fk_study_problem_solves_user
+        FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- 기존 제출 기록에서 (스터디, 문제, 유저) 최초 해결 시각을 채운다.
+INSERT INTO study_problem_solves (study_id, problem_id, user_id, first_solved_at)
+SELECT sl.room_id,
+       sl.problem_id,
+       sl.user_id,
+       COALESCE(MIN(sl.submitted_at), CURRENT_TIMESTAMP)
+FROM submission_logs sl
+JOIN study_rooms sr ON sr.id = sl.room_id
+WHERE (sl.is_success IS NULL OR sl.is_success = TRUE)
+  AND (sl.source_type IS NULL OR sl.source_type <> 'GAME')
+GROUP BY sl.room_id, sl.problem_id, sl.user_id
+ON CONFLICT DO NOTHING;
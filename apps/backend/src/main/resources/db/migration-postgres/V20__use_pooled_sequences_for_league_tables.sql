@@ -0,0 +1,13 @@
+-- 시즌 정산 때 한 번에 쌓이는 리그 테이블은 IDENTITY 대신 pooled 시퀀스(allocationSize 50)를 쓴다.
+-- IDENTITY 는 INSERT 마다 키를 받아와야 해서 Hibernate 가 JDBC batch 로 묶지 못한다.
+CREATE SEQUENCE IF NOT EXISTS league_groups_seq INCREMENT BY 50;
+SELECT setval('league_groups_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM league_groups), false);
+ALTER TABLE league_groups ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE league_groups ALTER COLUMN id SET DEFAULT nextval('league_groups_seq');
+ALTER SEQUENCE league_groups_seq OWNED BY league_groups.id;
+
+CREATE SEQUENCE IF NOT EXISTS league_history_seq INCREMENT BY 50;
+SELECT setval('league_history_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM league_history), false);
+ALTER TABLE league_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE league_history ALTER COLUMN id SET DEFAULT nextval('league_history_seq');
+ALTER SEQUENCE league_history_seq OWNED BY league_history.id;
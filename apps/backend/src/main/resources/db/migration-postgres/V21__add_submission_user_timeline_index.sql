@@ -0,0 +1,13 @@
+-- 타임라인/제출 기록 목록은 submission_logs 의 비정규화 컬럼만 읽는다.
+-- 예전 행에 비어 있는 문제 정보를 problems 에서 채워 둔다.
+UPDATE submission_logs sl
+SET problem_title = COALESCE(sl.problem_title, p.title),
+    problem_tier = COALESCE(sl.problem_tier, p.tier),
+    external_id = COALESCE(sl.external_id, p.external_id)
+FROM problems p
+WHERE p.id = sl.problem_id
+  AND (sl.problem_title IS NULL OR sl.problem_tier IS NULL OR sl.external_id IS NULL);
+
+-- 유저별 기간 조회 + (submitted_at, id) 키셋 페이지네이션
+CREATE INDEX IF NOT EXISTS idx_submission_user_submitted
+    ON submission_logs (user_id, submitted_at DESC, id DESC);
@@ -0,0 +1,35 @@
+-- 코드 리뷰 댓글 작성 시 줄 범위 검증을 위해 제출 시점에 줄 수를 저장한다.
+ALTER TABLE submission_logs ADD COLUMN IF NOT EXISTS line_count INT;
+
+UPDATE submission_logs
+SET line_count = CASE
+        WHEN code IS NULL OR code = '' THEN 1
+        ELSE array_length(regexp_split_to_array(code, E'\r\n|\n|\r'), 1)
+    END
+WHERE line_count IS NULL;
+
+ALTER TABLE submission_logs ALTER COLUMN line_count SET DEFAULT 1;
+ALTER TABLE submission_logs ALTER COLUMN line_count SET NOT NULL;
+
+-- 댓글 스레드 조상 경로 (materialized path, 예: 루트 '/', 루트 1 의 답글 '/1/', 그 답글 '/1/5/')
+-- 조상 정리를 경로 기반 단일 DELETE 로 처리한다.
+ALTER TABLE submission_comments ADD COLUMN IF NOT EXISTS path VARCHAR(1024);
+
+WITH RECURSIVE thread AS (
+    SELECT id, CAST('/' AS VARCHAR(1024)) AS path
+    FROM submission_comments
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT child.id, CAST(thread.path || thread.id || '/' AS VARCHAR(1024))
+    FROM submission_comments child
+    JOIN thread ON child.parent_id = thread.id
+)
+UPDATE submission_comments comment
+SET path = thread.path
+FROM thread
+WHERE comment.id = thread.id;
+
+ALTER TABLE submission_comments ALTER COLUMN path SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_submission_comments_path
+    ON submission_comments (submission_id, path varchar_pattern_ops);
@@ -1,14 +1,18 @@
 package com.peekle.domain.benchmark.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peekle.domain.game.service.GameRoomKeyRegistry;
 import com.peekle.domain.game.service.RedisGameService;
 import com.peekle.domain.game.service.WorkbookPreviewCacheService;
 import com.peekle.domain.problem.entity.Problem;
+import com.peekle.domain.problem.repository.ProblemCatalogJdbcRepository;
+import com.peekle.domain.problem.repository.ProblemCatalogJdbcRepository.ProblemWrite;
 import com.peekle.domain.problem.repository.ProblemRepository;
-import com.peekle.domain.problem.repository.TagRepository;
 import com.peekle.domain.user.repository.UserRepository;
 import com.peekle.domain.workbook.repository.WorkbookProblemRepository;
 import com.peekle.domain.workbook.repository.WorkbookRepository;
+import com.peekle.global.importer.StreamingImporter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,12 +29,12 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -41,11 +45,14 @@ class BenchmarkFixtureServiceTest {
     private ProblemRepository problemRepository;
 
     @Mock
-    private TagRepository tagRepository;
+    private ProblemCatalogJdbcRepository problemCatalogJdbcRepository;
 
     @Mock
     private RedisGameService redisGameService;
 
+    @Mock
+    private GameRoomKeyRegistry gameRoomKeyRegistry;
+
     @Mock
     private WorkbookPreviewCacheService workbookPreviewCacheService;
 
@@ -75,50 +82,34 @@ class BenchmarkFixtureServiceTest {
 
         BenchmarkFixtureService fixtureService = new BenchmarkFixtureService(
                 problemRepository,
-                tagRepository,
+                problemCatalogJdbcRepository,
+                new StreamingImporter(new SimpleMeterRegistry()),
                 userRepository,
                 workbookRepository,
                 workbookProblemRepository,
                 redisGameService,
+                gameRoomKeyRegistry,
                 workbookPreviewCacheService,
                 new DefaultResourceLoader(),
                 new ObjectMapper(),
                 redisTemplate);
         ReflectionTestUtils.setField(fixtureService, "problemCatalogPath", "file:" + csvPath);
 
-        when(tagRepository.findAll()).thenReturn(List.of());
+        when(problemCatalogJdbcRepository.findTagIdsByKey()).thenReturn(new HashMap<>());
         when(problemRepository.countBySource("BOJ")).thenReturn(0L, 3L);
         when(problemRepository.findExternalIdsBySource("BOJ")).thenReturn(List.of());
 
-        AtomicReference<List<Problem>> savedProblemsRef = new AtomicReference<>(List.of());
-        AtomicLong idSequence = new AtomicLong(1L);
-        when(problemRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Problem> problems = invocation.getArgument(0);
-            problems.forEach(problem -> problem.setId(idSequence.getAndIncrement()));
-            savedProblemsRef.set(new ArrayList<>(problems));
-            return problems;
-        });
-
-        when(problemRepository.findBySource(eq("BOJ"), any(Pageable.class))).thenAnswer(invocation -> {
-            Pageable pageable = invocation.getArgument(1);
-            List<Problem> savedProblems = savedProblemsRef.get();
-            if (savedProblems.isEmpty()) {
-                return Page.empty(pageable);
-            }
-            int end = Math.min(savedProblems.size(), pageable.getPageSize());
-            return new PageImpl<>(savedProblems.subList(0, end), pageable, savedProblems.size());
-        });
+        List<ProblemWrite> writtenProblems = stubCatalogWrites();
 
         List<Long> problemIds = fixtureService.ensureProblemIds(3);
 
         Assertions.assertEquals(List.of(1L, 2L, 3L), problemIds);
-        List<Problem> savedProblems = savedProblemsRef.get();
-        Assertions.assertEquals(3, savedProblems.size());
-        Assertions.assertEquals("1000", savedProblems.get(0).getExternalId());
-        Assertions.assertEquals("A+B", savedProblems.get(0).getTitle());
-        Assertions.assertEquals("Bronze 5", savedProblems.get(0).getTier());
-        Assertions.assertEquals("https://www.acmicpc.net/problem/1000", savedProblems.get(0).getUrl());
-        Assertions.assertEquals(2, savedProblems.get(0).getTags().size());
+        Assertions.assertEquals(3, writtenProblems.size());
+        Assertions.assertEquals("1000", writtenProblems.get(0).externalId());
+        Assertions.assertEquals("A+B", writtenProblems.get(0).title());
+        Assertions.assertEquals("Bronze 5", writtenProblems.get(0).tier());
+        Assertions.assertEquals("https://www.acmicpc.net/problem/1000", writtenProblems.get(0).url());
+        Assertions.assertEquals(2, writtenProblems.get(0).tags().size());
     }
 
     @Test
@@ -131,50 +122,93 @@ class BenchmarkFixtureServiceTest {
 
         BenchmarkFixtureService fixtureService = new BenchmarkFixtureService(
                 problemRepository,
-                tagRepository,
+                problemCatalogJdbcRepository,
+                new StreamingImporter(new SimpleMeterRegistry()),
                 userRepository,
                 workbookRepository,
                 workbookProblemRepository,
                 redisGameService,
+                gameRoomKeyRegistry,
                 workbookPreviewCacheService,
                 new DefaultResourceLoader(),
                 new ObjectMapper(),
                 redisTemplate);
         ReflectionTestUtils.setField(fixtureService, "problemCatalogPath", "file:" + csvPath);
 
-        when(tagRepository.findAll()).thenReturn(List.of());
+        when(problemCatalogJdbcRepository.findTagIdsByKey()).thenReturn(new HashMap<>());
         when(problemRepository.countBySource("BOJ")).thenReturn(0L, 5L);
         when(problemRepository.findExternalIdsBySource("BOJ")).thenReturn(List.of());
 
-        AtomicReference<List<Problem>> savedProblemsRef = new AtomicReference<>(List.of());
-        AtomicLong idSequence = new AtomicLong(1L);
-        when(problemRepository.saveAll(anyList())).thenAnswer(invocation -> {
-            List<Problem> problems = invocation.getArgument(0);
-            problems.forEach(problem -> problem.setId(idSequence.getAndIncrement()));
-            savedProblemsRef.set(new ArrayList<>(problems));
-            return problems;
+        List<ProblemWrite> writtenProblems = stubCatalogWrites();
+
+        List<Long> problemIds = fixtureService.ensureProblemIds(5);
+
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L, 5L), problemIds);
+        Assertions.assertEquals(5, writtenProblems.size());
+        Assertions.assertEquals("1000", writtenProblems.get(0).externalId());
+        Assertions.assertEquals("1001", writtenProblems.get(1).externalId());
+        Assertions.assertNotEquals(writtenProblems.get(0).externalId(), writtenProblems.get(2).externalId());
+        Assertions.assertEquals("A+B", writtenProblems.get(2).title());
+        Assertions.assertEquals("https://www.acmicpc.net/problem/1000", writtenProblems.get(2).url());
+    }
+
+    @Test
+    void ensureProblemIdsSkipsIncompleteRowsAndReadsQuotedLineBreaks() throws Exception {
+        Path csvPath = writeCatalog("""
+                "ID","TITLE","TIER","TAGS"
+                "1000","A+B","Bronze 5","구현"
+                "1001","","Bronze 5","구현"
+                "1002","여러
+                줄 제목","Silver 3","수학"
+                """);
+
+        BenchmarkFixtureService fixtureService = new BenchmarkFixtureService(
+                problemRepository,
+                problemCatalogJdbcRepository,
+                new StreamingImporter(new SimpleMeterRegistry()),
+                userRepository,
+                workbookRepository,
+                workbookProblemRepository,
+                redisGameService,
+                gameRoomKeyRegistry,
+                workbookPreviewCacheService,
+                new DefaultResourceLoader(),
+                new ObjectMapper(),
+                redisTemplate);
+        ReflectionTestUtils.setField(fixtureService, "problemCatalogPath", "file:" + csvPath);
+
+        when(problemCatalogJdbcRepository.findTagIdsByKey()).thenReturn(new HashMap<>());
+        when(problemRepository.countBySource("BOJ")).thenReturn(0L, 2L);
+        when(problemRepository.findExternalIdsBySource("BOJ")).thenReturn(List.of());
+        List<ProblemWrite> writtenProblems = stubCatalogWrites();
+
+        fixtureService.ensureProblemIds(2);
+
+        Assertions.assertEquals(List.of("1000", "1002"),
+                writtenProblems.stream().map(ProblemWrite::externalId).toList());
+        Assertions.assertEquals("여러\n줄 제목", writtenProblems.get(1).title());
+    }
+
+    private List<ProblemWrite> stubCatalogWrites() {
+        List<ProblemWrite> writtenProblems = new ArrayList<>();
+        when(problemCatalogJdbcRepository.insertProblems(eq("BOJ"), anyList(), anyMap())).thenAnswer(invocation -> {
+            List<ProblemWrite> problems = invocation.getArgument(1);
+            writtenProblems.addAll(problems);
+            return problems.size();
         });
 
         when(problemRepository.findBySource(eq("BOJ"), any(Pageable.class))).thenAnswer(invocation -> {
             Pageable pageable = invocation.getArgument(1);
-            List<Problem> savedProblems = savedProblemsRef.get();
-            if (savedProblems.isEmpty()) {
+            if (writtenProblems.isEmpty()) {
                 return Page.empty(pageable);
             }
-            int end = Math.min(savedProblems.size(), pageable.getPageSize());
-            return new PageImpl<>(savedProblems.subList(0, end), pageable, savedProblems.size());
+            List<Problem> savedProblems = new ArrayList<>();
+            for (int i = 0; i < Math.min(writtenProblems.size(), pageable.getPageSize()); i++) {
+                savedProblems.add(problem((long) i + 1, writtenProblems.get(i).externalId()));
+            }
+            return new PageImpl<>(savedProblems, pageable, writtenProblems.size());
         });
-
-        List<Long> problemIds = fixtureService.ensureProblemIds(5);
-
-        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L, 5L), problemIds);
-        List<Problem> savedProblems = savedProblemsRef.get();
-        Assertions.assertEquals(5, savedProblems.size());
-        Assertions.assertEquals("1000", savedProblems.get(0).getExternalId());
-        Assertions.assertEquals("1001", savedProblems.get(1).getExternalId());
-        Assertions.assertNotEquals(savedProblems.get(0).getExternalId(), savedProblems.get(2).getExternalId());
-        Assertions.assertEquals("A+B", savedProblems.get(2).getTitle());
-        Assertions.assertEquals("https://www.acmicpc.net/problem/1000", savedProblems.get(2).getUrl());
+        return writtenProblems;
     }
 
     private Path writeCatalog(String csvContent) throws Exception {
@@ -0,0 +1,142 @@
+package com.peekle.domain.cs.service.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.peekle.domain.cs.enums.CsAttemptPhase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsSessionCodecTest {
+
+    @Test
+    @DisplayName("풀이 세션은 단일 값/세그먼트 인코딩 모두 원본과 동일하게 복원된다")
+    void attemptSession_roundTrip() {
+        CsAttemptSession session = attemptSession();
+
+        CsAttemptSession fromValue = CsSessionCodec.decodeAttempt(CsSessionCodec.encodeAttempt(session));
+        CsAttemptSession fromSegments = CsSessionCodec.decodeAttempt(
+                CsSessionCodec.encodeAttemptMeta(session),
+                CsSessionCodec.encodeAttemptState(session));
+
+        for (CsAttemptSession decoded : List.of(fromValue, fromSegments)) {
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(session);
+        }
+    }
+
+    @Test
+    @DisplayName("오답 복습 세션은 단일 값/세그먼트 인코딩 모두 원본과 동일하게 복원된다")
+    void reviewSession_roundTrip() {
+        CsWrongReviewSession session = reviewSession();
+
+        CsWrongReviewSession fromValue = CsSessionCodec.decodeReview(CsSessionCodec.encodeReview(session));
+        CsWrongReviewSession fromSegments = CsSessionCodec.decodeReview(
+                CsSessionCodec.encodeReviewMeta(session),
+                CsSessionCodec.encodeReviewState(session));
+
+        for (CsWrongReviewSession decoded : List.of(fromValue, fromSegments)) {
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(session);
+        }
+    }
+
+    @Test
+    @DisplayName("버전이 다르거나 잘린 세그먼트는 IllegalArgumentException 으로 거부한다")
+    void decode_rejectsUnknownVersionAndTruncatedInput() {
+        byte[] encoded = CsSessionCodec.encodeAttempt(attemptSession());
+
+        byte[] wrongVersion = encoded.clone();
+        wrongVersion[0] = 99;
+        assertThatThrownBy(() -> CsSessionCodec.decodeAttempt(wrongVersion))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+        assertThatThrownBy(() -> CsSessionCodec.decodeAttempt(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("답안 제출 시 갱신되는 state 세그먼트는 JSON 세션보다 훨씬 작다")
+    void encodedSize_comparedWithJsonSerializer() {
+        // 할당량 비교는 JMH CsSessionCodecBenchmark (-prof gc) 에서 잰다
+        CsAttemptSession session = attemptSession();
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper());
+
+        byte[] json = jsonSerializer.serialize(session);
+        byte[] value = CsSessionCodec.encodeAttempt(session);
+        byte[] state = CsSessionCodec.encodeAttemptState(session);
+
+        assertThat(value.length).isLessThan(json.length / 4);
+        assertThat(state.length).isLessThan(64);
+    }
+
+    private CsAttemptSession attemptSession() {
+        List<Long> questionOrder = new ArrayList<>();
+        for (long id = 1_000L; id < 1_010L; id++) {
+            questionOrder.add(id * 7 % 1_013 + 50_000L);
+        }
+
+        Set<Long> firstPassWrong = new HashSet<>(List.of(questionOrder.get(1), questionOrder.get(4)));
+        Map<Long, Integer> wrongCounts = new HashMap<>(Map.of(questionOrder.get(1), 2, questionOrder.get(4), 1));
+        Map<Long, Boolean> latestCorrect = new HashMap<>();
+        for (int i = 0; i < questionOrder.size(); i++) {
+            latestCorrect.put(questionOrder.get(i), i != 4);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.of(2026, 10, 19, 14, 0, 1, 123_456_789);
+        return CsAttemptSession.builder()
+                .userId(42L)
+                .stageId(7L)
+                .domainId(3)
+                .phase(CsAttemptPhase.RETRY_WRONG)
+                .retryRound(2)
+                .questionOrder(questionOrder)
+                .currentRoundQuestionIds(new ArrayList<>(List.of(questionOrder.get(4))))
+                .currentRoundIndex(0)
+                .firstPassCorrectCount(8)
+                .firstPassWrongQuestionIds(firstPassWrong)
+                .wrongAttemptCountByQuestionId(wrongCounts)
+                .latestCorrectByQuestionId(latestCorrect)
+                .startedAt(startedAt)
+                .updatedAt(startedAt.plusMinutes(3))
+                .build();
+    }
+
+    private CsWrongReviewSession reviewSession() {
+        List<Long> questionOrder = new ArrayList<>(List.of(901L, 17L, 455L));
+        LocalDateTime startedAt = LocalDateTime.of(2026, 10, 19, 9, 30);
+        return CsWrongReviewSession.builder()
+                .reviewId("3f1c2b9e-5d4a-4f0e-9b7a-1c2d3e4f5a6b")
+                .userId(42L)
+                .domainId(null)
+                .stageId(11L)
+                .questionOrder(questionOrder)
+                .currentIndex(2)
+                .correctCount(1)
+                .clearedCount(0)
+                .latestCorrectByQuestionId(new HashMap<>(Map.of(901L, true, 17L, false)))
+                .completed(false)
+                .startedAt(startedAt)
+                .updatedAt(startedAt.plusSeconds(40))
+                .build();
+    }
+
+    private ObjectMapper objectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,157 @@
+package com.peekle.domain.execution.service;
+
+import com.peekle.domain.execution.config.ExecutionProperties;
+import com.peekle.domain.execution.dto.request.ExecutionBatchRequest;
+import com.peekle.domain.execution.dto.request.ExecutionCaseRequest;
+import com.peekle.domain.execution.dto.response.ExecutionBatchSummaryResponse;
+import com.peekle.domain.execution.dto.response.ExecutionCaseResultResponse;
+import com.peekle.domain.execution.dto.response.ExecutionResponse;
+import com.peekle.domain.execution.enums.ExecutionLanguage;
+import com.peekle.domain.execution.enums.ExecutionVerdict;
+import com.peekle.domain.execution.service.backend.ExecutionBackend;
+import com.peekle.domain.study.service.TestcaseService;
+import com.peekle.global.redis.RedisPublisher;
+import com.peekle.global.socket.SocketResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutionBatchServiceTest {
+
+    @Mock
+    private ExecutionResultCache executionResultCache;
+    @Mock
+    private TestcaseService testcaseService;
+    @Mock
+    private RedisPublisher redisPublisher;
+
+    private final EchoBackend backend = new EchoBackend();
+    private final List<SocketResponse<?>> published = new CopyOnWriteArrayList<>();
+    private final CountDownLatch done = new CountDownLatch(1);
+    private ExecutionQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("코드는 한 번만 준비하고 모든 케이스의 결과와 요약을 보낸다")
+    void start_preparesOnceAndStreamsEveryCase() throws Exception {
+        ExecutionBatchService service = newService(2);
+
+        service.start(1L, request(false, "a", "a", "b", "b", "c", "c"));
+
+        ExecutionBatchSummaryResponse summary = awaitSummary();
+        assertThat(backend.prepared.get()).isEqualTo(1);
+        assertThat(caseResults()).hasSize(3)
+                .allSatisfy(result -> assertThat(result.getVerdict()).isEqualTo(ExecutionVerdict.ACCEPTED));
+        assertThat(summary.getVerdict()).isEqualTo(ExecutionVerdict.ACCEPTED);
+        assertThat(summary.getPassedCases()).isEqualTo(3);
+        assertThat(summary.isAborted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("abortOnFailure 면 첫 실패 뒤의 케이스는 실행하지 않는다")
+    void start_abortsOnFirstFailure() throws Exception {
+        ExecutionBatchService service = newService(1);
+
+        service.start(1L, request(true, "a", "a", "b", "wrong", "c", "c"));
+
+        ExecutionBatchSummaryResponse summary = awaitSummary();
+        assertThat(backend.inputs).containsExactly("a", "b");
+        assertThat(caseResults()).extracting(ExecutionCaseResultResponse::getVerdict)
+                .containsExactly(ExecutionVerdict.ACCEPTED, ExecutionVerdict.WRONG_ANSWER);
+        assertThat(summary.getVerdict()).isEqualTo(ExecutionVerdict.WRONG_ANSWER);
+        assertThat(summary.getCompletedCases()).isEqualTo(2);
+        assertThat(summary.isAborted()).isTrue();
+    }
+
+    private ExecutionBatchService newService(int parallelism) {
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.getQueue().setWorkers(2);
+        properties.getBatch().setParallelism(parallelism);
+        queue = new ExecutionQueue(properties, new SimpleMeterRegistry());
+        queue.startWorkers();
+
+        doAnswer(invocation -> {
+            SocketResponse<?> message = invocation.getArgument(1);
+            published.add(message);
+            if (message.getData() instanceof ExecutionBatchSummaryResponse) {
+                done.countDown();
+            }
+            return null;
+        }).when(redisPublisher).publish(any(), any());
+
+        return new ExecutionBatchService(backend, queue, executionResultCache, testcaseService,
+                redisPublisher, properties, new SimpleMeterRegistry());
+    }
+
+    // input, expectedOutput 쌍
+    private ExecutionBatchRequest request(boolean abortOnFailure, String... pairs) {
+        List<ExecutionCaseRequest> cases = new ArrayList<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            cases.add(new ExecutionCaseRequest(pairs[i], pairs[i + 1]));
+        }
+        return ExecutionBatchRequest.builder()
+                .language("python")
+                .code("print(input())")
+                .cases(cases)
+                .abortOnFailure(abortOnFailure)
+                .build();
+    }
+
+    private ExecutionBatchSummaryResponse awaitSummary() throws InterruptedException {
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        return (ExecutionBatchSummaryResponse) published.get(published.size() - 1).getData();
+    }
+
+    private List<ExecutionCaseResultResponse> caseResults() {
+        return published.stream()
+                .map(SocketResponse::getData)
+                .filter(ExecutionCaseResultResponse.class::isInstance)
+                .map(ExecutionCaseResultResponse.class::cast)
+                .toList();
+    }
+
+    // 입력을 그대로 출력하는 백엔드
+    private static final class EchoBackend implements ExecutionBackend {
+        private final AtomicInteger prepared = new AtomicInteger();
+        private final List<String> inputs = new CopyOnWriteArrayList<>();
+
+        @Override
+        public ExecutionResult execute(ExecutionLanguage language, String code, String input) {
+            inputs.add(input);
+            return new ExecutionResult(ExecutionResponse.builder()
+                    .stdout(input + "\n")
+                    .stderr("")
+                    .exitCode(0)
+                    .executionTime(1L)
+                    .build(), true);
+        }
+
+        @Override
+        public PreparedProgram prepare(ExecutionLanguage language, String code) {
+            prepared.incrementAndGet();
+            return ExecutionBackend.super.prepare(language, code);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.peekle.domain.execution.service;
+
+import com.peekle.domain.execution.config.ExecutionProperties;
+import com.peekle.global.exception.BusinessException;
+import com.peekle.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutionQueueTest {
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    // 공용 ForkJoinPool 은 병렬도가 낮을 수 있어 제출 스레드를 따로 둔다.
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private ExecutionQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("한 사용자가 여러 건을 먼저 넣어도 다른 사용자의 작업이 번갈아 실행된다")
+    void take_roundRobinsAcrossUsers() throws Exception {
+        queue = newQueue(10);
+        List<CompletableFuture<Void>> submissions = new ArrayList<>();
+        submissions.add(occupyWorker());
+
+        submissions.add(submitQueued(1L, "A1"));
+        submissions.add(submitQueued(1L, "A2"));
+        submissions.add(submitQueued(1L, "A3"));
+        submissions.add(submitQueued(2L, "B1"));
+        release.countDown();
+
+        for (CompletableFuture<Void> submission : submissions) {
+            submission.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(executed).containsExactly("blocker", "A1", "B1", "A2", "A3");
+    }
+
+    @Test
+    @DisplayName("사용자별 대기 한도를 넘으면 바로 거절한다")
+    void submit_rejectsWhenPerUserCapacityExceeded() throws Exception {
+        queue = newQueue(1);
+        CompletableFuture<Void> blocker = occupyWorker();
+        CompletableFuture<Void> queued = submitQueued(1L, "queued");
+
+        assertThatThrownBy(() -> queue.submit(1L, () -> "rejected"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXECUTION_QUEUE_FULL);
+
+        release.countDown();
+        blocker.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(executed).containsExactly("blocker", "queued");
+    }
+
+    private ExecutionQueue newQueue(int perUserCapacity) {
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.getQueue().setWorkers(1);
+        properties.getQueue().setPerUserCapacity(perUserCapacity);
+        ExecutionQueue executionQueue = new ExecutionQueue(properties, new SimpleMeterRegistry());
+        executionQueue.startWorkers();
+        return executionQueue;
+    }
+
+    // 하나뿐인 워커를 release 전까지 붙잡아 둔다.
+    private CompletableFuture<Void> occupyWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> queue.submit(99L, () -> {
+            executed.add("blocker");
+            started.countDown();
+            await(release);
+            return null;
+        }), callers);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return future;
+    }
+
+    // 제출 순서를 고정하기 위해 대기열에 들어간 것을 확인한 뒤 반환한다.
+    private CompletableFuture<Void> submitQueued(Long userId, String name) throws InterruptedException {
+        int expectedPending = queue.pendingCount() + 1;
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> queue.submit(userId, () -> {
+            executed.add(name);
+            return name;
+        }), callers);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (queue.pendingCount() < expectedPending && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        return future;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.peekle.domain.execution.socket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutionTopicInterceptorTest {
+
+    private final ExecutionTopicInterceptor interceptor = new ExecutionTopicInterceptor();
+
+    @Test
+    @DisplayName("본인 실행 결과 토픽 구독은 통과시킨다")
+    void preSend_allowsOwnTopic() {
+        Message<byte[]> message = subscribe("/topic/executions/users/1", 1L);
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("다른 유저나 userId 없는 세션의 실행 결과 토픽 구독은 거절한다")
+    void preSend_rejectsForeignTopic() {
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/executions/users/2", 1L), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/executions/users/1", null), null))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/executions/users/1/extra", 1L), null))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    @DisplayName("다른 토픽 구독은 건드리지 않는다")
+    void preSend_ignoresOtherTopics() {
+        Message<byte[]> message = subscribe("/topic/studies/10", null);
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    private Message<byte[]> subscribe(String destination, Long userId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        if (userId != null) {
+            sessionAttributes.put("userId", userId);
+        }
+        accessor.setSessionAttributes(sessionAttributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
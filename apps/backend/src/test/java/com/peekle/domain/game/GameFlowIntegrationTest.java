@@ -0,0 +1,256 @@
+package com.peekle.domain.game;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.peekle.domain.auth.jwt.JwtTokenProvider;
+import com.peekle.domain.problem.entity.Problem;
+import com.peekle.domain.problem.repository.ProblemRepository;
+import com.peekle.domain.user.entity.User;
+import com.peekle.domain.user.repository.UserRepository;
+import com.peekle.domain.workbook.entity.Workbook;
+import com.peekle.domain.workbook.entity.WorkbookProblem;
+import com.peekle.domain.workbook.repository.WorkbookRepository;
+import com.peekle.global.metrics.BenchmarkSqlStatisticsService;
+import com.peekle.global.redis.RedisKeyConst;
+import com.peekle.support.EmbeddedRedisServer;
+import com.peekle.support.OfflineIntegrationTest;
+import com.peekle.support.RedisCommandRecorder;
+import com.peekle.support.StompTestClient;
+import com.peekle.support.StubExternalServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 방 생성 → 시작 → 풀이 → 종료 전 구간을 실제 HTTP/STOMP 로 돌리고 단계별 Redis 명령 수와 SQL 문장 수를 본다
+ * - 예산은 현재 구현 기준의 상한이다. 넘으면 어느 명령이 늘었는지 메시지로 남긴다
+ */
+@OfflineIntegrationTest
+class GameFlowIntegrationTest {
+
+    private static final long CREATE_REDIS_BUDGET = 60;
+    private static final long CREATE_SQL_BUDGET = 5;
+    private static final long START_REDIS_BUDGET = 80;
+    private static final long START_SQL_BUDGET = 10;
+    private static final long SOLVE_REDIS_BUDGET = 60;
+    private static final long SOLVE_SQL_BUDGET = 25;
+    private static final long FINISH_REDIS_BUDGET = 120;
+    private static final long FINISH_SQL_BUDGET = 40;
+
+    private static final String CODE = "public class Main { public static void main(String[] a) { System.out.println(1); } }";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private WorkbookRepository workbookRepository;
+
+    @Autowired
+    private BenchmarkSqlStatisticsService sqlStatisticsService;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisCommandRecorder redisRecorder = EmbeddedRedisServer.recorder();
+    private final StubExternalServer stubServer = StubExternalServer.start();
+
+    private User host;
+    private User guest;
+    private Problem problem;
+    private Workbook workbook;
+    private StompTestClient hostClient;
+    private StompTestClient guestClient;
+
+    @BeforeEach
+    void setUp() {
+        stubServer.reset();
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        host = createUser("host-" + suffix);
+        guest = createUser("guest-" + suffix);
+
+        String externalId = String.valueOf(ThreadLocalRandom.current().nextInt(900_000, 999_999));
+        problem = new Problem("BOJ", externalId, "flow " + externalId, "Bronze 5",
+                "https://www.acmicpc.net/problem/" + externalId);
+        problem.setLevel(1);
+        problem = problemRepository.save(problem);
+
+        workbook = Workbook.builder()
+                .title("flow-" + suffix)
+                .creator(host)
+                .build();
+        workbook.addProblem(WorkbookProblem.builder()
+                .workbook(workbook)
+                .problem(problem)
+                .orderIndex(0)
+                .build());
+        workbook = workbookRepository.save(workbook);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (hostClient != null) {
+            hostClient.close();
+        }
+        if (guestClient != null) {
+            guestClient.close();
+        }
+    }
+
+    @Test
+    @DisplayName("개인전 타임어택 한 판의 단계별 Redis 명령/SQL 문장 수가 예산 안에 있다")
+    void fullGameFlow_staysWithinBudgets() {
+        // 1. 방 생성
+        PhaseCounter create = startPhase();
+        Long roomId = createRoom();
+        create.assertWithin("create", CREATE_REDIS_BUDGET, CREATE_SQL_BUDGET);
+
+        String roomTopic = "/topic/" + String.format(RedisKeyConst.TOPIC_GAME_ROOM, roomId);
+        hostClient = StompTestClient.connect(port, host.getId());
+        guestClient = StompTestClient.connect(port, guest.getId());
+        hostClient.subscribe(roomTopic);
+        guestClient.subscribe(roomTopic);
+
+        // 입장/준비는 단계 사이 준비 작업이라 측정하지 않는다
+        hostClient.send("/pub/games/enter", Map.of("gameId", roomId));
+        guestClient.send("/pub/games/enter", Map.of("gameId", roomId));
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> Boolean.TRUE.equals(
+                        redisTemplate.hasKey(String.format(RedisKeyConst.USER_CURRENT_GAME, guest.getId()))));
+        guestClient.send("/pub/games/ready", Map.of("gameId", roomId));
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> "true".equals(String.valueOf(redisTemplate.opsForHash()
+                        .get(String.format(RedisKeyConst.GAME_ROOM_READY_STATUS, roomId), String.valueOf(guest.getId())))));
+
+        // 2. 게임 시작
+        PhaseCounter start = startPhase();
+        hostClient.send("/pub/games/start", Map.of("gameId", roomId));
+        hostClient.await(roomTopic, "START");
+        start.assertWithin("start", START_REDIS_BUDGET, START_SQL_BUDGET);
+
+        // 3. 풀이 제출 (확장 프로그램 → BOJ 채점 현황 검증 → 점수 반영)
+        String submitId = String.valueOf(ThreadLocalRandom.current().nextLong(10_000_000L, 99_999_999L));
+        stubServer.registerSubmission(submitId, host.getBojId(), problem.getExternalId(), CODE);
+        PhaseCounter solve = startPhase();
+        JsonNode submission = submit(roomId, submitId);
+        hostClient.await(roomTopic, "SOLVED");
+        solve.assertWithin("solve", SOLVE_REDIS_BUDGET, SOLVE_SQL_BUDGET);
+
+        assertThat(submission.path("data").path("success").asBoolean()).isTrue();
+        assertThat(stubServer.requestCount("boj")).isEqualTo(1);
+
+        // 4. 게임 종료 (정산)
+        PhaseCounter finish = startPhase();
+        ResponseEntity<JsonNode> end = restTemplate.postForEntity("/api/games/{roomId}/end",
+                new HttpEntity<>(null, authHeaders(host)), JsonNode.class, roomId);
+        JsonNode gameEnd = guestClient.await(roomTopic, "GAME_END");
+        finish.assertWithin("finish", FINISH_REDIS_BUDGET, FINISH_SQL_BUDGET);
+
+        // GAME_END 는 키 정리 전에 발행되므로 응답 상태와 남은 방 키까지 확인한다
+        assertThat(end.getStatusCode().is2xxSuccessful()).as("/end 응답 %s", end.getBody()).isTrue();
+        assertThat(gameEnd.path("data").isMissingNode()).isFalse();
+        assertThat(redisTemplate.keys("*{" + roomId + "}*")).as("종료 후 남은 방 키").isEmpty();
+    }
+
+    private Long createRoom() {
+        Map<String, Object> request = new HashMap<>();
+        request.put("title", "flow room");
+        request.put("maxPlayers", 4);
+        request.put("timeLimit", 30);
+        request.put("problemCount", 1);
+        request.put("teamType", "INDIVIDUAL");
+        request.put("mode", "TIME_ATTACK");
+        request.put("problemSource", "WORKBOOK");
+        request.put("selectedWorkbookId", String.valueOf(workbook.getId()));
+
+        JsonNode response = restTemplate.postForObject("/api/games",
+                new HttpEntity<>(request, authHeaders(host)), JsonNode.class);
+        assertThat(response.path("success").asBoolean()).isTrue();
+        return response.path("data").asLong();
+    }
+
+    private JsonNode submit(Long roomId, String submitId) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("problemId", Long.valueOf(problem.getExternalId()));
+        request.put("problemTitle", problem.getTitle());
+        request.put("problemTier", "1");
+        request.put("language", "java");
+        request.put("code", CODE);
+        request.put("result", "맞았습니다!!");
+        request.put("isSuccess", true);
+        request.put("submitId", submitId);
+        request.put("extensionToken", host.getExtensionToken());
+        request.put("roomId", roomId);
+        request.put("sourceType", "GAME");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForObject("/api/submissions", new HttpEntity<>(request, headers), JsonNode.class);
+    }
+
+    private HttpHeaders authHeaders(User user) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(jwtTokenProvider.createAccessToken(user.getId(), user.getRole().name()));
+        return headers;
+    }
+
+    private User createUser(String nickname) {
+        User user = new User("flow_" + UUID.randomUUID(), "Google", nickname);
+        user.registerBojId("boj_" + nickname);
+        return userRepository.save(user);
+    }
+
+    private PhaseCounter startPhase() {
+        redisRecorder.reset();
+        return new PhaseCounter(sqlStatisticsService.getPrepareStatementCount());
+    }
+
+    private class PhaseCounter {
+
+        private final long sqlBefore;
+
+        private PhaseCounter(long sqlBefore) {
+            this.sqlBefore = sqlBefore;
+        }
+
+        void assertWithin(String phase, long redisBudget, long sqlBudget) {
+            long redisCommands = redisRecorder.total();
+            long sqlStatements = sqlStatisticsService.getPrepareStatementCount() - sqlBefore;
+            assertThat(redisCommands)
+                    .as("%s 단계 Redis 명령 수 %s", phase, redisRecorder.snapshot())
+                    .isLessThanOrEqualTo(redisBudget);
+            assertThat(sqlStatements)
+                    .as("%s 단계 SQL 문장 수", phase)
+                    .isLessThanOrEqualTo(sqlBudget);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.peekle.domain.game.service;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.peekle.global.redis.RedisKeyConst;
+import com.peekle.support.EmbeddedRedisServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 키 등록/정리 스크립트를 내장 Redis(jedis-mock)에서 실제로 돌린다
+ * - jedis-mock 은 MEMORY 명령이 없어 운영에서 MEMORY 가 막힌 경우와 같은 경로를 탄다
+ */
+class GameRoomKeyRegistryTest {
+
+    private static final Long ROOM_ID = 31L;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private GameRoomKeyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        RedisServer server = EmbeddedRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(server.getHost(), server.getBindPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new GameRoomKeyRegistry(redisTemplate, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys("*{" + ROOM_ID + "}*"));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("등록한 동적 키와 고정 키를 모두 UNLINK 하고, MEMORY 를 쓸 수 없으면 바이트는 0 으로 센다")
+    void teardown_unlinksKeysWithoutMemoryCommand() {
+        String codeKey = "game:room:{" + ROOM_ID + "}:code:1:1000";
+        redisTemplate.opsForValue().set(codeKey, "code");
+        redisTemplate.opsForValue().set(String.format(RedisKeyConst.GAME_STATUS, ROOM_ID), "\"PLAYING\"");
+        registry.register(ROOM_ID, codeKey);
+
+        long reclaimedBytes = registry.teardown(ROOM_ID, "finish");
+
+        assertThat(reclaimedBytes).isZero();
+        assertThat(redisTemplate.keys("*{" + ROOM_ID + "}*")).isEmpty();
+        assertThat(meterRegistry.summary("redis.game.room.reclaimed_keys", "trigger", "finish").totalAmount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("등록하면 레지스트리에 방 키와 같은 TTL 이 걸린다")
+    void register_expiresRegistry() {
+        registry.register(ROOM_ID, "game:room:{" + ROOM_ID + "}:code:1:1000");
+
+        Long ttlSeconds = redisTemplate.getExpire(
+                String.format(RedisKeyConst.GAME_ROOM_KEY_REGISTRY, ROOM_ID), TimeUnit.SECONDS);
+        assertThat(ttlSeconds).isBetween(TimeUnit.HOURS.toSeconds(6) - 5, TimeUnit.HOURS.toSeconds(6));
+    }
+}
@@ -4,6 +4,9 @@ import com.peekle.domain.problem.entity.Problem;
 import com.peekle.domain.problem.entity.Tag;
 import com.peekle.domain.problem.repository.ProblemRepository;
 import com.peekle.domain.problem.repository.TagRepository;
+import com.peekle.global.http.OutboundHttpClients;
+import com.peekle.global.http.OutboundHttpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -47,9 +50,12 @@ class ProblemServiceTest {
     @Mock
     private TransactionStatus transactionStatus;
 
+    private final OutboundHttpClients outboundHttpClients =
+            new OutboundHttpClients(new OutboundHttpProperties(), new SimpleMeterRegistry());
+
     @Test
     void syncAllBojProblems_replacesExistingProblemTags_whenTagsChanged() {
-        ProblemService problemService = new ProblemService(problemRepository, tagRepository, transactionTemplate);
+        ProblemService problemService = new ProblemService(problemRepository, tagRepository, new TagNameTranslator(tagRepository), transactionTemplate, outboundHttpClients);
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(problemService, "restTemplate");
         MockRestServiceServer mockServer = MockRestServiceServer.bindTo(restTemplate).build();
 
@@ -144,7 +150,7 @@ class ProblemServiceTest {
 
     @Test
     void syncAllBojProblems_updatesTierAndTags_whenBothChanged() {
-        ProblemService problemService = new ProblemService(problemRepository, tagRepository, transactionTemplate);
+        ProblemService problemService = new ProblemService(problemRepository, tagRepository, new TagNameTranslator(tagRepository), transactionTemplate, outboundHttpClients);
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(problemService, "restTemplate");
         MockRestServiceServer mockServer = MockRestServiceServer.bindTo(restTemplate).build();
 
@@ -240,7 +246,7 @@ class ProblemServiceTest {
 
     @Test
     void syncAllBojProblems_updatesAcceptedUserCountLevelAndLanguage_fromSolvedAcFields() {
-        ProblemService problemService = new ProblemService(problemRepository, tagRepository, transactionTemplate);
+        ProblemService problemService = new ProblemService(problemRepository, tagRepository, new TagNameTranslator(tagRepository), transactionTemplate, outboundHttpClients);
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(problemService, "restTemplate");
         MockRestServiceServer mockServer = MockRestServiceServer.bindTo(restTemplate).build();
 
@@ -308,7 +314,7 @@ class ProblemServiceTest {
 
     @Test
     void syncAllBojProblems_resolvesLanguageFromOriginalTitleLanguage_whenTitlesExist() {
-        ProblemService problemService = new ProblemService(problemRepository, tagRepository, transactionTemplate);
+        ProblemService problemService = new ProblemService(problemRepository, tagRepository, new TagNameTranslator(tagRepository), transactionTemplate, outboundHttpClients);
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(problemService, "restTemplate");
         MockRestServiceServer mockServer = MockRestServiceServer.bindTo(restTemplate).build();
 
@@ -375,7 +381,7 @@ class ProblemServiceTest {
 
     @Test
     void syncAllBojProblems_insertsNewProblemWithAcceptedUserCountLevelAndLanguage() {
-        ProblemService problemService = new ProblemService(problemRepository, tagRepository, transactionTemplate);
+        ProblemService problemService = new ProblemService(problemRepository, tagRepository, new TagNameTranslator(tagRepository), transactionTemplate, outboundHttpClients);
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(problemService, "restTemplate");
         MockRestServiceServer mockServer = MockRestServiceServer.bindTo(restTemplate).build();
 
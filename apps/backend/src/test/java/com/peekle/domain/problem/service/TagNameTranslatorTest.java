@@ -0,0 +1,59 @@
+package com.peekle.domain.problem.service;
+
+import com.peekle.domain.problem.entity.Tag;
+import com.peekle.domain.problem.repository.TagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TagNameTranslatorTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void translateToKo_doesNotQueryAgain_forKeysMissingFromDatabase() {
+        TagNameTranslator translator = new TagNameTranslator(tagRepository);
+        when(tagRepository.findAll()).thenReturn(List.of(new Tag("dp", "다이나믹 프로그래밍")));
+        when(tagRepository.findByKeyIn(anyCollection())).thenReturn(List.of());
+
+        assertThat(translator.translateToKo(List.of("dp", "unknown"))).containsExactly("다이나믹 프로그래밍", "unknown");
+        assertThat(translator.translateToKo(List.of("unknown"))).containsExactly("unknown");
+
+        verify(tagRepository, times(1)).findByKeyIn(Set.of("unknown"));
+    }
+
+    @Test
+    void put_appliesAfterCommit_whenTransactionIsActive() {
+        TagNameTranslator translator = new TagNameTranslator(tagRepository);
+        when(tagRepository.findAll()).thenReturn(List.of(new Tag("dp", "다이나믹 프로그래밍")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        translator.put("dp", "동적 계획법");
+        assertThat(translator.translateToKo(List.of("dp"))).containsExactly("다이나믹 프로그래밍");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(translator.translateToKo(List.of("dp"))).containsExactly("동적 계획법");
+    }
+}
@@ -0,0 +1,94 @@
+package com.peekle.domain.study.access;
+
+import com.peekle.domain.study.repository.StudyMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StudyAccessGuardTest {
+
+    @Mock
+    private StudyMemberRepository studyMemberRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private StudyAccessGuard studyAccessGuard;
+
+    @BeforeEach
+    void setUp() {
+        studyAccessGuard = new StudyAccessGuard(studyMemberRepository, stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 에 멤버 목록이 없으면 DB 를 읽기 전의 버전과 함께 채운다 (TTL 도 같은 스크립트에서)")
+    @SuppressWarnings("unchecked")
+    void isMember_loadsMembersWhenMirrorMissing() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("study:10:members")), eq("1")))
+                .thenReturn(-1L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("study:10:members:version")).thenReturn("3");
+        when(studyMemberRepository.findUserIdsByStudyId(10L)).thenReturn(List.of(1L, 2L));
+        when(stringRedisTemplate.execute(any(RedisScript.class),
+                eq(List.of("study:10:members", "study:10:members:version")),
+                eq("3"), eq("1800000"), eq("-"), eq("1"), eq("2")))
+                .thenReturn(1L);
+
+        assertThat(studyAccessGuard.isMember(10L, 1L)).isTrue();
+        InOrder inOrder = inOrder(valueOperations, studyMemberRepository);
+        inOrder.verify(valueOperations).get("study:10:members:version");
+        inOrder.verify(studyMemberRepository).findUserIdsByStudyId(10L);
+    }
+
+    @Test
+    @DisplayName("멤버 구성이 바뀌면 버전을 올리면서 Redis Set 을 지우고 다른 인스턴스에 알린다")
+    @SuppressWarnings("unchecked")
+    void onMembershipChanged_bumpsVersionAndClearsMirror() {
+        studyAccessGuard.onMembershipChanged(StudyMembershipChangedEvent.of(10L, 2L));
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                eq(List.of("study:10:members", "study:10:members:version")), eq("86400000"));
+        verify(stringRedisTemplate).convertAndSend("study/membership/invalidate", "10");
+    }
+
+    @Test
+    @DisplayName("세션에 확인된 멤버는 무효화 전까지 Redis 를 다시 조회하지 않는다")
+    @SuppressWarnings("unchecked")
+    void isMember_reusesSessionUntilInvalidated() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq("1"))).thenReturn(1L);
+        Map<String, Object> sessionAttributes = new HashMap<>();
+
+        assertThat(studyAccessGuard.isMember(sessionAttributes, 10L, 1L)).isTrue();
+        assertThat(studyAccessGuard.isMember(sessionAttributes, 10L, 1L)).isTrue();
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq("1"));
+
+        studyAccessGuard.evictLocal("10");
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq("1"))).thenReturn(0L);
+
+        assertThat(studyAccessGuard.isMember(sessionAttributes, 10L, 1L)).isFalse();
+        verify(studyMemberRepository, never()).findUserIdsByStudyId(any());
+    }
+}
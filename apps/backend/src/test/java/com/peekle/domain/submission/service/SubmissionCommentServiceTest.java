@@ -0,0 +1,123 @@
+package com.peekle.domain.submission.service;
+
+import com.peekle.domain.study.access.StudyAccessGuard;
+import com.peekle.domain.submission.dto.SubmissionCommentCreateRequest;
+import com.peekle.domain.submission.entity.SubmissionComment;
+import com.peekle.domain.submission.entity.SubmissionLog;
+import com.peekle.domain.submission.enums.SubmissionCommentType;
+import com.peekle.domain.submission.repository.SubmissionCommentRepository;
+import com.peekle.domain.submission.repository.SubmissionLogRepository;
+import com.peekle.domain.submission.repository.SubmissionLogRepository.SubmissionCommentTarget;
+import com.peekle.domain.user.entity.User;
+import com.peekle.domain.user.repository.UserRepository;
+import com.peekle.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionCommentServiceTest {
+
+    private static final Long STUDY_ID = 10L;
+    private static final Long SUBMISSION_ID = 100L;
+    private static final Long AUTHOR_ID = 1L;
+
+    @Mock
+    private SubmissionLogRepository submissionLogRepository;
+    @Mock
+    private SubmissionCommentRepository submissionCommentRepository;
+    @Mock
+    private StudyAccessGuard studyAccessGuard;
+    @Mock
+    private UserRepository userRepository;
+
+    private SubmissionCommentService submissionCommentService;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        submissionCommentService = new SubmissionCommentService(
+                submissionLogRepository, submissionCommentRepository, studyAccessGuard, userRepository);
+        author = new User("social", "Google", "author");
+        ReflectionTestUtils.setField(author, "id", AUTHOR_ID);
+        when(submissionLogRepository.findCommentTargetById(SUBMISSION_ID))
+                .thenReturn(Optional.of(target(3)));
+    }
+
+    @Test
+    @DisplayName("답글을 지우면 자신과 조상 id 를 넘겨 한 번의 DELETE 로 정리한다")
+    void deleteComment_deletesThreadInOneStatement() {
+        SubmissionComment root = comment(7L, null);
+        SubmissionComment middle = comment(8L, root);
+        SubmissionComment reply = comment(9L, middle);
+        when(submissionCommentRepository.findByIdAndSubmission_Id(9L, SUBMISSION_ID))
+                .thenReturn(Optional.of(reply));
+
+        submissionCommentService.deleteComment(STUDY_ID, SUBMISSION_ID, 9L, AUTHOR_ID);
+
+        assertThat(reply.getIsDeleted()).isTrue();
+        verify(submissionCommentRepository).deleteOrphanedThread(SUBMISSION_ID, List.of(7L, 8L, 9L));
+    }
+
+    @Test
+    @DisplayName("줄 범위는 저장된 줄 수로 검증하고 코드를 읽지 않는다")
+    void createComment_validatesAgainstStoredLineCount() {
+        when(userRepository.findById(AUTHOR_ID)).thenReturn(Optional.of(author));
+        SubmissionCommentCreateRequest request = new SubmissionCommentCreateRequest();
+        ReflectionTestUtils.setField(request, "type", "INLINE");
+        ReflectionTestUtils.setField(request, "lineStart", 2);
+        ReflectionTestUtils.setField(request, "lineEnd", 4);
+        ReflectionTestUtils.setField(request, "content", "리뷰");
+
+        assertThatThrownBy(() -> submissionCommentService.createComment(STUDY_ID, SUBMISSION_ID, AUTHOR_ID, request))
+                .isInstanceOf(BusinessException.class);
+        verify(submissionLogRepository, never()).findById(anyLong());
+    }
+
+    private SubmissionComment comment(Long id, SubmissionComment parent) {
+        SubmissionComment comment = SubmissionComment.builder()
+                .submission(new SubmissionLog())
+                .user(author)
+                .parent(parent)
+                .commentType(SubmissionCommentType.INLINE)
+                .lineStart(1)
+                .lineEnd(1)
+                .content("content")
+                .build();
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+
+    private SubmissionCommentTarget target(int lineCount) {
+        return new SubmissionCommentTarget() {
+            @Override
+            public Long getId() {
+                return SUBMISSION_ID;
+            }
+
+            @Override
+            public Long getRoomId() {
+                return STUDY_ID;
+            }
+
+            @Override
+            public Integer getLineCount() {
+                return lineCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.peekle.global.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("연결 실패는 maxAttempts 까지 재시도하고, 시도마다 타이머에 남긴다")
+    void execute_retriesIoFailures() {
+        OutboundBulkhead bulkhead = new OutboundBulkhead(OutboundDestination.BOJ, policy(2, 3), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = bulkhead.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IOException("connection reset");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+        assertThat(bulkhead.availablePermits()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbound.http.requests").tag("outcome", "io").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbound.http.requests").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않는다")
+    void execute_doesNotRetryClientErrors() {
+        OutboundBulkhead bulkhead = new OutboundBulkhead(OutboundDestination.BOJ, policy(2, 3), meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            calls.incrementAndGet();
+            throw new OutboundHttpException(OutboundDestination.BOJ, 404);
+        })).isInstanceOf(OutboundHttpException.class);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("자리가 없으면 호출하지 않고 제한 시간 뒤 REJECTED 로 거절한다")
+    void execute_rejectsWhenFull() throws Exception {
+        OutboundBulkhead bulkhead = new OutboundBulkhead(OutboundDestination.AI, policy(1, 3), meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> bulkhead.execute(() -> {
+            entered.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        holder.start();
+        entered.await(5, TimeUnit.SECONDS);
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> bulkhead.execute(calls::incrementAndGet))
+                .isInstanceOfSatisfying(OutboundHttpException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(OutboundHttpException.Reason.REJECTED));
+
+        release.countDown();
+        holder.join();
+        assertThat(calls).hasValue(0);
+        assertThat(meterRegistry.get("outbound.http.rejected").counter().count()).isEqualTo(1);
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    private OutboundHttpProperties.Policy policy(int maxConcurrent, int maxAttempts) {
+        OutboundHttpProperties.Policy policy = new OutboundHttpProperties.Policy();
+        policy.setMaxConcurrent(maxConcurrent);
+        policy.setMaxAttempts(maxAttempts);
+        policy.setAcquireTimeoutMs(50);
+        policy.setBackoffMs(1);
+        policy.setMaxBackoffMs(2);
+        return policy;
+    }
+}
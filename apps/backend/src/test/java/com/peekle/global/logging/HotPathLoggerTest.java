@@ -0,0 +1,54 @@
+package com.peekle.global.logging;
+
+import com.peekle.global.socket.SocketResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotPathLoggerTest {
+
+    @Test
+    @DisplayName("토픽의 숫자 구간은 {id} 로 치환되어 메트릭 태그 수가 토픽 종류 수로 제한된다")
+    void normalizeTopic_replacesNumericSegments() {
+        assertThat(HotPathLogger.normalizeTopic("topic/studies/rooms/12/ide/7"))
+                .isEqualTo("topic/studies/rooms/{id}/ide/{id}");
+        assertThat(HotPathLogger.normalizeTopic("topic/games/lobby")).isEqualTo("topic/games/lobby");
+        assertThat(HotPathLogger.normalizeTopic(null)).isEqualTo("unknown");
+    }
+
+    @Test
+    @DisplayName("페이로드는 본문 대신 타입과 크기만 요약한다")
+    void summarize_describesShapeOnly() {
+        String summary = HotPathLogger.summarize(
+                SocketResponse.of("IDE", new HashMap<>(Map.of("code", "x".repeat(10_000)))));
+
+        assertThat(summary).isEqualTo("SocketResponse[type=IDE, data=HashMap(size=1)]");
+        assertThat(HotPathLogger.summarize(List.of(1, 2, 3))).endsWith("(size=3)");
+        assertThat(HotPathLogger.summarize("hello")).isEqualTo("String(len=5)");
+    }
+
+    @Test
+    @DisplayName("모든 메시지는 카운터에 집계되고 바이트 크기는 토픽별 분포로 기록된다")
+    void forwarded_countsEveryMessage() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        HotPathLogger logger = new HotPathLogger(registry, 60_000);
+
+        for (long roomId = 1; roomId <= 50; roomId++) {
+            logger.forwarded("topic/studies/rooms/" + roomId + "/chat", 128, SocketResponse.of("CHAT", "hi"));
+        }
+
+        assertThat(registry.get("socket.message.count")
+                .tags("direction", "forward", "topic", "topic/studies/rooms/{id}/chat")
+                .counter().count()).isEqualTo(50.0);
+        assertThat(registry.get("socket.message.bytes")
+                .tags("topic", "topic/studies/rooms/{id}/chat")
+                .summary().totalAmount()).isEqualTo(50 * 128.0);
+        assertThat(registry.find("socket.message.count").counters()).hasSize(1);
+    }
+}
@@ -0,0 +1,132 @@
+package com.peekle.global.media.service;
+
+import com.peekle.global.http.OutboundHttpClients;
+import com.peekle.global.http.OutboundHttpProperties;
+import io.livekit.server.RoomServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MediaServiceTest {
+
+    private static final Long STUDY_ID = 10L;
+    private static final Long USER_ID = 1L;
+    private static final String SESSION_ID = "session-1";
+
+    @Mock
+    private RoomServiceClient roomServiceClient;
+    @Mock
+    private Call<Void> removeCall;
+    @Mock
+    private LiveKitIdentityRegistry identityRegistry;
+
+    private MediaProperties properties;
+    private AccessTokenCache accessTokenCache;
+    private LiveKitEvictionQueue evictionQueue;
+    private MediaService mediaService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        properties = new MediaProperties();
+        accessTokenCache = new AccessTokenCache(properties, meterRegistry);
+        evictionQueue = new LiveKitEvictionQueue(roomServiceClient,
+                new OutboundHttpClients(new OutboundHttpProperties(), meterRegistry), properties, meterRegistry);
+        mediaService = new MediaService(accessTokenCache, identityRegistry, evictionQueue, properties);
+        ReflectionTestUtils.setField(mediaService, "apiKey", "devkey");
+        ReflectionTestUtils.setField(mediaService, "secret", "test-secret-test-secret-test-secret");
+    }
+
+    @Test
+    @DisplayName("같은 세션의 토큰은 만료 직전까지 다시 서명하지 않는다")
+    void createAccessToken_reusesCachedToken() {
+        String first = mediaService.createAccessToken(STUDY_ID, USER_ID, "nick", SESSION_ID);
+        String second = mediaService.createAccessToken(STUDY_ID, USER_ID, "nick", SESSION_ID);
+        String renamed = mediaService.createAccessToken(STUDY_ID, USER_ID, "renamed", SESSION_ID);
+
+        assertThat(second).isSameAs(first);
+        assertThat(renamed).isNotEqualTo(first);
+
+        properties.getToken().setRefreshBeforeMs(properties.getToken().getTtlMs());
+        assertThat(mediaService.createAccessToken(STUDY_ID, USER_ID, "renamed", SESSION_ID)).isNotEqualTo(renamed);
+    }
+
+    @Test
+    @DisplayName("같은 유저라도 다른 세션(탭)은 다른 identity 로 발급하고, 발급한 identity 는 Redis 에 기록한다")
+    void createAccessToken_issuesIdentityPerSession() {
+        mediaService.createAccessToken(STUDY_ID, USER_ID, "nick", SESSION_ID);
+        mediaService.createAccessToken(STUDY_ID, USER_ID, "nick", "session-2");
+
+        ArgumentCaptor<String> identity = ArgumentCaptor.forClass(String.class);
+        verify(identityRegistry, times(2)).register(eq("study_10"), eq(USER_ID), identity.capture(),
+                eq(properties.getToken().getTtlMs()));
+        assertThat(identity.getAllValues()).doesNotHaveDuplicates()
+                .allMatch(value -> value.startsWith(USER_ID + "_"));
+        assertThat(accessTokenCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("강퇴는 모든 인스턴스/세션에서 발급한 identity 로 보내고 중복 요청은 합치며, 다음 입장은 새 토큰을 받는다")
+    void evictUser_coalescesAndUsesIssuedIdentities() throws IOException {
+        when(roomServiceClient.removeParticipant(eq("study_10"), anyString())).thenReturn(removeCall);
+        when(removeCall.execute()).thenReturn(Response.success(null));
+        String token = mediaService.createAccessToken(STUDY_ID, USER_ID, "nick", SESSION_ID);
+        ArgumentCaptor<String> issued = ArgumentCaptor.forClass(String.class);
+        verify(identityRegistry).register(eq("study_10"), eq(USER_ID), issued.capture(), anyLong());
+        // 다른 인스턴스에서 발급된 identity 도 Redis 에서 함께 꺼내진다
+        when(identityRegistry.drain("study_10", USER_ID))
+                .thenReturn(List.of(issued.getValue(), USER_ID + "_other-node"))
+                .thenReturn(List.of());
+
+        mediaService.evictUser(STUDY_ID, USER_ID);
+        // 기록이 비면 예전처럼 userId 로 보내고, 같은 요청은 하나로 합친다
+        mediaService.evictUser(STUDY_ID, USER_ID);
+        mediaService.evictUser(STUDY_ID, USER_ID);
+        assertThat(evictionQueue.pendingCount()).isEqualTo(3);
+        evictionQueue.flush(System.currentTimeMillis());
+
+        ArgumentCaptor<String> identity = ArgumentCaptor.forClass(String.class);
+        verify(roomServiceClient, times(3)).removeParticipant(eq("study_10"), identity.capture());
+        assertThat(identity.getAllValues())
+                .containsExactlyInAnyOrder(issued.getValue(), USER_ID + "_other-node", String.valueOf(USER_ID));
+        assertThat(evictionQueue.pendingCount()).isZero();
+        assertThat(mediaService.createAccessToken(STUDY_ID, USER_ID, "nick", SESSION_ID)).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("강퇴 호출이 실패하면 backoff 뒤에 다시 보낸다")
+    void flush_retriesFailedEviction() throws IOException {
+        when(roomServiceClient.removeParticipant("study_10", "1")).thenReturn(removeCall);
+        when(removeCall.execute())
+                .thenThrow(new IOException("livekit down"))
+                .thenReturn(Response.success(null));
+        mediaService.evictUser(STUDY_ID, USER_ID);
+
+        evictionQueue.flush(System.currentTimeMillis());
+        assertThat(evictionQueue.pendingCount()).isEqualTo(1);
+
+        evictionQueue.flush(System.currentTimeMillis() + properties.getEviction().getRetryBackoffMs());
+        verify(removeCall, times(2)).execute();
+        assertThat(evictionQueue.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,64 @@
+package com.peekle.global.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ConnectionAdmissionDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("커넥션을 닫으면 자리가 돌아오고, 여러 번 닫아도 한 번만 돌아온다")
+    void close_releasesPermitOnce() throws Exception {
+        Connection physical = mock(Connection.class);
+        given(target.getConnection()).willReturn(physical);
+        ConnectionAdmissionDataSource dataSource = new ConnectionAdmissionDataSource(target, 2, 100, meterRegistry);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(physical, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("자리가 없으면 제한 시간 뒤 SQLTransientConnectionException 으로 거절한다")
+    void getConnection_rejectsAfterTimeout() throws Exception {
+        given(target.getConnection()).willReturn(mock(Connection.class));
+        ConnectionAdmissionDataSource dataSource = new ConnectionAdmissionDataSource(target, 1, 50, meterRegistry);
+
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.counter("db.connection.admission.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("풀에서 커넥션을 못 받으면 자리를 바로 돌려준다")
+    void getConnection_releasesPermitWhenPoolFails() throws Exception {
+        given(target.getConnection()).willThrow(new SQLException("pool timeout"));
+        ConnectionAdmissionDataSource dataSource = new ConnectionAdmissionDataSource(target, 1, 50, meterRegistry);
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.peekle.global.presence;
+
+import com.peekle.global.redis.RedisKeyConst;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        presenceService = new PresenceService(stringRedisTemplate, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("여러 세션으로 접속한 유저는 온라인 목록에 한 번만 나온다")
+    void onlineUserIds_collapsesSessionsPerUser() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq("study:10:presence"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(new LinkedHashSet<>(List.of("1|s1", "1|s2", "2|s3")));
+
+        Set<Long> onlineUserIds = presenceService.onlineUserIds(PresenceScope.STUDY, 10L);
+
+        assertThat(onlineUserIds).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("스위퍼가 꺼낸 만료 세션마다 만료 이벤트를 발행한다")
+    @SuppressWarnings("unchecked")
+    void sweepExpired_publishesEventPerClaimedSession() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(RedisKeyConst.PRESENCE_SESSIONS)),
+                any(), any()))
+                .thenReturn(List.of("STUDY|10|1|s1", "GAME|20|2|s2", "broken"));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of());
+
+        presenceService.sweepExpired();
+
+        verify(eventPublisher).publishEvent(new PresenceExpiredEvent(PresenceScope.STUDY, 10L, 1L, "s1"));
+        verify(eventPublisher).publishEvent(new PresenceExpiredEvent(PresenceScope.GAME, 20L, 2L, "s2"));
+    }
+
+    @Test
+    @DisplayName("방에 등록되지 않은 세션의 하트비트는 Redis 에 쓰지 않는다")
+    @SuppressWarnings("unchecked")
+    void flushHeartbeats_skipsUnknownSessions() {
+        presenceService.heartbeat("unknown");
+
+        presenceService.flushHeartbeats();
+
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,90 @@
+package com.peekle.global.redis.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedRedisConnectionFactoryTest {
+
+    private static final byte[] KEY = "game:1:status".getBytes();
+    private static final byte[] VALUE = "PLAYING".getBytes();
+
+    @Mock
+    private RedisConnectionFactory delegate;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisStringCommands stringCommands;
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisOperationMetrics metrics;
+    private InstrumentedRedisConnectionFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new RedisOperationMetrics(meterRegistry);
+        factory = new InstrumentedRedisConnectionFactory(delegate, metrics);
+        when(delegate.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("스코프 안의 명령 수/바이트는 안쪽 연산에 기록되고 바깥 연산으로 합산된다")
+    void recordsCommandsPerOperation() {
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(stringCommands.get(KEY)).thenReturn(VALUE);
+        RedisConnection instrumented = factory.getConnection();
+
+        RedisOperationContext.Scope outer = RedisOperationContext.open("game.finish");
+        instrumented.stringCommands().get(KEY);
+        RedisOperationContext.Scope inner = RedisOperationContext.open("game.delete");
+        instrumented.keyCommands().del(KEY, KEY);
+        inner.close();
+        outer.close();
+
+        assertThat(inner.getCommands()).isEqualTo(1);
+        assertThat(inner.getBytesOut()).isEqualTo(KEY.length * 2L);
+        assertThat(outer.getCommands()).isEqualTo(2);
+        assertThat(outer.getBytesOut()).isEqualTo(KEY.length * 3L);
+        assertThat(outer.getBytesIn()).isEqualTo(VALUE.length);
+        assertThat(commandTimer("game.finish", "get").count()).isEqualTo(1);
+        assertThat(commandTimer("game.delete", "del").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스코프 밖 명령은 unscoped 로, 연결 관리 메서드는 세지 않는다")
+    void ignoresConnectionManagementCalls() {
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        RedisConnection instrumented = factory.getConnection();
+
+        instrumented.stringCommands().get(KEY);
+        instrumented.isPipelined();
+        instrumented.close();
+
+        assertThat(commandTimer(RedisOperationContext.UNSCOPED, "get").count()).isEqualTo(1);
+        assertThat(meterRegistry.find(RedisOperationMetrics.METRIC_COMMAND_LATENCY).timers()).hasSize(1);
+    }
+
+    private Timer commandTimer(String operation, String command) {
+        return meterRegistry.get(RedisOperationMetrics.METRIC_COMMAND_LATENCY)
+                .tag("operation", operation)
+                .tag("command", command)
+                .timer();
+    }
+}
@@ -0,0 +1,51 @@
+package com.peekle.support;
+
+import com.github.fppt.jedismock.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 테스트 JVM 안에서 뜨는 Redis 호환 서버 (jedis-mock)
+ * - Lettuce/Redisson 이 실제 소켓으로 붙으므로 직렬화, Lua 스크립트, pub/sub 경로가 운영과 같다
+ * - jedis-mock 에 없는 cjson, MEMORY 는 JedisMockScripts 에서 다룬다
+ * - 컨텍스트 캐시와 수명을 맞추려고 JVM 당 한 번만 띄운다
+ */
+public final class EmbeddedRedisServer {
+
+    private static final RedisCommandRecorder RECORDER = new RedisCommandRecorder();
+    private static RedisServer server;
+
+    private EmbeddedRedisServer() {
+    }
+
+    public static synchronized RedisServer start() {
+        if (server == null) {
+            try {
+                server = RedisServer.newRedisServer()
+                        .setOptions(RECORDER.serviceOptions())
+                        .start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("내장 Redis 를 띄우지 못했습니다.", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(EmbeddedRedisServer::stop));
+        }
+        return server;
+    }
+
+    public static RedisCommandRecorder recorder() {
+        return RECORDER;
+    }
+
+    private static synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        try {
+            server.stop();
+        } catch (IOException ignored) {
+            // JVM 종료 중
+        }
+        server = null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.peekle.support;
+
+import com.github.fppt.jedismock.datastructures.Slice;
+import com.github.fppt.jedismock.operations.scripting.Script;
+import com.github.fppt.jedismock.operations.server.MockExecutor;
+import com.github.fppt.jedismock.storage.OperationExecutorState;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jedis-mock(LuaJ) 에 없는 Lua 기능을 채워 운영 스크립트를 그대로 돌린다
+ * - cjson 모듈이 없으므로 cjson 을 쓰는 스크립트는 앞에 최소 구현(jedis-mock/cjson.lua)을 붙여 실행한다
+ * - 붙인 스크립트를 원래 SHA 로도 등록해, 드라이버의 EVALSHA 가 운영과 같은 횟수로 맞는다
+ * - MEMORY 명령은 구현돼 있지 않다 (redis.pcall 은 에러 테이블을 받으므로 방 키 정리는 바이트를 0 으로 센다)
+ */
+final class JedisMockScripts {
+
+    private static final String CJSON_SHIM = load("/jedis-mock/cjson.lua");
+
+    private JedisMockScripts() {
+    }
+
+    static Slice proceed(OperationExecutorState state, String name, List<Slice> params) {
+        if ("eval".equalsIgnoreCase(name) && !params.isEmpty()) {
+            String script = params.get(0).toString();
+            if (script.contains("cjson") && !script.startsWith(CJSON_SHIM)) {
+                String patched = CJSON_SHIM + "\n" + script;
+                state.base().addCachedLuaScript(Script.getScriptSHA(script), patched);
+                List<Slice> patchedParams = new ArrayList<>(params);
+                patchedParams.set(0, Slice.create(patched));
+                return MockExecutor.proceed(state, name, patchedParams);
+            }
+        }
+        return MockExecutor.proceed(state, name, params);
+    }
+
+    private static String load(String resource) {
+        try (InputStream input = JedisMockScripts.class.getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException(resource + " 를 찾을 수 없습니다.");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.peekle.support;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 내장 Redis 와 외부 서비스 스텁을 띄우고 애플리케이션 설정을 그쪽으로 돌린다
+ */
+public class OfflineEnvironmentInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        RedisServer redisServer = EmbeddedRedisServer.start();
+        StubExternalServer stubServer = StubExternalServer.start();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.data.redis.host", redisServer.getHost());
+        properties.put("spring.data.redis.port", redisServer.getBindPort());
+        properties.put("spring.data.redis.password", "");
+        properties.put("AI_SERVER_URL", stubServer.baseUrl("ai"));
+        properties.put("livekit.url", stubServer.baseUrl("livekit"));
+        properties.put("outbound.destinations.boj.redirect-url", stubServer.baseUrl("boj"));
+        properties.put("outbound.destinations.solved-ac.redirect-url", stubServer.baseUrl("solved-ac"));
+        // 주기 작업이 돌면 단계별 명령/SQL 수가 흔들린다
+        properties.put("app.scheduling.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+
+        applicationContext.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("offline-integration", properties));
+    }
+}
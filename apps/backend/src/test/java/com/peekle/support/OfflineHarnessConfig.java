@@ -0,0 +1,18 @@
+package com.peekle.support;
+
+import com.peekle.global.metrics.BenchmarkSqlStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class OfflineHarnessConfig {
+
+    /**
+     * benchmark 프로필 없이도 Hibernate + JdbcTemplate 문장 수를 센다
+     */
+    @Bean
+    public BenchmarkSqlStatisticsService benchmarkSqlStatisticsService(EntityManagerFactory entityManagerFactory) {
+        return new BenchmarkSqlStatisticsService(entityManagerFactory);
+    }
+}
@@ -0,0 +1,25 @@
+package com.peekle.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 외부 의존 없이 앱 전체를 띄우는 통합 테스트
+ * - Redis: 프로세스 내 jedis-mock (명령 수 기록), DB: H2, R2: TestR2Config 목
+ * - BOJ/solved.ac/AI/LiveKit: StubExternalServer
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = OfflineEnvironmentInitializer.class)
+@Import(OfflineHarnessConfig.class)
+public @interface OfflineIntegrationTest {
+}
@@ -0,0 +1,58 @@
+package com.peekle.support;
+
+import com.github.fppt.jedismock.datastructures.Slice;
+import com.github.fppt.jedismock.server.ServiceOptions;
+import com.github.fppt.jedismock.storage.OperationExecutorState;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 내장 Redis 로 들어온 명령을 이름별로 센다
+ * - 연결 유지/핸드셰이크 명령(PING, HELLO, CLIENT ...)은 드라이버마다 달라서 세지 않는다
+ * - 센 뒤 실행은 JedisMockScripts 를 거친다 (스크립트 안의 redis.call 은 세지 않는다)
+ */
+public class RedisCommandRecorder {
+
+    private static final Set<String> CONNECTION_COMMANDS = Set.of(
+            "PING", "HELLO", "CLIENT", "SELECT", "AUTH", "INFO", "COMMAND", "QUIT",
+            "SUBSCRIBE", "PSUBSCRIBE", "UNSUBSCRIBE", "PUNSUBSCRIBE");
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public ServiceOptions serviceOptions() {
+        return ServiceOptions.withInterceptor(this::intercept);
+    }
+
+    private Slice intercept(OperationExecutorState state, String name, List<Slice> params) {
+        String command = name.toUpperCase(Locale.ROOT);
+        if (!CONNECTION_COMMANDS.contains(command)) {
+            counts.computeIfAbsent(command, key -> new LongAdder()).increment();
+        }
+        return JedisMockScripts.proceed(state, name, params);
+    }
+
+    public void reset() {
+        counts.clear();
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long count(String command) {
+        LongAdder adder = counts.get(command.toUpperCase(Locale.ROOT));
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((command, adder) -> snapshot.put(command, adder.sum()));
+        return snapshot;
+    }
+}
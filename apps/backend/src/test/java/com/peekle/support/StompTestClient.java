@@ -0,0 +1,127 @@
+package com.peekle.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /ws-stomp 에 SockJS(websocket 전송)로 붙는 STOMP 클라이언트 (benchmark/k6/lib/sockjs-stomp.js 와 같은 흐름)
+ * - CONNECT 에 userId 헤더를 실어 StompHandler 가 세션에 사용자를 심게 한다
+ * - 구독한 목적지별로 SocketResponse(JSON) 를 쌓아 두고 type 으로 기다린다
+ */
+public class StompTestClient implements AutoCloseable {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, BlockingQueue<JsonNode>> inbox = new ConcurrentHashMap<>();
+    private final WebSocketStompClient stompClient;
+    private final StompSession session;
+
+    private StompTestClient(WebSocketStompClient stompClient, StompSession session) {
+        this.stompClient = stompClient;
+        this.session = session;
+    }
+
+    public static StompTestClient connect(int port, Long userId) {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("userId", String.valueOf(userId));
+        try {
+            StompSession session = stompClient
+                    .connectAsync("http://127.0.0.1:" + port + "/ws-stomp", new WebSocketHttpHeaders(),
+                            connectHeaders, new StompSessionHandlerAdapter() {
+                            })
+                    .get(DEFAULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            return new StompTestClient(stompClient, session);
+        } catch (Exception e) {
+            stompClient.stop();
+            throw new IllegalStateException("STOMP 연결 실패 (userId=" + userId + ")", e);
+        }
+    }
+
+    public void subscribe(String destination) {
+        BlockingQueue<JsonNode> queue = inbox.computeIfAbsent(destination, key -> new LinkedBlockingQueue<>());
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                queue.add((JsonNode) payload);
+            }
+        });
+    }
+
+    public void send(String destination, Object payload) {
+        session.send(destination, objectMapper.valueToTree(payload));
+    }
+
+    /**
+     * 목적지에서 type 이 일치하는 메시지가 올 때까지 기다린다 (그 앞의 메시지는 버린다)
+     */
+    public JsonNode await(String destination, String type) {
+        return await(destination, type, DEFAULT_TIMEOUT);
+    }
+
+    public JsonNode await(String destination, String type, Duration timeout) {
+        BlockingQueue<JsonNode> queue = inbox.get(destination);
+        if (queue == null) {
+            throw new IllegalStateException("구독하지 않은 목적지입니다: " + destination);
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                JsonNode message = queue.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                if (message == null) {
+                    throw new AssertionError(destination + " 에서 " + type + " 메시지를 받지 못했습니다.");
+                }
+                if (type.equals(message.path("type").asText())) {
+                    return message;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void drain(String destination) {
+        BlockingQueue<JsonNode> queue = inbox.get(destination);
+        if (queue != null) {
+            queue.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (session.isConnected()) {
+            session.disconnect();
+        }
+        stompClient.stop();
+    }
+}
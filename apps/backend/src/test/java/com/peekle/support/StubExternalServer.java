@@ -0,0 +1,136 @@
+package com.peekle.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 서비스(BOJ, solved.ac, AI 서버, LiveKit) 스텁
+ * - outbound.destinations.*.redirect-url 과 livekit.url/AI_SERVER_URL 을 이 서버의 경로로 돌린다
+ * - BOJ 채점 현황은 registerSubmission 으로 넣은 제출만 "맞았습니다!!" 행으로 돌려준다
+ */
+public final class StubExternalServer {
+
+    private static StubExternalServer instance;
+
+    private final HttpServer server;
+    private final List<BojSubmission> submissions = new CopyOnWriteArrayList<>();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+
+    private StubExternalServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static synchronized StubExternalServer start() {
+        if (instance == null) {
+            try {
+                HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+                instance = new StubExternalServer(server);
+                instance.registerRoutes();
+                server.setExecutor(Executors.newFixedThreadPool(4));
+                server.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("외부 서비스 스텁을 띄우지 못했습니다.", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> instance.server.stop(0)));
+        }
+        return instance;
+    }
+
+    public String baseUrl(String destination) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/" + destination;
+    }
+
+    public void registerSubmission(String submitId, String bojId, String problemId, String code) {
+        submissions.add(new BojSubmission(submitId, bojId, problemId,
+                code.getBytes(StandardCharsets.UTF_8).length));
+    }
+
+    public long requestCount(String destination) {
+        LongAdder adder = requestCounts.get(destination);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public void reset() {
+        submissions.clear();
+        requestCounts.clear();
+    }
+
+    private void registerRoutes() {
+        server.createContext("/boj/status", exchange -> respond(exchange, "boj", 200, "text/html", statusPage(exchange.getRequestURI())));
+        server.createContext("/boj/user", exchange -> respond(exchange, "boj", 200, "text/html", "<html><body></body></html>"));
+        server.createContext("/solved-ac", exchange -> respond(exchange, "solved-ac", 200, "application/json", "{\"count\":0,\"items\":[]}"));
+        server.createContext("/ai", exchange -> respond(exchange, "ai", 200, "application/json", "{\"recommendations\":[]}"));
+        // Twirp RPC (RoomService) 응답은 빈 메시지로 충분하다
+        server.createContext("/livekit", exchange -> respond(exchange, "livekit", 200, "application/json", "{}"));
+    }
+
+    private String statusPage(URI uri) {
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+        StringBuilder rows = new StringBuilder();
+        for (BojSubmission submission : submissions) {
+            if (!submission.matches(query.get("problem_id"), query.get("user_id"))) {
+                continue;
+            }
+            rows.append("<tr>")
+                    .append("<td>").append(submission.submitId()).append("</td>")
+                    .append("<td>").append(submission.bojId()).append("</td>")
+                    .append("<td>").append(submission.problemId()).append("</td>")
+                    .append("<td>맞았습니다!!</td>")
+                    .append("<td>14000 KB</td>")
+                    .append("<td>100 ms</td>")
+                    .append("<td>Java 11</td>")
+                    .append("<td>").append(submission.codeLength()).append(" B</td>")
+                    .append("<td>방금 전</td>")
+                    .append("</tr>");
+        }
+        return "<html><body><table id=\"status-table\"><tbody>" + rows + "</tbody></table></body></html>";
+    }
+
+    private void respond(HttpExchange exchange, String destination, int status, String contentType, String body)
+            throws IOException {
+        requestCounts.computeIfAbsent(destination, key -> new LongAdder()).increment();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isBlank()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        return query;
+    }
+
+    private record BojSubmission(String submitId, String bojId, String problemId, int codeLength) {
+
+        boolean matches(String problemId, String bojId) {
+            return (problemId == null || this.problemId.equals(problemId))
+                    && (bojId == null || this.bojId.equals(bojId));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+-- jedis-mock(LuaJ) 에는 cjson 모듈이 없어 스크립트 앞에 붙이는 최소 구현
+-- encode: 문자열/숫자/불리언/배열/객체, decode: JSON 전체 (null 은 nil)
+local cjson = {}
+
+local escapes = { ['"'] = '\\"', ['\\'] = '\\\\', ['\b'] = '\\b', ['\f'] = '\\f',
+  ['\n'] = '\\n', ['\r'] = '\\r', ['\t'] = '\\t' }
+
+function cjson.encode(value)
+  local kind = type(value)
+  if kind == 'string' then
+    return '"' .. value:gsub('[%c"\\]', function(c)
+      return escapes[c] or string.format('\\u%04x', c:byte())
+    end) .. '"'
+  elseif kind == 'number' then
+    if value == math.floor(value) then
+      return string.format('%d', value)
+    end
+    return tostring(value)
+  elseif kind == 'boolean' then
+    return tostring(value)
+  elseif kind == 'nil' then
+    return 'null'
+  elseif kind == 'table' then
+    local parts = {}
+    if #value > 0 or next(value) == nil then
+      for i = 1, #value do
+        parts[#parts + 1] = cjson.encode(value[i])
+      end
+      return '[' .. table.concat(parts, ',') .. ']'
+    end
+    for k, v in pairs(value) do
+      parts[#parts + 1] = cjson.encode(tostring(k)) .. ':' .. cjson.encode(v)
+    end
+    return '{' .. table.concat(parts, ',') .. '}'
+  end
+  error('Cannot serialise ' .. kind)
+end
+
+function cjson.decode(text)
+  local pos = 1
+
+  local function skip()
+    pos = text:find('[^ \t\r\n]', pos) or (#text + 1)
+  end
+
+  local function fail(what)
+    error('Expected ' .. what .. ' at character ' .. pos)
+  end
+
+  local parse
+
+  local function parseString()
+    local out = {}
+    pos = pos + 1
+    while true do
+      local c = text:sub(pos, pos)
+      if c == '' then
+        fail('closing quote')
+      elseif c == '"' then
+        pos = pos + 1
+        return table.concat(out)
+      elseif c == '\\' then
+        local e = text:sub(pos + 1, pos + 1)
+        local simple = { b = '\b', f = '\f', n = '\n', r = '\r', t = '\t' }
+        if e == 'u' then
+          local code = tonumber(text:sub(pos + 2, pos + 5), 16) or fail('hex escape')
+          if code < 0x80 then
+            out[#out + 1] = string.char(code)
+          elseif code < 0x800 then
+            out[#out + 1] = string.char(0xC0 + math.floor(code / 0x40), 0x80 + code % 0x40)
+          else
+            out[#out + 1] = string.char(0xE0 + math.floor(code / 0x1000),
+              0x80 + math.floor(code / 0x40) % 0x40, 0x80 + code % 0x40)
+          end
+          pos = pos + 6
+        else
+          out[#out + 1] = simple[e] or e
+          pos = pos + 2
+        end
+      else
+        out[#out + 1] = c
+        pos = pos + 1
+      end
+    end
+  end
+
+  parse = function()
+    skip()
+    local c = text:sub(pos, pos)
+    if c == '"' then
+      return parseString()
+    elseif c == '{' then
+      local result = {}
+      pos = pos + 1
+      skip()
+      if text:sub(pos, pos) == '}' then
+        pos = pos + 1
+        return result
+      end
+      while true do
+        skip()
+        if text:sub(pos, pos) ~= '"' then fail('object key') end
+        local key = parseString()
+        skip()
+        if text:sub(pos, pos) ~= ':' then fail('colon') end
+        pos = pos + 1
+        result[key] = parse()
+        skip()
+        local sep = text:sub(pos, pos)
+        pos = pos + 1
+        if sep == '}' then return result end
+        if sep ~= ',' then fail('comma or }') end
+      end
+    elseif c == '[' then
+      local result = {}
+      pos = pos + 1
+      skip()
+      if text:sub(pos, pos) == ']' then
+        pos = pos + 1
+        return result
+      end
+      while true do
+        result[#result + 1] = parse()
+        skip()
+        local sep = text:sub(pos, pos)
+        pos = pos + 1
+        if sep == ']' then return result end
+        if sep ~= ',' then fail('comma or ]') end
+      end
+    elseif text:sub(pos, pos + 3) == 'true' then
+      pos = pos + 4
+      return true
+    elseif text:sub(pos, pos + 4) == 'false' then
+      pos = pos + 5
+      return false
+    elseif text:sub(pos, pos + 3) == 'null' then
+      pos = pos + 4
+      return nil
+    end
+    local number = text:match('^-?%d+%.?%d*[eE]?[-+]?%d*', pos)
+    if not number or number == '' then fail('value') end
+    pos = pos + #number
+    return tonumber(number) or fail('number')
+  end
+
+  local value = parse()
+  skip()
+  if pos <= #text then fail('end of input') end
+  return value
+end
@@ -24,7 +24,7 @@ interface SubmissionLogResponse {
   tier: string;
   sourceType: string;
   sourceDetail: string;
-  code: string;
+  code?: string; // 목록 응답에는 없음 (상세 조회에서 받는다)
   result: string; // 제출 결과
   isSuccess: boolean; // 성공 여부
 }
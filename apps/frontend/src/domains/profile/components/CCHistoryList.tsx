@@ -7,6 +7,7 @@ import { SubmissionHistory } from '../types';
 import { X } from 'lucide-react';
 import { CCCalendarWidget, CCInlineCalendar } from '../../study/components/CCCalendarWidget';
 import { startOfToday, format, parse } from 'date-fns';
+import { fetchSubmissionDetail } from '../../study/api/problemApi';
 
 interface Props {
   initialHistory: SubmissionHistory[];
@@ -19,6 +20,9 @@ export function CCHistoryList({ initialHistory }: Props) {
   const pathname = usePathname();
 
   const [selectedSubmission, setSelectedSubmission] = useState<SubmissionHistory | null>(null);
+  // 목록 응답에는 코드가 없으므로 상세 패널을 열 때 한 번만 불러와 둔다.
+  const [codeById, setCodeById] = useState<Record<string, string>>({});
+  const [isCodeLoading, setIsCodeLoading] = useState(false);
 
   // Initialize filter state from URL
   const [filterDate, setFilterDate] = useState(searchParams.get('date') || '');
@@ -52,6 +56,38 @@ export function CCHistoryList({ initialHistory }: Props) {
       .filter((d): d is Date => d !== null);
   }, [initialHistory]);
 
+  useEffect(() => {
+    if (!selectedSubmission || selectedSubmission.code || codeById[selectedSubmission.id] !== undefined) {
+      return;
+    }
+    let cancelled = false;
+    const submissionId = selectedSubmission.id;
+    setIsCodeLoading(true);
+    fetchSubmissionDetail(Number(submissionId))
+      .then((detail) => {
+        if (!cancelled) {
+          setCodeById((prev) => ({ ...prev, [submissionId]: detail.code ?? '' }));
+        }
+      })
+      .catch(() => {
+        if (!cancelled) {
+          setCodeById((prev) => ({ ...prev, [submissionId]: '' }));
+        }
+      })
+      .finally(() => {
+        if (!cancelled) {
+          setIsCodeLoading(false);
+        }
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, [selectedSubmission, codeById]);
+
+  const selectedCode = selectedSubmission
+    ? selectedSubmission.code || codeById[selectedSubmission.id] || ''
+    : '';
+
   // Helper to get Date object from filterDate string (YYYY-MM-DD)
   const selectedDateObj = useMemo(() => {
     if (!filterDate) return startOfToday();
@@ -363,7 +399,11 @@ export function CCHistoryList({ initialHistory }: Props) {
                 height="100%"
                 language={selectedSubmission.language.toLowerCase()}
                 theme="vs-dark"
-                value={selectedSubmission.code || '// 코드를 불러올 수 없습니다.'}
+                value={
+                  isCodeLoading && !selectedCode
+                    ? '// 코드를 불러오는 중입니다...'
+                    : selectedCode || '// 코드를 불러올 수 없습니다.'
+                }
                 options={{
                   readOnly: true,
                   fontFamily: "'D2Coding', 'Fira Code', Consolas, monospace",
@@ -376,7 +416,7 @@ export function CCHistoryList({ initialHistory }: Props) {
               />
               <div className="absolute top-4 right-4 opacity-0 group-hover:opacity-100 transition-opacity">
                 <button
-                  onClick={() => navigator.clipboard.writeText(selectedSubmission.code || '')}
+                  onClick={() => navigator.clipboard.writeText(selectedCode)}
                   className="px-3 py-1.5 bg-zinc-800 text-zinc-300 text-xs rounded border border-zinc-700 hover:bg-zinc-700 shadow-sm"
                 >
                   Copy